@@ -107,6 +107,14 @@ public interface OgmProperties {
 	 */
 	String ERROR_HANDLER = "hibernate.ogm.error_handler";
 
+	/**
+	 * The maximum number of queries whose translation to the native query of the datastore is cached. Accepts
+	 * {@code int} or {@code String}s representing an {@code int}. A value of 0 disables the cache.
+	 * <p>
+	 * Default is 2048.
+	 */
+	String QUERY_PLAN_CACHE_MAX_SIZE = "hibernate.ogm.query.plan_cache_max_size";
+
 	/**
 	 * Optional JNDI resource string to fetch a native data store client
 	 */
@@ -16,11 +16,7 @@
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.ogm.datastore.spi.BaseDatastoreProvider;
 import org.hibernate.ogm.dialect.spi.GridDialect;
@@ -33,8 +29,6 @@
 import org.hibernate.service.spi.Startable;
 import org.hibernate.service.spi.Stoppable;
 
-import jakarta.persistence.PessimisticLockException;
-
 /**
  * This is an example a DatastoreProvider, implementing only the basic interface needed by Hibernate OGM.
  *
@@ -42,8 +36,9 @@
  * contents to other storage. Most important, it must be considered that different sessions won't be isolated
  * unless they avoid flushing.
  *
- * Oh and while we lock data when Hibernate ORM acquires locks, we never unlock as ORM expects locks
- * to be released by the transaction commit / rollback which does not happen here.
+ * Pessimistic locks are acquired when Hibernate ORM asks for them and released when the transaction which acquired
+ * them completes (see {@link MapPessimisticWriteLockingStrategy}); the locks are owned by the session and may be
+ * released on another thread than the one which acquired them, e.g. when a JTA transaction is completed.
  *
  * @author Sanne Grinovero &lt;sanne@hibernate.org&gt; (C) 2011 Red Hat Inc.
  */
@@ -51,19 +46,17 @@ public final class MapDatastoreProvider extends BaseDatastoreProvider implements
 
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
-	private final ConcurrentMap<EntityKey, Map<String, Object>> entitiesKeyValueStorage = newConcurrentHashMap();
-	private final ConcurrentMap<AssociationKey, Map<RowKey, Map<String, Object>>> associationsKeyValueStorage = newConcurrentHashMap();
-	private final ConcurrentMap<IdSourceKey, AtomicInteger> sequencesStorage = newConcurrentHashMap();
-	private final ConcurrentMap<Object, ReadWriteLock> dataLocks = newConcurrentHashMap();
+	/**
+	 * The entities, segmented by table so that scans, clears and statistics only have to consider one table.
+	 */
+	private final ConcurrentMap<String, ConcurrentMap<EntityKey, Map<String, Object>>> entitiesKeyValueStorage = newConcurrentHashMap();
 
 	/**
-	 * This simplistic data store only supports thread-bound transactions:
+	 * The associations, segmented by association table.
 	 */
-	private final ThreadLocal<Set<Lock>> acquiredLocksPerThread = new ThreadLocal<Set<Lock>>() {
-		@Override protected Set<Lock> initialValue() {
-			return new HashSet<Lock>();
-		}
-	};
+	private final ConcurrentMap<String, ConcurrentMap<AssociationKey, Map<RowKey, Map<String, Object>>>> associationsKeyValueStorage = newConcurrentHashMap();
+	private final ConcurrentMap<IdSourceKey, AtomicInteger> sequencesStorage = newConcurrentHashMap();
+	private final MapLockManager lockManager = new MapLockManager();
 
 	@Override
 	public Class<? extends GridDialect> getDefaultDialect() {
@@ -75,9 +68,7 @@ public void stop() {
 		entitiesKeyValueStorage.clear();
 		associationsKeyValueStorage.clear();
 		sequencesStorage.clear();
-		dataLocks.clear();
-		//not nice but that's the best we can do
-		acquiredLocksPerThread.remove();
+		lockManager.clear();
 		log.debug( "Stopped and cleared MapDatastoreProvider" );
 	}
 
@@ -89,82 +80,103 @@ public void start() {
 	/**
 	 * Acquires a write lock on a specific key.
 	 * @param key The key to lock
+	 * @param owner The owner of the lock, typically the session
 	 * @param timeout in milliseconds; -1 means wait indefinitely, 0 means no wait.
 	 */
-	public void writeLock(EntityKey key, int timeout) {
-		ReadWriteLock lock = getLock( key );
-		Lock writeLock = lock.writeLock();
-		acquireLock( key, timeout, writeLock );
+	public void writeLock(EntityKey key, Object owner, int timeout) {
+		lockManager.writeLock( key, owner, timeout );
 	}
 
 	/**
 	 * Acquires a read lock on a specific key.
 	 * @param key The key to lock
+	 * @param owner The owner of the lock, typically the session
 	 * @param timeout in milliseconds; -1 means wait indefinitely, 0 means no wait.
 	 */
-	public void readLock(EntityKey key, int timeout) {
-		ReadWriteLock lock = getLock( key );
-		Lock readLock = lock.readLock();
-		acquireLock( key, timeout, readLock );
+	public void readLock(EntityKey key, Object owner, int timeout) {
+		lockManager.readLock( key, owner, timeout );
 	}
 
-	private ReadWriteLock getLock(EntityKey key) {
-		ReadWriteLock newLock = new ReentrantReadWriteLock();
-		ReadWriteLock previous = dataLocks.putIfAbsent( key, newLock );
-		return previous != null ? previous : newLock;
+	/**
+	 * Releases a lock acquired by the given owner on a specific key.
+	 * @param key The locked key
+	 * @param owner The owner of the lock
+	 * @param exclusive {@code true} to release a write lock, {@code false} to release a read lock
+	 */
+	public void unlock(EntityKey key, Object owner, boolean exclusive) {
+		lockManager.unlock( key, owner, exclusive );
 	}
 
-	private void acquireLock(EntityKey key, int timeout, Lock writeLock) {
-		try {
-			if ( timeout == -1 ) {
-				writeLock.lockInterruptibly();
-			}
-			else if ( timeout == 0 ) {
-				boolean locked = writeLock.tryLock();
-				if ( ! locked ) {
-					throw new PessimisticLockException( "lock on key " + key + " was not available" );
-				}
-			}
-			else {
-				writeLock.tryLock( timeout, TimeUnit.MILLISECONDS );
-			}
-		}
-		catch ( InterruptedException e ) {
-			throw new PessimisticLockException( "timed out waiting for lock on key " + key, e );
-		}
-		acquiredLocksPerThread.get().add( writeLock );
+	/**
+	 * @return the number of keys currently locked
+	 */
+	public int getNumberOfLockedKeys() {
+		return lockManager.size();
 	}
 
 	public void putEntity(EntityKey key, Map<String, Object> tuple) {
-		entitiesKeyValueStorage.put( key, tuple );
+		getOrCreateSegment( entitiesKeyValueStorage, key.getTable() ).put( key, tuple );
 	}
 
 	public Map<String, Object> getEntityTuple(EntityKey key) {
-		return entitiesKeyValueStorage.get( key );
+		Map<EntityKey, Map<String, Object>> segment = entitiesKeyValueStorage.get( key.getTable() );
+		return segment == null ? null : segment.get( key );
 	}
 
 	public List<Map<String, Object>> getEntityTuples(EntityKey... keys) {
 		List<Map<String, Object>> results = new ArrayList<>( keys.length );
 		for ( EntityKey key : keys ) {
-			results.add( entitiesKeyValueStorage.get( key ) );
+			results.add( getEntityTuple( key ) );
 		}
 		return results;
 	}
 
 	public void removeEntityTuple(EntityKey key) {
-		entitiesKeyValueStorage.remove( key );
+		Map<EntityKey, Map<String, Object>> segment = entitiesKeyValueStorage.get( key.getTable() );
+		if ( segment != null ) {
+			segment.remove( key );
+		}
+	}
+
+	/**
+	 * Removes all the entities stored in the given table.
+	 *
+	 * @param table the name of the table
+	 */
+	public void removeEntityTuples(String table) {
+		// The segment is kept: a concurrent put might already have a reference to it
+		Map<EntityKey, Map<String, Object>> segment = entitiesKeyValueStorage.get( table );
+		if ( segment != null ) {
+			segment.clear();
+		}
 	}
 
 	public void putAssociation(AssociationKey key, Map<RowKey, Map<String, Object>> associationMap) {
-		associationsKeyValueStorage.put( key, associationMap );
+		getOrCreateSegment( associationsKeyValueStorage, key.getTable() ).put( key, associationMap );
 	}
 
 	public Map<RowKey, Map<String, Object>> getAssociation(AssociationKey key) {
-		return associationsKeyValueStorage.get( key );
+		Map<AssociationKey, Map<RowKey, Map<String, Object>>> segment = associationsKeyValueStorage.get( key.getTable() );
+		return segment == null ? null : segment.get( key );
 	}
 
 	public void removeAssociation(AssociationKey key) {
-		associationsKeyValueStorage.remove( key );
+		Map<AssociationKey, Map<RowKey, Map<String, Object>>> segment = associationsKeyValueStorage.get( key.getTable() );
+		if ( segment != null ) {
+			segment.remove( key );
+		}
+	}
+
+	private static <K, V> ConcurrentMap<K, V> getOrCreateSegment(ConcurrentMap<String, ConcurrentMap<K, V>> storage, String table) {
+		ConcurrentMap<K, V> segment = storage.get( table );
+		if ( segment == null ) {
+			ConcurrentMap<K, V> newSegment = newConcurrentHashMap();
+			segment = storage.putIfAbsent( table, newSegment );
+			if ( segment == null ) {
+				segment = newSegment;
+			}
+		}
+		return segment;
 	}
 
 	public int getSharedAtomicInteger(IdSourceKey key, int initialValue, int increment) {
@@ -174,19 +186,65 @@ public int getSharedAtomicInteger(IdSourceKey key, int initialValue, int increme
 	}
 
 	/**
-	 * Meant to execute assertions in tests only
-	 * @return a read-only view of the map containing the entities
+	 * @param table the name of the table
+	 * @return a read-only view of the map containing the entities of the given table
+	 */
+	public Map<EntityKey, Map<String, Object>> getEntityMap(String table) {
+		Map<EntityKey, Map<String, Object>> segment = entitiesKeyValueStorage.get( table );
+		return segment == null ? Collections.<EntityKey, Map<String, Object>>emptyMap() : Collections.unmodifiableMap( segment );
+	}
+
+	/**
+	 * @return the names of the tables containing at least one entity
 	 */
-	public Map<EntityKey,Map<String, Object>> getEntityMap() {
-		return Collections.unmodifiableMap( entitiesKeyValueStorage );
+	public Set<String> getEntityTables() {
+		Set<String> tables = new HashSet<>();
+		for ( Map.Entry<String, ConcurrentMap<EntityKey, Map<String, Object>>> entry : entitiesKeyValueStorage.entrySet() ) {
+			if ( !entry.getValue().isEmpty() ) {
+				tables.add( entry.getKey() );
+			}
+		}
+		return Collections.unmodifiableSet( tables );
 	}
 
 	/**
-	 * Meant to execute assertions in tests only
-	 * @return a read-only view of the map containing the relations between entities
+	 * @param table the name of the table
+	 * @return the number of entities stored in the given table
 	 */
-	public Map<AssociationKey, Map<RowKey, Map<String, Object>>> getAssociationsMap() {
-		return Collections.unmodifiableMap( associationsKeyValueStorage );
+	public int getNumberOfEntities(String table) {
+		Map<EntityKey, Map<String, Object>> segment = entitiesKeyValueStorage.get( table );
+		return segment == null ? 0 : segment.size();
+	}
+
+	/**
+	 * @return the number of entities stored in all the tables
+	 */
+	public long getNumberOfEntities() {
+		long count = 0;
+		for ( Map<EntityKey, Map<String, Object>> segment : entitiesKeyValueStorage.values() ) {
+			count += segment.size();
+		}
+		return count;
+	}
+
+	/**
+	 * @param table the name of the association table
+	 * @return the number of associations stored in the given table
+	 */
+	public int getNumberOfAssociations(String table) {
+		Map<AssociationKey, Map<RowKey, Map<String, Object>>> segment = associationsKeyValueStorage.get( table );
+		return segment == null ? 0 : segment.size();
+	}
+
+	/**
+	 * @return the number of associations stored in all the tables
+	 */
+	public long getNumberOfAssociations() {
+		long count = 0;
+		for ( Map<AssociationKey, Map<RowKey, Map<String, Object>>> segment : associationsKeyValueStorage.values() ) {
+			count += segment.size();
+		}
+		return count;
 	}
 
 	@Override
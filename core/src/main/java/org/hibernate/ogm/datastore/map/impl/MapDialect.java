@@ -11,7 +11,6 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.NoSuchElementException;
 
 import org.hibernate.LockMode;
 import org.hibernate.dialect.lock.LockingStrategy;
@@ -152,83 +151,47 @@ public Number nextValue(NextValueRequest request) {
 
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata metadata) {
-		Map<EntityKey, Map<String, Object>> entityMap = provider.getEntityMap();
-		consumer.consume( new MapTuplesSupplier( entityMap, metadata ) );
+		Map<EntityKey, Map<String, Object>> entityMap = provider.getEntityMap( metadata.getTable() );
+		consumer.consume( new MapTuplesSupplier( entityMap ) );
 	}
 
 	private static class MapTuplesSupplier implements TuplesSupplier {
 
 		private final Map<EntityKey, Map<String, Object>> entityMap;
-		private final EntityKeyMetadata metadata;
 
-		public MapTuplesSupplier(Map<EntityKey, Map<String, Object>> entityMap, EntityKeyMetadata metadata) {
+		public MapTuplesSupplier(Map<EntityKey, Map<String, Object>> entityMap) {
 			this.entityMap = entityMap;
-			this.metadata = metadata;
 		}
 
 		@Override
 		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
-			return new MapTupleIterator( entityMap, metadata );
+			return new MapTupleIterator( entityMap );
 		}
 	}
 
+	/**
+	 * Iterates over the entities of a single table.
+	 */
 	private static class MapTupleIterator implements ClosableIterator<Tuple> {
 
-		private final EntityKeyMetadata metadata;
-		private final Map<EntityKey, Map<String, Object>> entityMap;
-		private final Iterator<EntityKey> iterator;
-		private EntityKey next;
-		private boolean hasNext = false;
-
-		public MapTupleIterator(Map<EntityKey, Map<String, Object>> entityMap, EntityKeyMetadata metadata) {
-			this.entityMap = entityMap;
-			this.metadata = metadata;
-			this.iterator = entityMap.keySet().iterator();
-			this.next = next( this.iterator );
-		}
-
-		private EntityKey next(Iterator<EntityKey> iterator) {
-			EntityKey next = null;
-			hasNext = false;
-			while ( iterator.hasNext() ) {
-				next = iterator.next();
-				if ( isValidKey( next ) ) {
-					hasNext = true;
-					break;
-				}
-			}
-			if ( hasNext ) {
-				return next;
-			}
-			return null;
-		}
+		private final Iterator<Map<String, Object>> iterator;
 
-		public boolean isValidKey(EntityKey key) {
-			return key.getTable().equals( metadata.getTable() );
+		public MapTupleIterator(Map<EntityKey, Map<String, Object>> entityMap) {
+			this.iterator = entityMap.values().iterator();
 		}
 
 		@Override
 		public boolean hasNext() {
-			return hasNext;
+			return iterator.hasNext();
 		}
 
 		@Override
 		public Tuple next() {
-			if ( hasNext ) {
-				Tuple current = createTuple( entityMap, next );
-				next = next( iterator );
-				return current;
-			}
-
-			throw new NoSuchElementException();
+			return new Tuple( new MapTupleSnapshot( iterator.next() ), SnapshotType.UPDATE );
 		}
 
 		@Override
 		public void close() {
 		}
 	}
-
-	private static Tuple createTuple(Map<EntityKey, Map<String, Object>> entityMap, EntityKey key) {
-		return new Tuple( new MapTupleSnapshot( entityMap.get( key ) ), SnapshotType.UPDATE );
-	}
 }
@@ -0,0 +1,198 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.map.impl;
+
+import static org.hibernate.ogm.util.impl.CollectionHelper.newConcurrentHashMap;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.persistence.PessimisticLockException;
+
+/**
+ * Keeps track of the read-write locks acquired on the keys of the {@link MapDatastoreProvider}.
+ * <p>
+ * A lock is held by an owner, typically the session whose transaction acquired it, and not by a thread: it can be
+ * released by any thread, e.g. the one completing a JTA transaction. An owner may acquire the same lock several times
+ * and has to release it as many times. A read lock can only be upgraded to a write lock when its owner is the only
+ * reader; otherwise the upgrade fails right away, as waiting could never succeed if another reader upgrades as well.
+ * <p>
+ * Each lock is reference counted: the count is incremented by every owner trying to acquire the lock and decremented
+ * when the lock is released (or could not be acquired). Once nobody owns or waits for a lock anymore it is removed from
+ * the table, so the table only contains the keys which are currently locked.
+ * <p>
+ * A lock object is only created when a key is not locked yet; owners acquiring a lock which is already in the table
+ * re-use it without allocating.
+ */
+public final class MapLockManager {
+
+	private final ConcurrentMap<Object, ReferenceCountedLock> locks = newConcurrentHashMap();
+
+	/**
+	 * Acquires a write lock on a specific key.
+	 *
+	 * @param key The key to lock
+	 * @param owner The owner of the lock
+	 * @param timeout in milliseconds; -1 means wait indefinitely, 0 means no wait.
+	 */
+	public void writeLock(Object key, Object owner, int timeout) {
+		acquire( key, owner, timeout, true );
+	}
+
+	/**
+	 * Acquires a read lock on a specific key.
+	 *
+	 * @param key The key to lock
+	 * @param owner The owner of the lock
+	 * @param timeout in milliseconds; -1 means wait indefinitely, 0 means no wait.
+	 */
+	public void readLock(Object key, Object owner, int timeout) {
+		acquire( key, owner, timeout, false );
+	}
+
+	/**
+	 * Releases a lock previously acquired by the given owner with {@link #writeLock(Object, Object, int)} or
+	 * {@link #readLock(Object, Object, int)}; this may happen on any thread.
+	 *
+	 * @param key The locked key
+	 * @param owner The owner of the lock
+	 * @param exclusive {@code true} if the lock is a write lock, {@code false} if it is a read lock
+	 */
+	public void unlock(Object key, Object owner, boolean exclusive) {
+		ReferenceCountedLock lock = locks.get( key );
+		if ( lock == null ) {
+			// The table has been cleared in the meantime
+			return;
+		}
+		try {
+			lock.unlock( owner, exclusive );
+		}
+		finally {
+			locks.computeIfPresent( key, MapLockManager::release );
+		}
+	}
+
+	/**
+	 * @return the number of keys currently locked or waited for
+	 */
+	public int size() {
+		return locks.size();
+	}
+
+	public void clear() {
+		locks.clear();
+	}
+
+	private void acquire(Object key, Object owner, int timeout, boolean exclusive) {
+		ReferenceCountedLock lock = locks.compute( key, MapLockManager::retain );
+		boolean acquired = false;
+		try {
+			acquired = lock.tryLock( key, owner, exclusive, timeout );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new PessimisticLockException( "timed out waiting for lock on key " + key, e );
+		}
+		finally {
+			if ( !acquired ) {
+				locks.computeIfPresent( key, MapLockManager::release );
+			}
+		}
+		if ( !acquired ) {
+			throw new PessimisticLockException( "lock on key " + key + " was not available" );
+		}
+	}
+
+	private static ReferenceCountedLock retain(Object key, ReferenceCountedLock lock) {
+		ReferenceCountedLock retained = lock == null ? new ReferenceCountedLock() : lock;
+		retained.references++;
+		return retained;
+	}
+
+	private static ReferenceCountedLock release(Object key, ReferenceCountedLock lock) {
+		return --lock.references == 0 ? null : lock;
+	}
+
+	private static final class ReferenceCountedLock {
+
+		/**
+		 * Only accessed while holding the lock on the bin of the table containing this entry.
+		 */
+		private int references;
+
+		// The holds, only accessed while synchronized on this lock
+		private Object writer;
+		private int writeHolds;
+		private final Map<Object, Integer> readHolds = new HashMap<>( 4 );
+
+		synchronized boolean tryLock(Object key, Object owner, boolean exclusive, int timeout) throws InterruptedException {
+			long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( timeout ) : 0;
+			while ( !grant( owner, exclusive ) ) {
+				if ( exclusive && readHolds.containsKey( owner ) ) {
+					throw new PessimisticLockException( "read lock on key " + key + " is shared, it cannot be upgraded to a write lock" );
+				}
+				if ( timeout == 0 ) {
+					return false;
+				}
+				else if ( timeout == -1 ) {
+					wait();
+				}
+				else {
+					long remaining = deadline - System.nanoTime();
+					if ( remaining <= 0 ) {
+						return false;
+					}
+					TimeUnit.NANOSECONDS.timedWait( this, remaining );
+				}
+			}
+			return true;
+		}
+
+		private boolean grant(Object owner, boolean exclusive) {
+			if ( writer != null && writer != owner ) {
+				return false;
+			}
+			if ( exclusive ) {
+				if ( readHolds.size() > 1 || ( readHolds.size() == 1 && !readHolds.containsKey( owner ) ) ) {
+					return false;
+				}
+				writer = owner;
+				writeHolds++;
+			}
+			else {
+				readHolds.merge( owner, 1, Integer::sum );
+			}
+			return true;
+		}
+
+		synchronized void unlock(Object owner, boolean exclusive) {
+			if ( exclusive ) {
+				if ( writer != owner ) {
+					throw new IllegalMonitorStateException( "The write lock is not held by " + owner );
+				}
+				if ( --writeHolds == 0 ) {
+					writer = null;
+				}
+			}
+			else {
+				Integer holds = readHolds.get( owner );
+				if ( holds == null ) {
+					throw new IllegalMonitorStateException( "The read lock is not held by " + owner );
+				}
+				if ( holds == 1 ) {
+					readHolds.remove( owner );
+				}
+				else {
+					readHolds.put( owner, holds - 1 );
+				}
+			}
+			notifyAll();
+		}
+	}
+}
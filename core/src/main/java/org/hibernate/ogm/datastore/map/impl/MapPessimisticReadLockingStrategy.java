@@ -6,14 +6,8 @@
  */
 package org.hibernate.ogm.datastore.map.impl;
 
-import org.hibernate.JDBCException;
 import org.hibernate.LockMode;
-import org.hibernate.StaleObjectStateException;
 import org.hibernate.dialect.lock.LockingStrategy;
-import org.hibernate.event.spi.EventSource;
-import org.hibernate.ogm.model.impl.EntityKeyBuilder;
-import org.hibernate.ogm.model.key.spi.EntityKey;
-import org.hibernate.ogm.persister.impl.OgmEntityPersister;
 import org.hibernate.persister.entity.Lockable;
 
 /**
@@ -23,18 +17,6 @@
 public final class MapPessimisticReadLockingStrategy extends MapPessimisticWriteLockingStrategy implements LockingStrategy {
 
 	public MapPessimisticReadLockingStrategy(Lockable lockable, LockMode lockMode) {
-		super( lockable, lockMode );
-	}
-
-	@Override
-	public void lock(Object id, Object version, Object object, int timeout, EventSource session)
-			throws StaleObjectStateException, JDBCException {
-		MapDatastoreProvider dataStore = getProvider( session );
-		EntityKey key = EntityKeyBuilder.fromData(
-				( (OgmEntityPersister) lockable ).getRootEntityKeyMetadata(),
-				identifierGridType,
-				id,
-				session );
-		dataStore.readLock( key, timeout );
+		super( lockable, lockMode, false );
 	}
 }
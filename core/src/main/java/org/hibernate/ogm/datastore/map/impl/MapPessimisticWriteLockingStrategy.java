@@ -10,6 +10,7 @@
 
 import org.hibernate.LockMode;
 import org.hibernate.StaleObjectStateException;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
 import org.hibernate.dialect.lock.LockingStrategy;
 import org.hibernate.dialect.lock.LockingStrategyException;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
@@ -35,14 +36,21 @@ public class MapPessimisticWriteLockingStrategy implements LockingStrategy {
 	protected final LockMode lockMode;
 	protected final ValuedModelPart identifierGridType;
 
+	private final boolean exclusive;
+
 	private volatile MapDatastoreProvider provider;
 
 	public MapPessimisticWriteLockingStrategy(EntityPersister lockable, LockMode lockMode) {
+		this( lockable, lockMode, true );
+	}
+
+	protected MapPessimisticWriteLockingStrategy(EntityPersister lockable, LockMode lockMode, boolean exclusive) {
 		this.lockable = lockable;
 		this.lockMode = lockMode;
 		this.identifierGridType = lockable.getIdentifierMapping();
+		this.exclusive = exclusive;
 	}
-	
+
 	@Override
 	public void lock(Object id, Object version, Object object, int timeout, EventSource session)
 			throws StaleObjectStateException, LockingStrategyException {
@@ -52,7 +60,14 @@ public void lock(Object id, Object version, Object object, int timeout, EventSou
 				identifierGridType,
 				id,
 				session );
-		dataStore.writeLock( key, timeout );
+		if ( exclusive ) {
+			dataStore.writeLock( key, session, timeout );
+		}
+		else {
+			dataStore.readLock( key, session, timeout );
+		}
+		// The lock is owned by the session and released when its transaction completes, possibly on another thread
+		session.getActionQueue().registerProcess( new LockRelease( dataStore, key, session, exclusive ) );
 		// FIXME check the version number as well and raise an optimistic lock exception if there is an issue JPA 2 spec: 3.4.4.2
 		// (Comment by Emmanuel)
 	}
@@ -70,4 +85,23 @@ protected final MapDatastoreProvider getProvider(SharedSessionContractImplemento
 		return provider;
 	}
 
+	private static final class LockRelease implements AfterTransactionCompletionProcess {
+
+		private final MapDatastoreProvider dataStore;
+		private final EntityKey key;
+		private final Object owner;
+		private final boolean exclusive;
+
+		private LockRelease(MapDatastoreProvider dataStore, EntityKey key, Object owner, boolean exclusive) {
+			this.dataStore = dataStore;
+			this.key = key;
+			this.owner = owner;
+			this.exclusive = exclusive;
+		}
+
+		@Override
+		public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+			dataStore.unlock( key, owner, exclusive );
+		}
+	}
 }
@@ -35,7 +35,7 @@ public QueryParameters(RowSelection rowSelection, Map<String, TypedGridValue> na
 	}
 	
 	public static QueryParameters fromJdbcParameterBindings(QueryParameterBindings queryBindings, QueryOptions queryOptions) {
-		RowSelection rowSelection = new RowSelection( queryOptions.getFirstRow(), queryOptions.getMaxRows() );
+		RowSelection rowSelection = new RowSelection( queryOptions.getFirstRow(), queryOptions.getMaxRows(), queryOptions.getFetchSize() );
 		
 		Map<String, TypedGridValue> namedParameters = new HashMap<String, TypedGridValue>();
 		
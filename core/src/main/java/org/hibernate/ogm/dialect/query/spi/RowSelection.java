@@ -16,10 +16,16 @@ public class RowSelection {
 
 	private final Integer firstRow;
 	private final Integer maxRows;
+	private final Integer fetchSize;
 
 	public RowSelection(Integer firstRow, Integer maxRows) {
+		this( firstRow, maxRows, null );
+	}
+
+	public RowSelection(Integer firstRow, Integer maxRows, Integer fetchSize) {
 		this.firstRow = firstRow;
 		this.maxRows = maxRows;
+		this.fetchSize = fetchSize;
 	}
 
 	public Integer getFirstRow() {
@@ -29,4 +35,11 @@ public Integer getFirstRow() {
 	public Integer getMaxRows() {
 		return maxRows;
 	}
+
+	/**
+	 * @return the number of results the datastore should fetch at once, {@code null} if not specified for the query
+	 */
+	public Integer getFetchSize() {
+		return fetchSize;
+	}
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.ogm.dialect.spi;
 
+import java.util.List;
+
 import org.hibernate.ogm.model.spi.Tuple;
 
 /**
@@ -21,4 +23,19 @@ public interface ModelConsumer {
 	 * @param supplier provides the tuples the model will consume
 	 */
 	void consume(TuplesSupplier supplier);
+
+	/**
+	 * Consume a model element on the tuples provided by several independent {@link TuplesSupplier}s, for instance one
+	 * per segment of a distributed cache.
+	 * <p>
+	 * The suppliers may be consumed concurrently; the method returns once all of them have been consumed. By default,
+	 * they are consumed one after the other.
+	 *
+	 * @param suppliers provide the tuples the model will consume, each one being used by a single thread
+	 */
+	default void consume(List<? extends TuplesSupplier> suppliers) {
+		for ( TuplesSupplier supplier : suppliers ) {
+			consume( supplier );
+		}
+	}
 }
@@ -33,26 +33,28 @@ public class JdbcOgmMapper {
 
 	public static EntityKey extractKey(Object restrictedValue, SharedSessionContractImplementor session,
 			final EntityIdentifierMapping restrictivePart) {
-		int columnsCount = restrictivePart.getJdbcTypeCount();
+		return extractKey( restrictedValue, session, restrictivePart, extractKeyMetadata( restrictivePart ) );
+	}
+
+	/**
+	 * @param keyMetadata the metadata of the key, as returned by {@link #extractKeyMetadata(EntityIdentifierMapping)}
+	 * for the same restrictive part; it can be reused for every key
+	 */
+	public static EntityKey extractKey(Object restrictedValue, SharedSessionContractImplementor session,
+			final EntityIdentifierMapping restrictivePart, EntityKeyMetadata keyMetadata) {
 		BinderCapturingPreparedStatement st = new BinderCapturingPreparedStatement(
-				columnsCount );
-		String[] keyColumnName = new String[columnsCount];
+				keyMetadata.getColumnNames().length );
 
 		JdbcValueConsumer keyValueConsumer = new JdbcValueConsumer() {
 
 			@Override
 			public void consume(int valueIndex, Object value, SelectableMapping jdbcValueMapping) {
 				bindValue( st, session, value, valueIndex, jdbcValueMapping.getJdbcMapping() );
-				keyColumnName[valueIndex] = jdbcValueMapping.getSelectionExpression();
 			}
 		};
 
 		restrictivePart.breakDownJdbcValues( restrictedValue, keyValueConsumer, session );
 
-		String tableName = restrictivePart.getContainingTableExpression();
-		EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata(
-				tableName,
-				keyColumnName );
 		EntityKey entityKey = new EntityKey(
 				keyMetadata,
 				st.getValues() );
@@ -60,12 +62,29 @@ public void consume(int valueIndex, Object value, SelectableMapping jdbcValueMap
 		return entityKey;
 	}
 
+	/**
+	 * @return the metadata of the keys identified by the given restrictive part
+	 */
+	public static EntityKeyMetadata extractKeyMetadata(final EntityIdentifierMapping restrictivePart) {
+		String[] keyColumnName = new String[restrictivePart.getJdbcTypeCount()];
+		restrictivePart.forEachSelectable( (selectionIndex, selectableMapping) -> {
+			keyColumnName[selectionIndex] = selectableMapping.getSelectionExpression();
+		} );
+
+		String tableName = restrictivePart.getContainingTableExpression();
+		return new DefaultEntityKeyMetadata(
+				tableName,
+				keyColumnName );
+	}
+
+	/**
+	 * @param binder a statement capturing a single value, it is reused for every binding and can be reused for other
+	 * calls by the same thread
+	 */
 	public static void updateTuple(JdbcValueBindings valueBindings, String tableName, Tuple tuple,
-			WrapperOptions options) {
-		for (Binding binding : valueBindings.getBindingGroup( tableName ).getBindings()) {
-			BinderCapturingPreparedStatement st = new BinderCapturingPreparedStatement(	1 );
-			bindValue( st, options, binding.getValue(), 0, binding.getValueDescriptor().getJdbcMapping() );
-			tuple.put( binding.getColumnName(), st.getValues()[0] );
+			WrapperOptions options, BinderCapturingPreparedStatement binder) {
+		for ( Binding binding : valueBindings.getBindingGroup( tableName ).getBindings() ) {
+			tuple.put( binding.getColumnName(), toRelationalValue( binder, options, binding ) );
 		}
 	}
 
@@ -83,27 +102,34 @@ public void consume(int valueIndex, Object value, SelectableMapping jdbcValueMap
 	}
 
 	/**
+	 * @param keyColumns the key columns of the table
 	 * @param options Typically the {@link Session}
+	 * @param binder a statement capturing a single value, see {@link #updateTuple(JdbcValueBindings, String, Tuple, WrapperOptions, BinderCapturingPreparedStatement)}
 	 */
-	public static EntityKey buildEntityKey(JdbcValueBindings valueBindings, String tableName, String[] keyColumnNames,
-			EntityKeyMetadata keyMetadata, WrapperOptions options) {
-		Object[] keyValues = new Object[keyColumnNames.length];
-		BinderCapturingPreparedStatement st = new BinderCapturingPreparedStatement(
-				keyColumnNames.length );
-		for (Binding binding : valueBindings.getBindingGroup( tableName ).getBindings()) {
-			for (int i = 0; i < keyColumnNames.length; i++) {
-				if ( keyColumnNames[i].equals( binding.getColumnName() ) ) {
-					Object value = binding.getValue();
-					
-					bindValue( st, options, value, i, binding.getValueDescriptor().getJdbcMapping() );
-					keyValues[i] = binding.getValueDescriptor().getJdbcMapping().convertToRelationalValue( value );
-				}
+	public static EntityKey buildEntityKey(JdbcValueBindings valueBindings, String tableName, KeyColumnPositions keyColumns,
+			EntityKeyMetadata keyMetadata, WrapperOptions options, BinderCapturingPreparedStatement binder) {
+		Object[] keyValues = new Object[keyColumns.getColumnCount()];
+		for ( Binding binding : valueBindings.getBindingGroup( tableName ).getBindings() ) {
+			int position = keyColumns.getPosition( binding.getColumnName() );
+			if ( position >= 0 ) {
+				keyValues[position] = toRelationalValue( binder, options, binding );
 			}
 		}
 
 		return new EntityKey(
 				keyMetadata,
-				st.getValues() );
+				keyValues );
+	}
+
+	/**
+	 * Converts the value of the binding the way the JDBC driver would receive it; the binder is left empty.
+	 */
+	private static Object toRelationalValue(BinderCapturingPreparedStatement binder, WrapperOptions options, Binding binding) {
+		Object[] values = binder.getValues();
+		bindValue( binder, options, binding.getValue(), 0, binding.getValueDescriptor().getJdbcMapping() );
+		Object value = values[0];
+		values[0] = null;
+		return value;
 	}
 
 	/**
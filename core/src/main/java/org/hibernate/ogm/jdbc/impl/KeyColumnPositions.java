@@ -0,0 +1,42 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.jdbc.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The position of each key column of a table, so that the key values can be picked from the bindings of a mutation
+ * in a single pass.
+ * <p>
+ * Instances are immutable and meant to be computed once per table.
+ */
+public final class KeyColumnPositions {
+
+	private final int columnCount;
+	private final Map<String, Integer> positions;
+
+	public KeyColumnPositions(String[] columnNames) {
+		this.columnCount = columnNames.length;
+		this.positions = new HashMap<>( columnNames.length * 2 );
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			positions.put( columnNames[i], i );
+		}
+	}
+
+	public int getColumnCount() {
+		return columnCount;
+	}
+
+	/**
+	 * @return the zero-based position of the column in the key, -1 if it's not a key column
+	 */
+	public int getPosition(String columnName) {
+		Integer position = positions.get( columnName );
+		return position == null ? -1 : position;
+	}
+}
@@ -7,6 +7,8 @@
 package org.hibernate.ogm.jdbc.mutation;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.cfg.Environment;
 import org.hibernate.engine.jdbc.batch.spi.BatchKey;
@@ -18,10 +20,12 @@
 import org.hibernate.engine.jdbc.mutation.spi.MutationExecutorService;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.ogm.jdbc.impl.KeyColumnPositions;
 import org.hibernate.sql.model.MutationOperation;
 import org.hibernate.sql.model.MutationOperationGroup;
 import org.hibernate.sql.model.PreparableMutationOperation;
 import org.hibernate.sql.model.SelfExecutingUpdateOperation;
+import org.hibernate.sql.model.TableMapping;
 
 /**
  * Copied from {@link StandardMutationExecutorService}
@@ -31,6 +35,7 @@
 public class OgmMutationExecutorService implements MutationExecutorService {
 
 	private final int globalBatchSize;
+	private final ConcurrentMap<TableMapping, KeyColumnPositions> keyColumnPositionsByTable = new ConcurrentHashMap<>();
 
 	public OgmMutationExecutorService(Map<String, Object> configurationValues) {
 		this( ConfigurationHelper.getInt( Environment.STATEMENT_BATCH_SIZE, configurationValues, 1 ) );
@@ -70,6 +75,7 @@ public MutationExecutor createExecutor(
 					operationGroup.asEntityMutationOperationGroup() != null
 							? operationGroup.asEntityMutationOperationGroup().getMutationDelegate()
 							: null,
+					keyColumnPositionsByTable,
 					session );
 		}
 
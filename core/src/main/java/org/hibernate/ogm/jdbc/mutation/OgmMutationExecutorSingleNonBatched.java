@@ -10,6 +10,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.sql.SQLException;
+import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.engine.jdbc.mutation.JdbcValueBindings;
 import org.hibernate.engine.jdbc.mutation.OperationResultChecker;
@@ -31,7 +32,9 @@
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.entityentry.impl.OgmEntityEntryState;
 import org.hibernate.ogm.entityentry.impl.TuplePointer;
+import org.hibernate.ogm.jdbc.impl.BinderCapturingPreparedStatement;
 import org.hibernate.ogm.jdbc.impl.JdbcOgmMapper;
+import org.hibernate.ogm.jdbc.impl.KeyColumnPositions;
 import org.hibernate.ogm.model.impl.RowKeyBuilder;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
@@ -67,15 +70,23 @@ public class OgmMutationExecutorSingleNonBatched extends AbstractSingleMutationE
 	
 	private final PreparedStatementGroupSingleTable statementGroup;
 	private final GeneratedValuesMutationDelegate generatedValuesDelegate;
+	private final ConcurrentMap<TableMapping, KeyColumnPositions> keyColumnPositionsByTable;
+	private final BinderCapturingPreparedStatement binder = new BinderCapturingPreparedStatement( 1 );
 
 	private AssociationPersister associationPersister;
 
+	/**
+	 * @param keyColumnPositionsByTable the key columns of the tables, shared by the executors so that they are
+	 * computed once per table mapping: tables with the same name might be mapped with different keys
+	 */
 	public OgmMutationExecutorSingleNonBatched(
 			PreparableMutationOperation mutationOperation,
 			GeneratedValuesMutationDelegate generatedValuesDelegate,
+			ConcurrentMap<TableMapping, KeyColumnPositions> keyColumnPositionsByTable,
 			SharedSessionContractImplementor session) {
 		super( mutationOperation, session );
 		this.generatedValuesDelegate = generatedValuesDelegate;
+		this.keyColumnPositionsByTable = keyColumnPositionsByTable;
 		this.statementGroup = new PreparedStatementGroupSingleTable( mutationOperation, generatedValuesDelegate, session );
 		prepareForNonBatchedWork( null, session );
 	}
@@ -201,9 +212,9 @@ private void mutateEntity(PreparedStatementDetails statementDetails, Object id,
 		OgmEntityPersister ogmEntityPersister = (OgmEntityPersister) getMutationOperation().getMutationTarget();
 		
 		String tableName = statementDetails.getMutatingTableDetails().getTableName();
-		String[] keyColumnNames = buildKeyColumnNames();
+		KeyColumnPositions keyColumns = keyColumnPositionsByTable.computeIfAbsent( getMutationOperation().getTableDetails(), OgmMutationExecutorSingleNonBatched::buildKeyColumnPositions );
 		EntityKeyMetadata keyMetadata = ogmEntityPersister.getEntityKeyMetadata();
-		EntityKey entityKey = JdbcOgmMapper.buildEntityKey( valueBindings, tableName, keyColumnNames, keyMetadata, session );
+		EntityKey entityKey = JdbcOgmMapper.buildEntityKey( valueBindings, tableName, keyColumns, keyMetadata, session, binder );
 		
 		TupleContext operationContext = ogmEntityPersister.getTupleContext( session );
 		MutationType mutationType = getMutationOperation().getMutationType();
@@ -243,7 +254,7 @@ private void mutateEntity(PreparedStatementDetails statementDetails, Object id,
 		else if ( mutationType == MutationType.UPDATE ) {
 			TuplePointer tuplePointer = getSharedTuplePointer( entityKey, modelReference, session, gridDialect, operationContext );
 			
-			JdbcOgmMapper.updateTuple( valueBindings, tableName, tuplePointer.getTuple(), session );
+			JdbcOgmMapper.updateTuple( valueBindings, tableName, tuplePointer.getTuple(), session, binder );
 
 			removeInverseAssociations( session, modelReference, gridDialect, ogmEntityPersister, entityKey, operationContext );
 			
@@ -256,7 +267,7 @@ else if ( mutationType == MutationType.INSERT ) {
 			// Insert the tuple
 			Tuple tuple = gridDialect.createTuple( entityKey, operationContext );
 			
-			JdbcOgmMapper.updateTuple( valueBindings, tableName, tuple, session );
+			JdbcOgmMapper.updateTuple( valueBindings, tableName, tuple, session, binder );
 			
 			TuplePointer tuplePointer = saveSharedTuple( modelReference, tuple, session );
 			
@@ -318,7 +329,7 @@ private void mutateCollection(PreparedStatementDetails statementDetails, Object
 		
 		Tuple associationRow = new Tuple();
 		RowKeyBuilder rowKeyBuilder = ogmCollectionPersister.initializeRowKeyBuilder();
-		JdbcOgmMapper.updateTuple( valueBindings, tableName, associationRow, session );
+		JdbcOgmMapper.updateTuple( valueBindings, tableName, associationRow, session, binder );
 		RowKey rowKey = rowKeyBuilder.values( associationRow ).build();
 
 		int affectedRowCount;
@@ -360,15 +371,15 @@ private TuplePointer saveSharedTuple(Object entity, Tuple tuple, SharedSessionCo
 		return tuplePointer;
 	}
 	
-	private String[] buildKeyColumnNames() {
-		KeyDetails keyDetails = getMutationOperation().getTableDetails().getKeyDetails();
+	private static KeyColumnPositions buildKeyColumnPositions(TableMapping tableMapping) {
+		KeyDetails keyDetails = tableMapping.getKeyDetails();
 		String[] columnNames = new String[keyDetails.getColumnCount()];
 		
 		for (int i=0; i<columnNames.length; i++) {
 			columnNames[i] = keyDetails.getKeyColumn( i ).getColumnName();
 		}
 		
-		return columnNames;
+		return new KeyColumnPositions( columnNames );
 	}
 
 	@Override
@@ -25,8 +25,10 @@
 import org.hibernate.ogm.dialect.impl.TupleTypeContextImpl;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.dialect.spi.TupleTypeContext;
 import org.hibernate.ogm.jdbc.impl.JdbcOgmMapper;
 import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.options.spi.OptionsService;
 import org.hibernate.ogm.util.impl.TransactionContextHelper;
@@ -73,6 +75,13 @@ public class OgmDatabaseSnapshotExecutor {
 	private final JdbcOperationQuerySelect jdbcSelect;
 	private final JdbcParametersList jdbcParameters;
 
+	/*
+	 * Resolved on first use: they only depend on the entity and on the select
+	 */
+	private volatile TupleTypeContext tupleTypeContext;
+	private volatile EntityKeyMetadata keyMetadata;
+	private volatile List<SqlSelection> sqlSelections;
+
 	/**
 	 * Copied from DatabaseSnapshotExecutor
 	 * TODO check if we can make this visible
@@ -192,23 +201,12 @@ Object[] loadDatabaseSnapshot(Object id, SharedSessionContractImplementor sessio
 		assert offset == jdbcParameters.size();
 		
 		GridDialect gridDialect = session.getFactory().getServiceRegistry().getService( GridDialect.class );
-		OptionsService optionsService = session.getFactory().getServiceRegistry().getService( OptionsService.class );
+		TupleContext tupleContext = new TupleContextImpl( getTupleTypeContext( session ), TransactionContextHelper.transactionContext( session ) );
 		
-		TupleTypeContextImpl tupleTypeContext = new TupleTypeContextImpl(
-				Collections.emptyList(),
-				Collections.emptySet(),
-				Collections.emptyMap(),
-				Collections.emptyMap(),
-				optionsService.context().getEntityOptions( entityDescriptor.getEntityPersister().getMappedClass() ),
-				null,
-				null
-		);
-		TupleContext tupleContext = new TupleContextImpl( tupleTypeContext, TransactionContextHelper.transactionContext( session ) );
-		
-		EntityKey entityKey = JdbcOgmMapper.extractKey( id, session, entityDescriptor.getIdentifierMapping() );
+		EntityKey entityKey = JdbcOgmMapper.extractKey( id, session, entityDescriptor.getIdentifierMapping(), getKeyMetadata() );
 		Tuple tuple = gridDialect.getTuple( entityKey, tupleContext );
 		
-		List<SqlSelection> sqlSelections = OgmSingleIdLoadPlan.extractJdbcSelections( session, jdbcSelect );
+		List<SqlSelection> sqlSelections = getSqlSelections( session );
 		
 		Function<String, PreparedStatement> statementCreator = sql -> new TuplesSelectPreparedStatement( tuple, sqlSelections );
 		
@@ -242,4 +240,40 @@ Object[] loadDatabaseSnapshot(Object id, SharedSessionContractImplementor sessio
 			}
 		}
 	}
+
+	private TupleTypeContext getTupleTypeContext(SharedSessionContractImplementor session) {
+		TupleTypeContext context = tupleTypeContext;
+		if ( context == null ) {
+			OptionsService optionsService = session.getFactory().getServiceRegistry().getService( OptionsService.class );
+			context = new TupleTypeContextImpl(
+					Collections.emptyList(),
+					Collections.emptySet(),
+					Collections.emptyMap(),
+					Collections.emptyMap(),
+					optionsService.context().getEntityOptions( entityDescriptor.getEntityPersister().getMappedClass() ),
+					null,
+					null
+			);
+			tupleTypeContext = context;
+		}
+		return context;
+	}
+
+	private EntityKeyMetadata getKeyMetadata() {
+		EntityKeyMetadata metadata = keyMetadata;
+		if ( metadata == null ) {
+			metadata = JdbcOgmMapper.extractKeyMetadata( entityDescriptor.getIdentifierMapping() );
+			keyMetadata = metadata;
+		}
+		return metadata;
+	}
+
+	private List<SqlSelection> getSqlSelections(SharedSessionContractImplementor session) {
+		List<SqlSelection> selections = sqlSelections;
+		if ( selections == null ) {
+			selections = OgmSingleIdLoadPlan.extractJdbcSelections( session, jdbcSelect );
+			sqlSelections = selections;
+		}
+		return selections;
+	}
 }
@@ -0,0 +1,94 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.loader.entity.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.internal.BatchFetchQueueHelper;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.spi.EntityBatchLoader;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+
+/**
+ * Loads an entity together with the other entities of the same type waiting in the batch fetch queue of the session,
+ * e.g. uninitialized proxies of an entity annotated with {@code @BatchSize}.
+ * <p>
+ * The tuples of the batch are read with one call to
+ * {@link org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect#getTuples} if the dialect supports it.
+ */
+public class OgmEntityBatchLoader<T> extends OgmSingleIdEntityLoader<T> implements EntityBatchLoader<T> {
+
+	private final int domainBatchSize;
+
+	public OgmEntityBatchLoader(int domainBatchSize, EntityMappingType entityDescriptor, SessionFactoryImplementor sessionFactory) {
+		super( entityDescriptor, sessionFactory );
+		this.domainBatchSize = domainBatchSize;
+	}
+
+	@Override
+	public int getDomainBatchSize() {
+		return domainBatchSize;
+	}
+
+	@Override
+	public T load(Object id, LockOptions lockOptions, Boolean readOnly, SharedSessionContractImplementor session) {
+		return load( id, null, lockOptions, readOnly, session );
+	}
+
+	@Override
+	public T load(Object id, Object entityInstance, LockOptions lockOptions, Boolean readOnly, SharedSessionContractImplementor session) {
+		List<Object> ids = resolveIdsToInitialize( id, entityInstance, session );
+		if ( ids.isEmpty() ) {
+			return super.load( id, entityInstance, lockOptions, readOnly, session );
+		}
+
+		List<T> entities = loadAll( ids.toArray(), lockOptions, readOnly, session );
+		for ( int i = 0; i < ids.size(); i++ ) {
+			if ( entities.get( i ) == null ) {
+				// Otherwise it would be part of the next batches again
+				BatchFetchQueueHelper.removeBatchLoadableEntityKey( ids.get( i ), getLoadable(), session );
+			}
+		}
+
+		if ( entityInstance != null ) {
+			// The entity has been excluded from the batch as it must be loaded into the given instance
+			return super.load( id, entityInstance, lockOptions, readOnly, session );
+		}
+		return entities.get( 0 );
+	}
+
+	/*
+	 * Returns the ids of the batch, starting with the requested one unless it must be loaded into an existing
+	 * instance; an empty list if there is no other entity to load.
+	 */
+	private List<Object> resolveIdsToInitialize(Object id, Object entityInstance, SharedSessionContractImplementor session) {
+		Object[] queuedIds = session.getPersistenceContextInternal()
+				.getBatchFetchQueue()
+				.getBatchLoadableEntityIds( getLoadable(), id, domainBatchSize );
+
+		List<Object> ids = new ArrayList<>( queuedIds.length );
+		if ( entityInstance == null ) {
+			ids.add( id );
+		}
+		for ( int i = 1; i < queuedIds.length; i++ ) {
+			if ( queuedIds[i] != null ) {
+				ids.add( queuedIds[i] );
+			}
+		}
+		int minimumSize = entityInstance == null ? 2 : 1;
+		return ids.size() < minimumSize ? Collections.<Object>emptyList() : ids;
+	}
+
+	@Override
+	public String toString() {
+		return "OgmEntityBatchLoader(" + getLoadable().getEntityName() + " [" + domainBatchSize + "])";
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.loader.entity.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.loader.ast.internal.AbstractMultiIdEntityLoader;
+import org.hibernate.loader.ast.internal.CacheEntityLoaderHelper;
+import org.hibernate.loader.ast.internal.CacheEntityLoaderHelper.PersistenceContextEntry;
+import org.hibernate.loader.ast.internal.LoaderHelper;
+import org.hibernate.loader.ast.spi.MultiIdLoadOptions;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * Loads several entities by id, e.g. for {@code Session#byMultipleIds}.
+ * <p>
+ * The entities not found in the session or in the second level cache are read with one call to
+ * {@link org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect#getTuples} per batch if the dialect supports it,
+ * with one call to {@link org.hibernate.ogm.dialect.spi.GridDialect#getTuple} per entity otherwise.
+ */
+public class OgmMultiIdEntityLoader<T> extends AbstractMultiIdEntityLoader<T> {
+
+	private final OgmSingleIdEntityLoader<T> singleIdLoader;
+
+	public OgmMultiIdEntityLoader(EntityMappingType entityDescriptor, SessionFactoryImplementor sessionFactory) {
+		super( entityDescriptor, sessionFactory );
+		this.singleIdLoader = new OgmSingleIdEntityLoader<>( entityDescriptor, sessionFactory );
+	}
+
+	@Override
+	protected <K> List<T> performOrderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session) {
+		return multiLoad( ids, loadOptions, session );
+	}
+
+	@Override
+	protected <K> List<T> performUnorderedMultiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session) {
+		List<T> entities = multiLoad( ids, loadOptions, session );
+		entities.removeIf( entity -> entity == null );
+		return entities;
+	}
+
+	/*
+	 * Returns the entities in the order of the ids, null if the entity does not exist or has been removed.
+	 */
+	private <K> List<T> multiLoad(K[] ids, MultiIdLoadOptions loadOptions, EventSource session) {
+		final EntityPersister persister = getLoadable().getEntityPersister();
+		final LockOptions lockOptions = loadOptions.getLockOptions() == null
+				? new LockOptions( LockMode.NONE )
+				: loadOptions.getLockOptions();
+		final boolean coerce = !getSessionFactory().getJpaMetamodel().getJpaCompliance().isLoadByIdComplianceEnabled();
+
+		List<T> result = new ArrayList<>( ids.length );
+		List<Object> idsToLoad = new ArrayList<>();
+		List<Integer> positionsToLoad = new ArrayList<>();
+
+		for ( int i = 0; i < ids.length; i++ ) {
+			final Object id = coerce
+					? getIdentifierMapping().getJavaType().coerce( ids[i], session )
+					: ids[i];
+			final EntityKey entityKey = new EntityKey( id, persister );
+
+			if ( loadOptions.isSessionCheckingEnabled() || loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+				LoadEvent loadEvent = new LoadEvent(
+						id,
+						getLoadable().getJavaType().getJavaTypeClass().getName(),
+						lockOptions,
+						session,
+						LoaderHelper.getReadOnlyFromLoadQueryInfluencers( session )
+				);
+
+				Object managedEntity = null;
+				if ( loadOptions.isSessionCheckingEnabled() ) {
+					PersistenceContextEntry persistenceContextEntry = CacheEntityLoaderHelper.INSTANCE
+							.loadFromSessionCache( loadEvent, entityKey, LoadEventListener.GET );
+					managedEntity = persistenceContextEntry.getEntity();
+					if ( managedEntity != null && !loadOptions.isReturnOfDeletedEntitiesEnabled() && !persistenceContextEntry.isManaged() ) {
+						result.add( null );
+						continue;
+					}
+				}
+				if ( managedEntity == null && loadOptions.isSecondLevelCacheCheckingEnabled() ) {
+					managedEntity = CacheEntityLoaderHelper.INSTANCE.loadFromSecondLevelCache( loadEvent, persister, entityKey );
+				}
+				if ( managedEntity != null ) {
+					@SuppressWarnings("unchecked")
+					T entity = (T) managedEntity;
+					result.add( entity );
+					continue;
+				}
+			}
+
+			result.add( null );
+			idsToLoad.add( id );
+			positionsToLoad.add( i );
+		}
+
+		final int batchSize = loadOptions.getBatchSize() != null && loadOptions.getBatchSize() > 0
+				? loadOptions.getBatchSize()
+				: idsToLoad.size();
+		for ( int start = 0; start < idsToLoad.size(); start += batchSize ) {
+			int end = Math.min( start + batchSize, idsToLoad.size() );
+			List<T> entities = singleIdLoader.loadAll( idsToLoad.subList( start, end ).toArray(), lockOptions, null, session );
+			for ( int i = start; i < end; i++ ) {
+				T entity = entities.get( i - start );
+				if ( entity != null && !loadOptions.isReturnOfDeletedEntitiesEnabled() && isDeletedOrGone( entity, session ) ) {
+					entity = null;
+				}
+				result.set( positionsToLoad.get( i ), entity );
+			}
+		}
+
+		return result;
+	}
+
+	private static boolean isDeletedOrGone(Object entity, EventSource session) {
+		EntityEntry entry = session.getPersistenceContextInternal().getEntry( entity );
+		return entry != null && entry.getStatus().isDeletedOrGone();
+	}
+}
@@ -0,0 +1,244 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.loader.entity.impl;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.hibernate.LockOptions;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.loader.ast.internal.LoaderSelectBuilder;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.metamodel.mapping.EntityMappingType;
+import org.hibernate.ogm.dialect.impl.TupleContextImpl;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.entityentry.impl.OgmEntityEntryState;
+import org.hibernate.ogm.entityentry.impl.TuplePointer;
+import org.hibernate.ogm.jdbc.impl.JdbcOgmMapper;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.util.impl.TransactionContextHelper;
+import org.hibernate.query.internal.SimpleQueryOptions;
+import org.hibernate.query.spi.QueryOptions;
+import org.hibernate.service.spi.ServiceRegistryImplementor;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.internal.BaseExecutionContext;
+import org.hibernate.sql.exec.internal.CallbackImpl;
+import org.hibernate.sql.exec.internal.JdbcParameterBindingsImpl;
+import org.hibernate.sql.exec.spi.Callback;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParameterBindings;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+import org.hibernate.sql.results.internal.RowTransformerStandardImpl;
+import org.hibernate.sql.results.spi.ListResultsConsumer;
+
+/**
+ * Loads several entities of the same type by id, reading the tuples in a single operation if the dialect
+ * supports {@link MultigetGridDialect}.
+ * <p>
+ * The tuples are turned into entities by the select of a multi-key load: unlike the select of a single id load,
+ * it reads the id of the entity from each row. The SQL itself is never executed, the rows come from the tuples.
+ *
+ * @see OgmSingleIdLoadPlan
+ */
+public class OgmMultiIdLoadPlan<T> {
+
+	/*
+	 * Any number of keys greater than one makes the select read the ids from the rows
+	 */
+	private static final int NUMBER_OF_KEYS = 2;
+
+	private final EntityMappingType entityMappingType;
+	private final LockOptions lockOptions;
+	private final JdbcParametersList jdbcParameters;
+	private final JdbcOperationQuerySelect jdbcSelect;
+	private final EntityKeyMetadata keyMetadata;
+
+	/*
+	 * Resolved on first use, it only depends on the select
+	 */
+	private volatile List<SqlSelection> sqlSelections;
+
+	public OgmMultiIdLoadPlan(
+			EntityMappingType entityMappingType,
+			LockOptions lockOptions,
+			LoadQueryInfluencers loadQueryInfluencers,
+			SessionFactoryImplementor sessionFactory) {
+		final JdbcParametersList.Builder jdbcParametersBuilder = JdbcParametersList.newBuilder();
+		final SelectStatement sqlAst = LoaderSelectBuilder.createSelect(
+				entityMappingType,
+				// null here means to select everything
+				null,
+				entityMappingType.getIdentifierMapping(),
+				null,
+				NUMBER_OF_KEYS,
+				loadQueryInfluencers,
+				lockOptions,
+				jdbcParametersBuilder::add,
+				sessionFactory
+		);
+
+		this.entityMappingType = entityMappingType;
+		this.lockOptions = lockOptions.makeCopy();
+		this.jdbcParameters = jdbcParametersBuilder.build();
+		this.jdbcSelect = sessionFactory.getJdbcServices()
+				.getJdbcEnvironment()
+				.getSqlAstTranslatorFactory()
+				.buildSelectTranslator( sessionFactory, sqlAst )
+				.translate( JdbcParameterBindings.NO_BINDINGS, new SimpleQueryOptions( this.lockOptions, null ) );
+		this.keyMetadata = JdbcOgmMapper.extractKeyMetadata( entityMappingType.getIdentifierMapping() );
+	}
+
+	/**
+	 * @param ids the ids of the entities, they might contain duplicates
+	 * @return the entities, in the order of the ids; {@code null} for the ids not matching any entity
+	 */
+	public List<T> load(Object[] ids, Boolean readOnly, SharedSessionContractImplementor session) {
+		final EntityIdentifierMapping identifierMapping = entityMappingType.getIdentifierMapping();
+		final OgmEntityPersister ogmEntityPersister = (OgmEntityPersister) entityMappingType.getEntityPersister();
+
+		// The position of each distinct key in the multi-get
+		Map<EntityKey, Integer> positions = new LinkedHashMap<>();
+		EntityKey[] keysById = new EntityKey[ids.length];
+		for ( int i = 0; i < ids.length; i++ ) {
+			keysById[i] = JdbcOgmMapper.extractKey( ids[i], session, identifierMapping, keyMetadata );
+			positions.putIfAbsent( keysById[i], positions.size() );
+		}
+		EntityKey[] keys = positions.keySet().toArray( new EntityKey[positions.size()] );
+
+		TupleContext tupleContext = new TupleContextImpl( ogmEntityPersister.getTupleTypeContext(), TransactionContextHelper.transactionContext( session ) );
+		List<Tuple> tuples = getTuples( keys, tupleContext, session.getFactory().getServiceRegistry() );
+
+		List<Tuple> foundTuples = new ArrayList<>( tuples.size() );
+		for ( Tuple tuple : tuples ) {
+			if ( tuple != null ) {
+				foundTuples.add( tuple );
+			}
+		}
+
+		Object[] entitiesByPosition = new Object[keys.length];
+		if ( !foundTuples.isEmpty() ) {
+			List<T> entities = materialize( foundTuples, ids[0], readOnly, session );
+			assert entities.size() == foundTuples.size();
+
+			int entityIndex = 0;
+			for ( int i = 0; i < keys.length; i++ ) {
+				if ( tuples.get( i ) != null ) {
+					entitiesByPosition[i] = entities.get( entityIndex++ );
+				}
+			}
+		}
+
+		List<T> result = new ArrayList<>( ids.length );
+		for ( EntityKey key : keysById ) {
+			@SuppressWarnings("unchecked")
+			T entity = (T) entitiesByPosition[positions.get( key )];
+			result.add( entity );
+		}
+		return result;
+	}
+
+	/*
+	 * Turns the tuples into entities, in the same order.
+	 */
+	private List<T> materialize(List<Tuple> tuples, Object id, Boolean readOnly, SharedSessionContractImplementor session) {
+		final EntityIdentifierMapping identifierMapping = entityMappingType.getIdentifierMapping();
+
+		// The values of the parameters are not used, the rows come from the tuples
+		final JdbcParameterBindings jdbcParameterBindings = new JdbcParameterBindingsImpl( jdbcParameters.size() );
+		int offset = 0;
+		while ( offset < jdbcParameters.size() ) {
+			offset += jdbcParameterBindings.registerParametersForEachJdbcValue(
+					id,
+					offset,
+					identifierMapping,
+					jdbcParameters,
+					session
+			);
+		}
+		final QueryOptions queryOptions = new SimpleQueryOptions( lockOptions, readOnly );
+		final Callback callback = new CallbackImpl();
+
+		List<SqlSelection> selections = getSqlSelections( session );
+		Function<String, PreparedStatement> statementCreator = sql -> new TuplesSelectPreparedStatement( tuples, selections );
+
+		final List<T> entities = session.getJdbcServices().getJdbcSelectExecutor().executeQuery(
+				jdbcSelect,
+				jdbcParameterBindings,
+				new MultiIdExecutionContext( session, queryOptions, callback ),
+				RowTransformerStandardImpl.<T>instance(),
+				null,
+				statementCreator,
+				ListResultsConsumer.instance( ListResultsConsumer.UniqueSemantic.FILTER )
+		);
+
+		for ( int i = 0; i < entities.size(); i++ ) {
+			T entity = entities.get( i );
+			callback.invokeAfterLoadActions( entity, entityMappingType, session );
+
+			// Save the tuple in the state so we can retrieve it later if we updated the instance
+			TuplePointer tuplePointer = OgmEntityEntryState.getStateFor( session, entity ).getTuplePointer();
+			tuplePointer.setTuple( tuples.get( i ) );
+		}
+		return entities;
+	}
+
+	private List<SqlSelection> getSqlSelections(SharedSessionContractImplementor session) {
+		List<SqlSelection> selections = sqlSelections;
+		if ( selections == null ) {
+			selections = OgmSingleIdLoadPlan.extractJdbcSelections( session, jdbcSelect );
+			sqlSelections = selections;
+		}
+		return selections;
+	}
+
+	private static List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext, ServiceRegistryImplementor serviceRegistry) {
+		MultigetGridDialect multigetGridDialect = serviceRegistry.getService( MultigetGridDialect.class );
+		if ( multigetGridDialect != null ) {
+			return multigetGridDialect.getTuples( keys, tupleContext );
+		}
+
+		GridDialect gridDialect = serviceRegistry.getService( GridDialect.class );
+		List<Tuple> tuples = new ArrayList<>( keys.length );
+		for ( EntityKey key : keys ) {
+			tuples.add( gridDialect.getTuple( key, tupleContext ) );
+		}
+		return tuples;
+	}
+
+	private static class MultiIdExecutionContext extends BaseExecutionContext {
+		private final QueryOptions queryOptions;
+		private final Callback callback;
+
+		public MultiIdExecutionContext(SharedSessionContractImplementor session, QueryOptions queryOptions, Callback callback) {
+			super( session );
+			this.queryOptions = queryOptions;
+			this.callback = callback;
+		}
+
+		@Override
+		public QueryOptions getQueryOptions() {
+			return queryOptions;
+		}
+
+		@Override
+		public Callback getCallback() {
+			return callback;
+		}
+	}
+}
@@ -6,6 +6,11 @@
  */
 package org.hibernate.ogm.loader.entity.impl;
 
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.LockMode;
 import org.hibernate.LockOptions;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
@@ -25,6 +30,11 @@
 
 	private OgmDatabaseSnapshotExecutor databaseSnapshotExecutor;
 
+	/*
+	 * The plans used by multi-id and batch loads, by lock mode
+	 */
+	private final ConcurrentMap<LockMode, OgmMultiIdLoadPlan<T>> multiIdLoadPlans = new ConcurrentHashMap<>();
+
 	public OgmSingleIdEntityLoader(
 			EntityMappingType entityDescriptor,
 			SessionFactoryImplementor sessionFactory) {
@@ -60,6 +70,16 @@ private static <T> SingleIdLoadPlan<T> createLoadPlan(
 		);
 	}
 	
+	/**
+	 * Loads the entities with the given ids.
+	 *
+	 * @return the entities, in the order of the ids; {@code null} for the ids not matching any entity
+	 * @see OgmMultiIdLoadPlan#load(Object[], Boolean, SharedSessionContractImplementor)
+	 */
+	public List<T> loadAll(Object[] ids, LockOptions lockOptions, Boolean readOnly, SharedSessionContractImplementor session) {
+		return resolveMultiIdLoadPlan( lockOptions, session.getLoadQueryInfluencers() ).load( ids, readOnly, session );
+	}
+
 	@Override
 	public Object[] loadDatabaseSnapshot(Object id, SharedSessionContractImplementor session) {
 		if ( databaseSnapshotExecutor == null ) {
@@ -68,4 +88,22 @@ public Object[] loadDatabaseSnapshot(Object id, SharedSessionContractImplementor
 
 		return databaseSnapshotExecutor.loadDatabaseSnapshot( id, session );
 	}
+
+	private OgmMultiIdLoadPlan<T> resolveMultiIdLoadPlan(LockOptions lockOptions, LoadQueryInfluencers loadQueryInfluencers) {
+		if ( !isMultiIdLoadPlanReusable( lockOptions, loadQueryInfluencers ) ) {
+			return new OgmMultiIdLoadPlan<>( getLoadable(), lockOptions, loadQueryInfluencers, sessionFactory );
+		}
+		return multiIdLoadPlans.computeIfAbsent(
+				lockOptions.getLockMode(),
+				lockMode -> new OgmMultiIdLoadPlan<>( getLoadable(), lockOptions, loadQueryInfluencers, sessionFactory )
+		);
+	}
+
+	private static boolean isMultiIdLoadPlanReusable(LockOptions lockOptions, LoadQueryInfluencers loadQueryInfluencers) {
+		// Pessimistic locks might come with additional options such as a timeout
+		return !lockOptions.getLockMode().greaterThan( LockMode.READ )
+				&& !loadQueryInfluencers.hasEnabledFetchProfiles()
+				&& loadQueryInfluencers.getEnabledCascadingFetchProfile() == null
+				&& loadQueryInfluencers.getEffectiveEntityGraph().getSemantic() == null;
+	}
 }
@@ -19,13 +19,13 @@
 import org.hibernate.metamodel.mapping.EntityMappingType;
 import org.hibernate.metamodel.mapping.ModelPart;
 import org.hibernate.ogm.dialect.impl.TupleContextImpl;
-import org.hibernate.ogm.dialect.impl.TupleTypeContextImpl;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.dialect.spi.OperationContext;
 import org.hibernate.ogm.entityentry.impl.OgmEntityEntryState;
 import org.hibernate.ogm.entityentry.impl.TuplePointer;
 import org.hibernate.ogm.jdbc.impl.JdbcOgmMapper;
 import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
 import org.hibernate.ogm.util.impl.TransactionContextHelper;
@@ -53,6 +53,12 @@
  */
 public class OgmSingleIdLoadPlan<T> extends SingleIdLoadPlan<T> {
 
+	/*
+	 * Resolved on first use and then shared by all the loads: they only depend on the plan
+	 */
+	private volatile EntityKeyMetadata keyMetadata;
+	private volatile List<SqlSelection> sqlSelections;
+
 	public OgmSingleIdLoadPlan(
 			EntityMappingType entityMappingType,
 			ModelPart restrictivePart,
@@ -95,13 +101,12 @@ public T load(Object restrictedValue, Object entityInstance, Boolean readOnly, B
 		ServiceRegistryImplementor serviceRegistry = session.getFactory().getServiceRegistry();
 		GridDialect dialect = serviceRegistry.getService( GridDialect.class );
 		
-		EntityKey entityKey = JdbcOgmMapper.extractKey( restrictedValue, session, restrictivePart );
-		TupleTypeContextImpl tupleTypeContext = ogmEntityPersister.createTupleTypeContext( serviceRegistry );
-		OperationContext operationContext = new TupleContextImpl( tupleTypeContext, TransactionContextHelper.transactionContext( session ) );
+		EntityKey entityKey = JdbcOgmMapper.extractKey( restrictedValue, session, restrictivePart, getKeyMetadata( restrictivePart ) );
+		OperationContext operationContext = new TupleContextImpl( ogmEntityPersister.getTupleTypeContext(), TransactionContextHelper.transactionContext( session ) );
 		
 		Tuple tuple = dialect.getTuple( entityKey, operationContext );
 		
-		List<SqlSelection> sqlSelections = extractJdbcSelections( session, jdbcSelect );
+		List<SqlSelection> sqlSelections = getSqlSelections( session, jdbcSelect );
 		
 		Function<String, PreparedStatement> statementCreator = sql -> new TuplesSelectPreparedStatement( tuple, sqlSelections );
 		ListResultsConsumer.UniqueSemantic uniqueSemantic = singleResultExpected ? ListResultsConsumer.UniqueSemantic.ASSERT : ListResultsConsumer.UniqueSemantic.FILTER;
@@ -138,6 +143,24 @@ public T load(Object restrictedValue, Object entityInstance, Boolean readOnly, B
 		return entity;
 	}
 
+	private EntityKeyMetadata getKeyMetadata(EntityIdentifierMapping restrictivePart) {
+		EntityKeyMetadata metadata = keyMetadata;
+		if ( metadata == null ) {
+			metadata = JdbcOgmMapper.extractKeyMetadata( restrictivePart );
+			keyMetadata = metadata;
+		}
+		return metadata;
+	}
+
+	private List<SqlSelection> getSqlSelections(SharedSessionContractImplementor session, JdbcOperationQuerySelect jdbcSelect) {
+		List<SqlSelection> selections = sqlSelections;
+		if ( selections == null ) {
+			selections = extractJdbcSelections( session, jdbcSelect );
+			sqlSelections = selections;
+		}
+		return selections;
+	}
+
 	public static List<SqlSelection> extractJdbcSelections(SharedSessionContractImplementor session,
 			final JdbcOperationQuerySelect jdbcSelect) {
 		// TODO check what we should be doing here, 
@@ -31,6 +31,7 @@
 import java.util.Collections;
 import java.util.List;
 
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.sql.ast.spi.SqlSelection;
 
@@ -40,7 +41,11 @@
  */
 public class TuplesSelectPreparedStatement implements PreparedStatement {
 	private final List<Tuple> tuples;
+	private final ClosableIterator<Tuple> tuplesIterator;
 	private final List<SqlSelection> sqlSelections;
+
+	private TuplesSelectResultSet resultSet;
+	private int fetchSize;
 	
 	/**
 	 * @param tuple The {@link Tuple}, in case it is null the {@link ResultSet} will have zero rows
@@ -51,9 +56,27 @@ public TuplesSelectPreparedStatement(Tuple tuple, List<SqlSelection> sqlSelectio
 
 	public TuplesSelectPreparedStatement(List<Tuple> tuples, List<SqlSelection> sqlSelections) {
 		this.tuples = tuples;
+		this.tuplesIterator = null;
+		this.sqlSelections = sqlSelections;
+	}
+
+	/**
+	 * @param tuples The tuples, read as the rows of the forward-only {@link ResultSet} are consumed; the iterator is
+	 * closed with the {@link ResultSet} or with this statement
+	 */
+	public TuplesSelectPreparedStatement(ClosableIterator<Tuple> tuples, List<SqlSelection> sqlSelections) {
+		this.tuples = null;
+		this.tuplesIterator = tuples;
 		this.sqlSelections = sqlSelections;
 	}
 
+	/**
+	 * @return the tuple of the current row of the {@link ResultSet}, {@code null} if the query has not been executed
+	 */
+	public Tuple getCurrentTuple() {
+		return resultSet == null ? null : resultSet.getCurrentTuple();
+	}
+
 	@Override
 	public ResultSet executeQuery(String sql) throws SQLException {
 		throw new UnsupportedOperationException( "Not implemented" );
@@ -66,6 +89,12 @@ public int executeUpdate(String sql) throws SQLException {
 
 	@Override
 	public void close() throws SQLException {
+		if ( resultSet != null ) {
+			resultSet.close();
+		}
+		else if ( tuplesIterator != null ) {
+			tuplesIterator.close();
+		}
 	}
 
 	@Override
@@ -123,7 +152,7 @@ public boolean execute(String sql) throws SQLException {
 
 	@Override
 	public ResultSet getResultSet() throws SQLException {
-		return null;
+		return resultSet;
 	}
 
 	@Override
@@ -147,11 +176,12 @@ public int getFetchDirection() throws SQLException {
 
 	@Override
 	public void setFetchSize(int rows) throws SQLException {
+		this.fetchSize = rows;
 	}
 
 	@Override
 	public int getFetchSize() throws SQLException {
-		return 0;
+		return fetchSize;
 	}
 
 	@Override
@@ -262,7 +292,14 @@ public boolean isWrapperFor(Class<?> iface) throws SQLException {
 
 	@Override
 	public ResultSet executeQuery() throws SQLException {
-		return new TuplesSelectResultSet( this, tuples, sqlSelections );
+		if ( tuplesIterator != null ) {
+			resultSet = new TuplesStreamResultSet( this, tuplesIterator, sqlSelections );
+			resultSet.setFetchSize( fetchSize );
+		}
+		else {
+			resultSet = new TuplesSelectResultSet( this, tuples, sqlSelections );
+		}
+		return resultSet;
 	}
 
 	@Override
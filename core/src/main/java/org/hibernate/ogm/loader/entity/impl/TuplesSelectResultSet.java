@@ -73,7 +73,10 @@ public TuplesSelectResultSet(Statement statement, List<Tuple> tuples, List<SqlSe
 		}
 	}
 	
-	private Tuple getCurrentTuple() {
+	/**
+	 * @return the tuple of the current row
+	 */
+	public Tuple getCurrentTuple() {
 		return tuples.get( rowIndex );
 	}
 
@@ -330,7 +333,7 @@ public Object getObject(int columnIndex) throws SQLException {
 
 	@Override
 	public Object getObject(String columnLabel) throws SQLException {
-		Tuple tuple = tuples.get( rowIndex );
+		Tuple tuple = getCurrentTuple();
 		
 		Object value = tuple.get( columnLabel );
 		wasNull = value == null;
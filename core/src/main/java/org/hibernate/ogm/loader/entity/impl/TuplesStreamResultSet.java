@@ -0,0 +1,167 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.loader.entity.impl;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.sql.ast.spi.SqlSelection;
+
+/**
+ * A forward-only {@link ResultSet} reading the tuples from the datastore as the rows are consumed.
+ * <p>
+ * The iterator is closed with the result set, or as soon as its last tuple has been read.
+ */
+public class TuplesStreamResultSet extends TuplesSelectResultSet {
+	private final ClosableIterator<Tuple> tuples;
+
+	private Tuple currentTuple;
+	private int row;
+	private boolean exhausted;
+	private boolean closed;
+	private int fetchSize;
+
+	public TuplesStreamResultSet(Statement statement, ClosableIterator<Tuple> tuples, List<SqlSelection> sqlSelections) {
+		super( statement, Collections.emptyList(), sqlSelections );
+		this.tuples = tuples;
+	}
+
+	@Override
+	public Tuple getCurrentTuple() {
+		return currentTuple;
+	}
+
+	@Override
+	public boolean next() throws SQLException {
+		if ( closed ) {
+			throw new SQLException( "The result set is closed" );
+		}
+		if ( !exhausted && tuples.hasNext() ) {
+			currentTuple = tuples.next();
+			row++;
+			return true;
+		}
+		if ( !exhausted ) {
+			exhausted = true;
+			tuples.close();
+		}
+		currentTuple = null;
+		return false;
+	}
+
+	@Override
+	public void close() throws SQLException {
+		if ( !closed ) {
+			closed = true;
+			currentTuple = null;
+			tuples.close();
+		}
+	}
+
+	@Override
+	public boolean isClosed() throws SQLException {
+		return closed;
+	}
+
+	@Override
+	public boolean isBeforeFirst() throws SQLException {
+		return row == 0 && !exhausted && !closed && tuples.hasNext();
+	}
+
+	@Override
+	public boolean isAfterLast() throws SQLException {
+		return exhausted && row > 0;
+	}
+
+	@Override
+	public boolean isFirst() throws SQLException {
+		return row == 1 && currentTuple != null;
+	}
+
+	@Override
+	public boolean isLast() throws SQLException {
+		return currentTuple != null && !tuples.hasNext();
+	}
+
+	@Override
+	public int getRow() throws SQLException {
+		return currentTuple == null ? 0 : row;
+	}
+
+	@Override
+	public boolean absolute(int row) throws SQLException {
+		if ( row < this.row ) {
+			throw forwardOnly( "absolute" );
+		}
+		return relative( row - this.row );
+	}
+
+	@Override
+	public boolean relative(int rows) throws SQLException {
+		if ( rows < 0 ) {
+			throw forwardOnly( "relative" );
+		}
+		boolean onRow = currentTuple != null;
+		for ( int i = 0; i < rows; i++ ) {
+			onRow = next();
+			if ( !onRow ) {
+				break;
+			}
+		}
+		return onRow;
+	}
+
+	@Override
+	public boolean previous() throws SQLException {
+		throw forwardOnly( "previous" );
+	}
+
+	@Override
+	public void beforeFirst() throws SQLException {
+		throw forwardOnly( "beforeFirst" );
+	}
+
+	@Override
+	public void afterLast() throws SQLException {
+		throw forwardOnly( "afterLast" );
+	}
+
+	@Override
+	public boolean first() throws SQLException {
+		throw forwardOnly( "first" );
+	}
+
+	@Override
+	public boolean last() throws SQLException {
+		throw forwardOnly( "last" );
+	}
+
+	@Override
+	public void setFetchSize(int rows) throws SQLException {
+		this.fetchSize = rows;
+	}
+
+	@Override
+	public int getFetchSize() throws SQLException {
+		return fetchSize;
+	}
+
+	@Override
+	public int getType() throws SQLException {
+		return ResultSet.TYPE_FORWARD_ONLY;
+	}
+
+	private static SQLException forwardOnly(String operation) {
+		return new SQLFeatureNotSupportedException( "Operation " + operation + " is not supported on a forward-only result set" );
+	}
+}
@@ -39,6 +39,7 @@ public class BatchCoordinator implements Runnable {
 	private final ExtendedSearchIntegrator searchFactoryImplementor;
 	private final SessionFactoryImplementor sessionFactory;
 	private final int typesToIndexInParallel;
+	private final int threadsToLoadObjects;
 	private final CacheMode cacheMode;
 	private final boolean optimizeAtEnd;
 	private final boolean purgeAtStart;
@@ -51,7 +52,7 @@ public class BatchCoordinator implements Runnable {
 	private final GridDialect gridDialect;
 
 	public BatchCoordinator(GridDialect gridDialect, IndexedTypeSet rootEntities, ExtendedSearchIntegrator searchFactoryImplementor,
-			SessionFactoryImplementor sessionFactory, int typesToIndexInParallel, CacheMode cacheMode, boolean optimizeAtEnd, boolean purgeAtStart,
+			SessionFactoryImplementor sessionFactory, int typesToIndexInParallel, int threadsToLoadObjects, CacheMode cacheMode, boolean optimizeAtEnd, boolean purgeAtStart,
 			boolean optimizeAfterPurge, MassIndexerProgressMonitor monitor, String tenantId) {
 		this.gridDialect = gridDialect;
 		this.tenantId = tenantId;
@@ -59,6 +60,7 @@ public BatchCoordinator(GridDialect gridDialect, IndexedTypeSet rootEntities, Ex
 		this.searchFactoryImplementor = searchFactoryImplementor;
 		this.sessionFactory = sessionFactory;
 		this.typesToIndexInParallel = typesToIndexInParallel;
+		this.threadsToLoadObjects = threadsToLoadObjects;
 		this.cacheMode = cacheMode;
 		this.optimizeAtEnd = optimizeAtEnd;
 		this.purgeAtStart = purgeAtStart;
@@ -106,7 +108,7 @@ private void doBatchWork(BatchBackend backend) throws InterruptedException {
 		ExecutorService executor = Executors.newFixedThreadPool( typesToIndexInParallel, "BatchIndexingWorkspace" );
 		for ( IndexedTypeIdentifier indexedTypeIdentifier : rootIndexedTypes ) {
 			executor.execute( new BatchIndexingWorkspace( gridDialect, searchFactoryImplementor, sessionFactory, indexedTypeIdentifier,
-					cacheMode, endAllSignal, monitor, backend, tenantId ) );
+					cacheMode, threadsToLoadObjects, endAllSignal, monitor, backend, tenantId ) );
 		}
 		executor.shutdown();
 		endAllSignal.await(); // waits for the executor to finish
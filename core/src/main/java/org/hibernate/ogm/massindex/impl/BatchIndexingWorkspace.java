@@ -13,6 +13,7 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.ogm.compensation.ErrorHandler;
 import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.persister.impl.OgmEntityPersister;
@@ -45,6 +46,7 @@ public class BatchIndexingWorkspace implements Runnable {
 
 	// loading options
 	private final CacheMode cacheMode;
+	private final int threadsToLoadObjects;
 
 	private final BatchBackend batchBackend;
 
@@ -55,7 +57,8 @@ public class BatchIndexingWorkspace implements Runnable {
 	private final String tenantId;
 
 	public BatchIndexingWorkspace(GridDialect gridDialect, SearchIntegrator search,
-			SessionFactoryImplementor sessionFactory, IndexedTypeIdentifier indexedTypeIdentifier, CacheMode cacheMode, CountDownLatch endAllSignal,
+			SessionFactoryImplementor sessionFactory, IndexedTypeIdentifier indexedTypeIdentifier, CacheMode cacheMode, int threadsToLoadObjects,
+			CountDownLatch endAllSignal,
 			MassIndexerProgressMonitor monitor, BatchBackend backend, String tenantId) {
 		this.gridDialect = gridDialect;
 		this.indexedTypeIdentifier = indexedTypeIdentifier;
@@ -63,6 +66,7 @@ public BatchIndexingWorkspace(GridDialect gridDialect, SearchIntegrator search,
 		this.searchIntegrator = search.unwrap( ExtendedSearchIntegrator.class );
 		this.sessionFactory = sessionFactory;
 		this.cacheMode = cacheMode;
+		this.threadsToLoadObjects = threadsToLoadObjects;
 		this.endAllSignal = endAllSignal;
 		this.batchBackend = backend;
 		this.monitor = monitor;
@@ -76,7 +80,9 @@ public void run() {
 			final EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( persister.getTableName(), persister.getRootTableIdentifierColumnNames() );
 
 			final SessionAwareRunnable consumer = new TupleIndexer( indexedTypeIdentifier, monitor, sessionFactory, searchIntegrator, cacheMode, batchBackend, errorHandler, tenantId );
-			gridDialect.forEachTuple( new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, consumer ), persister.getTupleTypeContext(), keyMetadata );
+			final ModelConsumer transactionalConsumer = new OptionallyWrapInJTATransaction( sessionFactory, errorHandler, consumer );
+			gridDialect.forEachTuple( new ConcurrentModelConsumer( transactionalConsumer, errorHandler, threadsToLoadObjects, "TupleIndexer" ),
+					persister.getTupleTypeContext(), keyMetadata );
 		}
 		catch ( RuntimeException re ) {
 			// being this an async thread we want to make sure everything is somehow reported
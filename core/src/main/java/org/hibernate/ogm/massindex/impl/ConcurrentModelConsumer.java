@@ -0,0 +1,84 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.massindex.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.TuplesSupplier;
+import org.hibernate.ogm.util.impl.LoggerFactory;
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.exception.ErrorHandler;
+
+/**
+ * Consumes the independent suppliers returned together by a dialect on a pool of threads, each supplier being
+ * consumed on a single thread by the delegate.
+ *
+ * @see OgmMassIndexer#threadsToLoadObjects(int)
+ */
+class ConcurrentModelConsumer implements ModelConsumer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ModelConsumer delegate;
+	private final ErrorHandler errorHandler;
+	private final int threads;
+	private final String groupname;
+
+	ConcurrentModelConsumer(ModelConsumer delegate, ErrorHandler errorHandler, int threads, String groupname) {
+		this.delegate = delegate;
+		this.errorHandler = errorHandler;
+		this.threads = threads;
+		this.groupname = groupname;
+	}
+
+	@Override
+	public void consume(TuplesSupplier supplier) {
+		delegate.consume( supplier );
+	}
+
+	@Override
+	public void consume(List<? extends TuplesSupplier> suppliers) {
+		if ( threads == 1 || suppliers.size() < 2 ) {
+			delegate.consume( suppliers );
+			return;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool( Math.min( threads, suppliers.size() ), groupname );
+		try {
+			List<Future<?>> futures = new ArrayList<>( suppliers.size() );
+			for ( TuplesSupplier supplier : suppliers ) {
+				futures.add( executor.submit( () -> delegate.consume( supplier ) ) );
+			}
+			// The dialect releases the resources of the suppliers once this method returns
+			for ( Future<?> future : futures ) {
+				await( future );
+			}
+		}
+		catch (InterruptedException e) {
+			// The remaining suppliers are cancelled, the coordinator will notice the interruption
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void await(Future<?> future) throws InterruptedException {
+		try {
+			future.get();
+		}
+		catch (ExecutionException e) {
+			errorHandler.handleException( log.massIndexerUnexpectedErrorMessage(), e.getCause() );
+		}
+	}
+}
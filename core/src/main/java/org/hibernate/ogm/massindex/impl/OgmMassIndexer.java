@@ -47,6 +47,7 @@ public class OgmMassIndexer implements MassIndexer {
 	private boolean purgeAllOnStart = true;
 	private String tenantId;
 	private int typesToIndexInParallel = 1;
+	private int threadsToLoadObjects = 6;
 
 	private final IndexedTypeSet rootEntities;
 
@@ -64,7 +65,9 @@ private MassIndexerProgressMonitor createMonitor(ExtendedSearchIntegrator search
 
 	@Override
 	public MassIndexer threadsToLoadObjects(int numberOfThreads) {
-		log.unsupportedIndexerConfigurationOption( "threadsToLoadObjects" );
+		// Only used by the dialects returning several independent suppliers for a type
+		atLeastOneValidation( numberOfThreads );
+		this.threadsToLoadObjects = numberOfThreads;
 		return this;
 	}
 
@@ -159,8 +162,8 @@ public void startAndWait() throws InterruptedException {
 	}
 
 	protected BatchCoordinator createCoordinator() {
-		return new BatchCoordinator( gridDialect, rootEntities, searchIntegrator, sessionFactory, typesToIndexInParallel, cacheMode, optimizeOnFinish,
-				purgeAllOnStart, optimizeAfterPurge, monitor, tenantId );
+		return new BatchCoordinator( gridDialect, rootEntities, searchIntegrator, sessionFactory, typesToIndexInParallel, threadsToLoadObjects, cacheMode,
+				optimizeOnFinish, purgeAllOnStart, optimizeAfterPurge, monitor, tenantId );
 	}
 
 	private void atLeastOneValidation(int numberOfThreads) {
@@ -13,13 +13,15 @@
 import org.hibernate.cache.spi.access.NaturalIdDataAccess;
 import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.loader.ast.internal.SingleIdEntityLoaderProvidedQueryImpl;
-import org.hibernate.loader.ast.spi.BatchLoaderFactory;
+import org.hibernate.loader.ast.spi.MultiIdEntityLoader;
 import org.hibernate.loader.ast.spi.SingleIdEntityLoader;
 import org.hibernate.mapping.PersistentClass;
 import org.hibernate.metamodel.model.domain.internal.MappingMetamodelImpl;
 import org.hibernate.metamodel.spi.RuntimeModelCreationContext;
 import org.hibernate.ogm.dialect.impl.TupleTypeContextImpl;
 import org.hibernate.ogm.dialect.spi.TupleTypeContext;
+import org.hibernate.ogm.loader.entity.impl.OgmEntityBatchLoader;
+import org.hibernate.ogm.loader.entity.impl.OgmMultiIdEntityLoader;
 import org.hibernate.ogm.loader.entity.impl.OgmSingleIdEntityLoader;
 import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.AssociationKeyMetadata;
@@ -86,6 +88,11 @@ protected SingleIdEntityLoader<?> buildSingleIdEntityLoader() {
 		return buildSingleIdEntityLoader( new LoadQueryInfluencers( getFactory() ) );
 	}
 
+	@Override
+	protected MultiIdEntityLoader<Object> buildMultiIdLoader() {
+		return new OgmMultiIdEntityLoader<>( this, getFactory() );
+	}
+
 	// TODO check if we can make this visible in parent class
 	private boolean hasNamedQueryLoader() {
 		return persistentClass.getLoaderName() != null;
@@ -93,11 +100,8 @@ private boolean hasNamedQueryLoader() {
 
 	private SingleIdEntityLoader<?> buildSingleIdEntityLoader(LoadQueryInfluencers loadQueryInfluencers) {
 		if ( loadQueryInfluencers.effectivelyBatchLoadable( this ) ) {
-			// TODO this needs to be adjusted
 			final int batchSize = loadQueryInfluencers.effectiveBatchSize( this );
-			return getFactory().getServiceRegistry()
-					.requireService( BatchLoaderFactory.class )
-					.createEntityBatchLoader( batchSize, this, getFactory() );
+			return new OgmEntityBatchLoader<>( batchSize, this, getFactory() );
 		}
 		else {
 			return new OgmSingleIdEntityLoader<>( this, getFactory() );
@@ -0,0 +1,86 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.query.spi.QueryParsingResult;
+import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.sql.SqmTranslation;
+import org.hibernate.query.sqm.tree.expression.SqmParameter;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.sql.ast.spi.SqlSelection;
+import org.hibernate.sql.ast.tree.select.SelectStatement;
+import org.hibernate.sql.exec.spi.JdbcOperationQuerySelect;
+import org.hibernate.sql.exec.spi.JdbcParametersList;
+
+/**
+ * The parameter-agnostic part of the execution of a query: the SQL AST and select turning the tuples into results,
+ * and the native query.
+ *
+ * @see BackendQueryPlanCache
+ */
+final class BackendQueryPlan {
+
+	private final SqmSelectStatement<?> sqm;
+	private final DomainParameterXref domainParameterXref;
+	private final SqmTranslation<SelectStatement> sqmInterpretation;
+	private final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref;
+	private final JdbcOperationQuerySelect jdbcSelect;
+	private final List<SqlSelection> sqlSelections;
+	private final QueryParsingResult parsingResult;
+	private final BackendQuery<Serializable> query;
+
+	BackendQueryPlan(SqmSelectStatement<?> sqm, DomainParameterXref domainParameterXref,
+			SqmTranslation<SelectStatement> sqmInterpretation,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+			JdbcOperationQuerySelect jdbcSelect, List<SqlSelection> sqlSelections, QueryParsingResult parsingResult) {
+		this.sqm = sqm;
+		this.domainParameterXref = domainParameterXref;
+		this.sqmInterpretation = sqmInterpretation;
+		this.jdbcParamsXref = jdbcParamsXref;
+		this.jdbcSelect = jdbcSelect;
+		this.sqlSelections = sqlSelections;
+		this.parsingResult = parsingResult;
+		this.query = new BackendQuery<Serializable>( (Serializable) parsingResult.getQueryObject(), null );
+	}
+
+	/**
+	 * The translations refer to the nodes and parameters of the SQM tree, they can't be used for another tree.
+	 */
+	boolean isFor(SqmSelectStatement<?> sqm, DomainParameterXref domainParameterXref) {
+		return this.sqm == sqm && this.domainParameterXref == domainParameterXref;
+	}
+
+	SqmTranslation<SelectStatement> getSqmInterpretation() {
+		return sqmInterpretation;
+	}
+
+	Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> getJdbcParamsXref() {
+		return jdbcParamsXref;
+	}
+
+	JdbcOperationQuerySelect getJdbcSelect() {
+		return jdbcSelect;
+	}
+
+	List<SqlSelection> getSqlSelections() {
+		return sqlSelections;
+	}
+
+	QueryParsingResult getParsingResult() {
+		return parsingResult;
+	}
+
+	BackendQuery<Serializable> getQuery() {
+		return query;
+	}
+}
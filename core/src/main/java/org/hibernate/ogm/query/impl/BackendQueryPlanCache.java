@@ -0,0 +1,131 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.internal.util.collections.BoundedConcurrentHashMap;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+import org.hibernate.service.Service;
+
+/**
+ * Keeps the translation of the queries to the native queries of the datastore, so that executing the same query
+ * again only requires binding the parameters.
+ * <p>
+ * The plans are looked up by query string and result type. A plan is tied to the SQM tree it was created from: it is
+ * only used if the query is executed with the same tree, which is the case when ORM caches the interpretation of the
+ * query.
+ *
+ * @see OgmProperties#QUERY_PLAN_CACHE_MAX_SIZE
+ */
+public class BackendQueryPlanCache implements Service {
+
+	private static final int CONCURRENCY_LEVEL = 20;
+
+	private final BoundedConcurrentHashMap<Key, BackendQueryPlan> plans;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	/**
+	 * @param maxSize the maximum number of cached plans, the cache is disabled if it's not positive
+	 */
+	public BackendQueryPlanCache(int maxSize) {
+		this.plans = maxSize > 0
+				? new BoundedConcurrentHashMap<Key, BackendQueryPlan>( maxSize, CONCURRENCY_LEVEL, BoundedConcurrentHashMap.Eviction.LIRS )
+				: null;
+	}
+
+	/**
+	 * @param key the key of the plan
+	 * @param sqm the SQM tree of the query being executed
+	 * @param domainParameterXref the parameters of the query being executed
+	 * @return the plan created for the same query, {@code null} if there is none
+	 */
+	BackendQueryPlan get(Key key, SqmSelectStatement<?> sqm, DomainParameterXref domainParameterXref) {
+		if ( plans == null ) {
+			return null;
+		}
+		BackendQueryPlan plan = plans.get( key );
+		if ( plan != null && plan.isFor( sqm, domainParameterXref ) ) {
+			hits.increment();
+			return plan;
+		}
+		misses.increment();
+		return null;
+	}
+
+	void put(Key key, BackendQueryPlan plan) {
+		if ( plans != null ) {
+			plans.put( key, plan );
+		}
+	}
+
+	/**
+	 * @return the number of executions that found a plan in the cache
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return the number of cacheable executions that had to create a plan
+	 */
+	public long getMissCount() {
+		return misses.sum();
+	}
+
+	/**
+	 * @return the number of plans in the cache
+	 */
+	public int size() {
+		return plans == null ? 0 : plans.size();
+	}
+
+	public void clear() {
+		if ( plans != null ) {
+			plans.clear();
+		}
+	}
+
+	static final class Key {
+
+		private final String queryString;
+		private final Class<?> resultType;
+		private final int hashCode;
+
+		Key(String queryString, Class<?> resultType) {
+			this.queryString = queryString;
+			this.resultType = resultType;
+			this.hashCode = 31 * queryString.hashCode() + Objects.hashCode( resultType );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != Key.class ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return queryString.equals( other.queryString ) && Objects.equals( resultType, other.resultType );
+		}
+
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override
+		public String toString() {
+			return "Key [queryString=" + queryString + ", resultType=" + resultType + "]";
+		}
+	}
+}
@@ -8,13 +8,17 @@
 
 import java.io.Serializable;
 import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
+import org.hibernate.engine.spi.LoadQueryInfluencers;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.engine.spi.SubselectFetch;
@@ -27,22 +31,25 @@
 import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
 import org.hibernate.ogm.dialect.spi.GridDialect;
 import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.dialect.spi.TupleTypeContext;
 import org.hibernate.ogm.entityentry.impl.OgmEntityEntryState;
 import org.hibernate.ogm.entityentry.impl.TuplePointer;
 import org.hibernate.ogm.loader.entity.impl.OgmSingleIdLoadPlan;
 import org.hibernate.ogm.loader.entity.impl.TuplesSelectPreparedStatement;
-import org.hibernate.ogm.model.spi.EntityMetadataInformation;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.options.spi.OptionsService;
 import org.hibernate.ogm.query.spi.QueryParserService;
 import org.hibernate.ogm.query.spi.QueryParsingResult;
 import org.hibernate.ogm.util.impl.TransactionContextHelper;
+import org.hibernate.query.spi.AbstractSelectionQuery;
 import org.hibernate.query.spi.DomainQueryExecutionContext;
 import org.hibernate.query.spi.QueryOptions;
 import org.hibernate.query.spi.QueryParameterImplementor;
+import org.hibernate.query.spi.ScrollableResultsImplementor;
 import org.hibernate.query.sqm.internal.AppliedGraphs;
 import org.hibernate.query.sqm.internal.ConcreteSqmSelectQueryPlan;
 import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.hibernate.query.sqm.internal.SqmJdbcExecutionContextAdapter;
 import org.hibernate.query.sqm.internal.SqmUtil;
 import org.hibernate.query.sqm.spi.SqmParameterMappingModelResolutionAccess;
 import org.hibernate.query.sqm.sql.SqmTranslation;
@@ -61,6 +68,7 @@
 import org.hibernate.sql.results.internal.TupleMetadata;
 import org.hibernate.sql.results.spi.ListResultsConsumer;
 import org.hibernate.sql.results.spi.RowTransformer;
+import org.hibernate.sql.results.spi.ScrollableResultsConsumer;
 
 /**
  * TODO ask the ORM team if {@link ConcreteSqmSelectQueryPlan} could be more customizable
@@ -74,6 +82,10 @@
 	private RowTransformer<R> rowTransformer;
 	private QueryOptions queryOptions;
 	private Class<R> resultType;
+	/*
+	 * Resolved on first execution, it only depends on the result type
+	 */
+	private volatile TupleTypeContext tupleTypeContext;
 		
 	public OgmConcreteSqmSelectQueryPlan(SqmSelectStatement<?> sqm, String hql, DomainParameterXref domainParameterXref,
 			Class<R> resultType, TupleMetadata tupleMetadata, QueryOptions queryOptions) {
@@ -100,47 +112,6 @@ public List<R> performList(DomainQueryExecutionContext executionContext) {
 		GridDialect gridDialect = serviceRegistry.getService( GridDialect.class );
 		
 		if (gridDialect instanceof QueryableGridDialect<?>) {
-			QueryableGridDialect<Serializable> queryableDialect = (QueryableGridDialect<Serializable>) gridDialect;
-			QueryParserService queryParserService = serviceRegistry.getService( QueryParserService.class );
-			OptionsService optionsService = serviceRegistry.getService( OptionsService.class );
-			
-			final SqmTranslation<SelectStatement> sqmInterpretation =
-					factory.getQueryEngine().getSqmTranslatorFactory()
-							.createSelectTranslator(
-									sqm,
-									executionContext.getQueryOptions(),
-									domainParameterXref,
-									executionContext.getQueryParameterBindings(),
-									executionContext.getSession().getLoadQueryInfluencers(),
-									factory,
-									true
-							)
-							.translate();
-			
-			final SqlAstTranslator<JdbcOperationQuerySelect> selectTranslator =
-					factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
-							.buildSelectTranslator( factory, sqmInterpretation.getSqlAst() );
-
-			final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref
-					= SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
-			
-			final FromClauseAccess tableGroupAccess = sqmInterpretation.getFromClauseAccess();
-			
-			final JdbcParameterBindings jdbcParameterBindings = SqmUtil.createJdbcParameterBindings(
-					executionContext.getQueryParameterBindings(),
-					domainParameterXref,
-					jdbcParamsXref,
-					session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
-					tableGroupAccess::findTableGroup,
-					new SqmParameterMappingModelResolutionAccess() {
-						@Override @SuppressWarnings("unchecked")
-						public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
-							return (MappingModelExpressible<T>) sqmInterpretation.getSqmParameterMappingModelTypeResolutions().get(parameter);
-						}
-					},
-					session
-			);
-			
 			final ListResultsConsumer.UniqueSemantic uniqueSemantic;
 			if ( sqm.producesUniqueResults() && !AppliedGraphs.containsCollectionFetches( queryOptions ) ) {
 				uniqueSemantic = ListResultsConsumer.UniqueSemantic.NONE;
@@ -149,48 +120,21 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 				uniqueSemantic = ListResultsConsumer.UniqueSemantic.ALLOW;
 			}
 			
-			final JdbcOperationQuerySelect jdbcSelect = selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
 			try {
-				final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
-						session.getPersistenceContext().getBatchFetchQueue(),
-						sqmInterpretation.getSqlAst(),
-						JdbcParametersList.empty(),
-						jdbcParameterBindings
-				);
-				session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
-				
-				// Build the query
-				// TODO this fails if the dialect doesn't provide a query service, we shouls degrade to Hibernate Search
-				QueryParsingResult dialectQuery = queryParserService.parseQuery( factory, sqm, executionContext );
-				EntityMetadataInformation entityMetaData = null;
-				BackendQuery<Serializable> query = new BackendQuery<Serializable>( (Serializable) dialectQuery.getQueryObject(), entityMetaData );
-				
-				QueryParameters queryParameters = QueryParameters.fromJdbcParameterBindings( executionContext.getQueryParameterBindings(), queryOptions );
+				BackendExecution execution = prepareBackendExecution( executionContext, (QueryableGridDialect<Serializable>) gridDialect );
 				
 				// Query the tuples
-				TupleTypeContextImpl tupleTypeContext = new TupleTypeContextImpl(
-						Collections.emptyList(),
-						Collections.emptySet(),
-						Collections.emptyMap(),
-						Collections.emptyMap(),
-						optionsService.context().getEntityOptions( resultType ),
-						null,
-						null
-				);
-				TupleContext tupleContext = new TupleContextImpl( tupleTypeContext, TransactionContextHelper.transactionContext( session ) );
-				
 				List<Tuple> tuples = new ArrayList<Tuple>();
-				try (ClosableIterator<Tuple> queryResult = queryableDialect.executeBackendQuery( query, queryParameters, tupleContext )) {
+				try ( ClosableIterator<Tuple> queryResult = execution.executeBackendQuery() ) {
 					queryResult.forEachRemaining( tuples::add );
 				}
 				
-				List<SqlSelection> sqlSelections = OgmSingleIdLoadPlan.extractJdbcSelections( session, jdbcSelect );
-				Function<String, PreparedStatement> statementCreator = sql -> new TuplesSelectPreparedStatement( tuples, sqlSelections );
+				Function<String, PreparedStatement> statementCreator = sql -> new TuplesSelectPreparedStatement( tuples, execution.sqlSelections );
 				
 				List<R> results = session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
-						jdbcSelect,
-						jdbcParameterBindings,
-						listInterpreterExecutionContext( hql, executionContext, jdbcSelect, subSelectFetchKeyHandler ),
+						execution.jdbcSelect,
+						execution.jdbcParameterBindings,
+						listInterpreterExecutionContext( hql, executionContext, execution.jdbcSelect, execution.subSelectFetchKeyHandler ),
 						rowTransformer,
 						null,
 						statementCreator,
@@ -217,4 +161,299 @@ public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T
 			return searchSession.search( resultType ).where( f -> f.matchAll() ).fetchAllHits();
 		}
 	}
+
+	/**
+	 * With {@link ScrollMode#FORWARD_ONLY}, used by {@code Query#getResultStream()}, the rows are read from the
+	 * datastore as the results are consumed; the query result is closed with the {@link ScrollableResults}.
+	 * The other modes need to move backwards, the tuples are read before returning.
+	 */
+	@Override
+	public ScrollableResultsImplementor<R> performScroll(ScrollMode scrollMode, DomainQueryExecutionContext executionContext) {
+		SharedSessionContractImplementor session = executionContext.getSession();
+		GridDialect gridDialect = session.getSessionFactory().getServiceRegistry().getService( GridDialect.class );
+
+		if ( !( gridDialect instanceof QueryableGridDialect<?> ) ) {
+			return super.performScroll( scrollMode, executionContext );
+		}
+
+		try {
+			BackendExecution execution = prepareBackendExecution( executionContext, (QueryableGridDialect<Serializable>) gridDialect );
+
+			ClosableIterator<Tuple> queryResult = execution.executeBackendQuery();
+			TuplesSelectPreparedStatement statement;
+			if ( scrollMode == ScrollMode.FORWARD_ONLY ) {
+				statement = new TuplesSelectPreparedStatement( queryResult, execution.sqlSelections );
+			}
+			else {
+				List<Tuple> tuples = new ArrayList<Tuple>();
+				try {
+					queryResult.forEachRemaining( tuples::add );
+				}
+				finally {
+					queryResult.close();
+				}
+				statement = new TuplesSelectPreparedStatement( tuples, execution.sqlSelections );
+			}
+
+			try {
+				return session.getFactory().getJdbcServices().getJdbcSelectExecutor().executeQuery(
+						execution.jdbcSelect,
+						execution.jdbcParameterBindings,
+						new ScrollExecutionContext( executionContext, execution.jdbcSelect ),
+						new TuplePointerRowTransformer<>( rowTransformer, statement, session ),
+						null,
+						sql -> statement,
+						ScrollableResultsConsumer.instance()
+				);
+			}
+			catch (RuntimeException e) {
+				closeQuietly( statement );
+				throw e;
+			}
+		}
+		finally {
+			domainParameterXref.clearExpansions();
+		}
+	}
+
+	/*
+	 * Translates the query, or gets the translation from the plan cache, and prepares the execution on the datastore,
+	 * flushing the session if needed.
+	 */
+	private BackendExecution prepareBackendExecution(DomainQueryExecutionContext executionContext, QueryableGridDialect<Serializable> queryableDialect) {
+		SharedSessionContractImplementor session = executionContext.getSession();
+		SessionFactoryImplementor factory = session.getSessionFactory();
+		ServiceRegistryImplementor serviceRegistry = factory.getServiceRegistry();
+		QueryParserService queryParserService = serviceRegistry.getService( QueryParserService.class );
+		OptionsService optionsService = serviceRegistry.getService( OptionsService.class );
+		BackendQueryPlanCache planCache = serviceRegistry.getService( BackendQueryPlanCache.class );
+
+		BackendQueryPlanCache.Key cacheKey = isPlanCacheable( executionContext, queryParserService )
+				? new BackendQueryPlanCache.Key( hql, resultType )
+				: null;
+		BackendQueryPlan plan = cacheKey == null ? null : planCache.get( cacheKey, sqm, domainParameterXref );
+
+		final JdbcParameterBindings jdbcParameterBindings;
+		JdbcOperationQuerySelect jdbcSelect;
+		List<SqlSelection> sqlSelections;
+		if ( plan == null ) {
+			final SqmTranslation<SelectStatement> sqmInterpretation =
+					factory.getQueryEngine().getSqmTranslatorFactory()
+							.createSelectTranslator(
+									sqm,
+									executionContext.getQueryOptions(),
+									domainParameterXref,
+									executionContext.getQueryParameterBindings(),
+									executionContext.getSession().getLoadQueryInfluencers(),
+									factory,
+									true
+							)
+							.translate();
+
+			final Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref
+					= SqmUtil.generateJdbcParamsXref( domainParameterXref, sqmInterpretation::getJdbcParamsBySqmParam );
+
+			jdbcParameterBindings = createJdbcParameterBindings( sqmInterpretation, jdbcParamsXref, executionContext );
+			jdbcSelect = translate( sqmInterpretation, jdbcParameterBindings, executionContext );
+			sqlSelections = OgmSingleIdLoadPlan.extractJdbcSelections( session, jdbcSelect );
+
+			// Build the query
+			// TODO this fails if the dialect doesn't provide a query service, we shouls degrade to Hibernate Search
+			QueryParsingResult dialectQuery = queryParserService.parseQuery( factory, sqm, executionContext );
+			plan = new BackendQueryPlan( sqm, domainParameterXref, sqmInterpretation, jdbcParamsXref, jdbcSelect, sqlSelections, dialectQuery );
+			if ( cacheKey != null ) {
+				planCache.put( cacheKey, plan );
+			}
+		}
+		else {
+			jdbcParameterBindings = createJdbcParameterBindings( plan.getSqmInterpretation(), plan.getJdbcParamsXref(), executionContext );
+			jdbcSelect = plan.getJdbcSelect();
+			sqlSelections = plan.getSqlSelections();
+			// The select might depend on the values of the parameters or on the options, e.g. the limit
+			if ( !jdbcSelect.isCompatibleWith( jdbcParameterBindings, executionContext.getQueryOptions() ) ) {
+				jdbcSelect = translate( plan.getSqmInterpretation(), jdbcParameterBindings, executionContext );
+				sqlSelections = OgmSingleIdLoadPlan.extractJdbcSelections( session, jdbcSelect );
+			}
+		}
+
+		final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler = SubselectFetch.createRegistrationHandler(
+				session.getPersistenceContext().getBatchFetchQueue(),
+				plan.getSqmInterpretation().getSqlAst(),
+				JdbcParametersList.empty(),
+				jdbcParameterBindings
+		);
+		session.autoFlushIfRequired( jdbcSelect.getAffectedTableNames(), true );
+
+		// The options of the execution carry the hints set on the query, e.g. the fetch size
+		QueryParameters queryParameters = QueryParameters.fromJdbcParameterBindings( executionContext.getQueryParameterBindings(), executionContext.getQueryOptions() );
+		TupleContext tupleContext = new TupleContextImpl( getTupleTypeContext( optionsService ), TransactionContextHelper.transactionContext( session ) );
+
+		return new BackendExecution(
+				queryableDialect,
+				plan.getQuery(),
+				queryParameters,
+				tupleContext,
+				jdbcSelect,
+				jdbcParameterBindings,
+				subSelectFetchKeyHandler,
+				sqlSelections
+		);
+	}
+
+	/*
+	 * The translation of the query must not depend on the values of the parameters or on the state of the session.
+	 */
+	private boolean isPlanCacheable(DomainQueryExecutionContext executionContext, QueryParserService queryParserService) {
+		if ( hql == null || AbstractSelectionQuery.CRITERIA_HQL_STRING.equals( hql ) || queryParserService == null ) {
+			return false;
+		}
+		// The native query contains the values of the parameters
+		if ( !queryParserService.supportsParameters() && domainParameterXref.hasParameters() ) {
+			return false;
+		}
+		QueryOptions options = executionContext.getQueryOptions();
+		LoadQueryInfluencers loadQueryInfluencers = executionContext.getSession().getLoadQueryInfluencers();
+		return !executionContext.getQueryParameterBindings().hasAnyMultiValuedBindings()
+				&& options.getLockOptions().isEmpty()
+				&& ( options.getAppliedGraph() == null || options.getAppliedGraph().getSemantic() == null )
+				&& !loadQueryInfluencers.hasEnabledFilters()
+				&& !loadQueryInfluencers.hasEnabledFetchProfiles()
+				&& !loadQueryInfluencers.hasEnabledCascadingFetchProfile()
+				&& loadQueryInfluencers.getEffectiveEntityGraph().getSemantic() == null;
+	}
+
+	private JdbcParameterBindings createJdbcParameterBindings(SqmTranslation<SelectStatement> sqmInterpretation,
+			Map<QueryParameterImplementor<?>, Map<SqmParameter<?>, List<JdbcParametersList>>> jdbcParamsXref,
+			DomainQueryExecutionContext executionContext) {
+		SharedSessionContractImplementor session = executionContext.getSession();
+		final FromClauseAccess tableGroupAccess = sqmInterpretation.getFromClauseAccess();
+
+		return SqmUtil.createJdbcParameterBindings(
+				executionContext.getQueryParameterBindings(),
+				domainParameterXref,
+				jdbcParamsXref,
+				session.getFactory().getRuntimeMetamodels().getMappingMetamodel(),
+				tableGroupAccess::findTableGroup,
+				new SqmParameterMappingModelResolutionAccess() {
+					@Override @SuppressWarnings("unchecked")
+					public <T> MappingModelExpressible<T> getResolvedMappingModelType(SqmParameter<T> parameter) {
+						return (MappingModelExpressible<T>) sqmInterpretation.getSqmParameterMappingModelTypeResolutions().get( parameter );
+					}
+				},
+				session
+		);
+	}
+
+	private static JdbcOperationQuerySelect translate(SqmTranslation<SelectStatement> sqmInterpretation, JdbcParameterBindings jdbcParameterBindings,
+			DomainQueryExecutionContext executionContext) {
+		SessionFactoryImplementor factory = executionContext.getSession().getFactory();
+		final SqlAstTranslator<JdbcOperationQuerySelect> selectTranslator =
+				factory.getJdbcServices().getJdbcEnvironment().getSqlAstTranslatorFactory()
+						.buildSelectTranslator( factory, sqmInterpretation.getSqlAst() );
+		return selectTranslator.translate( jdbcParameterBindings, executionContext.getQueryOptions() );
+	}
+
+	private TupleTypeContext getTupleTypeContext(OptionsService optionsService) {
+		TupleTypeContext context = tupleTypeContext;
+		if ( context == null ) {
+			context = new TupleTypeContextImpl(
+					Collections.emptyList(),
+					Collections.emptySet(),
+					Collections.emptyMap(),
+					Collections.emptyMap(),
+					optionsService.context().getEntityOptions( resultType ),
+					null,
+					null
+			);
+			tupleTypeContext = context;
+		}
+		return context;
+	}
+
+	private static void closeQuietly(TuplesSelectPreparedStatement statement) {
+		try {
+			statement.close();
+		}
+		catch (SQLException | RuntimeException e) {
+			// Nothing else to do, the original exception is rethrown
+		}
+	}
+
+	/**
+	 * A query ready to be executed on the datastore, with the select turning the tuples into results.
+	 */
+	private static class BackendExecution {
+		private final QueryableGridDialect<Serializable> queryableDialect;
+		private final BackendQuery<Serializable> query;
+		private final QueryParameters queryParameters;
+		private final TupleContext tupleContext;
+		private final JdbcOperationQuerySelect jdbcSelect;
+		private final JdbcParameterBindings jdbcParameterBindings;
+		private final SubselectFetch.RegistrationHandler subSelectFetchKeyHandler;
+		private final List<SqlSelection> sqlSelections;
+
+		private BackendExecution(QueryableGridDialect<Serializable> queryableDialect, BackendQuery<Serializable> query,
+				QueryParameters queryParameters, TupleContext tupleContext, JdbcOperationQuerySelect jdbcSelect,
+				JdbcParameterBindings jdbcParameterBindings, SubselectFetch.RegistrationHandler subSelectFetchKeyHandler,
+				List<SqlSelection> sqlSelections) {
+			this.queryableDialect = queryableDialect;
+			this.query = query;
+			this.queryParameters = queryParameters;
+			this.tupleContext = tupleContext;
+			this.jdbcSelect = jdbcSelect;
+			this.jdbcParameterBindings = jdbcParameterBindings;
+			this.subSelectFetchKeyHandler = subSelectFetchKeyHandler;
+			this.sqlSelections = sqlSelections;
+		}
+
+		private ClosableIterator<Tuple> executeBackendQuery() {
+			return queryableDialect.executeBackendQuery( query, queryParameters, tupleContext );
+		}
+	}
+
+	/**
+	 * Keeps the results of a scroll open between the rows.
+	 */
+	private static class ScrollExecutionContext extends SqmJdbcExecutionContextAdapter {
+
+		private ScrollExecutionContext(DomainQueryExecutionContext executionContext, JdbcOperationQuerySelect jdbcSelect) {
+			super( executionContext, jdbcSelect );
+		}
+
+		@Override
+		public boolean isScrollResult() {
+			return true;
+		}
+	}
+
+	/**
+	 * Saves the tuple of the current row in the state of the entity, so we can retrieve it later if the entity is
+	 * updated.
+	 */
+	private static class TuplePointerRowTransformer<R> implements RowTransformer<R> {
+		private final RowTransformer<R> delegate;
+		private final TuplesSelectPreparedStatement statement;
+		private final SharedSessionContractImplementor session;
+
+		private TuplePointerRowTransformer(RowTransformer<R> delegate, TuplesSelectPreparedStatement statement, SharedSessionContractImplementor session) {
+			this.delegate = delegate;
+			this.statement = statement;
+			this.session = session;
+		}
+
+		@Override
+		public R transformRow(Object[] row) {
+			R result = delegate.transformRow( row );
+			if ( result != null && session.getPersistenceContextInternal().getEntry( result ) != null ) {
+				TuplePointer tuplePointer = OgmEntityEntryState.getStateFor( session, result ).getTuplePointer();
+				tuplePointer.setTuple( statement.getCurrentTuple() );
+			}
+			return result;
+		}
+
+		@Override
+		public int determineNumberOfResultElements(int rawElementCount) {
+			return delegate.determineNumberOfResultElements( rawElementCount );
+		}
+	}
 }
@@ -0,0 +1,40 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.service.impl;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.query.impl.BackendQueryPlanCache;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+import org.hibernate.service.spi.SessionFactoryServiceInitiator;
+import org.hibernate.service.spi.SessionFactoryServiceInitiatorContext;
+
+/**
+ * Contributes the {@link BackendQueryPlanCache}, its size can be configured via
+ * {@link OgmProperties#QUERY_PLAN_CACHE_MAX_SIZE}.
+ */
+class BackendQueryPlanCacheInitiator implements SessionFactoryServiceInitiator<BackendQueryPlanCache> {
+
+	public static final SessionFactoryServiceInitiator<BackendQueryPlanCache> INSTANCE = new BackendQueryPlanCacheInitiator();
+
+	private static final int DEFAULT_QUERY_PLAN_CACHE_MAX_SIZE = 2048;
+
+	@Override
+	public Class<BackendQueryPlanCache> getServiceInitiated() {
+		return BackendQueryPlanCache.class;
+	}
+
+	@Override
+	public BackendQueryPlanCache initiateService(SessionFactoryServiceInitiatorContext context) {
+		int maxSize = new ConfigurationPropertyReader( context.getServiceRegistry().getService( ConfigurationService.class ).getSettings() )
+				.property( OgmProperties.QUERY_PLAN_CACHE_MAX_SIZE, int.class )
+				.withDefault( DEFAULT_QUERY_PLAN_CACHE_MAX_SIZE )
+				.getValue();
+
+		return new BackendQueryPlanCache( maxSize );
+	}
+}
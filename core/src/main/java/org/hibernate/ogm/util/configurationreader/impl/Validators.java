@@ -39,4 +39,25 @@ public void validate(Integer value) throws HibernateException {
 
 	private Validators() {
 	}
+
+	/**
+	 * Returns a {@link PropertyValidator} which asserts that a given number is strictly positive.
+	 *
+	 * @param propertyName the name of the validated property, used in the error message
+	 * @return a validator for the given property
+	 */
+	public static PropertyValidator<Integer> positive(final String propertyName) {
+		return new PropertyValidator<Integer>() {
+
+			@Override
+			public void validate(Integer value) throws HibernateException {
+				if ( value == null ) {
+					return;
+				}
+				if ( value < 1 ) {
+					throw log.notAPositiveNumber( propertyName, value );
+				}
+			}
+		};
+	}
 }
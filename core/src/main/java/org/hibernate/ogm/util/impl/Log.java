@@ -339,4 +339,7 @@ public interface Log extends BasicLogger {
 
 	@Message(id = 101, value = "Error introspecting an object instance.")
 	HibernateException errorIntrospectingObject(@Cause Exception e);
+
+	@Message(id = 102, value = "The value set for the configuration property '%1$s' must be a positive number. Found '%2$s'.")
+	HibernateException notAPositiveNumber(String propertyName, int value);
 }
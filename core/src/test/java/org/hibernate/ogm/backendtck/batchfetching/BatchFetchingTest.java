@@ -164,6 +164,46 @@ public void testMultigetIsAppliedWithoutExplicitBatchSizeGiven() throws Exceptio
 		session.close();
 	}
 
+	@Test
+	public void testMultiLoadUsesMultiget() throws Exception {
+		Session session = openSession();
+		session.beginTransaction();
+		session.persist( new Condominium( "multiload-1", 110 ) );
+		session.persist( new Condominium( "multiload-2", 90 ) );
+		session.getTransaction().commit();
+		session.clear();
+
+		session.beginTransaction();
+		getOperationsLogger().reset();
+		List<Condominium> condominiums = session.byMultipleIds( Condominium.class )
+				.multiLoad( "multiload-2", "multiload-3", "multiload-1" );
+
+		assertThat( condominiums ).hasSize( 3 );
+		assertEquals( "multiload-2", condominiums.get( 0 ).getId() );
+		assertEquals( null, condominiums.get( 1 ) );
+		assertEquals( "multiload-1", condominiums.get( 2 ).getId() );
+
+		if ( isMultigetDialect() ) {
+			assertThat( getOperations() ).containsExactly(
+					"getTuples"
+			);
+		}
+		else {
+			assertThat( getOperations() ).containsExactly(
+					"getTuple",
+					"getTuple",
+					"getTuple"
+			);
+		}
+		session.getTransaction().commit();
+
+		session.beginTransaction();
+		session.delete( session.get( Condominium.class, "multiload-1" ) );
+		session.delete( session.get( Condominium.class, "multiload-2" ) );
+		session.getTransaction().commit();
+		session.close();
+	}
+
 	private void cleanTower(Session session, Tower tower) {
 		session.beginTransaction();
 		session.delete( session.get( Tower.class, tower.getId() ) );
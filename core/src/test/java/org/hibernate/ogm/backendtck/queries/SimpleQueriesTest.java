@@ -8,6 +8,8 @@
 
 import static org.fest.assertions.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hibernate.ogm.utils.GridDialectType.HASHMAP;
+import static org.hibernate.ogm.utils.GridDialectType.INFINISPAN;
 import static org.hibernate.ogm.utils.GridDialectType.INFINISPAN_REMOTE;
 import static org.hibernate.ogm.utils.GridDialectType.MONGODB;
 import static org.hibernate.ogm.utils.GridDialectType.NEO4J_EMBEDDED;
@@ -22,11 +24,15 @@
 import java.util.EnumSet;
 import java.util.List;
 import java.util.TimeZone;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.hamcrest.core.CombinableMatcher;
 import org.hamcrest.core.IsInstanceOf;
 import org.hibernate.FlushMode;
 import org.hibernate.HibernateException;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
@@ -192,6 +198,45 @@ public void testQueryWithRangeAndNegation() throws Exception {
 		assertThat( result ).onProperty( "id" ).containsOnly( "14", "15" );
 	}
 
+	@Test
+	@SkipByGridDialect(value = { HASHMAP, INFINISPAN }, comment = "Results are only streamed by dialects executing the queries, see ScrollAndStreamQueryTest for the Map dialect.")
+	public void testResultStream() throws Exception {
+		try ( Stream<Hypothesis> result = session.createQuery( "from Hypothesis h where h.position <> 4", Hypothesis.class )
+				.setFetchSize( 2 )
+				.getResultStream() ) {
+			List<String> ids = result.map( Hypothesis::getId ).collect( Collectors.toList() );
+			assertThat( ids ).containsOnly( "13", "14", "15", "17", "18", "19" );
+		}
+	}
+
+	@Test
+	@SkipByGridDialect(value = { HASHMAP, INFINISPAN }, comment = "Results are only streamed by dialects executing the queries, see ScrollAndStreamQueryTest for the Map dialect.")
+	public void testForwardOnlyScroll() throws Exception {
+		List<Hypothesis> result = new ArrayList<>();
+		try ( ScrollableResults<Hypothesis> scroll = session.createQuery( "from Hypothesis h where h.position <> 4", Hypothesis.class )
+				.scroll( ScrollMode.FORWARD_ONLY ) ) {
+			while ( scroll.next() ) {
+				result.add( scroll.get() );
+			}
+		}
+		assertThat( result ).onProperty( "id" ).containsOnly( "13", "14", "15", "17", "18", "19" );
+		for ( Hypothesis hypothesis : result ) {
+			assertThat( session.contains( hypothesis ) ).isTrue();
+		}
+	}
+
+	@Test
+	@SkipByGridDialect(value = { HASHMAP, INFINISPAN }, comment = "Results are only streamed by dialects executing the queries, see ScrollAndStreamQueryTest for the Map dialect.")
+	public void testScrollInsensitiveScroll() throws Exception {
+		try ( ScrollableResults<Hypothesis> scroll = session.createQuery( "from Hypothesis h where h.position = 2 and not h.id = '13'", Hypothesis.class )
+				.scroll( ScrollMode.SCROLL_INSENSITIVE ) ) {
+			assertThat( scroll.last() ).isTrue();
+			assertThat( scroll.get().getId() ).isEqualTo( "14" );
+			assertThat( scroll.first() ).isTrue();
+			assertThat( scroll.get().getId() ).isEqualTo( "14" );
+		}
+	}
+
 	@Test
 	@SkipByGridDialect(value = { MONGODB, NEO4J_EMBEDDED, NEO4J_REMOTE, INFINISPAN_REMOTE }, comment = "Selecting from associations is not yet implemented.")
 	public void testQueryWithPropertyFromAssociatedEntityInWhereClause() throws Exception {
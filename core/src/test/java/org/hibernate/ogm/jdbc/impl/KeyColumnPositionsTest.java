@@ -0,0 +1,24 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.jdbc.impl;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class KeyColumnPositionsTest {
+
+	@Test
+	public void testReturnsThePositionOfTheKeyColumns() {
+		KeyColumnPositions keyColumns = new KeyColumnPositions( new String[] { "author", "title" } );
+
+		assertThat( keyColumns.getColumnCount() ).isEqualTo( 2 );
+		assertThat( keyColumns.getPosition( "author" ) ).isEqualTo( 0 );
+		assertThat( keyColumns.getPosition( "title" ) ).isEqualTo( 1 );
+		assertThat( keyColumns.getPosition( "price" ) ).isEqualTo( -1 );
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.loader.entity.impl;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.sql.ResultSet;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.junit.Test;
+
+public class TuplesStreamResultSetTest {
+
+	@Test
+	public void testReadsTuplesAsRowsAreConsumed() throws Exception {
+		CountingIterator tuples = new CountingIterator( tuple( "1" ), tuple( "2" ) );
+		TuplesSelectPreparedStatement statement = new TuplesSelectPreparedStatement( tuples, Collections.emptyList() );
+		ResultSet resultSet = statement.executeQuery();
+
+		assertThat( resultSet.getType() ).isEqualTo( ResultSet.TYPE_FORWARD_ONLY );
+		assertThat( tuples.read ).isEqualTo( 0 );
+
+		assertThat( resultSet.next() ).isTrue();
+		assertThat( tuples.read ).isEqualTo( 1 );
+		assertThat( resultSet.getObject( "id" ) ).isEqualTo( "1" );
+		assertThat( statement.getCurrentTuple().get( "id" ) ).isEqualTo( "1" );
+		assertThat( resultSet.isFirst() ).isTrue();
+
+		assertThat( resultSet.next() ).isTrue();
+		assertThat( resultSet.getObject( "id" ) ).isEqualTo( "2" );
+		assertThat( resultSet.getRow() ).isEqualTo( 2 );
+		assertThat( resultSet.isLast() ).isTrue();
+		assertThat( tuples.closed ).isFalse();
+
+		assertThat( resultSet.next() ).isFalse();
+		assertThat( resultSet.isAfterLast() ).isTrue();
+		assertThat( tuples.closed ).isTrue();
+	}
+
+	@Test
+	public void testClosingTheStatementClosesTheIterator() throws Exception {
+		CountingIterator tuples = new CountingIterator( tuple( "1" ), tuple( "2" ) );
+		TuplesSelectPreparedStatement statement = new TuplesSelectPreparedStatement( tuples, Collections.emptyList() );
+		ResultSet resultSet = statement.executeQuery();
+		resultSet.next();
+
+		statement.close();
+
+		assertThat( resultSet.isClosed() ).isTrue();
+		assertThat( tuples.closed ).isTrue();
+		assertThat( tuples.read ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testKeepsTheFetchSizeOfTheStatement() throws Exception {
+		TuplesSelectPreparedStatement statement = new TuplesSelectPreparedStatement( new CountingIterator(), Collections.emptyList() );
+		statement.setFetchSize( 50 );
+
+		assertThat( statement.executeQuery().getFetchSize() ).isEqualTo( 50 );
+	}
+
+	@Test
+	public void testMovesForwardOnly() throws Exception {
+		ResultSet resultSet = new TuplesSelectPreparedStatement( new CountingIterator( tuple( "1" ), tuple( "2" ), tuple( "3" ) ), Collections.emptyList() )
+				.executeQuery();
+
+		assertThat( resultSet.relative( 2 ) ).isTrue();
+		assertThat( resultSet.getObject( "id" ) ).isEqualTo( "2" );
+		assertThat( resultSet.absolute( 3 ) ).isTrue();
+		assertThat( resultSet.getObject( "id" ) ).isEqualTo( "3" );
+
+		try {
+			resultSet.previous();
+		}
+		catch (SQLFeatureNotSupportedException e) {
+			return;
+		}
+		throw new AssertionError( "Moving backwards should not be supported" );
+	}
+
+	private static Tuple tuple(String id) {
+		Tuple tuple = new Tuple();
+		tuple.put( "id", id );
+		return tuple;
+	}
+
+	private static class CountingIterator implements ClosableIterator<Tuple> {
+
+		private final Iterator<Tuple> delegate;
+		private int read;
+		private boolean closed;
+
+		CountingIterator(Tuple... tuples) {
+			List<Tuple> list = new ArrayList<>();
+			Collections.addAll( list, tuples );
+			this.delegate = list.iterator();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return delegate.hasNext();
+		}
+
+		@Override
+		public Tuple next() {
+			read++;
+			return delegate.next();
+		}
+
+		@Override
+		public void close() {
+			closed = true;
+		}
+	}
+}
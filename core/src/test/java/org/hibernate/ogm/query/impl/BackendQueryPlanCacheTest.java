@@ -0,0 +1,89 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.query.impl;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.ogm.query.spi.QueryParsingResult;
+import org.hibernate.query.sqm.internal.DomainParameterXref;
+import org.junit.Test;
+
+public class BackendQueryPlanCacheTest {
+
+	@Test
+	public void testCountsHitsAndMisses() {
+		BackendQueryPlanCache cache = new BackendQueryPlanCache( 16 );
+		DomainParameterXref parameters = newDomainParameterXref();
+		BackendQueryPlanCache.Key key = new BackendQueryPlanCache.Key( "from Hypothesis", Object.class );
+
+		assertThat( cache.get( key, null, parameters ) ).isNull();
+
+		BackendQueryPlan plan = newPlan( parameters );
+		cache.put( key, plan );
+
+		assertThat( cache.get( new BackendQueryPlanCache.Key( "from Hypothesis", Object.class ), null, parameters ) ).isSameAs( plan );
+		assertThat( cache.get( new BackendQueryPlanCache.Key( "from Helicopter", Object.class ), null, parameters ) ).isNull();
+
+		assertThat( cache.getHitCount() ).isEqualTo( 1 );
+		assertThat( cache.getMissCount() ).isEqualTo( 2 );
+		assertThat( cache.size() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testIgnoresPlansOfAnotherInterpretation() {
+		BackendQueryPlanCache cache = new BackendQueryPlanCache( 16 );
+		BackendQueryPlanCache.Key key = new BackendQueryPlanCache.Key( "from Hypothesis", Object.class );
+		cache.put( key, newPlan( newDomainParameterXref() ) );
+
+		assertThat( cache.get( key, null, newDomainParameterXref() ) ).isNull();
+		assertThat( cache.getMissCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testIsBounded() {
+		BackendQueryPlanCache cache = new BackendQueryPlanCache( 16 );
+		DomainParameterXref parameters = newDomainParameterXref();
+		for ( int i = 0; i < 100; i++ ) {
+			cache.put( new BackendQueryPlanCache.Key( "from Hypothesis h where h.position = " + i, Object.class ), newPlan( parameters ) );
+		}
+
+		assertThat( cache.size() ).isLessThanOrEqualTo( 16 );
+	}
+
+	@Test
+	public void testCanBeDisabled() {
+		BackendQueryPlanCache cache = new BackendQueryPlanCache( 0 );
+		DomainParameterXref parameters = newDomainParameterXref();
+		BackendQueryPlanCache.Key key = new BackendQueryPlanCache.Key( "from Hypothesis", Object.class );
+		cache.put( key, newPlan( parameters ) );
+
+		assertThat( cache.get( key, null, parameters ) ).isNull();
+		assertThat( cache.size() ).isEqualTo( 0 );
+	}
+
+	private static DomainParameterXref newDomainParameterXref() {
+		return new DomainParameterXref( Collections.emptyMap(), Collections.emptyMap(), null );
+	}
+
+	private static BackendQueryPlan newPlan(DomainParameterXref parameters) {
+		return new BackendQueryPlan( null, parameters, null, null, null, null, new QueryParsingResult() {
+
+			@Override
+			public Object getQueryObject() {
+				return "query";
+			}
+
+			@Override
+			public List<String> getColumnNames() {
+				return Collections.emptyList();
+			}
+		} );
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.datastore.map;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.map.impl.MapDatastoreProvider;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the per-table storage of the {@link MapDatastoreProvider}.
+ */
+public class MapDatastoreProviderTest {
+
+	private static final EntityKeyMetadata HELICOPTER = new DefaultEntityKeyMetadata( "Helicopter", new String[] { "id" } );
+	private static final EntityKeyMetadata PLANE = new DefaultEntityKeyMetadata( "Plane", new String[] { "id" } );
+
+	private MapDatastoreProvider provider;
+
+	@Before
+	public void init() {
+		provider = new MapDatastoreProvider();
+		provider.start();
+	}
+
+	@After
+	public void stop() {
+		provider.stop();
+	}
+
+	@Test
+	public void testEntitiesAreStoredPerTable() {
+		provider.putEntity( key( HELICOPTER, 1 ), tuple( 1 ) );
+		provider.putEntity( key( HELICOPTER, 2 ), tuple( 2 ) );
+		provider.putEntity( key( PLANE, 1 ), tuple( 1 ) );
+
+		assertThat( provider.getNumberOfEntities( HELICOPTER.getTable() ) ).isEqualTo( 2 );
+		assertThat( provider.getNumberOfEntities( PLANE.getTable() ) ).isEqualTo( 1 );
+		assertThat( provider.getNumberOfEntities() ).isEqualTo( 3 );
+		assertThat( provider.getEntityMap( HELICOPTER.getTable() ).keySet() ).containsOnly( key( HELICOPTER, 1 ), key( HELICOPTER, 2 ) );
+		assertThat( provider.getEntityTables() ).containsOnly( HELICOPTER.getTable(), PLANE.getTable() );
+	}
+
+	@Test
+	public void testRemoveEntity() {
+		provider.putEntity( key( HELICOPTER, 1 ), tuple( 1 ) );
+		provider.putEntity( key( PLANE, 1 ), tuple( 1 ) );
+
+		provider.removeEntityTuple( key( HELICOPTER, 1 ) );
+
+		assertThat( provider.getEntityTuple( key( HELICOPTER, 1 ) ) ).isNull();
+		assertThat( provider.getEntityTuple( key( PLANE, 1 ) ) ).isNotNull();
+		assertThat( provider.getEntityMap( HELICOPTER.getTable() ) ).isEmpty();
+	}
+
+	@Test
+	public void testRemoveAllEntitiesOfATable() {
+		provider.putEntity( key( HELICOPTER, 1 ), tuple( 1 ) );
+		provider.putEntity( key( HELICOPTER, 2 ), tuple( 2 ) );
+		provider.putEntity( key( PLANE, 1 ), tuple( 1 ) );
+
+		provider.removeEntityTuples( HELICOPTER.getTable() );
+
+		assertThat( provider.getNumberOfEntities( HELICOPTER.getTable() ) ).isEqualTo( 0 );
+		assertThat( provider.getNumberOfEntities( PLANE.getTable() ) ).isEqualTo( 1 );
+	}
+
+	private static EntityKey key(EntityKeyMetadata metadata, int id) {
+		return new EntityKey( metadata, new Object[] { id } );
+	}
+
+	private static Map<String, Object> tuple(int id) {
+		Map<String, Object> tuple = new HashMap<>();
+		tuple.put( "id", id );
+		return tuple;
+	}
+}
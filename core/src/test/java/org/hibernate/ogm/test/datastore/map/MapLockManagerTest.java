@@ -0,0 +1,159 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.datastore.map;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.ogm.datastore.map.impl.MapLockManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jakarta.persistence.PessimisticLockException;
+
+/**
+ * Tests the lock table used by the {@link org.hibernate.ogm.datastore.map.impl.MapDatastoreProvider}.
+ */
+public class MapLockManagerTest {
+
+	private static final Object OWNER = "transaction";
+	private static final Object OTHER_OWNER = "other transaction";
+
+	private MapLockManager lockManager;
+	private ExecutorService executor;
+
+	@Before
+	public void init() {
+		lockManager = new MapLockManager();
+		executor = Executors.newSingleThreadExecutor();
+	}
+
+	@After
+	public void stop() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void testLockIsRemovedOnceReleased() {
+		lockManager.writeLock( "key", OWNER, -1 );
+		lockManager.readLock( "other", OWNER, -1 );
+		lockManager.readLock( "other", OTHER_OWNER, -1 );
+		assertThat( lockManager.size() ).isEqualTo( 2 );
+
+		lockManager.unlock( "key", OWNER, true );
+		lockManager.unlock( "other", OWNER, false );
+		assertThat( lockManager.size() ).isEqualTo( 1 );
+
+		lockManager.unlock( "other", OTHER_OWNER, false );
+		assertThat( lockManager.size() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testWriteLockIsExclusive() throws Exception {
+		lockManager.writeLock( "key", OWNER, -1 );
+
+		assertThat( tryLockFromOtherThread( OTHER_OWNER, true, 0 ) ).isFalse();
+		assertThat( tryLockFromOtherThread( OTHER_OWNER, false, 10 ) ).isFalse();
+		assertThat( lockManager.size() ).isEqualTo( 1 );
+
+		lockManager.unlock( "key", OWNER, true );
+		assertThat( lockManager.size() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testReadLockIsShared() throws Exception {
+		lockManager.readLock( "key", OWNER, -1 );
+
+		assertThat( tryLockFromOtherThread( OTHER_OWNER, false, 0 ) ).isTrue();
+		assertThat( tryLockFromOtherThread( OTHER_OWNER, true, 10 ) ).isFalse();
+
+		lockManager.unlock( "key", OWNER, false );
+		assertThat( lockManager.size() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testLockIsReentrantForItsOwner() throws Exception {
+		lockManager.writeLock( "key", OWNER, -1 );
+		lockManager.writeLock( "key", OWNER, 0 );
+		lockManager.readLock( "key", OWNER, 0 );
+
+		lockManager.unlock( "key", OWNER, false );
+		lockManager.unlock( "key", OWNER, true );
+		assertThat( tryLockFromOtherThread( OTHER_OWNER, false, 0 ) ).isFalse();
+
+		lockManager.unlock( "key", OWNER, true );
+		assertThat( tryLockFromOtherThread( OTHER_OWNER, true, 0 ) ).isTrue();
+		assertThat( lockManager.size() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testLockIsReleasedByAnotherThread() throws Exception {
+		lockManager.writeLock( "key", OWNER, -1 );
+
+		// E.g. a JTA transaction completed by the transaction manager
+		executor.submit( () -> lockManager.unlock( "key", OWNER, true ) ).get();
+
+		assertThat( lockManager.size() ).isEqualTo( 0 );
+		assertThat( tryLockFromOtherThread( OTHER_OWNER, true, 0 ) ).isTrue();
+	}
+
+	@Test
+	public void testReadLockOfTheOnlyReaderIsUpgraded() throws Exception {
+		lockManager.readLock( "key", OWNER, -1 );
+		lockManager.writeLock( "key", OWNER, -1 );
+
+		assertThat( tryLockFromOtherThread( OTHER_OWNER, false, 0 ) ).isFalse();
+
+		lockManager.unlock( "key", OWNER, true );
+		assertThat( tryLockFromOtherThread( OTHER_OWNER, true, 0 ) ).isFalse();
+
+		lockManager.unlock( "key", OWNER, false );
+		assertThat( lockManager.size() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void testUpgradeOfASharedReadLockFailsWithoutWaiting() throws Exception {
+		lockManager.readLock( "key", OWNER, -1 );
+		lockManager.readLock( "key", OTHER_OWNER, -1 );
+
+		try {
+			lockManager.writeLock( "key", OWNER, -1 );
+			fail( "The read lock shared with another owner should not be upgraded" );
+		}
+		catch (PessimisticLockException e) {
+			// expected
+		}
+
+		lockManager.unlock( "key", OWNER, false );
+		lockManager.unlock( "key", OTHER_OWNER, false );
+		assertThat( lockManager.size() ).isEqualTo( 0 );
+	}
+
+	private boolean tryLockFromOtherThread(Object owner, boolean exclusive, int timeout) throws Exception {
+		Future<Boolean> result = executor.submit( () -> {
+			try {
+				if ( exclusive ) {
+					lockManager.writeLock( "key", owner, timeout );
+				}
+				else {
+					lockManager.readLock( "key", owner, timeout );
+				}
+			}
+			catch (PessimisticLockException e) {
+				return false;
+			}
+			lockManager.unlock( "key", owner, exclusive );
+			return true;
+		} );
+		return result.get();
+	}
+}
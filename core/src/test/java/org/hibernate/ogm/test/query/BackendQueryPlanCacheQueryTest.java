@@ -0,0 +1,142 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.query;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.cfg.impl.InternalProperties;
+import org.hibernate.ogm.datastore.impl.DatastoreProviderType;
+import org.hibernate.ogm.query.impl.BackendQueryPlanCache;
+import org.hibernate.ogm.query.spi.QueryParserService;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Runs queries on a dialect that executes them, checking when the translation of the queries is reused.
+ */
+public class BackendQueryPlanCacheQueryTest extends OgmTestCase {
+
+	private static final String SONGS_BY_SINGER = "from Song s where s.singer = :singer";
+
+	private BackendQueryPlanCache planCache;
+	private MapQueryParserService parser;
+	private long hits;
+	private long misses;
+	private int parsedQueries;
+
+	@Before
+	public void insertSongs() {
+		planCache = getSessionFactory().getServiceRegistry().getService( BackendQueryPlanCache.class );
+		parser = (MapQueryParserService) getSessionFactory().getServiceRegistry().getService( QueryParserService.class );
+		inTransaction( session -> persistAll( session,
+				new Song( "1", "Nina" ),
+				new Song( "2", "Nina" ),
+				new Song( "3", "Ella" ),
+				new Song( "4", "Nina" ) ) );
+		planCache.clear();
+		hits = planCache.getHitCount();
+		misses = planCache.getMissCount();
+		parsedQueries = parser.getParsedQueries();
+	}
+
+	@After
+	public void deleteSongs() {
+		deleteAll( Song.class, "1", "2", "3", "4" );
+	}
+
+	@Test
+	public void testQueryWithDifferentParameterValuesReusesThePlan() {
+		inTransaction( session -> {
+			assertThat( songsBy( session, "Nina" ) ).onProperty( "id" ).containsOnly( "1", "2", "4" );
+			assertThat( songsBy( session, "Ella" ) ).onProperty( "id" ).containsOnly( "3" );
+			assertThat( songsBy( session, "Billie" ) ).isEmpty();
+		} );
+
+		assertThat( planCache.getMissCount() - misses ).isEqualTo( 1 );
+		assertThat( planCache.getHitCount() - hits ).isEqualTo( 2 );
+		assertThat( parser.getParsedQueries() - parsedQueries ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testChangingTheMaximumNumberOfResultsKeepsTheResultsCorrect() {
+		inTransaction( session -> {
+			// The cached select has no limit, it has to be translated again when there is one
+			assertThat( songsBy( session, "Nina" ) ).onProperty( "id" ).containsExactly( "1", "2", "4" );
+			assertThat( session.createQuery( SONGS_BY_SINGER, Song.class )
+					.setParameter( "singer", "Nina" )
+					.setMaxResults( 2 )
+					.getResultList() ).onProperty( "id" ).containsExactly( "1", "2" );
+			assertThat( session.createQuery( SONGS_BY_SINGER, Song.class )
+					.setParameter( "singer", "Nina" )
+					.setMaxResults( 1 )
+					.getResultList() ).onProperty( "id" ).containsExactly( "1" );
+			assertThat( songsBy( session, "Nina" ) ).onProperty( "id" ).containsExactly( "1", "2", "4" );
+		} );
+
+		assertThat( planCache.getHitCount() - hits ).isEqualTo( 3 );
+		assertThat( parser.getParsedQueries() - parsedQueries ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void testQueriesWithLockModeAreNotCached() {
+		inTransaction( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				assertThat( session.createQuery( SONGS_BY_SINGER, Song.class )
+						.setParameter( "singer", "Ella" )
+						.setLockMode( LockModeType.PESSIMISTIC_WRITE )
+						.getResultList() ).onProperty( "id" ).containsOnly( "3" );
+			}
+		} );
+
+		assertThat( planCache.getHitCount() ).isEqualTo( hits );
+		assertThat( planCache.getMissCount() ).isEqualTo( misses );
+		assertThat( parser.getParsedQueries() - parsedQueries ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testQueriesWithEntityGraphAreNotCached() {
+		inTransaction( session -> {
+			for ( int i = 0; i < 2; i++ ) {
+				assertThat( session.createQuery( SONGS_BY_SINGER, Song.class )
+						.setParameter( "singer", "Ella" )
+						.setHint( "jakarta.persistence.fetchgraph", session.createEntityGraph( Song.class ) )
+						.getResultList() ).onProperty( "id" ).containsOnly( "3" );
+			}
+		} );
+
+		assertThat( planCache.getHitCount() ).isEqualTo( hits );
+		assertThat( planCache.getMissCount() ).isEqualTo( misses );
+		assertThat( parser.getParsedQueries() - parsedQueries ).isEqualTo( 2 );
+	}
+
+	private static List<Song> songsBy(Session session, String singer) {
+		return session.createQuery( SONGS_BY_SINGER, Song.class )
+				.setParameter( "singer", singer )
+				.getResultList();
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.DATASTORE_PROVIDER, DatastoreProviderType.MAP.name() );
+		settings.put( OgmProperties.GRID_DIALECT, QueryableMapDialect.class.getName() );
+		settings.put( InternalProperties.QUERY_PARSER_SERVICE, MapQueryParserService.class.getName() );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Song.class };
+	}
+}
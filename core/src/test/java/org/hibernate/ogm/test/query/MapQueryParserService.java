@@ -0,0 +1,129 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.query;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.query.spi.BaseQueryParserService;
+import org.hibernate.ogm.query.spi.QueryParsingResult;
+import org.hibernate.query.spi.DomainQueryExecutionContext;
+import org.hibernate.query.sqm.tree.domain.SqmPath;
+import org.hibernate.query.sqm.tree.expression.SqmNamedParameter;
+import org.hibernate.query.sqm.tree.from.SqmRoot;
+import org.hibernate.query.sqm.tree.predicate.SqmComparisonPredicate;
+import org.hibernate.query.sqm.tree.select.SqmQuerySpec;
+import org.hibernate.query.sqm.tree.select.SqmSelectStatement;
+
+/**
+ * Parses the queries run by the {@link QueryableMapDialect}: they select the entities of a single type, optionally
+ * restricted by the equality of a property with a named parameter, e.g. {@code from Song s where s.singer = :singer}.
+ * <p>
+ * It counts the parsed queries.
+ */
+public class MapQueryParserService extends BaseQueryParserService {
+
+	private final AtomicInteger parsedQueries = new AtomicInteger();
+
+	public int getParsedQueries() {
+		return parsedQueries.get();
+	}
+
+	@Override
+	public boolean supportsParameters() {
+		return true;
+	}
+
+	@Override
+	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString, Map<String, Object> namedParameters) {
+		throw new UnsupportedOperationException( "Only SQM queries are supported" );
+	}
+
+	@Override
+	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, String queryString) {
+		throw new UnsupportedOperationException( "Only SQM queries are supported" );
+	}
+
+	@Override
+	public QueryParsingResult parseQuery(SessionFactoryImplementor sessionFactory, SqmSelectStatement<?> sqm, DomainQueryExecutionContext executionContext) {
+		parsedQueries.incrementAndGet();
+
+		SqmQuerySpec<?> querySpec = sqm.getQuerySpec();
+		SqmRoot<?> root = querySpec.getFromClause().getRoots().get( 0 );
+		OgmEntityPersister persister = (OgmEntityPersister) sessionFactory.getMappingMetamodel().getEntityDescriptor( root.getEntityName() );
+		String table = persister.getEntityKeyMetadata().getTable();
+		String idColumn = persister.getEntityKeyMetadata().getColumnNames()[0];
+
+		if ( querySpec.getWhereClause() == null || querySpec.getWhereClause().getPredicate() == null ) {
+			return new MapQueryParsingResult( new MapQuery( table, idColumn, null, null ) );
+		}
+
+		SqmComparisonPredicate predicate = (SqmComparisonPredicate) querySpec.getWhereClause().getPredicate();
+		String property = ( (SqmPath<?>) predicate.getLeftHandExpression() ).getReferencedPathSource().getPathName();
+		String column = persister.getPropertyColumnNames( persister.getPropertyIndex( property ) )[0];
+		String parameter = ( (SqmNamedParameter<?>) predicate.getRightHandExpression() ).getName();
+		return new MapQueryParsingResult( new MapQuery( table, idColumn, column, parameter ) );
+	}
+
+	public static class MapQuery implements Serializable {
+
+		private final String table;
+		private final String idColumn;
+		private final String column;
+		private final String parameter;
+
+		MapQuery(String table, String idColumn, String column, String parameter) {
+			this.table = table;
+			this.idColumn = idColumn;
+			this.column = column;
+			this.parameter = parameter;
+		}
+
+		public String getTable() {
+			return table;
+		}
+
+		public String getIdColumn() {
+			return idColumn;
+		}
+
+		/**
+		 * @return the column compared with the parameter, {@code null} if the query selects all the entities
+		 */
+		public String getColumn() {
+			return column;
+		}
+
+		public String getParameter() {
+			return parameter;
+		}
+	}
+
+	private static class MapQueryParsingResult implements QueryParsingResult {
+
+		private final MapQuery query;
+
+		MapQueryParsingResult(MapQuery query) {
+			this.query = query;
+		}
+
+		@Override
+		public Object getQueryObject() {
+			return query;
+		}
+
+		@Override
+		public List<String> getColumnNames() {
+			return Collections.emptyList();
+		}
+	}
+}
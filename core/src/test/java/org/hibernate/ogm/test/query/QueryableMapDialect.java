@@ -0,0 +1,136 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.query;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.ogm.datastore.map.impl.MapDatastoreProvider;
+import org.hibernate.ogm.datastore.map.impl.MapDialect;
+import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.dialect.query.spi.BackendQuery;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.query.spi.NoOpParameterMetadataBuilder;
+import org.hibernate.ogm.dialect.query.spi.ParameterMetadataBuilder;
+import org.hibernate.ogm.dialect.query.spi.QueryParameters;
+import org.hibernate.ogm.dialect.query.spi.QueryableGridDialect;
+import org.hibernate.ogm.dialect.query.spi.RowSelection;
+import org.hibernate.ogm.dialect.query.spi.TypedGridValue;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.test.query.MapQueryParserService.MapQuery;
+
+/**
+ * A {@link MapDialect} running the queries parsed by {@link MapQueryParserService}, so that the execution of queries
+ * can be tested without a datastore.
+ * <p>
+ * The results are sorted by id and the dialect keeps track of the results that have been read and closed.
+ */
+public class QueryableMapDialect extends MapDialect implements QueryableGridDialect<MapQuery> {
+
+	private final MapDatastoreProvider provider;
+	private final AtomicInteger openResults = new AtomicInteger();
+	private final AtomicInteger readTuples = new AtomicInteger();
+
+	public QueryableMapDialect(MapDatastoreProvider provider) {
+		super( provider );
+		this.provider = provider;
+	}
+
+	@Override
+	public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<MapQuery> backendQuery, QueryParameters queryParameters, TupleContext tupleContext) {
+		MapQuery query = backendQuery.getQuery();
+		List<Map<String, Object>> entities = new ArrayList<>();
+		for ( Map<String, Object> entity : provider.getEntityMap( query.getTable() ).values() ) {
+			if ( query.getColumn() == null ) {
+				entities.add( entity );
+			}
+			else {
+				TypedGridValue parameter = queryParameters.getNamedParameters().get( query.getParameter() );
+				if ( parameter.getValue().equals( entity.get( query.getColumn() ) ) ) {
+					entities.add( entity );
+				}
+			}
+		}
+		entities.sort( Comparator.comparing( entity -> String.valueOf( entity.get( query.getIdColumn() ) ) ) );
+
+		RowSelection rowSelection = queryParameters.getRowSelection();
+		int first = rowSelection.getFirstRow() == null ? 0 : Math.min( rowSelection.getFirstRow(), entities.size() );
+		int last = rowSelection.getMaxRows() == null ? entities.size() : Math.min( first + rowSelection.getMaxRows(), entities.size() );
+
+		openResults.incrementAndGet();
+		return new MapQueryResult( entities.subList( first, last ).iterator() );
+	}
+
+	@Override
+	public int executeBackendUpdateQuery(BackendQuery<MapQuery> query, QueryParameters queryParameters, TupleContext tupleContext) {
+		throw new UnsupportedOperationException( "Update queries are not supported" );
+	}
+
+	@Override
+	public ParameterMetadataBuilder getParameterMetadataBuilder() {
+		return NoOpParameterMetadataBuilder.INSTANCE;
+	}
+
+	@Override
+	public MapQuery parseNativeQuery(String nativeQuery) {
+		throw new UnsupportedOperationException( "Native queries are not supported" );
+	}
+
+	/**
+	 * @return the number of query results that have not been closed
+	 */
+	public int getOpenResults() {
+		return openResults.get();
+	}
+
+	/**
+	 * @return the number of tuples read from the query results
+	 */
+	public int getReadTuples() {
+		return readTuples.get();
+	}
+
+	public void resetCounters() {
+		openResults.set( 0 );
+		readTuples.set( 0 );
+	}
+
+	private class MapQueryResult implements ClosableIterator<Tuple> {
+
+		private final Iterator<Map<String, Object>> entities;
+		private boolean closed;
+
+		MapQueryResult(Iterator<Map<String, Object>> entities) {
+			this.entities = entities;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return entities.hasNext();
+		}
+
+		@Override
+		public Tuple next() {
+			readTuples.incrementAndGet();
+			return new Tuple( new MapTupleSnapshot( entities.next() ), SnapshotType.UPDATE );
+		}
+
+		@Override
+		public void close() {
+			if ( !closed ) {
+				closed = true;
+				openResults.decrementAndGet();
+			}
+		}
+	}
+}
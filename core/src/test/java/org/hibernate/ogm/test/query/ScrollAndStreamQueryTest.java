@@ -0,0 +1,156 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.test.query;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.cfg.impl.InternalProperties;
+import org.hibernate.ogm.datastore.impl.DatastoreProviderType;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Runs {@code Query#scroll()} and {@code Query#getResultStream()} on a dialect that executes the queries, checking that
+ * the results are read as they are consumed and that the query results are closed.
+ */
+public class ScrollAndStreamQueryTest extends OgmTestCase {
+
+	private static final String SONGS_BY_SINGER = "from Song s where s.singer = :singer";
+
+	private QueryableMapDialect dialect;
+
+	@Before
+	public void insertSongs() {
+		dialect = GridDialects.getDelegateOrNull( getSessionFactory().getServiceRegistry().getService( GridDialect.class ), QueryableMapDialect.class );
+		inTransaction( session -> persistAll( session,
+				new Song( "1", "Nina" ),
+				new Song( "2", "Nina" ),
+				new Song( "3", "Ella" ),
+				new Song( "4", "Nina" ),
+				new Song( "5", "Nina" ) ) );
+		dialect.resetCounters();
+	}
+
+	@After
+	public void deleteSongs() {
+		deleteAll( Song.class, "1", "2", "3", "4", "5" );
+	}
+
+	@Test
+	public void testResultStream() {
+		inTransaction( session -> {
+			try ( Stream<Song> songs = session.createQuery( SONGS_BY_SINGER, Song.class )
+					.setParameter( "singer", "Nina" )
+					.setFetchSize( 2 )
+					.getResultStream() ) {
+				List<String> ids = songs.map( Song::getId ).collect( Collectors.toList() );
+
+				assertThat( ids ).containsExactly( "1", "2", "4", "5" );
+			}
+			assertThat( dialect.getOpenResults() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testResultStreamReadsTheTuplesAsTheResultsAreConsumed() {
+		inTransaction( session -> {
+			try ( Stream<Song> songs = session.createQuery( SONGS_BY_SINGER, Song.class )
+					.setParameter( "singer", "Nina" )
+					.getResultStream() ) {
+				Optional<Song> first = songs.findFirst();
+
+				assertThat( first.get().getId() ).isEqualTo( "1" );
+				assertThat( dialect.getReadTuples() ).isEqualTo( 1 );
+				assertThat( dialect.getOpenResults() ).isEqualTo( 1 );
+			}
+			assertThat( dialect.getOpenResults() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testEntitiesOfTheStreamCanBeUpdated() {
+		inTransaction( session -> {
+			try ( Stream<Song> songs = session.createQuery( SONGS_BY_SINGER, Song.class )
+					.setParameter( "singer", "Ella" )
+					.getResultStream() ) {
+				songs.forEach( song -> {
+					assertThat( session.contains( song ) ).isTrue();
+					song.setSinger( "Ella Fitzgerald" );
+				} );
+			}
+		} );
+
+		inTransaction( session -> {
+			assertThat( session.get( Song.class, "3" ).getSinger() ).isEqualTo( "Ella Fitzgerald" );
+		} );
+	}
+
+	@Test
+	public void testForwardOnlyScroll() {
+		inTransaction( session -> {
+			List<Song> songs = new ArrayList<>();
+			try ( ScrollableResults<Song> scroll = session.createQuery( SONGS_BY_SINGER, Song.class )
+					.setParameter( "singer", "Nina" )
+					.scroll( ScrollMode.FORWARD_ONLY ) ) {
+				assertThat( dialect.getReadTuples() ).isEqualTo( 0 );
+				while ( scroll.next() ) {
+					songs.add( scroll.get() );
+					assertThat( dialect.getReadTuples() ).isEqualTo( songs.size() );
+				}
+			}
+
+			assertThat( songs ).onProperty( "id" ).containsExactly( "1", "2", "4", "5" );
+			for ( Song song : songs ) {
+				assertThat( session.contains( song ) ).isTrue();
+			}
+			assertThat( dialect.getOpenResults() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Test
+	public void testScrollInsensitiveScroll() {
+		inTransaction( session -> {
+			try ( ScrollableResults<Song> scroll = session.createQuery( SONGS_BY_SINGER, Song.class )
+					.setParameter( "singer", "Nina" )
+					.scroll( ScrollMode.SCROLL_INSENSITIVE ) ) {
+				assertThat( scroll.last() ).isTrue();
+				assertThat( scroll.get().getId() ).isEqualTo( "5" );
+				assertThat( scroll.previous() ).isTrue();
+				assertThat( scroll.get().getId() ).isEqualTo( "4" );
+				assertThat( scroll.first() ).isTrue();
+				assertThat( scroll.get().getId() ).isEqualTo( "1" );
+			}
+			assertThat( dialect.getOpenResults() ).isEqualTo( 0 );
+		} );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( OgmProperties.DATASTORE_PROVIDER, DatastoreProviderType.MAP.name() );
+		settings.put( OgmProperties.GRID_DIALECT, QueryableMapDialect.class.getName() );
+		settings.put( InternalProperties.QUERY_PARSER_SERVICE, MapQueryParserService.class.getName() );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Song.class };
+	}
+}
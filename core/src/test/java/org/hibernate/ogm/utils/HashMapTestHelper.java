@@ -16,9 +16,7 @@
 import org.hibernate.ogm.datastore.map.impl.MapDialect;
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
 import org.hibernate.ogm.dialect.spi.GridDialect;
-import org.hibernate.ogm.model.key.spi.AssociationKey;
 import org.hibernate.ogm.model.key.spi.EntityKey;
-import org.hibernate.ogm.model.key.spi.RowKey;
 
 /**
  * @author Sanne Grinovero &lt;sanne@hibernate.org&gt; (C) 2011 Red Hat Inc.
@@ -27,22 +25,17 @@ public class HashMapTestHelper extends BaseGridDialectTestHelper implements Grid
 
 	@Override
 	public long getNumberOfEntities(SessionFactory sessionFactory) {
-		return getEntityMap( sessionFactory ).size();
+		return getProvider( sessionFactory ).getNumberOfEntities();
 	}
 
 	@Override
 	public long getNumberOfAssociations(SessionFactory sessionFactory) {
-		return getAssociationCache( sessionFactory ).size();
+		return getProvider( sessionFactory ).getNumberOfAssociations();
 	}
 
 	@Override
 	public Map<String, Object> extractEntityTuple(Session session, EntityKey key) {
-		return getEntityMap( session.getSessionFactory() ).get( key );
-	}
-
-	private static Map<EntityKey, Map<String, Object>> getEntityMap(SessionFactory sessionFactory) {
-		MapDatastoreProvider castProvider = getProvider( sessionFactory );
-		return castProvider.getEntityMap();
+		return getProvider( session.getSessionFactory() ).getEntityTuple( key );
 	}
 
 	private static MapDatastoreProvider getProvider(SessionFactory sessionFactory) {
@@ -53,11 +46,6 @@ private static MapDatastoreProvider getProvider(SessionFactory sessionFactory) {
 		return MapDatastoreProvider.class.cast( provider );
 	}
 
-	private static Map<AssociationKey, Map<RowKey, Map<String, Object>>> getAssociationCache( SessionFactory sessionFactory) {
-		MapDatastoreProvider castProvider = getProvider( sessionFactory );
-		return castProvider.getAssociationsMap();
-	}
-
 	@Override
 	public void dropSchemaAndDatabase(SessionFactory sessionFactory) {
 		// Nothing to do
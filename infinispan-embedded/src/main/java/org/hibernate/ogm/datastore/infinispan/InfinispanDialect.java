@@ -6,13 +6,14 @@
  */
 package org.hibernate.ogm.datastore.infinispan;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import org.hibernate.LockMode;
 import org.hibernate.boot.registry.classloading.spi.ClassLoaderService;
@@ -29,6 +30,7 @@
 import org.hibernate.ogm.datastore.infinispan.persistencestrategy.impl.LocalCacheManager.Bucket;
 import org.hibernate.ogm.datastore.map.impl.MapAssociationSnapshot;
 import org.hibernate.ogm.datastore.map.impl.MapHelpers;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.spi.AssociationContext;
 import org.hibernate.ogm.dialect.spi.AssociationTypeContext;
@@ -57,11 +59,17 @@
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
 import org.infinispan.Cache;
+import org.infinispan.CacheStream;
 import org.infinispan.atomic.AtomicMapLookup;
 import org.infinispan.atomic.FineGrainedAtomicMap;
+import org.infinispan.commons.util.IntSet;
+import org.infinispan.commons.util.IntSets;
 import org.infinispan.container.entries.CacheEntry;
+import org.infinispan.distribution.DistributionManager;
+import org.infinispan.distribution.ch.ConsistentHash;
 import org.infinispan.manager.EmbeddedCacheManager;
-import org.infinispan.stream.CacheCollectors;
+import org.infinispan.remoting.transport.Address;
+import org.infinispan.util.function.SerializablePredicate;
 
 /**
  * EK is the entity cache key type
@@ -71,7 +79,7 @@
  * @author Emmanuel Bernard
  * @author Fabio Massimo Ercoli
  */
-public class InfinispanDialect<EK,AK,ISK> extends BaseGridDialect implements StoredProcedureAwareGridDialect, ServiceRegistryAwareService {
+public class InfinispanDialect<EK,AK,ISK> extends BaseGridDialect implements MultigetGridDialect, StoredProcedureAwareGridDialect, ServiceRegistryAwareService {
 
 	private final InfinispanEmbeddedDatastoreProvider provider;
 	private final InfinispanEmbeddedStoredProceduresManager storedProceduresDelegate;
@@ -137,6 +145,29 @@ private Tuple getTupleFromCacheKey(EK cacheKey, Cache<EK, Map<String,Object>> ca
 		}
 	}
 
+	/**
+	 * Fetches all the keys of the batch with a single {@link Cache#getAll(Set)}, so that the entries owned by the same
+	 * node of the cluster are retrieved in one remote call. The values of the cache are the internal key sets of the
+	 * fine-grained atomic maps, not the columns: the tuples are built with the atomic map lookup of each key found,
+	 * which reads the entries prefetched by the {@code getAll}.
+	 */
+	@Override
+	public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
+		Cache<EK, Map<String, Object>> cache = getCacheManager().getEntityCache( keys[0].getMetadata() );
+		List<EK> cacheKeys = new ArrayList<>( keys.length );
+		for ( EntityKey key : keys ) {
+			cacheKeys.add( getKeyProvider().getEntityCacheKey( key ) );
+		}
+
+		Map<EK, Map<String, Object>> entries = cache.getAdvancedCache().getAll( new HashSet<>( cacheKeys ) );
+
+		List<Tuple> tuples = new ArrayList<>( keys.length );
+		for ( EK cacheKey : cacheKeys ) {
+			tuples.add( entries.get( cacheKey ) == null ? null : getTupleFromCacheKey( cacheKey, cache ) );
+		}
+		return tuples;
+	}
+
 	@Override
 	public Tuple createTuple(EntityKey key, OperationContext operationContext) {
 		//TODO we don't verify that it does not yet exist assuming that this has been done before by the calling code
@@ -210,26 +241,33 @@ public Number nextValue(NextValueRequest request) {
 	@Override
 	public void forEachTuple( ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata ) {
 		Set<Bucket<EK>> buckets = getCacheManager().getWorkBucketsFor( entityKeyMetadata );
+		SerializablePredicate<Entry<EK, Map<String, Object>>> filter = getKeyProvider().getFilter( entityKeyMetadata );
 
 		for ( Bucket<EK> bucket : buckets ) {
-			Map<EK, Map<String, Object>> queryResult = new HashMap<>();
+			consumer.consume( tuplesSuppliers( bucket.getCache(), filter ) );
+		}
+	}
 
-			List<CacheEntry<EK, Map<String, Object>>> collect = bucket.getCache().getAdvancedCache().cacheEntrySet()
-				.stream()
-				.filter( getKeyProvider().getFilter( entityKeyMetadata ) )
-				// also collector needs to be Serializable (for non local caches)
-				.collect( CacheCollectors.serializableCollector( () -> Collectors.toList() ) );
+	/**
+	 * A distributed cache is read with one supplier per member of the cluster, streaming the segments the member is
+	 * the primary owner of, so that the consumer can read the members concurrently. Any other cache holds all its
+	 * entries locally and is read with a single stream.
+	 */
+	private <SEK> List<TuplesSupplier> tuplesSuppliers(Cache<SEK, Map<String, Object>> cache, SerializablePredicate<Entry<SEK, Map<String, Object>>> filter) {
+		DistributionManager distributionManager = cache.getAdvancedCache().getDistributionManager();
+		if ( distributionManager == null || !cache.getCacheConfiguration().clustering().cacheMode().isDistributed() ) {
+			return Collections.singletonList( new InfinispanTuplesSupplier<>( cache, filter, null ) );
+		}
 
-			for ( CacheEntry<EK, Map<String, Object>> entry : collect ) {
-				queryResult.put( entry.getKey(), entry.getValue() );
+		ConsistentHash consistentHash = distributionManager.getCacheTopology().getReadConsistentHash();
+		List<TuplesSupplier> suppliers = new ArrayList<>( consistentHash.getMembers().size() );
+		for ( Address member : consistentHash.getMembers() ) {
+			Set<Integer> segments = consistentHash.getPrimarySegmentsForOwner( member );
+			if ( !segments.isEmpty() ) {
+				suppliers.add( new InfinispanTuplesSupplier<>( cache, filter, IntSets.from( segments ) ) );
 			}
-
-			// At runtime values of queryResult will be members of class org.infinispan.atomic.impl.AtomicKeySetImpl
-			// this is because of the new implementation of FineGrainedAtomicMap Infinispan class (since 9.1)
-			// query result return anyway valid keys, the values will be reloaded later by the InfinispanTupleIterator
-			InfinispanTuplesSupplier<EK> supplier = new InfinispanTuplesSupplier( bucket.getCache(), queryResult );
-			consumer.consume( supplier );
 		}
+		return suppliers;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -253,31 +291,44 @@ public void injectServices(ServiceRegistryImplementor serviceRegistry) {
 		this.classLoaderService = serviceRegistry.getService( ClassLoaderService.class );
 	}
 
+	/**
+	 * Supplies the tuples of a cache, or of some of its segments.
+	 * <p>
+	 * The entries are pulled lazily from a single cache stream, {@link InfinispanProperties#FOR_EACH_TUPLE_BATCH_SIZE}
+	 * at a time, so that the keys of the cache are never all held in memory.
+	 */
 	private class InfinispanTuplesSupplier<SEK> implements TuplesSupplier {
 
-		private final Map<SEK, Map<String, Object>> queryResult;
 		private final Cache<SEK, Map<String, Object>> cache;
+		private final SerializablePredicate<Entry<SEK, Map<String, Object>>> filter;
+		private final IntSet segments;
 
-		public InfinispanTuplesSupplier(Cache<SEK, Map<String, Object>> cache, Map<SEK, Map<String, Object>> queryResult) {
+		public InfinispanTuplesSupplier(Cache<SEK, Map<String, Object>> cache, SerializablePredicate<Entry<SEK, Map<String, Object>>> filter, IntSet segments) {
 			this.cache = cache;
-			this.queryResult = queryResult;
+			this.filter = filter;
+			this.segments = segments;
 		}
 
 		@Override
 		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
-			Iterator<Entry<SEK, Map<String, Object>>> iterator = queryResult.entrySet().iterator();
-			return new InfinispanTupleIterator( cache, iterator );
+			CacheStream<CacheEntry<SEK, Map<String, Object>>> stream = cache.getAdvancedCache().cacheEntrySet().stream();
+			if ( segments != null ) {
+				stream = stream.filterKeySegments( segments );
+			}
+			return new InfinispanTupleIterator<>( cache, stream.distributedBatchSize( provider.getForEachTupleBatchSize() ).filter( filter ) );
 		}
 	}
 
 	private class InfinispanTupleIterator<IEK> implements ClosableIterator<Tuple> {
 
-		private final Iterator<Entry<IEK, Map<String, Object>>> iterator;
 		private final Cache<IEK, Map<String, Object>> cache;
+		private final CacheStream<CacheEntry<IEK, Map<String, Object>>> stream;
+		private final Iterator<CacheEntry<IEK, Map<String, Object>>> iterator;
 
-		public InfinispanTupleIterator(Cache<IEK, Map<String, Object>> cache, Iterator<Entry<IEK, Map<String, Object>>> iterator) {
+		public InfinispanTupleIterator(Cache<IEK, Map<String, Object>> cache, CacheStream<CacheEntry<IEK, Map<String, Object>>> stream) {
 			this.cache = cache;
-			this.iterator = iterator;
+			this.stream = stream;
+			this.iterator = stream.iterator();
 		}
 
 		@Override
@@ -286,13 +337,17 @@ public boolean hasNext() {
 		}
 
 		@Override
+		@SuppressWarnings("unchecked")
 		public Tuple next() {
-			Entry<IEK, Map<String, Object>> entry = iterator.next();
+			CacheEntry<IEK, Map<String, Object>> entry = iterator.next();
+			// The entity is stored as a FineGrainedAtomicMap: the value of the entry is only the set of its keys
+			// (AtomicKeySetImpl), the columns are read through the atomic map lookup
 			return getTupleFromCacheKey( (EK) entry.getKey(), (Cache<EK, Map<String, Object>>) cache );
 		}
 
 		@Override
 		public void close() {
+			stream.close();
 		}
 	}
 
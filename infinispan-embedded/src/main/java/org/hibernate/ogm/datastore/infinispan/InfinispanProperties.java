@@ -30,6 +30,19 @@ public final class InfinispanProperties implements KeyValueStoreProperties {
 	 */
 	public static final String CACHE_MANAGER_JNDI_NAME = "hibernate.ogm.infinispan.cachemanager_jndi_name";
 
+	/**
+	 * The number of entries fetched at a time when iterating over the content of a cache, e.g. during mass indexing.
+	 * The entries of each segment of the cache are streamed in batches of this size rather than being loaded in
+	 * memory all at once. Accepts a positive integer or a string representing one. Defaults to
+	 * {@link #DEFAULT_FOR_EACH_TUPLE_BATCH_SIZE}.
+	 */
+	public static final String FOR_EACH_TUPLE_BATCH_SIZE = "hibernate.ogm.infinispan.for_each_tuple_batch_size";
+
+	/**
+	 * The default value for {@link #FOR_EACH_TUPLE_BATCH_SIZE}.
+	 */
+	public static final int DEFAULT_FOR_EACH_TUPLE_BATCH_SIZE = 1000;
+
 	private InfinispanProperties() {
 	}
 }
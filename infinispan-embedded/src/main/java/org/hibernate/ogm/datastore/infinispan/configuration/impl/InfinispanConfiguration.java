@@ -11,6 +11,7 @@
 
 import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
+import org.hibernate.ogm.util.configurationreader.impl.Validators;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 import org.hibernate.ogm.util.impl.Log;
 import org.hibernate.ogm.util.impl.LoggerFactory;
@@ -29,6 +30,7 @@ public class InfinispanConfiguration {
 
 	private URL configUrl;
 	private String jndi;
+	private int forEachTupleBatchSize;
 
 	/**
 	 * The location of the configuration file.
@@ -50,6 +52,16 @@ public String getJndiName() {
 		return jndi;
 	}
 
+	/**
+	 * Get the number of entries fetched at a time when iterating over a cache.
+	 *
+	 * @see InfinispanProperties#FOR_EACH_TUPLE_BATCH_SIZE
+	 * @return the batch size
+	 */
+	public int getForEachTupleBatchSize() {
+		return forEachTupleBatchSize;
+	}
+
 	/**
 	 * Initialize the internal values form the given {@link Map}.
 	 *
@@ -68,6 +80,12 @@ public void initConfiguration(Map<?, ?> configurationMap) {
 				.property( InfinispanProperties.CACHE_MANAGER_JNDI_NAME, String.class )
 				.getValue();
 
+		this.forEachTupleBatchSize = propertyReader
+				.property( InfinispanProperties.FOR_EACH_TUPLE_BATCH_SIZE, int.class )
+				.withDefault( InfinispanProperties.DEFAULT_FOR_EACH_TUPLE_BATCH_SIZE )
+				.withValidator( Validators.positive( InfinispanProperties.FOR_EACH_TUPLE_BATCH_SIZE ) )
+				.getValue();
+
 		log.tracef( "Initializing Infinispan from configuration file at %1$s", configUrl );
 	}
 }
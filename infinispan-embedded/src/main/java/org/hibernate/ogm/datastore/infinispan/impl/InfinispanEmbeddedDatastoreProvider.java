@@ -152,6 +152,10 @@ private boolean hasIdGeneration(Set<IdSourceKeyMetadata> idSourceKeys) {
 		return persistenceStrategy.getKeyProvider();
 	}
 
+	public int getForEachTupleBatchSize() {
+		return config.getForEachTupleBatchSize();
+	}
+
 	@Override
 	public void stop() {
 		if ( persistenceStrategy != null ) {
@@ -12,8 +12,11 @@
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.hibernate.boot.model.relational.Database;
@@ -28,6 +31,7 @@
 import org.hibernate.ogm.datastore.infinispan.InfinispanProperties;
 import org.hibernate.ogm.datastore.infinispan.impl.InfinispanEmbeddedDatastoreProvider;
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.spi.ModelConsumer;
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.dialect.spi.TuplesSupplier;
@@ -121,6 +125,36 @@ public void shouldWriteAndReadTupleInClusteredMode() throws Exception {
 		assertThat( readTuple.get( "foo" ) ).isEqualTo( "bar" );
 	}
 
+	@Test
+	public void shouldGetTuplesInKeyOrderInClusteredMode() throws Exception {
+		// given
+		String[] columnNames = { "foo", "bar", "baz" };
+		EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( "Foobar", columnNames );
+		EntityKey first = new EntityKey( keyMetadata, new Object[] { 2001, "Multiget", 1L } );
+		EntityKey missing = new EntityKey( keyMetadata, new Object[] { 2002, "Multiget", 1L } );
+		EntityKey last = new EntityKey( keyMetadata, new Object[] { 2003, "Multiget", 1L } );
+		for ( EntityKey key : new EntityKey[] { first, last } ) {
+			Tuple tuple = dialect1.createTuple( key, emptyTupleContext() );
+			tuple.put( "foo", key.getColumnValues()[0] );
+			dialect1.insertOrUpdateTuple( key, new TuplePointer( tuple ), emptyTupleContext() );
+		}
+
+		// when
+		List<Tuple> tuples = dialect2.getTuples( new EntityKey[] { last, missing, first }, emptyTupleContext() );
+
+		// then
+		assertThat( tuples ).hasSize( 3 );
+		assertThat( tuples.get( 0 ).get( "foo" ) ).isEqualTo( 2003 );
+		assertThat( tuples.get( 1 ) ).isNull();
+		assertThat( tuples.get( 2 ).get( "foo" ) ).isEqualTo( 2001 );
+
+		// and the tuples can be updated
+		Tuple loaded = tuples.get( 0 );
+		loaded.put( "foo", "updated" );
+		dialect2.insertOrUpdateTuple( last, new TuplePointer( loaded ), emptyTupleContext() );
+		assertThat( dialect1.getTuple( last, null ).get( "foo" ) ).isEqualTo( "updated" );
+	}
+
 	@Test
 	public void shoulReadAndWriteSequenceInClusteredMode() throws Exception {
 		// given
@@ -179,16 +213,57 @@ public void shouldApplyForEachTupleInClusteredMode() throws Exception {
 		// then
 		MyConsumer consumer = new MyConsumer();
 		dialect2.forEachTuple( consumer, emptyTupleTypeContext(), keyMetadata );
-		assertThat( consumer.consumedTuple.get( "foo" ) ).isEqualTo( "bar" );
+		assertThat( consumer.values( "foo" ) ).contains( "bar" );
+	}
+
+	@Test
+	public void shouldApplyForEachTupleWithOneSupplierPerMemberOfTheCluster() throws Exception {
+		// given
+		String[] columnNames = { "foo", "bar", "baz" };
+		EntityKeyMetadata keyMetadata = new DefaultEntityKeyMetadata( "Foobar", columnNames );
+		for ( int i = 0; i < 3; i++ ) {
+			EntityKey key = new EntityKey( keyMetadata, new Object[] { 1000 + i, "Segment", 789L } );
+			Tuple tuple = dialect1.createTuple( key, emptyTupleContext() );
+			tuple.put( "foo", "segment-" + i );
+			dialect1.insertOrUpdateTuple( key, new TuplePointer( tuple ), emptyTupleContext() );
+		}
+		int members = provider2.getCacheManager().getEntityCache( keyMetadata ).getAdvancedCache().getDistributionManager()
+				.getCacheTopology().getMembers().size();
+		assertThat( members ).isEqualTo( 2 );
+
+		// when
+		MyConsumer consumer = new MyConsumer();
+		dialect2.forEachTuple( consumer, emptyTupleTypeContext(), keyMetadata );
+
+		// then
+		// Each entry is read once, by the supplier of the primary owner of its segment
+		assertThat( consumer.suppliers ).isEqualTo( members );
+		List<Object> values = consumer.values( "foo" );
+		values.retainAll( Arrays.asList( "segment-0", "segment-1", "segment-2" ) );
+		assertThat( values ).hasSize( 3 ).contains( "segment-0", "segment-1", "segment-2" );
 	}
 
 	private final class MyConsumer implements ModelConsumer {
 
-		private Tuple consumedTuple;
+		private final List<Tuple> consumedTuples = new ArrayList<>();
+		private int suppliers;
 
 		@Override
 		public void consume(TuplesSupplier supplier) {
-			consumedTuple = supplier.get( null ).next();
+			suppliers++;
+			try ( ClosableIterator<Tuple> tuples = supplier.get( null ) ) {
+				while ( tuples.hasNext() ) {
+					consumedTuples.add( tuples.next() );
+				}
+			}
+		}
+
+		private List<Object> values(String column) {
+			List<Object> values = new ArrayList<>();
+			for ( Tuple tuple : consumedTuples ) {
+				values.add( tuple.get( column ) );
+			}
+			return values;
 		}
 	}
 
@@ -7,6 +7,7 @@
 package org.hibernate.ogm.datastore.infinispanremote;
 
 import java.lang.invoke.MethodHandles;
+import java.net.SocketAddress;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -16,10 +17,13 @@
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.ogm.datastore.infinispanremote.impl.InfinispanRemoteDatastoreProvider;
 import org.hibernate.ogm.datastore.infinispanremote.impl.InfinispanRemoteStoredProceduresManager;
+import org.hibernate.ogm.datastore.infinispanremote.impl.PipelinedCacheWrites;
 import org.hibernate.ogm.datastore.infinispanremote.impl.ProtoStreamMappingAdapter;
 import org.hibernate.ogm.datastore.infinispanremote.impl.ProtostreamAssociationMappingAdapter;
 import org.hibernate.ogm.datastore.infinispanremote.impl.VersionedTuple;
@@ -37,7 +41,9 @@
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
 import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
 import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
 import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
 import org.hibernate.ogm.dialect.impl.AbstractGroupingByEntityDialect;
 import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
@@ -73,6 +79,7 @@
 import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
 import org.hibernate.ogm.storedprocedure.ProcedureQueryParameters;
 
+import org.infinispan.client.hotrod.CacheTopologyInfo;
 import org.infinispan.client.hotrod.MetadataValue;
 import org.infinispan.client.hotrod.RemoteCache;
 import org.infinispan.client.hotrod.Search;
@@ -104,10 +111,14 @@
 
 	private final InfinispanRemoteDatastoreProvider provider;
 	private final InfinispanRemoteQueryHandler queryHandler;
+	private final boolean asyncFlush;
+	private final int asyncFlushMaxInFlight;
 
 	public InfinispanRemoteDialect(InfinispanRemoteDatastoreProvider provider) {
 		this.provider = Objects.requireNonNull( provider );
 		this.queryHandler = new InfinispanRemoteQueryHandler( provider );
+		this.asyncFlush = provider.isAsyncFlush();
+		this.asyncFlushMaxInFlight = provider.getAsyncFlushMaxInFlight();
 	}
 
 	@Override
@@ -138,11 +149,51 @@ public Tuple createTuple(EntityKey key, OperationContext operationContext) {
 		return new VersionedTuple();
 	}
 
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( !asyncFlush ) {
+			super.executeBatch( queue );
+		}
+		else if ( !queue.isClosed() ) {
+			PipelinedCacheWrites writes = new PipelinedCacheWrites( asyncFlushMaxInFlight );
+			try {
+				Operation operation = queue.poll();
+				while ( operation != null ) {
+					if ( operation instanceof GroupedChangesToEntityOperation ) {
+						executeGroupedChangesToEntity( (GroupedChangesToEntityOperation) operation, writes );
+					}
+					else if ( operation instanceof RemoveTupleOperation ) {
+						removeTuple( ( (RemoveTupleOperation) operation ).getEntityKey(), writes );
+					}
+					else {
+						throw new UnsupportedOperationException( "Operation not supported: " + operation.getClass().getSimpleName() );
+					}
+					operation = queue.poll();
+				}
+				writes.awaitAll();
+			}
+			catch (RuntimeException e) {
+				writes.awaitAllQuietly();
+				throw e;
+			}
+
+			queue.clear();
+		}
+	}
+
 	@Override
 	protected void executeGroupedChangesToEntity(GroupedChangesToEntityOperation groupedOperation) {
+		executeGroupedChangesToEntity( groupedOperation, null );
+	}
+
+	/**
+	 * @param writes the pending writes of an asynchronous flush, {@code null} if the operations have to be executed
+	 * synchronously
+	 */
+	private void executeGroupedChangesToEntity(GroupedChangesToEntityOperation groupedOperation, PipelinedCacheWrites writes) {
 		final EntityKey entityKey = groupedOperation.getEntityKey();
 		final String cacheName = cacheName( entityKey );
-		final OwningEntity owningEntity = new OwningEntity( provider, entityKey );
+		final OwningEntity owningEntity = new OwningEntity( provider, entityKey, writes );
 
 		for ( Operation operation : groupedOperation.getOperations() ) {
 			if ( operation instanceof InsertOrUpdateTupleOperation ) {
@@ -151,7 +202,7 @@ protected void executeGroupedChangesToEntity(GroupedChangesToEntityOperation gro
 				owningEntity.applyOperations( tuple );
 			}
 			else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
-				insertOrUpdateAssociation( (InsertOrUpdateAssociationOperation) operation );
+				insertOrUpdateAssociation( (InsertOrUpdateAssociationOperation) operation, writes );
 			}
 			else if ( operation instanceof RemoveAssociationOperation ) {
 				log.debugf( "removeAssociation for key '%s' on cache '%s'", entityKey, cacheName );
@@ -198,6 +249,8 @@ private static class OwningEntity {
 
 		private final InfinispanRemoteDatastoreProvider provider;
 
+		private final PipelinedCacheWrites writes;
+
 		// Keep track of the association to remove that are not contained in the entity
 		private final List<AssociationKey> associationsToRemove = new ArrayList<>();
 
@@ -209,15 +262,16 @@ private static class OwningEntity {
 		// If the entity already exists in the datastore or not
 		private SnapshotType operationType = SnapshotType.UPDATE;
 
-		public OwningEntity(InfinispanRemoteDatastoreProvider provider, EntityKey entityKey) {
+		public OwningEntity(InfinispanRemoteDatastoreProvider provider, EntityKey entityKey, PipelinedCacheWrites writes) {
 			this.provider = provider;
 			this.ownerEntityKey = entityKey;
+			this.writes = writes;
 		}
 
 		public void flushOperations() {
 			if ( !associationsToRemove.isEmpty() ) {
 				for ( AssociationKey key : associationsToRemove ) {
-					removeAssociationFromBridgeTable( provider, key );
+					removeAssociationFromBridgeTable( provider, key, writes );
 				}
 			}
 
@@ -228,11 +282,20 @@ public void flushOperations() {
 
 		private void flushEntity() {
 			Tuple versionedTuple = new Tuple( new MapTupleSnapshot( owningEntity ), operationType );
-			ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName( ownerEntityKey ) );
+			String cacheName = cacheName( ownerEntityKey );
+			ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName );
 			ProtostreamId idBuffer = mapper.createIdPayload( ownerEntityKey.getColumnNames(), ownerEntityKey.getColumnValues() );
 			ProtostreamPayload valuePayload = mapper.createValuePayload( versionedTuple );
 
-			if ( operationType == SnapshotType.INSERT ) {
+			if ( writes != null ) {
+				if ( operationType == SnapshotType.INSERT ) {
+					writes.putIfAbsent( mapper, cacheName, idBuffer, valuePayload, ownerEntityKey );
+				}
+				else {
+					writes.put( mapper, cacheName, idBuffer, valuePayload );
+				}
+			}
+			else if ( operationType == SnapshotType.INSERT ) {
 				insertEntity( mapper, idBuffer, valuePayload );
 			}
 			else {
@@ -260,7 +323,7 @@ public void removeAssociation(RemoveAssociationOperation removeAssociationOperat
 			if ( associationStoredWithinEntityEntry( associationKey, associationContext ) ) {
 				// The entity contains the association
 				if ( owningEntity == null ) {
-					TuplePointer entityTuplePointer = getEmbeddingEntityTuplePointer( provider, associationKey, associationContext );
+					TuplePointer entityTuplePointer = getEmbeddingEntityTuplePointer( provider, associationKey, associationContext, writes );
 					// We are removing an association inside an entity so this should always be an update
 					entityTuplePointer.getTuple().setSnapshotType( SnapshotType.UPDATE );
 					applyOperations( entityTuplePointer.getTuple() );
@@ -300,22 +363,26 @@ private Map<String, Object> getEntityFromTuple(Map<String, Object> owningEntity,
 		}
 	}
 
-	private void insertOrUpdateAssociation(InsertOrUpdateAssociationOperation insertOrUpdateAssociationOperation) {
+	private void insertOrUpdateAssociation(InsertOrUpdateAssociationOperation insertOrUpdateAssociationOperation, PipelinedCacheWrites writes) {
 		AssociationKey associationKey = insertOrUpdateAssociationOperation.getAssociationKey();
 		org.hibernate.ogm.model.spi.Association association = insertOrUpdateAssociationOperation.getAssociation();
 		AssociationContext associationContext = insertOrUpdateAssociationOperation.getContext();
 
 		if ( !associationStoredWithinEntityEntry( associationKey, associationContext ) ) {
-			insertOrUpdateAssociationMappedAsDedicatedEntries( associationKey, association, associationContext );
+			insertOrUpdateAssociationMappedAsDedicatedEntries( associationKey, association, writes );
 		}
 
 		association.reset();
 	}
 
-	private static TuplePointer getEmbeddingEntityTuplePointer(InfinispanRemoteDatastoreProvider provider, AssociationKey key, AssociationContext associationContext) {
+	private static TuplePointer getEmbeddingEntityTuplePointer(InfinispanRemoteDatastoreProvider provider, AssociationKey key, AssociationContext associationContext,
+			PipelinedCacheWrites writes) {
 		TuplePointer tuplePointer = associationContext.getEntityTuplePointer();
 
 		if ( tuplePointer.getTuple() == null ) {
+			if ( writes != null ) {
+				writes.awaitPendingWrites( cacheName( key.getEntityKey() ) );
+			}
 			tuplePointer.setTuple( getTuple( provider, key.getEntityKey() ) );
 		}
 
@@ -331,6 +398,14 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 		mapper.withinCacheEncodingContext( c -> c.remove( idBuffer ) );
 	}
 
+	private void removeTuple(EntityKey key, PipelinedCacheWrites writes) {
+		final String cacheName = cacheName( key );
+		log.debugf( "removeTuple for key '%s' on cache '%s'", key, cacheName );
+		ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName );
+		ProtostreamId idBuffer = mapper.createIdPayload( key.getColumnNames(), key.getColumnValues() );
+		writes.remove( mapper, cacheName, idBuffer );
+	}
+
 	private static String cacheName(EntityKey key) {
 		return key.getTable();
 	}
@@ -428,7 +503,7 @@ public Association createAssociation(AssociationKey key, AssociationContext asso
 		return new Association( new MapAssociationSnapshot( associationMap ) );
 	}
 
-	private void insertOrUpdateAssociationMappedAsDedicatedEntries(AssociationKey key, Association association, AssociationContext associationContext) {
+	private void insertOrUpdateAssociationMappedAsDedicatedEntries(AssociationKey key, Association association, PipelinedCacheWrites writes) {
 		final String cacheName = cacheName( key );
 		final ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName );
 		log.debugf( "insertOrUpdateAssociation for key '%s' on cache '%s', mapped as dedicated entries in ad-hoc table", key, cacheName );
@@ -440,10 +515,20 @@ private void insertOrUpdateAssociationMappedAsDedicatedEntries(AssociationKey ke
 			switch ( type ) {
 				case PUT:
 					ProtostreamPayload valuePayloadForPut = mapper.createValuePayload( ao.getValue() );
-					mapper.withinCacheEncodingContext( c -> c.put( idBuffer, valuePayloadForPut ) );
+					if ( writes != null ) {
+						writes.put( mapper, cacheName, idBuffer, valuePayloadForPut );
+					}
+					else {
+						mapper.withinCacheEncodingContext( c -> c.put( idBuffer, valuePayloadForPut ) );
+					}
 					break;
 				case REMOVE:
-					mapper.withinCacheEncodingContext( c -> c.remove( idBuffer ) );
+					if ( writes != null ) {
+						writes.remove( mapper, cacheName, idBuffer );
+					}
+					else {
+						mapper.withinCacheEncodingContext( c -> c.remove( idBuffer ) );
+					}
 					break;
 				case CLEAR:
 					throw new AssertionFailure( "Request for CLEAR operation on an association mapped to dedicated entries. Makes no sense?" );
@@ -451,15 +536,24 @@ private void insertOrUpdateAssociationMappedAsDedicatedEntries(AssociationKey ke
 		}
 	}
 
-	private static void removeAssociationFromBridgeTable(InfinispanRemoteDatastoreProvider provider, AssociationKey key) {
+	private static void removeAssociationFromBridgeTable(InfinispanRemoteDatastoreProvider provider, AssociationKey key, PipelinedCacheWrites writes) {
 		final String bridgeTable = cacheName( key );
 		final ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( bridgeTable );
+		if ( writes != null ) {
+			// The query has to see the rows written so far
+			writes.awaitPendingWrites( bridgeTable );
+		}
 		Map<RowKey, Map<String, Object>> rowsMap = loadRowKeysByQuery( provider, key );
 		for ( RowKey rowKey : rowsMap.keySet() ) {
 			String[] columnNames = rowKey.getColumnNames();
 			Object[] columnValues = rowKey.getColumnValues();
 			ProtostreamId idBuffer = mapper.createIdPayload( columnNames, columnValues );
-			mapper.withinCacheEncodingContext( c -> c.remove( idBuffer ) );
+			if ( writes != null ) {
+				writes.remove( mapper, bridgeTable, idBuffer );
+			}
+			else {
+				mapper.withinCacheEncodingContext( c -> c.remove( idBuffer ) );
+			}
 		}
 	}
 
@@ -478,12 +572,59 @@ public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeConte
 		final String cacheName = cacheName( entityKeyMetadata );
 		ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName );
 
+		int batchSize = provider.getForEachTupleBatchSize();
+
+		// One supplier per server, the consumer may read from all the servers in parallel
 		VersionedValue<ProtostreamPayload> v = mapper.withinCacheEncodingContext( c -> {
-			consumer.consume( new InfinispanRemoteTuplesSupplier( c, cacheName ) );
+			List<TuplesSupplier> suppliers = new ArrayList<>();
+			for ( Set<Integer> segments : segmentsByServer( c ) ) {
+				suppliers.add( new InfinispanRemoteTuplesSupplier( c, segments, batchSize ) );
+			}
+			consumer.consume( suppliers );
 			return null;
 		} );
 	}
 
+	/**
+	 * Splits the segments of the cache in one group per server, each segment being assigned to the owner with the
+	 * fewest segments so far.
+	 *
+	 * @return the groups of segments, or a single {@code null} group (meaning all the segments) if the topology of the
+	 * cache is not known
+	 */
+	private static List<Set<Integer>> segmentsByServer(RemoteCache<?, ?> cache) {
+		CacheTopologyInfo topology = cache.getCacheTopologyInfo();
+		if ( topology == null || topology.getNumSegments() == null || topology.getSegmentsPerServer().size() < 2 ) {
+			return Collections.singletonList( null );
+		}
+
+		Map<SocketAddress, Set<Integer>> groups = new HashMap<>();
+		Set<Integer> withoutOwner = new HashSet<>();
+		for ( int segment = 0; segment < topology.getNumSegments(); segment++ ) {
+			Set<Integer> target = null;
+			for ( Entry<SocketAddress, Set<Integer>> owned : topology.getSegmentsPerServer().entrySet() ) {
+				if ( owned.getValue().contains( segment ) ) {
+					Set<Integer> group = groups.computeIfAbsent( owned.getKey(), k -> new HashSet<>() );
+					if ( target == null || group.size() < target.size() ) {
+						target = group;
+					}
+				}
+			}
+			( target == null ? withoutOwner : target ).add( segment );
+		}
+
+		List<Set<Integer>> segments = new ArrayList<>();
+		for ( Set<Integer> group : groups.values() ) {
+			if ( !group.isEmpty() ) {
+				segments.add( group );
+			}
+		}
+		if ( !withoutOwner.isEmpty() ) {
+			segments.add( withoutOwner );
+		}
+		return segments;
+	}
+
 	@Override
 	public DuplicateInsertPreventionStrategy getDuplicateInsertPreventionStrategy(EntityKeyMetadata entityKeyMetadata) {
 		//We can implement duplicate insert detection by this by using Infinispan's putIfAbsent
@@ -491,7 +632,7 @@ public DuplicateInsertPreventionStrategy getDuplicateInsertPreventionStrategy(En
 		//TODO Not implemented yet as Hot Rod's support for atomic operations is complex, so default to the naive impl;
 		// In particular:
 		// - CAS operations such as putIfAbsent require Caches to use Transactions on the server (but the Hot Rod client can't participate)
-		// - Multi-Get and Multi-Put operations don't honour the Version API
+		// - Multi-Put operations don't honour the Version API
 		return DuplicateInsertPreventionStrategy.LOOK_UP;
 	}
 
@@ -513,21 +654,17 @@ else if ( keys.length == 1 ) {
 		else {
 			final String cacheName = cacheName( keys[0] );
 			final ProtoStreamMappingAdapter mapper = provider.getDataMapperForCache( cacheName );
-			final Map<EntityKey,ProtostreamId> keyConversionMatch = new HashMap<>();
-			final Set<ProtostreamId> convertedKeys = new HashSet<>();
+			// getAll doesn't return the versions of the entries: we send one read per key without waiting for the
+			// responses instead, so that the whole batch costs about one round trip
+			final Map<EntityKey, CompletableFuture<MetadataValue<ProtostreamPayload>>> pendingReads = new HashMap<>();
 			for ( EntityKey ek : keys ) {
-				if ( ek == null ) {
+				if ( ek == null || pendingReads.containsKey( ek ) ) {
 					continue;
 				}
 				assert cacheName( ek ).equals( cacheName ) : "The javadoc comment promised batches would be loaded from the same table";
 				ProtostreamId idBuffer = mapper.createIdPayload( ek.getColumnNames(), ek.getColumnValues() );
-				keyConversionMatch.put( ek, idBuffer );
-				convertedKeys.add( idBuffer );
+				pendingReads.put( ek, mapper.withinCacheEncodingContext( c -> c.getWithMetadataAsync( idBuffer ) ) );
 			}
-			final Map<ProtostreamId, ProtostreamPayload> loadedBulk = mapper.withinCacheEncodingContext( c -> {
-				//TODO getAll doesn't support versioned entries ?!
-				return c.getAll( convertedKeys );
-			} );
 
 			final List<Tuple> results = new ArrayList<>( keys.length );
 			for ( int i = 0; i < keys.length; i++ ) {
@@ -536,18 +673,31 @@ else if ( keys.length == 1 ) {
 					results.add( null );
 					continue;
 				}
-				ProtostreamId protostreamId = keyConversionMatch.get( originalKey );
-				ProtostreamPayload payload = loadedBulk.get( protostreamId );
-				if ( payload == null ) {
+				MetadataValue<ProtostreamPayload> value = join( pendingReads.get( originalKey ) );
+				if ( value == null || value.getValue() == null ) {
 					results.add( null );
 					continue;
 				}
-				results.add( payload.toTuple( SnapshotType.UNKNOWN ) );
+				VersionedTuple versionedTuple = value.getValue().toVersionedTuple( SnapshotType.UPDATE );
+				versionedTuple.setVersion( value.getVersion() );
+				results.add( versionedTuple );
 			}
 			return results;
 		}
 	}
 
+	private static <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		}
+		catch (CompletionException e) {
+			if ( e.getCause() instanceof RuntimeException ) {
+				throw (RuntimeException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
 	private static boolean associationStoredWithinEntityEntry(AssociationKey key, AssociationContext associationContext) {
 		final String cacheName = cacheName( key );
 		final String entityTableName = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata().getEntityKeyMetadata().getTable();
@@ -561,14 +711,21 @@ private static boolean associationStoredWithinEntityEntry(AssociationKey key, As
 	private static class InfinispanRemoteTuplesSupplier implements TuplesSupplier {
 
 		private final RemoteCache<ProtostreamId, ProtostreamPayload> remoteCache;
+		private final Set<Integer> segments;
+		private final int batchSize;
 
-		public InfinispanRemoteTuplesSupplier(RemoteCache<ProtostreamId, ProtostreamPayload> remoteCache, String cacheName) {
+		/**
+		 * @param segments the segments to read, {@code null} for all of them
+		 */
+		public InfinispanRemoteTuplesSupplier(RemoteCache<ProtostreamId, ProtostreamPayload> remoteCache, Set<Integer> segments, int batchSize) {
 			this.remoteCache = remoteCache;
+			this.segments = segments;
+			this.batchSize = batchSize;
 		}
 
 		@Override
 		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
-			CloseableIterator<Entry<Object, MetadataValue<Object>>> iterator = remoteCache.retrieveEntriesWithMetadata( null, 100 );
+			CloseableIterator<Entry<Object, MetadataValue<Object>>> iterator = remoteCache.retrieveEntriesWithMetadata( segments, batchSize );
 			return new InfinispanRemoteTupleIterator( iterator );
 		}
 	}
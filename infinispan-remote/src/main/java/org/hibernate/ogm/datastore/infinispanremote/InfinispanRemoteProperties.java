@@ -118,6 +118,61 @@ public final class InfinispanRemoteProperties implements KeyValueStoreProperties
 	 */
 	public static final String DEFAULT_TRANSACTION_MODE = TransactionMode.NON_DURABLE_XA.name();
 
+	/**
+	 * Property for enabling the asynchronous flush of the changes. When enabled, the write operations of a flush are
+	 * sent to the server without waiting for the previous ones to complete; the flush waits for all of them to
+	 * complete before returning. Operations on the same key are still applied in order.
+	 * <p>
+	 * Defaults to {@code false}.
+	 */
+	public static final String ASYNC_FLUSH = "hibernate.ogm.infinispan_remote.async_flush";
+
+	/**
+	 * The maximum number of write operations waiting for a response from the server when {@link #ASYNC_FLUSH} is
+	 * enabled. When the limit is reached, the flush waits for the oldest operation to complete before sending a new one.
+	 * <p>
+	 * Defaults to {@link #DEFAULT_ASYNC_FLUSH_MAX_IN_FLIGHT}.
+	 */
+	public static final String ASYNC_FLUSH_MAX_IN_FLIGHT = "hibernate.ogm.infinispan_remote.async_flush.max_in_flight";
+
+	/**
+	 * The default value for {@link #ASYNC_FLUSH_MAX_IN_FLIGHT}.
+	 */
+	public static final int DEFAULT_ASYNC_FLUSH_MAX_IN_FLIGHT = 128;
+
+	/**
+	 * The number of values of an id source mapped as a table reserved on the server with a single operation. The
+	 * reserved values are then handed out locally and the next block is reserved in the background before the current
+	 * one is exhausted. Unused values of a block are lost when the application stops, leaving gaps in the generated ids.
+	 * <p>
+	 * Defaults to {@code 1}, which reserves each value on the server.
+	 */
+	public static final String SEQUENCE_POOL_SIZE = "hibernate.ogm.infinispan_remote.sequence_pool_size";
+
+	/**
+	 * The number of entities fetched from the server at once when iterating over the results of a query. The results
+	 * are then fetched one page at a time, using the offset and the maximum number of results of the query, so that only
+	 * one page is kept in memory. A fetch size given for a specific query takes precedence. Only queries with an
+	 * {@code order by} clause are paged, since each page is read by a separate execution of the query; queries with
+	 * projections are not paged.
+	 * <p>
+	 * By default, all the results of a query are fetched at once.
+	 */
+	public static final String QUERY_PAGE_SIZE = "hibernate.ogm.infinispan_remote.query_page_size";
+
+	/**
+	 * The number of entries fetched at a time when iterating over the content of a cache, e.g. during mass indexing.
+	 * The segments of the cache are split in one group per server and each group is iterated separately.
+	 * <p>
+	 * Defaults to {@link #DEFAULT_FOR_EACH_TUPLE_BATCH_SIZE}.
+	 */
+	public static final String FOR_EACH_TUPLE_BATCH_SIZE = "hibernate.ogm.infinispan_remote.for_each_tuple_batch_size";
+
+	/**
+	 * The default value for {@link #FOR_EACH_TUPLE_BATCH_SIZE}.
+	 */
+	public static final int DEFAULT_FOR_EACH_TUPLE_BATCH_SIZE = 100;
+
 	private InfinispanRemoteProperties() {
 	}
 
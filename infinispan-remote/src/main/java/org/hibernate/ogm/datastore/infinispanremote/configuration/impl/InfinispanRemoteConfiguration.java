@@ -30,6 +30,7 @@
 
 import org.hibernate.ogm.datastore.infinispanremote.schema.spi.SchemaCapture;
 import org.hibernate.ogm.datastore.infinispanremote.schema.spi.SchemaOverride;
+import org.hibernate.ogm.util.configurationreader.impl.Validators;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 import org.hibernate.service.spi.ServiceRegistryImplementor;
 
@@ -119,6 +120,16 @@ public class InfinispanRemoteConfiguration {
 
 	private TransactionMode transactionMode;
 
+	private boolean asyncFlush;
+
+	private int asyncFlushMaxInFlight;
+
+	private int sequencePoolSize;
+
+	private Integer queryPageSize;
+
+	private int forEachTupleBatchSize;
+
 	/**
 	 * The location of the configuration file.
 	 *
@@ -176,6 +187,46 @@ public TransactionMode getTransactionMode() {
 		return transactionMode;
 	}
 
+	/**
+	 * @see InfinispanRemoteProperties#ASYNC_FLUSH
+	 * @return {@code true} if the write operations of a flush are sent asynchronously
+	 */
+	public boolean isAsyncFlush() {
+		return asyncFlush;
+	}
+
+	/**
+	 * @see InfinispanRemoteProperties#ASYNC_FLUSH_MAX_IN_FLIGHT
+	 * @return the maximum number of write operations waiting for a response during an asynchronous flush
+	 */
+	public int getAsyncFlushMaxInFlight() {
+		return asyncFlushMaxInFlight;
+	}
+
+	/**
+	 * @see InfinispanRemoteProperties#SEQUENCE_POOL_SIZE
+	 * @return the number of values reserved on the server with a single operation
+	 */
+	public int getSequencePoolSize() {
+		return sequencePoolSize;
+	}
+
+	/**
+	 * @see InfinispanRemoteProperties#QUERY_PAGE_SIZE
+	 * @return the number of entities fetched at once by a query, {@code null} to fetch all of them at once
+	 */
+	public Integer getQueryPageSize() {
+		return queryPageSize;
+	}
+
+	/**
+	 * @see InfinispanRemoteProperties#FOR_EACH_TUPLE_BATCH_SIZE
+	 * @return the number of entries fetched at a time when iterating over a cache
+	 */
+	public int getForEachTupleBatchSize() {
+		return forEachTupleBatchSize;
+	}
+
 	/**
 	 * Initialize the internal values from the given {@link Map}.
 	 *
@@ -236,6 +287,34 @@ public void initConfiguration(Map<?, ?> configurationMap, ServiceRegistryImpleme
 
 		this.transactionMode = extractTransactionMode( transactionModeString );
 
+		this.asyncFlush = propertyReader
+				.property( InfinispanRemoteProperties.ASYNC_FLUSH, boolean.class )
+				.withDefault( false )
+				.getValue();
+
+		this.asyncFlushMaxInFlight = propertyReader
+				.property( InfinispanRemoteProperties.ASYNC_FLUSH_MAX_IN_FLIGHT, int.class )
+				.withDefault( InfinispanRemoteProperties.DEFAULT_ASYNC_FLUSH_MAX_IN_FLIGHT )
+				.withValidator( Validators.positive( InfinispanRemoteProperties.ASYNC_FLUSH_MAX_IN_FLIGHT ) )
+				.getValue();
+
+		this.sequencePoolSize = propertyReader
+				.property( InfinispanRemoteProperties.SEQUENCE_POOL_SIZE, int.class )
+				.withDefault( 1 )
+				.withValidator( Validators.positive( InfinispanRemoteProperties.SEQUENCE_POOL_SIZE ) )
+				.getValue();
+
+		this.queryPageSize = propertyReader
+				.property( InfinispanRemoteProperties.QUERY_PAGE_SIZE, Integer.class )
+				.withValidator( Validators.positive( InfinispanRemoteProperties.QUERY_PAGE_SIZE ) )
+				.getValue();
+
+		this.forEachTupleBatchSize = propertyReader
+				.property( InfinispanRemoteProperties.FOR_EACH_TUPLE_BATCH_SIZE, int.class )
+				.withDefault( InfinispanRemoteProperties.DEFAULT_FOR_EACH_TUPLE_BATCH_SIZE )
+				.withValidator( Validators.positive( InfinispanRemoteProperties.FOR_EACH_TUPLE_BATCH_SIZE ) )
+				.getValue();
+
 		log.tracef( "Initializing Infinispan Hot Rod client from configuration file at '%1$s'", configurationResource );
 	}
 
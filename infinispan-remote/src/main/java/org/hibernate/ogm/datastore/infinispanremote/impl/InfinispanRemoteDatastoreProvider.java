@@ -120,6 +120,21 @@ public class InfinispanRemoteDatastoreProvider extends BaseDatastoreProvider
 	@EffectivelyFinal
 	private TransactionMode transactionMode;
 
+	@EffectivelyFinal
+	private boolean asyncFlush;
+
+	@EffectivelyFinal
+	private int asyncFlushMaxInFlight;
+
+	@EffectivelyFinal
+	private int sequencePoolSize;
+
+	@EffectivelyFinal
+	private Integer queryPageSize;
+
+	@EffectivelyFinal
+	private int forEachTupleBatchSize;
+
 	@Override
 	public Class<? extends GridDialect> getDefaultDialect() {
 		return InfinispanRemoteDialect.class;
@@ -154,6 +169,11 @@ public void configure(Map configurationValues) {
 		this.createCachesEnabled = config.isCreateCachesEnabled();
 		this.cacheConfiguration = config.getCacheConfiguration();
 		this.transactionMode = config.getTransactionMode();
+		this.asyncFlush = config.isAsyncFlush();
+		this.asyncFlushMaxInFlight = config.getAsyncFlushMaxInFlight();
+		this.sequencePoolSize = config.getSequencePoolSize();
+		this.queryPageSize = config.getQueryPageSize();
+		this.forEachTupleBatchSize = config.getForEachTupleBatchSize();
 	}
 
 	@Override
@@ -252,6 +272,26 @@ public ProtostreamAssociationMappingAdapter getCollectionsDataMapper(String cach
 		return perCacheSchemaMappers.get( cacheName );
 	}
 
+	public boolean isAsyncFlush() {
+		return asyncFlush;
+	}
+
+	public int getAsyncFlushMaxInFlight() {
+		return asyncFlushMaxInFlight;
+	}
+
+	public int getSequencePoolSize() {
+		return sequencePoolSize;
+	}
+
+	public Integer getQueryPageSize() {
+		return queryPageSize;
+	}
+
+	public int getForEachTupleBatchSize() {
+		return forEachTupleBatchSize;
+	}
+
 	public HotRodSequenceHandler getSequenceHandler() {
 		return this.sequences;
 	}
@@ -0,0 +1,190 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamId;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamPayload;
+import org.hibernate.ogm.datastore.infinispanremote.logging.impl.Log;
+import org.hibernate.ogm.datastore.infinispanremote.logging.impl.LoggerFactory;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+
+/**
+ * Sends the write operations of a flush to the server without waiting for each response.
+ * <p>
+ * At most {@code maxInFlight} operations are waiting for a response at any time: when the limit is reached the oldest
+ * operation is awaited before sending the next one. There is at most one pending operation per key, so that the
+ * operations on the same entry are applied in the order they have been requested.
+ * <p>
+ * The first failure is rethrown by {@link #awaitAll()}; once an operation failed no other operation is sent.
+ *
+ * @see org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteProperties#ASYNC_FLUSH
+ */
+public final class PipelinedCacheWrites {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	private final int maxInFlight;
+
+	// Insertion order is the order in which the operations have been sent
+	private final Map<PendingWriteKey, CompletableFuture<?>> inFlight = new LinkedHashMap<>();
+
+	private RuntimeException failure;
+
+	public PipelinedCacheWrites(int maxInFlight) {
+		this.maxInFlight = maxInFlight;
+	}
+
+	public void put(ProtoStreamMappingAdapter mapper, String cacheName, ProtostreamId id, ProtostreamPayload payload) {
+		PendingWriteKey key = beforeWrite( cacheName, id );
+		inFlight.put( key, mapper.withinCacheEncodingContext( c -> c.putAsync( id, payload ) ) );
+	}
+
+	/**
+	 * Inserts the entry if there is no entry with the same id.
+	 *
+	 * @throws TupleAlreadyExistsException from {@link #awaitAll()} if the entry already exists
+	 */
+	public void putIfAbsent(ProtoStreamMappingAdapter mapper, String cacheName, ProtostreamId id, ProtostreamPayload payload, EntityKey entityKey) {
+		PendingWriteKey key = beforeWrite( cacheName, id );
+		CompletableFuture<ProtostreamPayload> putIfAbsent = mapper.withinCacheEncodingContext( c -> c.putIfAbsentAsync( id, payload ) );
+		inFlight.put( key, putIfAbsent.thenAccept( previous -> {
+			if ( previous != null ) {
+				throw new TupleAlreadyExistsException( entityKey );
+			}
+		} ) );
+	}
+
+	public void remove(ProtoStreamMappingAdapter mapper, String cacheName, ProtostreamId id) {
+		PendingWriteKey key = beforeWrite( cacheName, id );
+		inFlight.put( key, mapper.withinCacheEncodingContext( c -> c.removeAsync( id ) ) );
+	}
+
+	/**
+	 * Waits for the completion of the pending operations on a cache; to be called before reading from it.
+	 *
+	 * @param cacheName the name of the cache
+	 */
+	public void awaitPendingWrites(String cacheName) {
+		List<PendingWriteKey> keys = new ArrayList<>();
+		for ( PendingWriteKey key : inFlight.keySet() ) {
+			if ( key.cacheName.equals( cacheName ) ) {
+				keys.add( key );
+			}
+		}
+		for ( PendingWriteKey key : keys ) {
+			await( key, inFlight.remove( key ) );
+		}
+		throwFailure();
+	}
+
+	/**
+	 * Waits for the completion of all the pending operations.
+	 *
+	 * @throws RuntimeException the first failure of an operation, if any
+	 */
+	public void awaitAll() {
+		awaitAllQuietly();
+		throwFailure();
+	}
+
+	/**
+	 * Waits for the completion of all the pending operations without reporting the failures; used when the flush
+	 * already failed.
+	 */
+	public void awaitAllQuietly() {
+		Iterator<Entry<PendingWriteKey, CompletableFuture<?>>> iterator = inFlight.entrySet().iterator();
+		while ( iterator.hasNext() ) {
+			Entry<PendingWriteKey, CompletableFuture<?>> entry = iterator.next();
+			iterator.remove();
+			await( entry.getKey(), entry.getValue() );
+		}
+	}
+
+	private PendingWriteKey beforeWrite(String cacheName, ProtostreamId id) {
+		PendingWriteKey key = new PendingWriteKey( cacheName, id );
+		CompletableFuture<?> previous = inFlight.remove( key );
+		if ( previous != null ) {
+			await( key, previous );
+		}
+		while ( inFlight.size() >= maxInFlight ) {
+			Iterator<Entry<PendingWriteKey, CompletableFuture<?>>> eldest = inFlight.entrySet().iterator();
+			Entry<PendingWriteKey, CompletableFuture<?>> entry = eldest.next();
+			eldest.remove();
+			await( entry.getKey(), entry.getValue() );
+		}
+		if ( failure != null ) {
+			awaitAll();
+		}
+		return key;
+	}
+
+	private void await(PendingWriteKey key, CompletableFuture<?> future) {
+		try {
+			future.join();
+		}
+		catch (CompletionException e) {
+			if ( failure == null ) {
+				failure = e.getCause() instanceof RuntimeException
+						? (RuntimeException) e.getCause()
+						: log.errorOnAsyncWrite( key.cacheName, e.getCause() );
+			}
+		}
+		catch (RuntimeException e) {
+			if ( failure == null ) {
+				failure = log.errorOnAsyncWrite( key.cacheName, e );
+			}
+		}
+	}
+
+	private void throwFailure() {
+		if ( failure != null ) {
+			RuntimeException e = failure;
+			failure = null;
+			throw e;
+		}
+	}
+
+	private static final class PendingWriteKey {
+
+		private final String cacheName;
+		private final ProtostreamId id;
+
+		private PendingWriteKey(String cacheName, ProtostreamId id) {
+			this.cacheName = cacheName;
+			this.id = id;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * cacheName.hashCode() + id.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( this == obj ) {
+				return true;
+			}
+			if ( obj == null || PendingWriteKey.class != obj.getClass() ) {
+				return false;
+			}
+			PendingWriteKey other = (PendingWriteKey) obj;
+			return cacheName.equals( other.cacheName ) && Objects.equals( id, other.id );
+		}
+	}
+}
@@ -7,8 +7,6 @@
 package org.hibernate.ogm.datastore.infinispanremote.impl.protobuf;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.hibernate.ogm.datastore.infinispanremote.impl.VersionedAssociation;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protobuf.schema.SchemaDefinitions;
@@ -16,7 +14,8 @@
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamAssociationPayload;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamId;
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamPayload;
-import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamTupleSnapshot;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamTupleSnapshot.ColumnIndex;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.spi.Tuple;
@@ -33,6 +32,10 @@ public final class CompositeProtobufCoDec implements MainOgmCoDec {
 	private final ProtofieldAccessorSet valueFields;
 	private final SchemaDefinitions sd;
 
+	//The column names in the order the fields are read, shared by all the decoded ids and payloads
+	private final String[] keyColumnNames;
+	private final ColumnIndex valueColumnIndex;
+
 	public CompositeProtobufCoDec(String protobufTypeName, String protobufIdTypeName, ProtofieldAccessorSet keyFields, ProtofieldAccessorSet valueFields, RemoteCache remoteCache, SchemaDefinitions sd) {
 		this.protobufTypeName = protobufTypeName;
 		this.protobufIdTypeName = protobufIdTypeName;
@@ -40,6 +43,16 @@ public CompositeProtobufCoDec(String protobufTypeName, String protobufIdTypeName
 		this.keyFields = keyFields;
 		this.valueFields = valueFields;
 		this.sd = sd;
+		this.keyColumnNames = columnNamesInListOrder( keyFields );
+		this.valueColumnIndex = new ColumnIndex( columnNamesInListOrder( valueFields ) );
+	}
+
+	private static String[] columnNamesInListOrder(ProtofieldAccessorSet fields) {
+		final String[] columnNames = new String[fields.size()];
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			columnNames[i] = fields.getDecoderByListOrder( i ).getColumnName();
+		}
+		return columnNames;
 	}
 
 	@Override
@@ -49,15 +62,12 @@ public RemoteCache getLinkedCache() {
 
 	@Override
 	public ProtostreamId readProtostreamId(ProtoStreamReader reader) throws IOException {
-		final int size = keyFields.size();
-		final String[] columnNames = new String[size];
+		final int size = keyColumnNames.length;
 		final Object[] columnValues = new Object[size];
 		for ( int i = 0; i < size; i++ ) {
-			final UnsafeProtofield protoField = keyFields.getDecoderByListOrder( i );
-			columnNames[i] = protoField.getColumnName();
-			columnValues[i] = protoField.read( reader );
+			columnValues[i] = keyFields.getDecoderByListOrder( i ).read( reader );
 		}
-		return createIdPayload( columnNames, columnValues );
+		return createIdPayload( keyColumnNames, columnValues );
 	}
 
 	@Override
@@ -91,18 +101,12 @@ public void writeIdTo(ProtoStreamWriter writer, ProtostreamId id) throws IOExcep
 
 	@Override
 	public ProtostreamPayload readPayloadFrom(ProtoStreamReader reader) throws IOException {
-		final int size = valueFields.size();
-		Map mapTuple = new HashMap<>( size );
+		final int size = valueColumnIndex.size();
+		final Object[] values = new Object[size];
 		for ( int i = 0; i < size; i++ ) {
-			final UnsafeProtofield protoField = valueFields.getDecoderByListOrder( i );
-			final String column = protoField.getColumnName();
-			final Object value = protoField.read( reader );
-			if ( value != null ) {
-				mapTuple.put( column, value );
-			}
+			values[i] = valueFields.getDecoderByListOrder( i ).read( reader );
 		}
-		MapTupleSnapshot loadedSnapshot = new MapTupleSnapshot( mapTuple );
-		return new ProtostreamPayload( loadedSnapshot, protobufTypeName );
+		return new ProtostreamPayload( new ProtostreamTupleSnapshot( valueColumnIndex, values ), protobufTypeName );
 	}
 
 	@Override
@@ -17,15 +17,16 @@
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.model.spi.TupleSnapshot;
 
 public final class ProtostreamPayload implements MultiMessage {
 
 	//One and only one of the following fields will be initialized:
-	private final MapTupleSnapshot loadedSnapshot;
+	private final ProtostreamTupleSnapshot loadedSnapshot;
 	private final Tuple tuple;
 	private final String protobufTypeName;
 
-	public ProtostreamPayload(MapTupleSnapshot loadedSnapshot, String protobufTypeName) {
+	public ProtostreamPayload(ProtostreamTupleSnapshot loadedSnapshot, String protobufTypeName) {
 		this.loadedSnapshot = Objects.requireNonNull( loadedSnapshot );
 		this.tuple = null;
 		this.protobufTypeName = protobufTypeName;
@@ -77,11 +78,14 @@ public Object getColumnValue(String columnName) {
 
 	public Map<String, Object> toMap() {
 		if ( loadedSnapshot != null ) {
-			return loadedSnapshot.getMap();
+			return loadedSnapshot.toMap();
+		}
+		TupleSnapshot tupleSnapshot = tuple.getSnapshot();
+		if ( tupleSnapshot instanceof ProtostreamTupleSnapshot ) {
+			return ( (ProtostreamTupleSnapshot) tupleSnapshot ).toMap();
 		}
 		else {
-			MapTupleSnapshot tupleSnapshot = (MapTupleSnapshot) tuple.getSnapshot();
-			return tupleSnapshot.getMap();
+			return ( (MapTupleSnapshot) tupleSnapshot ).getMap();
 		}
 	}
 
@@ -0,0 +1,114 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.impl.protostream;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.ogm.model.spi.TupleSnapshot;
+
+/**
+ * A {@link TupleSnapshot} of a payload just read from the server.
+ * <p>
+ * The values are kept in an array following the order of the fields of the protobuf message; the positions of the
+ * columns are shared by all the snapshots of the same message type.
+ * Columns having a {@code null} value are not considered to be part of the snapshot.
+ */
+public final class ProtostreamTupleSnapshot implements TupleSnapshot {
+
+	private final ColumnIndex index;
+	private final Object[] values;
+	private Set<String> columnNames;
+
+	public ProtostreamTupleSnapshot(ColumnIndex index, Object[] values) {
+		if ( index.size() != values.length ) {
+			throw new IllegalArgumentException( "The number of values must match the number of columns" );
+		}
+		this.index = index;
+		this.values = values;
+	}
+
+	@Override
+	public Object get(String column) {
+		int position = index.positionOf( column );
+		return position < 0 ? null : values[position];
+	}
+
+	@Override
+	public boolean isEmpty() {
+		for ( Object value : values ) {
+			if ( value != null ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public Set<String> getColumnNames() {
+		if ( columnNames == null ) {
+			Set<String> names = new HashSet<>();
+			for ( int i = 0; i < values.length; i++ ) {
+				if ( values[i] != null ) {
+					names.add( index.columnNames[i] );
+				}
+			}
+			columnNames = Collections.unmodifiableSet( names );
+		}
+		return columnNames;
+	}
+
+	/**
+	 * @return the positions of the columns, shared by the snapshots of the same message type
+	 */
+	public ColumnIndex getColumnIndex() {
+		return index;
+	}
+
+	/**
+	 * @return a new map containing the columns having a value
+	 */
+	public Map<String, Object> toMap() {
+		Map<String, Object> map = new HashMap<>();
+		for ( int i = 0; i < values.length; i++ ) {
+			if ( values[i] != null ) {
+				map.put( index.columnNames[i], values[i] );
+			}
+		}
+		return map;
+	}
+
+	/**
+	 * The position of each column of a protobuf message type.
+	 */
+	public static final class ColumnIndex {
+
+		private final String[] columnNames;
+		private final Map<String, Integer> positions;
+
+		public ColumnIndex(String[] columnNames) {
+			this.columnNames = columnNames;
+			Map<String, Integer> positions = new HashMap<>( columnNames.length * 2 );
+			for ( int i = 0; i < columnNames.length; i++ ) {
+				positions.put( columnNames[i], i );
+			}
+			this.positions = positions;
+		}
+
+		public int size() {
+			return columnNames.length;
+		}
+
+		public int positionOf(String columnName) {
+			Integer position = positions.get( columnName );
+			return position == null ? -1 : position;
+		}
+	}
+}
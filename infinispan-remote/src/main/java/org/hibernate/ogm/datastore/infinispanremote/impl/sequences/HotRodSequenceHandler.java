@@ -60,9 +60,32 @@ public Number getSequenceValue(NextValueRequest request) {
 			if ( sequenceTableDefinition == null ) {
 				throw log.valueRequestedForUnknownSequence( request.getKey().getTable(), request.getKey().getColumnValue() );
 			}
-			return new SequencesPerCache( provider.getCache( cacheName ) );
+			return new SequencesPerCache( provider.getCache( cacheName ), provider.getSequencePoolSize(), provider.getManager().getAsyncExecutorService() );
 		}
 		);
 		return sequencesSet.getSequenceValue( request );
 	}
+
+	/**
+	 * @return the number of optimistic CAS operations on the sequences which failed and had to be retried
+	 */
+	public long getCasRetries() {
+		long retries = 0;
+		for ( SequencesPerCache sequences : sequencesPerCache.values() ) {
+			retries += sequences.getCasRetries();
+		}
+		return retries;
+	}
+
+	/**
+	 * @return the number of times values have been reserved on the server; when the values are pooled, each
+	 * reservation covers a whole block of values
+	 */
+	public long getRemoteReservations() {
+		long reservations = 0;
+		for ( SequencesPerCache sequences : sequencesPerCache.values() ) {
+			reservations += sequences.getRemoteReservations();
+		}
+		return reservations;
+	}
 }
@@ -7,6 +7,11 @@
 package org.hibernate.ogm.datastore.infinispanremote.impl.sequences;
 
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.ogm.datastore.infinispanremote.logging.impl.Log;
 import org.hibernate.ogm.datastore.infinispanremote.logging.impl.LoggerFactory;
@@ -32,6 +37,11 @@
  * an optimistic replace operation needs to re-read the version, introducing
  * additional delays and making further failures more likely.
  *
+ * When a pool size greater than 1 is configured, each CAS operation reserves a block of
+ * values which are then handed out locally without contacting the server; the next block
+ * is reserved asynchronously once half of the current one has been used.
+ *
+ * @see org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteProperties#SEQUENCE_POOL_SIZE
  * @author Sanne Grinovero
  */
 public final class HotRodSequencer {
@@ -42,48 +52,151 @@ public final class HotRodSequencer {
 
 	private static final int LOG_WARNING_EACH_N_OPS = 10;
 
+	// The randomized backoff waits at most 2^10 milliseconds
+	private static final int MAX_BACKOFF_EXPONENT = 10;
+
 	private final RemoteCache<SequenceId, Long> remoteCache;
 	private final int increment;
 	private final SequenceId id;
 	private final Random random = new Random();
 
+	private final int poolSize;
+	private final Executor prefetchExecutor;
+
+	private final LongAdder casRetries = new LongAdder();
+	private final LongAdder remoteReservations = new LongAdder();
+
+	// Guards the state of the remote sequence
+	private final Object casLock = new Object();
 	private long lastKnownVersion = -1;
 	private Long lastKnownRemoteValue = null;
 
+	// Only used in pooled mode
+	private volatile Block currentBlock;
+	private CompletableFuture<Block> nextBlock;
+
 	HotRodSequencer(
 			RemoteCache<SequenceId, Long> remoteCache,
-			NextValueRequest initialRequest) {
+			NextValueRequest initialRequest,
+			int poolSize,
+			Executor prefetchExecutor) {
 				this.remoteCache = remoteCache;
 				this.increment = initialRequest.getIncrement();
 				this.id = new SequenceId( initialRequest.getKey().getColumnValue() );
+				// Blocks can only be handed out in ascending order
+				this.poolSize = increment > 0 ? poolSize : 1;
+				this.prefetchExecutor = prefetchExecutor;
 	}
 
 	Number getSequenceValue(NextValueRequest request) {
+		if ( poolSize > 1 ) {
+			return getPooledSequenceValue( request );
+		}
 		return getSequenceValueInternal( request );
 	}
 
-	private synchronized Number getSequenceValueInternal(NextValueRequest request) {
+	/**
+	 * @return the number of CAS operations which failed and had to be retried
+	 */
+	long getCasRetries() {
+		return casRetries.sum();
+	}
+
+	/**
+	 * @return the number of successful reservations of values on the server
+	 */
+	long getRemoteReservations() {
+		return remoteReservations.sum();
+	}
+
+	private Number getSequenceValueInternal(NextValueRequest request) {
+		synchronized ( casLock ) {
+			return reserve( request, 1 );
+		}
+	}
+
+	private Number getPooledSequenceValue(NextValueRequest request) {
+		while ( true ) {
+			Block block = currentBlock;
+			if ( block != null ) {
+				long value = block.next.getAndAdd( increment );
+				if ( value <= block.last ) {
+					if ( value == block.prefetchAt ) {
+						prefetch( request );
+					}
+					return value;
+				}
+			}
+			switchBlock( block, request );
+		}
+	}
+
+	private synchronized void switchBlock(Block exhausted, NextValueRequest request) {
+		if ( currentBlock != exhausted ) {
+			// Another thread already switched to a new block
+			return;
+		}
+		Block block = null;
+		if ( nextBlock != null ) {
+			try {
+				block = nextBlock.join();
+			}
+			catch (CompletionException e) {
+				log.debugf( e, "Prefetching the next values of sequence '%s' failed", id.getSegmentName() );
+			}
+			nextBlock = null;
+		}
+		if ( block == null ) {
+			block = reserveBlock( request );
+		}
+		currentBlock = block;
+	}
+
+	private synchronized void prefetch(NextValueRequest request) {
+		if ( nextBlock == null ) {
+			nextBlock = CompletableFuture.supplyAsync( () -> reserveBlock( request ), prefetchExecutor );
+		}
+	}
+
+	private Block reserveBlock(NextValueRequest request) {
+		synchronized ( casLock ) {
+			long first = reserve( request, poolSize );
+			return new Block( first, increment, poolSize );
+		}
+	}
+
+	/**
+	 * Reserves {@code count} consecutive values on the server.
+	 *
+	 * @return the first reserved value
+	 */
+	private Long reserve(NextValueRequest request, int count) {
+		final long span = (long) increment * ( count - 1 );
 		if ( lastKnownRemoteValue == null ) {
-			Long initialValue = (long) request.getInitialValue();
-			Long previous = remoteCache.putIfAbsent( id, initialValue );
+			long initialValue = request.getInitialValue();
+			Long previous = remoteCache.putIfAbsent( id, initialValue + span );
 			//Side effects: initialize fields with first known values from remote
 			getRemoteVersion();
 			if ( previous == null ) {
 				//if the putIfAbsent CAS was successful, we can return already
-				return lastKnownRemoteValue;
+				remoteReservations.increment();
+				return initialValue;
 			}
 		}
 		//now to CAS:
 		int casCycle = 0;
 		while ( true ) {
-			Long targetValue = Long.valueOf( lastKnownRemoteValue.longValue() + increment );
+			long firstValue = lastKnownRemoteValue.longValue() + increment;
+			Long targetValue = Long.valueOf( firstValue + span );
 			boolean done = attemptCASWriteValue( targetValue );
 			if ( done ) {
-				return targetValue;
+				remoteReservations.increment();
+				return firstValue;
 			}
 			else {
 				//On failure of CAS, refresh what we know about the remote version and value:
 				getRemoteVersion();
+				casRetries.increment();
 				casCycle++;
 				if ( casCycle % LOG_WARNING_EACH_N_OPS == 0 ) {
 					log.excessiveCasForSequencer( id.getSegmentName() );
@@ -96,7 +209,7 @@ private synchronized Number getSequenceValueInternal(NextValueRequest request) {
 	}
 
 	private void delayRandomizerAtCycle(int casCycle) {
-		final int exponentialMaxMilliseconds = 2 ^ casCycle;
+		final int exponentialMaxMilliseconds = 1 << Math.min( casCycle, MAX_BACKOFF_EXPONENT );
 		final int nextWait = random.nextInt( exponentialMaxMilliseconds );
 		if ( nextWait == 0 ) {
 			return;
@@ -128,4 +241,21 @@ private void getRemoteVersion() {
 		lastKnownRemoteValue = (Long) versioned.getValue();
 	}
 
+	/**
+	 * A range of values reserved on the server.
+	 */
+	private static final class Block {
+
+		private final AtomicLong next;
+		private final long last;
+
+		// The thread getting this value triggers the reservation of the next block
+		private final long prefetchAt;
+
+		private Block(long first, int increment, int size) {
+			this.next = new AtomicLong( first );
+			this.last = first + (long) increment * ( size - 1 );
+			this.prefetchAt = first + (long) increment * ( size / 2 );
+		}
+	}
 }
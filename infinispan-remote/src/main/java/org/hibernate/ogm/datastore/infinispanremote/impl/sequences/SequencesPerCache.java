@@ -9,6 +9,7 @@
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 
 import org.hibernate.ogm.dialect.spi.NextValueRequest;
 import org.hibernate.ogm.model.key.spi.IdSourceKey;
@@ -18,16 +19,36 @@ public class SequencesPerCache {
 
 	private final RemoteCache<SequenceId, Long> remoteCache;
 	private final ConcurrentMap<IdSourceKey,HotRodSequencer> sequencers = new ConcurrentHashMap<>();
+	private final int poolSize;
+	private final Executor prefetchExecutor;
 
-	SequencesPerCache(RemoteCache<SequenceId, Long> remoteCache) {
+	SequencesPerCache(RemoteCache<SequenceId, Long> remoteCache, int poolSize, Executor prefetchExecutor) {
 		this.remoteCache = Objects.requireNonNull( remoteCache );
+		this.poolSize = poolSize;
+		this.prefetchExecutor = prefetchExecutor;
 	}
 
 	public Number getSequenceValue(NextValueRequest request) {
 		IdSourceKey key = request.getKey();
 		HotRodSequencer sequencer = sequencers.computeIfAbsent( key, v ->
-			new HotRodSequencer( remoteCache, request )
+			new HotRodSequencer( remoteCache, request, poolSize, prefetchExecutor )
 		);
 		return sequencer.getSequenceValue( request );
 	}
+
+	long getCasRetries() {
+		long retries = 0;
+		for ( HotRodSequencer sequencer : sequencers.values() ) {
+			retries += sequencer.getCasRetries();
+		}
+		return retries;
+	}
+
+	long getRemoteReservations() {
+		long reservations = 0;
+		for ( HotRodSequencer sequencer : sequencers.values() ) {
+			reservations += sequencer.getRemoteReservations();
+		}
+		return reservations;
+	}
 }
@@ -104,4 +104,7 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 
 	@Message(id = 1725, value = "Provided ProtoBuf schema has an invalid cache definition: %s")
 	HibernateException providedSchemaHasAnInvalidCacheDefinition(String tableName);
+
+	@Message(id = 1726, value = "Error while waiting for the completion of an asynchronous write on cache '%s'")
+	HibernateException errorOnAsyncWrite(String cacheName, @Cause Throwable cause);
 }
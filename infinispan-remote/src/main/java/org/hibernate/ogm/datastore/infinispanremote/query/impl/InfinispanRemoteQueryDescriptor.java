@@ -19,11 +19,13 @@ public class InfinispanRemoteQueryDescriptor implements Serializable {
 	private final String cache;
 	private final String query;
 	private final String[] projections;
+	private final boolean ordered;
 
-	public InfinispanRemoteQueryDescriptor(String cache, String query, String[] projections) {
+	public InfinispanRemoteQueryDescriptor(String cache, String query, String[] projections, boolean ordered) {
 		this.cache = cache;
 		this.query = query;
 		this.projections = projections;
+		this.ordered = ordered;
 	}
 
 	public String getCache() {
@@ -38,12 +40,21 @@ public String[] getProjections() {
 		return projections;
 	}
 
+	/**
+	 * @return {@code true} if the query sorts its results, so that they are returned in the same order by each
+	 * execution
+	 */
+	public boolean isOrdered() {
+		return ordered;
+	}
+
 	@Override
 	public String toString() {
 		return "InfinispanRemoteQueryDescriptor{" +
 				"cache='" + cache + '\'' +
 				", query='" + query + '\'' +
 				", projections='" + Arrays.toString( projections ) + '\'' +
+				", ordered=" + ordered +
 				'}';
 	}
 }
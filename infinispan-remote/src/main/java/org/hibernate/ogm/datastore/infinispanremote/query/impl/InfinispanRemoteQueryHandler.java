@@ -53,18 +53,41 @@ public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<InfinispanRemote
 		Query query = queryFactory.create( queryDescriptor.getQuery() );
 
 		applyNamedParameters( queryParameters, query );
-		applyRowSelection( queryParameters, query );
 
 		boolean hasProjection = hasProjection( queryDescriptor );
 		if ( entityKeyMetadata != null && hasProjection ) {
 			throw log.addEntityNotAllowedInNativeQueriesUsingProjection( entityKeyMetadata.getTable(), backendQuery.toString() );
 		}
 
+		// The pages are windows over the results of separate executions of the query:
+		// without a sort, the server does not guarantee that the results come back in the same order
+		Integer pageSize = getPageSize( queryParameters );
+		if ( !hasProjection && pageSize != null && queryDescriptor.isOrdered() ) {
+			RowSelection rowSelection = queryParameters.getRowSelection();
+			return new ProtostreamPayloadClosableIterator( query,
+					rowSelection == null ? null : rowSelection.getFirstRow(),
+					rowSelection == null ? null : rowSelection.getMaxRows(),
+					pageSize );
+		}
+
+		applyRowSelection( queryParameters, query );
 		return hasProjection
 				? new RawTypeClosableIterator( query, queryDescriptor.getProjections() )
 				: new ProtostreamPayloadClosableIterator( query.list() );
 	}
 
+	/**
+	 * @return the number of entities to fetch at once: the fetch size of the query if given, otherwise the configured
+	 * page size; {@code null} if all the results have to be fetched at once
+	 */
+	private Integer getPageSize(QueryParameters queryParameters) {
+		RowSelection rowSelection = queryParameters.getRowSelection();
+		if ( rowSelection != null && rowSelection.getFetchSize() != null && rowSelection.getFetchSize() > 0 ) {
+			return rowSelection.getFetchSize();
+		}
+		return provider.getQueryPageSize();
+	}
+
 	// We are using QueryDescriptor and not Query because the QueryFactory.create( ) doesn't initialize the projection field
 	private boolean hasProjection(InfinispanRemoteQueryDescriptor queryDescriptor) {
 		return queryDescriptor.getProjections() != null && queryDescriptor.getProjections().length > 0;
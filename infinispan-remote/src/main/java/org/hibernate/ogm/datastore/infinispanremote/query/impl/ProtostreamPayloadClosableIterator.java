@@ -6,37 +6,95 @@
  */
 package org.hibernate.ogm.datastore.infinispanremote.query.impl;
 
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamPayload;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.model.spi.Tuple;
+import org.infinispan.query.dsl.Query;
 
 /**
  * Iterates over the result of an Infinispan query, when each result is a **full** cache entry.
  * This is the case when the result of query is mapped from a Protostream payload type.
+ * <p>
+ * When created with a page size, the results are fetched one page at a time using windows of {@code startOffset} and
+ * {@code maxResults}, so that only one page of results is kept in memory.
  *
  * @author Fabio Massimo Ercoli
  */
 public class ProtostreamPayloadClosableIterator implements ClosableIterator<Tuple> {
 
-	private final Iterator<ProtostreamPayload> delegate;
+	private final Query<ProtostreamPayload> query;
+	private final int pageSize;
+
+	// The number of results which can still be fetched, -1 if not limited
+	private long remaining;
+	private long nextOffset;
+	private boolean lastPage;
+
+	private Iterator<ProtostreamPayload> delegate;
 
 	public ProtostreamPayloadClosableIterator(List<ProtostreamPayload> queryResult) {
+		this.query = null;
+		this.pageSize = 0;
+		this.lastPage = true;
 		this.delegate = queryResult.iterator();
 	}
 
+	/**
+	 * @param query the query to execute, the row selection will be applied by this iterator
+	 * @param firstRow the index of the first result, {@code null} to start from the first one
+	 * @param maxRows the maximum number of results, {@code null} if not limited
+	 * @param pageSize the number of results fetched at once
+	 */
+	public ProtostreamPayloadClosableIterator(Query<ProtostreamPayload> query, Integer firstRow, Integer maxRows, int pageSize) {
+		this.query = query;
+		this.pageSize = pageSize;
+		this.nextOffset = firstRow == null ? 0 : firstRow;
+		this.remaining = maxRows == null ? -1 : maxRows;
+		this.delegate = Collections.emptyIterator();
+	}
+
 	@Override
 	public boolean hasNext() {
-		return delegate.hasNext();
+		while ( !delegate.hasNext() ) {
+			if ( lastPage ) {
+				return false;
+			}
+			fetchNextPage();
+		}
+		return true;
 	}
 
 	@Override
 	public Tuple next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
 		return delegate.next().toTuple( Tuple.SnapshotType.UPDATE );
 	}
 
+	private void fetchNextPage() {
+		int size = remaining < 0 ? pageSize : (int) Math.min( pageSize, remaining );
+		if ( size == 0 ) {
+			lastPage = true;
+			return;
+		}
+		query.startOffset( nextOffset );
+		query.maxResults( size );
+		List<ProtostreamPayload> page = query.list();
+
+		nextOffset += page.size();
+		if ( remaining >= 0 ) {
+			remaining -= page.size();
+		}
+		lastPage = page.size() < size || remaining == 0;
+		delegate = page.iterator();
+	}
+
 	@Override
 	public void close() {
 		// nothing to close
@@ -45,7 +45,59 @@ public InfinispanRemoteQueryDescriptor parse() {
 		String cacheName = cacheName( fromClause );
 		String entityAlias = entityAlias( fromClause );
 		String[] projections = projections( entityAlias );
-		return new InfinispanRemoteQueryDescriptor( cacheName, nativeQuery, projections );
+		return new InfinispanRemoteQueryDescriptor( cacheName, nativeQuery, projections, hasOrderByClause() );
+	}
+
+	/*
+	 * Looks for the "order by" keywords in the tokens of the query: the string literals are skipped, so that a value
+	 * containing the keywords does not make the query ordered.
+	 */
+	private boolean hasOrderByClause() {
+		String previousWord = null;
+		int i = 0;
+		while ( i < nativeQuery.length() ) {
+			char c = nativeQuery.charAt( i );
+			if ( c == '\'' || c == '"' ) {
+				i = endOfLiteral( i, c );
+				previousWord = null;
+			}
+			else if ( Character.isJavaIdentifierPart( c ) ) {
+				int start = i;
+				while ( i < nativeQuery.length() && ( Character.isJavaIdentifierPart( nativeQuery.charAt( i ) ) || nativeQuery.charAt( i ) == '.' ) ) {
+					i++;
+				}
+				String word = nativeQuery.substring( start, i );
+				if ( "by".equalsIgnoreCase( word ) && "order".equalsIgnoreCase( previousWord ) ) {
+					return true;
+				}
+				previousWord = word;
+			}
+			else {
+				if ( !Character.isWhitespace( c ) ) {
+					previousWord = null;
+				}
+				i++;
+			}
+		}
+		return false;
+	}
+
+	/*
+	 * A quote is escaped by doubling it: 'Oscar''s poems'
+	 */
+	private int endOfLiteral(int openingQuote, char quote) {
+		int i = openingQuote + 1;
+		while ( i < nativeQuery.length() ) {
+			if ( nativeQuery.charAt( i ) == quote ) {
+				if ( i + 1 < nativeQuery.length() && nativeQuery.charAt( i + 1 ) == quote ) {
+					i += 2;
+					continue;
+				}
+				return i + 1;
+			}
+			i++;
+		}
+		return i;
 	}
 
 	private String[] projections(String entityAlias) {
@@ -21,16 +21,21 @@ public class InfinispanRemoteQueryParsingResult implements QueryParsingResult {
 	private final String query;
 	private final String cache;
 	private final List<String> projection;
+	private final boolean ordered;
 
-	public InfinispanRemoteQueryParsingResult(InfinispanRemoteQueryBuilder builder, String cache, List<String> projection) {
+	/**
+	 * @param ordered whether the query has an order by clause
+	 */
+	public InfinispanRemoteQueryParsingResult(InfinispanRemoteQueryBuilder builder, String cache, List<String> projection, boolean ordered) {
 		this.query = builder.getQuery();
 		this.cache = cache;
 		this.projection = projection;
+		this.ordered = ordered;
 	}
 
 	@Override
 	public Object getQueryObject() {
-		return new InfinispanRemoteQueryDescriptor( cache, query, asArray( projection ) );
+		return new InfinispanRemoteQueryDescriptor( cache, query, asArray( projection ), ordered );
 	}
 
 	private String[] asArray(List<String> projection) {
@@ -51,6 +56,7 @@ public String toString() {
 				"query='" + query + '\'' +
 				", cache='" + cache + '\'' +
 				", projection=" + projection +
+				", ordered=" + ordered +
 				'}';
 	}
 }
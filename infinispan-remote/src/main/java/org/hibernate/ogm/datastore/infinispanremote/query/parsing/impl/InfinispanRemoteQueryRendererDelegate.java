@@ -74,7 +74,7 @@ public InfinispanRemoteQueryParsingResult getResult() {
 			queryBuilder.append( sortClause );
 		}
 
-		return new InfinispanRemoteQueryParsingResult( queryBuilder, table, projections );
+		return new InfinispanRemoteQueryParsingResult( queryBuilder, table, projections, sortClause != null );
 	}
 
 	private void applyInheritanceStrategy(OgmEntityPersister entityPersister, InfinispanRemoteQueryBuilder queryBuilder) {
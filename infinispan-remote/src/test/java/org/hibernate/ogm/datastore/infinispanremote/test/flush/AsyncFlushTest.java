@@ -0,0 +1,153 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.flush;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteDialect;
+import org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteProperties;
+import org.hibernate.ogm.datastore.infinispanremote.utils.InfinispanRemoteServerRunner;
+import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.impl.GridDialects;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
+import org.hibernate.ogm.entityentry.impl.TuplePointer;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.utils.GridDialectOperationContexts;
+import org.hibernate.ogm.utils.OgmTestCase;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Flushes the changes with {@link InfinispanRemoteProperties#ASYNC_FLUSH} enabled, with fewer writes in flight than
+ * the number of writes of the flush.
+ */
+@RunWith(InfinispanRemoteServerRunner.class)
+public class AsyncFlushTest extends OgmTestCase {
+
+	private static final int ROCKETS = 10;
+
+	private static final EntityKeyMetadata ENGINE_METADATA = new DefaultEntityKeyMetadata( "Engine", new String[] { "id" } );
+
+	@Test
+	public void testChangesAreApplied() {
+		inTransaction( session -> {
+			for ( int i = 0; i < ROCKETS; i++ ) {
+				Rocket rocket = new Rocket( i, "Rocket " + i );
+				for ( int j = 0; j < 2; j++ ) {
+					Engine engine = new Engine( i * 10 + j, "Engine " + j );
+					session.persist( engine );
+					rocket.getEngines().add( engine );
+				}
+				session.persist( rocket );
+			}
+		} );
+
+		inTransaction( session -> {
+			for ( int i = 0; i < ROCKETS; i++ ) {
+				Rocket rocket = session.get( Rocket.class, i );
+				assertThat( rocket.getName() ).isEqualTo( "Rocket " + i );
+				assertThat( rocket.getEngines() ).hasSize( 2 );
+				if ( i % 2 == 0 ) {
+					rocket.setName( "Updated " + i );
+					Engine removed = session.get( Engine.class, i * 10 );
+					rocket.getEngines().remove( removed );
+					session.delete( removed );
+				}
+			}
+			session.delete( session.get( Rocket.class, ROCKETS - 1 ) );
+		} );
+
+		inTransaction( session -> {
+			for ( int i = 0; i < ROCKETS - 1; i++ ) {
+				Rocket rocket = session.get( Rocket.class, i );
+				if ( i % 2 == 0 ) {
+					assertThat( rocket.getName() ).isEqualTo( "Updated " + i );
+					assertThat( rocket.getEngines() ).onProperty( "id" ).containsOnly( i * 10 + 1 );
+					assertThat( session.get( Engine.class, i * 10 ) ).isNull();
+				}
+				else {
+					assertThat( rocket.getName() ).isEqualTo( "Rocket " + i );
+					assertThat( rocket.getEngines() ).onProperty( "id" ).containsOnly( i * 10, i * 10 + 1 );
+				}
+			}
+			assertThat( session.get( Rocket.class, ROCKETS - 1 ) ).isNull();
+		} );
+	}
+
+	@Test
+	public void testExistingEntryIsReportedAtTheEndOfTheFlush() {
+		inTransaction( session -> session.persist( new Engine( 100, "Existing" ) ) );
+
+		GridDialect gridDialect = getSessionFactory().getServiceRegistry().getService( GridDialect.class );
+		InfinispanRemoteDialect dialect = GridDialects.getDelegateOrNull( gridDialect, InfinispanRemoteDialect.class );
+
+		// The insert of the new entry is sent before the one of the existing entry
+		OperationsQueue queue = new OperationsQueue();
+		queue.add( insert( 101, "New" ) );
+		queue.add( insert( 100, "Duplicate" ) );
+		try {
+			dialect.executeBatch( queue );
+			fail( "The insert of an existing entry should have failed" );
+		}
+		catch (TupleAlreadyExistsException e) {
+			assertThat( e.getEntityKey() ).isEqualTo( engineKey( 100 ) );
+		}
+
+		// The flush waited for the other writes before reporting the failure
+		inTransaction( session -> {
+			assertThat( session.get( Engine.class, 100 ).getModel() ).isEqualTo( "Existing" );
+			assertThat( session.get( Engine.class, 101 ).getModel() ).isEqualTo( "New" );
+		} );
+	}
+
+	@After
+	public void deleteDataset() {
+		for ( int i = 0; i < ROCKETS; i++ ) {
+			deleteAll( Rocket.class, i );
+			deleteAll( Engine.class, i * 10, i * 10 + 1 );
+		}
+		deleteAll( Engine.class, 100, 101 );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		super.configure( cfg );
+		cfg.put( InfinispanRemoteProperties.ASYNC_FLUSH, true );
+		cfg.put( InfinispanRemoteProperties.ASYNC_FLUSH_MAX_IN_FLIGHT, 2 );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Rocket.class, Engine.class };
+	}
+
+	private static GroupedChangesToEntityOperation insert(int id, String model) {
+		Tuple tuple = new Tuple();
+		tuple.put( "id", id );
+		tuple.put( "model", model );
+
+		EntityKey key = engineKey( id );
+		GroupedChangesToEntityOperation operation = new GroupedChangesToEntityOperation( key );
+		operation.addOperation( new InsertOrUpdateTupleOperation( new TuplePointer( tuple ), key, GridDialectOperationContexts.emptyTupleContext() ) );
+		return operation;
+	}
+
+	private static EntityKey engineKey(int id) {
+		return new EntityKey( ENGINE_METADATA, new Object[] { id } );
+	}
+}
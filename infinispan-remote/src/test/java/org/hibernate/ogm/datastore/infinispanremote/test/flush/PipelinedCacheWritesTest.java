@@ -0,0 +1,254 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.flush;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.HibernateException;
+import org.hibernate.ogm.datastore.infinispanremote.impl.CacheOperation;
+import org.hibernate.ogm.datastore.infinispanremote.impl.PipelinedCacheWrites;
+import org.hibernate.ogm.datastore.infinispanremote.impl.ProtoStreamMappingAdapter;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamId;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamPayload;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Checks the ordering and the error reporting of the writes sent by an asynchronous flush, without a server.
+ */
+public class PipelinedCacheWritesTest {
+
+	private static final String CACHE = "Foo";
+	private static final String OTHER_CACHE = "Bar";
+
+	private static final ProtostreamPayload PAYLOAD = new ProtostreamPayload( new Tuple(), "ValueType" );
+
+	private RemoteCache<ProtostreamId, ProtostreamPayload> cache;
+	private ProtoStreamMappingAdapter mapper;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setUpCache() {
+		cache = mock( RemoteCache.class );
+		mapper = mock( ProtoStreamMappingAdapter.class );
+		when( mapper.withinCacheEncodingContext( any( CacheOperation.class ) ) ).thenAnswer( new Answer<Object>() {
+
+			@Override
+			public Object answer(InvocationOnMock invocation) throws Throwable {
+				return ( (CacheOperation<?>) invocation.getArguments()[0] ).doOnCache( cache );
+			}
+		} );
+	}
+
+	@Test
+	public void testWritesAreSentWithoutWaitingForTheResponses() {
+		CompletableFuture<ProtostreamPayload> first = pending();
+		CompletableFuture<ProtostreamPayload> second = pending();
+		CompletableFuture<ProtostreamPayload> third = pending();
+		when( cache.putAsync( id( 1 ), payload() ) ).thenReturn( first );
+		when( cache.putAsync( id( 2 ), payload() ) ).thenReturn( second );
+		when( cache.removeAsync( id( 3 ) ) ).thenReturn( third );
+
+		PipelinedCacheWrites writes = new PipelinedCacheWrites( 10 );
+		writes.put( mapper, CACHE, id( 1 ), payload() );
+		writes.put( mapper, CACHE, id( 2 ), payload() );
+		writes.remove( mapper, CACHE, id( 3 ) );
+
+		verify( cache ).putAsync( id( 1 ), payload() );
+		verify( cache ).putAsync( id( 2 ), payload() );
+		verify( cache ).removeAsync( id( 3 ) );
+		assertThat( first.isDone() || second.isDone() || third.isDone() ).isFalse();
+
+		completeLater( first, second, third );
+		writes.awaitAll();
+
+		assertThat( first.isDone() && second.isDone() && third.isDone() ).isTrue();
+	}
+
+	@Test
+	public void testWriteOnTheSameKeyWaitsForThePendingOne() {
+		CompletableFuture<ProtostreamPayload> put = pending();
+		when( cache.putAsync( id( 1 ), payload() ) ).thenReturn( put );
+		when( cache.removeAsync( id( 1 ) ) ).thenAnswer( sendAfter( put ) );
+
+		PipelinedCacheWrites writes = new PipelinedCacheWrites( 10 );
+		writes.put( mapper, CACHE, id( 1 ), payload() );
+		completeLater( put );
+		writes.remove( mapper, CACHE, id( 1 ) );
+		writes.awaitAll();
+
+		verify( cache ).removeAsync( id( 1 ) );
+	}
+
+	@Test
+	public void testOldestWriteIsAwaitedWhenTheLimitIsReached() {
+		CompletableFuture<ProtostreamPayload> first = pending();
+		CompletableFuture<ProtostreamPayload> second = pending();
+		when( cache.putAsync( id( 1 ), payload() ) ).thenReturn( first );
+		when( cache.putAsync( id( 2 ), payload() ) ).thenReturn( second );
+		when( cache.putAsync( id( 3 ), payload() ) ).thenAnswer( sendAfter( first ) );
+
+		PipelinedCacheWrites writes = new PipelinedCacheWrites( 2 );
+		writes.put( mapper, CACHE, id( 1 ), payload() );
+		writes.put( mapper, CACHE, id( 2 ), payload() );
+		completeLater( first );
+		writes.put( mapper, CACHE, id( 3 ), payload() );
+
+		assertThat( second.isDone() ).as( "Only the oldest write should have been awaited" ).isFalse();
+
+		second.complete( null );
+		writes.awaitAll();
+	}
+
+	@Test
+	public void testExistingEntrySurfacesWhenAwaitingAllTheWrites() {
+		EntityKey entityKey = new EntityKey( new DefaultEntityKeyMetadata( CACHE, new String[] { "id" } ), new Object[] { 1 } );
+		when( cache.putIfAbsentAsync( id( 1 ), payload() ) ).thenReturn( CompletableFuture.completedFuture( payload() ) );
+		when( cache.putAsync( id( 2 ), payload() ) ).thenReturn( CompletableFuture.completedFuture( null ) );
+
+		PipelinedCacheWrites writes = new PipelinedCacheWrites( 10 );
+		writes.putIfAbsent( mapper, CACHE, id( 1 ), payload(), entityKey );
+		writes.put( mapper, CACHE, id( 2 ), payload() );
+
+		try {
+			writes.awaitAll();
+			fail( "The existing entry should have been reported" );
+		}
+		catch (TupleAlreadyExistsException e) {
+			assertThat( e.getEntityKey() ).isEqualTo( entityKey );
+		}
+		verify( cache ).putAsync( id( 2 ), payload() );
+	}
+
+	@Test
+	public void testNoWriteIsSentOnceAFailureHasBeenAwaited() {
+		when( cache.putAsync( id( 1 ), payload() ) ).thenReturn( failed( new IllegalStateException( "Server unavailable" ) ) );
+		when( cache.removeAsync( id( 1 ) ) ).thenReturn( CompletableFuture.completedFuture( null ) );
+
+		PipelinedCacheWrites writes = new PipelinedCacheWrites( 10 );
+		writes.put( mapper, CACHE, id( 1 ), payload() );
+		try {
+			// Awaits the failed put before sending the removal
+			writes.remove( mapper, CACHE, id( 1 ) );
+			fail( "The failure of the put should have been reported" );
+		}
+		catch (IllegalStateException e) {
+			assertThat( e.getMessage() ).isEqualTo( "Server unavailable" );
+		}
+		verify( cache, never() ).removeAsync( id( 1 ) );
+
+		// The failure has been reported only once
+		writes.awaitAll();
+	}
+
+	@Test
+	public void testCheckedFailureIsWrapped() {
+		when( cache.putAsync( id( 1 ), payload() ) ).thenReturn( failed( new Exception( "Checked" ) ) );
+
+		PipelinedCacheWrites writes = new PipelinedCacheWrites( 10 );
+		writes.put( mapper, CACHE, id( 1 ), payload() );
+		try {
+			writes.awaitAll();
+			fail( "The failure of the put should have been reported" );
+		}
+		catch (HibernateException e) {
+			assertThat( e.getMessage() ).contains( "OGM001726" );
+			assertThat( e.getCause().getMessage() ).isEqualTo( "Checked" );
+		}
+	}
+
+	@Test
+	public void testFailuresAreNotReportedWhenAwaitingQuietly() {
+		when( cache.putAsync( id( 1 ), payload() ) ).thenReturn( failed( new IllegalStateException( "Server unavailable" ) ) );
+
+		PipelinedCacheWrites writes = new PipelinedCacheWrites( 10 );
+		writes.put( mapper, CACHE, id( 1 ), payload() );
+		writes.awaitAllQuietly();
+	}
+
+	@Test
+	public void testOnlyTheWritesOnTheReadCacheAreAwaited() {
+		CompletableFuture<ProtostreamPayload> write = pending();
+		CompletableFuture<ProtostreamPayload> otherWrite = pending();
+		when( cache.putAsync( id( 1 ), payload() ) ).thenReturn( write );
+		when( cache.putAsync( id( 2 ), payload() ) ).thenReturn( otherWrite );
+
+		PipelinedCacheWrites writes = new PipelinedCacheWrites( 10 );
+		writes.put( mapper, CACHE, id( 1 ), payload() );
+		writes.put( mapper, OTHER_CACHE, id( 2 ), payload() );
+
+		completeLater( write );
+		writes.awaitPendingWrites( CACHE );
+
+		assertThat( write.isDone() ).isTrue();
+		assertThat( otherWrite.isDone() ).isFalse();
+
+		otherWrite.complete( null );
+		writes.awaitAll();
+	}
+
+	private static ProtostreamId id(int value) {
+		return new ProtostreamId( new String[] { "id" }, new Object[] { value }, "IdType" );
+	}
+
+	private static ProtostreamPayload payload() {
+		return PAYLOAD;
+	}
+
+	private static <T> CompletableFuture<T> pending() {
+		return new CompletableFuture<>();
+	}
+
+	private static <T> CompletableFuture<T> failed(Throwable failure) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		future.completeExceptionally( failure );
+		return future;
+	}
+
+	/**
+	 * Completes the futures from another thread, so that the caller blocks until they are completed.
+	 */
+	private static void completeLater(CompletableFuture<?>... futures) {
+		CompletableFuture.runAsync( () -> {
+			for ( CompletableFuture<?> future : futures ) {
+				future.complete( null );
+			}
+		}, CompletableFuture.delayedExecutor( 100, TimeUnit.MILLISECONDS ) );
+	}
+
+	/**
+	 * Returns a completed future if the given operation was done when the new one was sent, a failed one otherwise.
+	 */
+	private static Answer<CompletableFuture<?>> sendAfter(CompletableFuture<?> previous) {
+		return new Answer<CompletableFuture<?>>() {
+
+			@Override
+			public CompletableFuture<?> answer(InvocationOnMock invocation) {
+				if ( previous.isDone() ) {
+					return CompletableFuture.completedFuture( null );
+				}
+				return failed( new AssertionError( "Sent before the completion of the previous operation" ) );
+			}
+		};
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.foreachtuple;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteProperties;
+import org.hibernate.ogm.datastore.infinispanremote.utils.InfinispanRemoteServerRunner;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.ModelConsumer;
+import org.hibernate.ogm.dialect.spi.TuplesSupplier;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.utils.GridDialectOperationContexts;
+import org.hibernate.ogm.utils.OgmTestCase;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Iterates over the content of a cache with {@link InfinispanRemoteProperties#FOR_EACH_TUPLE_BATCH_SIZE} smaller
+ * than the number of entries.
+ * <p>
+ * The test server is alone in its cluster: all the segments are read by a single supplier.
+ */
+@RunWith(InfinispanRemoteServerRunner.class)
+public class ForEachTupleTest extends OgmTestCase {
+
+	private static final int COMETS = 7;
+
+	@Test
+	public void testAllTheEntriesAreReadByASingleSupplier() {
+		inTransaction( session -> {
+			for ( int i = 0; i < COMETS; i++ ) {
+				session.persist( new Comet( i, "Comet " + i ) );
+			}
+		} );
+
+		GridDialect dialect = getSessionFactory().getServiceRegistry().getService( GridDialect.class );
+		NameCollector collector = new NameCollector();
+		dialect.forEachTuple( collector, GridDialectOperationContexts.emptyTupleTypeContext(),
+				new DefaultEntityKeyMetadata( "Comet", new String[] { "id" } ) );
+
+		assertThat( collector.suppliers ).isEqualTo( 1 );
+		assertThat( collector.names ).containsOnly( "Comet 0", "Comet 1", "Comet 2", "Comet 3", "Comet 4", "Comet 5", "Comet 6" );
+	}
+
+	@After
+	public void deleteDataset() {
+		for ( int i = 0; i < COMETS; i++ ) {
+			deleteAll( Comet.class, i );
+		}
+	}
+
+	@Override
+	protected void configure(Map<String, Object> cfg) {
+		super.configure( cfg );
+		cfg.put( InfinispanRemoteProperties.FOR_EACH_TUPLE_BATCH_SIZE, 2 );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Comet.class };
+	}
+
+	private static class NameCollector implements ModelConsumer {
+
+		private final List<Object> names = new ArrayList<>();
+		private int suppliers;
+
+		@Override
+		public void consume(TuplesSupplier supplier) {
+			suppliers++;
+			try ( ClosableIterator<Tuple> tuples = supplier.get( null ) ) {
+				while ( tuples.hasNext() ) {
+					names.add( tuples.next().get( "name" ) );
+				}
+			}
+		}
+	}
+}
@@ -154,6 +154,30 @@ public void shouldBePossibleToChangeProtoFileName() {
 		assertThat( configuration.getSchemaFileName() ).isEqualTo( "rightName.proto" );
 	}
 
+	@Test
+	public void shouldDisableAsyncFlushByDefault() {
+		Map<String, Object> settings = new HashMap<>();
+		settings.put( OgmProperties.DATASTORE_PROVIDER, GridDialectType.INFINISPAN_REMOTE.name() );
+		settings.put( CONFIGURATION_RESOURCE_NAME, RESOURCE_NAME );
+
+		InfinispanRemoteConfiguration configuration = extractConfiguration( settings );
+		assertThat( configuration.isAsyncFlush() ).isFalse();
+		assertThat( configuration.getAsyncFlushMaxInFlight() ).isEqualTo( InfinispanRemoteProperties.DEFAULT_ASYNC_FLUSH_MAX_IN_FLIGHT );
+	}
+
+	@Test
+	public void shouldBePossibleToEnableAsyncFlush() {
+		Map<String, Object> settings = new HashMap<>();
+		settings.put( OgmProperties.DATASTORE_PROVIDER, GridDialectType.INFINISPAN_REMOTE.name() );
+		settings.put( CONFIGURATION_RESOURCE_NAME, RESOURCE_NAME );
+		settings.put( InfinispanRemoteProperties.ASYNC_FLUSH, "true" );
+		settings.put( InfinispanRemoteProperties.ASYNC_FLUSH_MAX_IN_FLIGHT, "16" );
+
+		InfinispanRemoteConfiguration configuration = extractConfiguration( settings );
+		assertThat( configuration.isAsyncFlush() ).isTrue();
+		assertThat( configuration.getAsyncFlushMaxInFlight() ).isEqualTo( 16 );
+	}
+
 	@Test
 	public void shouldSetDefaultValues() {
 		Map<String, Object> settings = new HashMap<>();
@@ -0,0 +1,96 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.multiget;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.Session;
+import org.hibernate.ogm.datastore.infinispanremote.impl.VersionedTuple;
+import org.hibernate.ogm.datastore.infinispanremote.test.mapping.ByteEntity;
+import org.hibernate.ogm.datastore.infinispanremote.utils.InfinispanRemoteServerRunner;
+import org.hibernate.ogm.dialect.multiget.spi.MultigetGridDialect;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.utils.GridDialectOperationContexts;
+import org.hibernate.ogm.utils.OgmTestCase;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Checks that the tuples loaded in batch keep the version of the entries, like the ones loaded one by one.
+ */
+@RunWith(InfinispanRemoteServerRunner.class)
+public class VersionedMultiGetTest extends OgmTestCase {
+
+	private static final EntityKeyMetadata METADATA = new DefaultEntityKeyMetadata( "ByteEntity", new String[] { "id" } );
+
+	@Before
+	public void prepareDataset() {
+		inTransaction( session -> {
+			session.persist( new ByteEntity( 1, (byte) 1 ) );
+			session.persist( new ByteEntity( 2, (byte) 2 ) );
+		} );
+		// Change the version of the second entry
+		inTransaction( session -> session.get( ByteEntity.class, 2 ).setCounter( (byte) 3 ) );
+	}
+
+	@Test
+	public void testGetTuplesReturnsVersionedTuples() {
+		inTransaction( session -> {
+			MultigetGridDialect dialect = getSessionFactory().getServiceRegistry().getService( MultigetGridDialect.class );
+			GridDialect gridDialect = getSessionFactory().getServiceRegistry().getService( GridDialect.class );
+			TupleContext tupleContext = tupleContext( session );
+
+			EntityKey[] keys = { key( 2 ), key( -1 ), key( 1 ) };
+			List<Tuple> tuples = dialect.getTuples( keys, tupleContext );
+
+			assertThat( tuples.get( 1 ) ).isNull();
+			for ( int i : new int[] { 0, 2 } ) {
+				assertThat( tuples.get( i ) ).isInstanceOf( VersionedTuple.class );
+				assertThat( tuples.get( i ).getSnapshotType() ).isEqualTo( SnapshotType.UPDATE );
+
+				VersionedTuple singleGet = (VersionedTuple) gridDialect.getTuple( keys[i], tupleContext );
+				assertThat( ( (VersionedTuple) tuples.get( i ) ).getVersion() ).isEqualTo( singleGet.getVersion() );
+				assertThat( tuples.get( i ).get( "counter" ) ).isEqualTo( singleGet.get( "counter" ) );
+			}
+		} );
+	}
+
+	@After
+	public void deleteDataset() {
+		deleteAll( ByteEntity.class, 1, 2 );
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { ByteEntity.class };
+	}
+
+	private static EntityKey key(int id) {
+		return new EntityKey( METADATA, new Object[] { id } );
+	}
+
+	private static TupleContext tupleContext(Session session) {
+		return new GridDialectOperationContexts.TupleContextBuilder()
+				.tupleTypeContext(
+						new GridDialectOperationContexts.TupleTypeContextBuilder()
+								.selectableColumns( "counter" )
+								.buildTupleTypeContext() )
+				.transactionContext( session )
+				.buildTupleContext();
+	}
+}
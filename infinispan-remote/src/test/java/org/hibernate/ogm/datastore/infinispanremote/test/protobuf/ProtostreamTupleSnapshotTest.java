@@ -0,0 +1,146 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.protobuf;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.ogm.datastore.infinispanremote.impl.protobuf.CompositeProtobufCoDec;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protobuf.ProtofieldAccessorSet;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamId;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamPayload;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamTupleSnapshot;
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamTupleSnapshot.ColumnIndex;
+import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
+import org.hibernate.ogm.type.impl.LongType;
+import org.hibernate.ogm.type.impl.StringType;
+import org.infinispan.protostream.MessageMarshaller.ProtoStreamReader;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Checks the snapshots of the payloads read by a codec, without a server.
+ */
+public class ProtostreamTupleSnapshotTest {
+
+	private CompositeProtobufCoDec codec;
+
+	@Before
+	public void createCodec() {
+		ProtofieldAccessorSet keyFields = new ProtofieldAccessorSet();
+		keyFields.addMapping( "name", StringType.INSTANCE, null, false );
+
+		ProtofieldAccessorSet valueFields = new ProtofieldAccessorSet();
+		valueFields.addMapping( "name", StringType.INSTANCE, null, false );
+		valueFields.addMapping( "population", LongType.INSTANCE, null, true );
+		valueFields.addMapping( "star", StringType.INSTANCE, null, true );
+
+		codec = new CompositeProtobufCoDec( "Planet", "Planet_id", keyFields, valueFields, null, null );
+	}
+
+	@Test
+	public void testPayloadsOfTheSameCodecShareTheirColumnIndex() throws IOException {
+		ProtostreamTupleSnapshot earth = snapshot( codec.readPayloadFrom( reader( "Earth", 7L, "Sun" ) ) );
+		ProtostreamTupleSnapshot mars = snapshot( codec.readPayloadFrom( reader( "Mars", null, "Sun" ) ) );
+
+		assertThat( mars.getColumnIndex() ).isSameAs( earth.getColumnIndex() );
+		assertThat( earth.getColumnIndex().size() ).isEqualTo( 3 );
+		assertThat( earth.get( "name" ) ).isEqualTo( "Earth" );
+		assertThat( earth.get( "population" ) ).isEqualTo( 7L );
+		assertThat( earth.get( "star" ) ).isEqualTo( "Sun" );
+	}
+
+	@Test
+	public void testIdsOfTheSameCodecShareTheirKeyColumnNames() throws IOException {
+		ProtostreamId earth = codec.readProtostreamId( reader( "Earth", null, null ) );
+		ProtostreamId mars = codec.readProtostreamId( reader( "Mars", null, null ) );
+
+		assertThat( mars.columnNames ).isSameAs( earth.columnNames );
+		assertThat( earth.columnNames ).isEqualTo( new String[] { "name" } );
+		assertThat( earth.columnValues ).isEqualTo( new Object[] { "Earth" } );
+		assertThat( mars.columnValues ).isEqualTo( new Object[] { "Mars" } );
+	}
+
+	@Test
+	public void testColumnsWithoutValueAreNotPartOfTheSnapshot() throws IOException {
+		ProtostreamTupleSnapshot mars = snapshot( codec.readPayloadFrom( reader( "Mars", null, "Sun" ) ) );
+
+		assertThat( mars.isEmpty() ).isFalse();
+		assertThat( mars.getColumnNames() ).containsOnly( "name", "star" );
+		assertThat( mars.get( "population" ) ).isNull();
+	}
+
+	@Test
+	public void testColumnAbsentFromTheIndexHasNoValue() throws IOException {
+		ProtostreamTupleSnapshot earth = snapshot( codec.readPayloadFrom( reader( "Earth", 7L, "Sun" ) ) );
+
+		assertThat( earth.getColumnIndex().positionOf( "moons" ) ).isEqualTo( -1 );
+		assertThat( earth.get( "moons" ) ).isNull();
+		assertThat( earth.getColumnNames() ).excludes( "moons" );
+	}
+
+	@Test
+	public void testSnapshotWithoutValueIsEmpty() {
+		ColumnIndex index = new ColumnIndex( new String[] { "name", "population" } );
+		ProtostreamTupleSnapshot snapshot = new ProtostreamTupleSnapshot( index, new Object[2] );
+
+		assertThat( snapshot.isEmpty() ).isTrue();
+		assertThat( snapshot.getColumnNames() ).isEmpty();
+		assertThat( snapshot.toMap() ).isEmpty();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNumberOfValuesMustMatchTheIndex() {
+		new ProtostreamTupleSnapshot( new ColumnIndex( new String[] { "name", "population" } ), new Object[] { "Earth" } );
+	}
+
+	@Test
+	public void testLoadedPayloadToMap() throws IOException {
+		ProtostreamPayload mars = codec.readPayloadFrom( reader( "Mars", null, "Sun" ) );
+
+		Map<String, Object> expected = new HashMap<>();
+		expected.put( "name", "Mars" );
+		expected.put( "star", "Sun" );
+		assertThat( mars.toMap() ).isEqualTo( expected );
+	}
+
+	@Test
+	public void testPayloadOfATupleToMap() throws IOException {
+		ProtostreamTupleSnapshot earth = snapshot( codec.readPayloadFrom( reader( "Earth", 7L, null ) ) );
+		ProtostreamPayload loaded = new ProtostreamPayload( new Tuple( earth, SnapshotType.UPDATE ), "Planet" );
+
+		Map<String, Object> map = new HashMap<>();
+		map.put( "name", "Venus" );
+		map.put( "star", "Sun" );
+		ProtostreamPayload created = new ProtostreamPayload( new Tuple( new MapTupleSnapshot( map ), SnapshotType.INSERT ), "Planet" );
+
+		Map<String, Object> expected = new HashMap<>();
+		expected.put( "name", "Earth" );
+		expected.put( "population", 7L );
+		assertThat( loaded.toMap() ).isEqualTo( expected );
+		assertThat( created.toMap() ).isEqualTo( map );
+	}
+
+	private static ProtostreamTupleSnapshot snapshot(ProtostreamPayload payload) {
+		return (ProtostreamTupleSnapshot) payload.toTuple( SnapshotType.UPDATE ).getSnapshot();
+	}
+
+	private static ProtoStreamReader reader(String name, Long population, String star) throws IOException {
+		ProtoStreamReader reader = mock( ProtoStreamReader.class );
+		when( reader.readString( "name" ) ).thenReturn( name );
+		when( reader.readLong( "population" ) ).thenReturn( population );
+		when( reader.readString( "star" ) ).thenReturn( star );
+		return reader;
+	}
+}
@@ -185,6 +185,26 @@ public void testExceptionForQueriesWithoutFromClause() {
 		assertParsingIsCorrect( nativeQuery, expectedCacheName );
 	}
 
+	@Test
+	public void testOnlyQueriesWithASortAreConsideredOrdered() {
+		assertThat( isOrdered( "from Poem p where p.author = 'Oscar Wilde' order by p.name" ) ).isTrue();
+		assertThat( isOrdered( "FROM Poem p ORDER  BY p.name DESC" ) ).isTrue();
+		assertThat( isOrdered( "from Poem p where p.author = 'Oscar Wilde'" ) ).isFalse();
+		assertThat( isOrdered( "from Border b where b.recorder = 'x'" ) ).isFalse();
+	}
+
+	@Test
+	public void testOrderByInStringLiteralsIsIgnored() {
+		assertThat( isOrdered( "from Poem p where p.name = 'In order by the sea'" ) ).isFalse();
+		assertThat( isOrdered( "from Poem p where p.name = \"Order by\"" ) ).isFalse();
+		assertThat( isOrdered( "from Poem p where p.author = 'Oscar''s order by' order by p.name" ) ).isTrue();
+		assertThat( isOrdered( "from Poem p where p.author = 'Oscar''s' and p.name = 'order by'" ) ).isFalse();
+	}
+
+	private static boolean isOrdered(String nativeQuery) {
+		return new InfinispanRemoteNativeQueryParser( nativeQuery ).parse().isOrdered();
+	}
+
 	private void assertParsingIsCorrect(String nativeQuery, String cacheName) {
 		assertParsingIsCorrect( nativeQuery, cacheName, null );
 	}
@@ -0,0 +1,60 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.query.paging;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.ogm.backendtck.queries.pagination.Poem;
+import org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteProperties;
+import org.hibernate.ogm.datastore.infinispanremote.test.query.nativequery.InfinispanRemotePaginationTest;
+import org.hibernate.ogm.datastore.infinispanremote.utils.InfinispanRemoteServerRunner;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Runs the pagination tests with {@link InfinispanRemoteProperties#QUERY_PAGE_SIZE} smaller than the number of
+ * results, so that the sorted queries are read in several pages, the last one being partial.
+ */
+@RunWith(InfinispanRemoteServerRunner.class)
+public class InfinispanRemotePagedQueryTest extends InfinispanRemotePaginationTest {
+
+	private static final int PAGE_SIZE = 3;
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testAllTheResultsOfAnUnsortedQueryAreReturned() {
+		inTransaction( session -> {
+			List<Poem> result = session.createNativeQuery( "from HibernateOGMGenerated.POEM where author = 'Oscar Wilde'" )
+					.addEntity( Poem.TABLE_NAME, Poem.class )
+					.list();
+			assertThat( result ).onProperty( "id" ).containsOnly( 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L );
+		} );
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testFetchSizeOfTheQueryTakesPrecedence() {
+		inTransaction( session -> {
+			List<Poem> result = session.createNativeQuery( NATIVE_QUERY )
+					.addEntity( Poem.TABLE_NAME, Poem.class )
+					.setFetchSize( 4 )
+					.list();
+			assertThat( result ).onProperty( "name" ).containsExactly( "Amor Intellectualis", "Apologias", "Athanasia",
+					"Ave Imperatrix", "Easter Day", "Portia", "Rome Unvisited", "San Miniato", "Sonnet to Liberty", "Vita Nuova" );
+		} );
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		super.configure( settings );
+		settings.put( InfinispanRemoteProperties.QUERY_PAGE_SIZE, PAGE_SIZE );
+	}
+}
@@ -0,0 +1,148 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.query.paging;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.hibernate.ogm.datastore.infinispanremote.impl.protostream.ProtostreamPayload;
+import org.hibernate.ogm.datastore.infinispanremote.query.impl.ProtostreamPayloadClosableIterator;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.infinispan.query.dsl.Query;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Checks the windows read by the paged iteration over the results of a query, without a server.
+ */
+public class ProtostreamPayloadClosableIteratorTest {
+
+	private static final int RESULTS = 10;
+
+	private Query<ProtostreamPayload> query;
+
+	// The window of the next execution of the query
+	private long offset;
+	private int maxResults;
+
+	// The windows of the executions of the query
+	private final List<String> executions = new ArrayList<>();
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setUpQuery() {
+		query = mock( Query.class );
+		when( query.startOffset( anyLong() ) ).thenAnswer( new Answer<Object>() {
+
+			@Override
+			public Object answer(InvocationOnMock invocation) {
+				offset = (Long) invocation.getArguments()[0];
+				return query;
+			}
+		} );
+		when( query.maxResults( anyInt() ) ).thenAnswer( new Answer<Object>() {
+
+			@Override
+			public Object answer(InvocationOnMock invocation) {
+				maxResults = (Integer) invocation.getArguments()[0];
+				return query;
+			}
+		} );
+		when( query.list() ).thenAnswer( new Answer<List<ProtostreamPayload>>() {
+
+			@Override
+			public List<ProtostreamPayload> answer(InvocationOnMock invocation) {
+				executions.add( offset + "+" + maxResults );
+				List<ProtostreamPayload> page = new ArrayList<>();
+				for ( long i = offset; i < Math.min( RESULTS, offset + maxResults ); i++ ) {
+					page.add( payload( (int) i ) );
+				}
+				return page;
+			}
+		} );
+	}
+
+	@Test
+	public void testResultsAreFetchedOnePageAtATime() {
+		ProtostreamPayloadClosableIterator iterator = new ProtostreamPayloadClosableIterator( query, null, null, 4 );
+
+		// Only the first page has been fetched to return the first results
+		for ( int i = 0; i < 4; i++ ) {
+			assertThat( iterator.next().get( "id" ) ).isEqualTo( i );
+		}
+		assertThat( executions ).containsExactly( "0+4" );
+
+		assertThat( ids( iterator ) ).containsExactly( 4, 5, 6, 7, 8, 9 );
+		// The last page is smaller than the page size: no further page is requested
+		assertThat( executions ).containsExactly( "0+4", "4+4", "8+4" );
+	}
+
+	@Test
+	public void testEmptyPageEndsTheIterationWhenTheResultsFillTheLastPage() {
+		ProtostreamPayloadClosableIterator iterator = new ProtostreamPayloadClosableIterator( query, null, null, 5 );
+
+		assertThat( ids( iterator ) ).containsExactly( 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 );
+		assertThat( executions ).containsExactly( "0+5", "5+5", "10+5" );
+	}
+
+	@Test
+	public void testRowSelectionIsAppliedAcrossThePages() {
+		ProtostreamPayloadClosableIterator iterator = new ProtostreamPayloadClosableIterator( query, 3, 5, 2 );
+
+		assertThat( ids( iterator ) ).containsExactly( 3, 4, 5, 6, 7 );
+		// The last window only asks for the rows still expected
+		assertThat( executions ).containsExactly( "3+2", "5+2", "7+1" );
+	}
+
+	@Test
+	public void testMaxRowsBeyondTheResultsEndsWithThePartialPage() {
+		ProtostreamPayloadClosableIterator iterator = new ProtostreamPayloadClosableIterator( query, 6, 20, 3 );
+
+		assertThat( ids( iterator ) ).containsExactly( 6, 7, 8, 9 );
+		assertThat( executions ).containsExactly( "6+3", "9+3" );
+	}
+
+	@Test
+	public void testNoQueryIsExecutedWithoutRowsToFetch() {
+		ProtostreamPayloadClosableIterator iterator = new ProtostreamPayloadClosableIterator( query, 0, 0, 3 );
+
+		assertThat( iterator.hasNext() ).isFalse();
+		verify( query, times( 0 ) ).list();
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void testNextFailsAfterTheLastResult() {
+		ProtostreamPayloadClosableIterator iterator = new ProtostreamPayloadClosableIterator( query, 8, null, 3 );
+		ids( iterator );
+		iterator.next();
+	}
+
+	private static List<Object> ids(ProtostreamPayloadClosableIterator iterator) {
+		List<Object> ids = new ArrayList<>();
+		while ( iterator.hasNext() ) {
+			ids.add( iterator.next().get( "id" ) );
+		}
+		return ids;
+	}
+
+	private static ProtostreamPayload payload(int id) {
+		Tuple tuple = new Tuple();
+		tuple.put( "id", id );
+		return new ProtostreamPayload( tuple, "Poem" );
+	}
+}
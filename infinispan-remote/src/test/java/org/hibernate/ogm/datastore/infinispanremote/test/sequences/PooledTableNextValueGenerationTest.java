@@ -0,0 +1,27 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.infinispanremote.test.sequences;
+
+import org.hibernate.ogm.backendtck.id.TableNextValueGenerationTest;
+import org.hibernate.ogm.datastore.infinispanremote.InfinispanRemoteProperties;
+import org.hibernate.ogm.datastore.infinispanremote.utils.InfinispanRemoteServerRunner;
+import org.hibernate.ogm.utils.jpa.GetterPersistenceUnitInfo;
+import org.junit.runner.RunWith;
+
+/**
+ * Runs the TCK test {@link TableNextValueGenerationTest} reserving the values on the server in blocks.
+ */
+@RunWith(InfinispanRemoteServerRunner.class)
+public class PooledTableNextValueGenerationTest extends TableNextValueGenerationTest {
+
+	@Override
+	protected void configure(GetterPersistenceUnitInfo info) {
+		super.configure( info );
+		// Smaller than the number of values requested by each job, so that several blocks are reserved
+		info.getProperties().put( InfinispanRemoteProperties.SEQUENCE_POOL_SIZE, "4" );
+	}
+}
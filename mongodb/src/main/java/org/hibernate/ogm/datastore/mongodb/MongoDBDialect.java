@@ -25,6 +25,8 @@
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
@@ -44,6 +46,8 @@
 import org.hibernate.ogm.datastore.mongodb.configuration.impl.MongoDBConfiguration;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.AssociationStorageStrategy;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBAssociationSnapshot;
+import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBEntityProjections;
+import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBSequenceAllocator;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBTupleSnapshot;
 import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoHelpers;
 import org.hibernate.ogm.datastore.mongodb.impl.MongoDBDatastoreProvider;
@@ -51,6 +55,7 @@
 import org.hibernate.ogm.datastore.mongodb.logging.impl.LoggerFactory;
 import org.hibernate.ogm.datastore.mongodb.options.AssociationDocumentStorageType;
 import org.hibernate.ogm.datastore.mongodb.options.impl.AssociationDocumentStorageOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.FetchSizeOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.ReadConcernOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.ReadPreferenceOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.WriteConcernOption;
@@ -150,11 +155,14 @@
 import org.parboiled.support.ParsingResult;
 
 import com.mongodb.DuplicateKeyException;
+import com.mongodb.ErrorCategory;
 import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoCommandException;
+import com.mongodb.MongoNamespace;
 import com.mongodb.ReadConcern;
 import com.mongodb.ReadPreference;
 import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.bulk.BulkWriteResult;
 import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.DistinctIterable;
@@ -169,13 +177,17 @@
 import com.mongodb.client.model.CollationCaseFirst;
 import com.mongodb.client.model.CollationMaxVariable;
 import com.mongodb.client.model.CollationStrength;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.FindOneAndDeleteOptions;
 import com.mongodb.client.model.FindOneAndUpdateOptions;
 import com.mongodb.client.model.InsertOneModel;
 import com.mongodb.client.model.MapReduceAction;
 import com.mongodb.client.model.ReplaceOptions;
 import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 
@@ -200,6 +212,9 @@
  * If these conditions are not met, the MongoDB mechanism for batch operations
  * is not going to be used.
  *
+ * When {@link MongoDBProperties#BULK_WRITE} is enabled, all the operations of a flush (inserts, updates, upserts
+ * and deletes) are sent using one {@code bulkWrite} command per collection instead.
+ *
  * @author Guillaume Scheibel &lt;guillaume.scheibel@gmail.com&gt;
  * @author Alan Fitton &lt;alan at eth0.org.uk&gt;
  * @author Emmanuel Bernard &lt;emmanuel@hibernate.org&gt;
@@ -225,6 +240,9 @@ public class MongoDBDialect extends BaseGridDialect implements QueryableGridDial
 
 	private static final List<String> ROWS_FIELDNAME_LIST = Collections.singletonList( ROWS_FIELDNAME );
 
+	// Shared projection, must not be modified
+	private static final Document ROWS_PROJECTION = getProjection( ROWS_FIELDNAME_LIST );
+
 	// match a number with optional '-' and decimal
 	private static final Pattern NUMBER_PATTERN = Pattern.compile( "\\d+(\\.\\d+)?" );
 
@@ -238,9 +256,29 @@ public class MongoDBDialect extends BaseGridDialect implements QueryableGridDial
 	private final MongoDBDatastoreProvider provider;
 	private final MongoDatabase currentDB;
 
+	private final boolean bulkWrite;
+	private final int bulkWriteBatchSize;
+	private final boolean bulkWriteOrdered;
+
+	private final MongoDBSequenceAllocator sequenceAllocator;
+
+	// The collections, by table and options context; the options contexts are cached by the options service
+	private final ConcurrentMap<String, MongoCollection<Document>> collections = new ConcurrentHashMap<>();
+	private final ConcurrentMap<OptionsContext, ConcurrentMap<String, MongoCollection<Document>>> collectionsWithOptions = new ConcurrentHashMap<>();
+
+	private final MongoDBEntityProjections projections = new MongoDBEntityProjections();
+
 	public MongoDBDialect(MongoDBDatastoreProvider provider) {
 		this.provider = provider;
 		this.currentDB = this.provider.getDatabase();
+
+		MongoDBConfiguration configuration = provider.getConfiguration();
+		this.bulkWrite = configuration != null && configuration.isBulkWrite();
+		this.bulkWriteBatchSize = configuration != null ? configuration.getBulkWriteBatchSize() : MongoDBConfiguration.DEFAULT_BULK_WRITE_BATCH_SIZE;
+		this.bulkWriteOrdered = configuration == null || configuration.isBulkWriteOrdered();
+		this.sequenceAllocator = new MongoDBSequenceAllocator(
+				configuration != null ? configuration.getSequencePoolSize() : 1,
+				this::reserveSequenceValues );
 	}
 
 	@Override
@@ -262,7 +300,7 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 
 		MongoCursor<Document> cursor = this.getObjects( keys[0].getMetadata(), searchObjects, tupleContext );
 		try {
-			return tuplesResult( keys, searchObjects, tupleContext, cursor );
+			return tuplesResult( keys, searchObjects, tupleContext, cursor, provider.getBinaryStorageManager() );
 		}
 		finally {
 			if ( cursor != null ) {
@@ -275,17 +313,21 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 	 * This method assumes that the entries in the cursor might not be in the same order as the keys and some keys might
 	 * not have a matching result in the db.
 	 */
-	private static List<Tuple> tuplesResult(EntityKey[] keys, Object[] searchObjects, TupleContext tupleContext, MongoCursor<Document> cursor) {
+	private static List<Tuple> tuplesResult(EntityKey[] keys, Object[] searchObjects, TupleContext tupleContext, MongoCursor<Document> cursor,
+			GridFSStorageManager binaryStorageManager) {
 		// The list is initialized with null because some keys might not have a corresponding value in the cursor
 		Tuple[] tuples = new Tuple[searchObjects.length];
+		Map<Object, Integer> positions = new HashMap<>( (int) ( searchObjects.length / 0.75f ) + 1 );
+		for ( int i = searchObjects.length - 1; i >= 0; i-- ) {
+			// In case of duplicated keys, the first one is used
+			positions.put( searchObjects[i], i );
+		}
 		while ( cursor.hasNext() ) {
 			Document document = cursor.next();
-			for ( int i = 0; i < searchObjects.length; i++ ) {
-				if ( document.get( ID_FIELDNAME ).equals( searchObjects[i] ) ) {
-					tuples[i] = createTuple( keys[i], tupleContext, document );
-					// We assume there are no duplicated keys
-					break;
-				}
+			Integer position = positions.get( document.get( ID_FIELDNAME ) );
+			if ( position != null ) {
+				binaryStorageManager.loadContentFromBinaryStorage( document, keys[position].getMetadata() );
+				tuples[position] = createTuple( keys[position], tupleContext, document );
 			}
 		}
 		return Arrays.asList( tuples );
@@ -358,11 +400,8 @@ private MongoCursor<Document> getObjects(EntityKeyMetadata entityKeyMetadata, Ob
 		return collection.find( query ).projection( projection ).iterator();
 	}
 
-	private static Document getProjection(OperationContext operationContext) {
-		Set<String> columns = new HashSet<>();
-		columns.addAll( operationContext.getTupleTypeContext().getPolymorphicEntityColumns() );
-		columns.addAll( operationContext.getTupleTypeContext().getSelectableColumns() );
-		return getProjection( new ArrayList<>( columns ) );
+	private Document getProjection(OperationContext operationContext) {
+		return projections.get( operationContext.getTupleTypeContext() );
 	}
 
 	/**
@@ -430,10 +469,21 @@ private static Object prepareIdObjectValue(String[] columnNames, Object[] column
 		}
 	}
 
+	/**
+	 * Returns the collection with the read preference, read concern and write concern of the given context applied.
+	 * The collections are created once per table and options context, then reused.
+	 */
 	private MongoCollection<Document> getCollection(String table, OptionsContext context) {
-		MongoCollection<Document> collection = currentDB.getCollection( table );
-		if ( context != null ) {
-			return withOptions( collection, context );
+		ConcurrentMap<String, MongoCollection<Document>> cache = context == null
+				? collections
+				: collectionsWithOptions.computeIfAbsent( context, c -> new ConcurrentHashMap<>() );
+		MongoCollection<Document> collection = cache.get( table );
+		if ( collection == null ) {
+			collection = currentDB.getCollection( table );
+			if ( context != null ) {
+				collection = withOptions( collection, context );
+			}
+			cache.putIfAbsent( table, collection );
 		}
 		return collection;
 	}
@@ -660,7 +710,7 @@ private static Document getProjection(AssociationKey key, boolean embedded) {
 			return getProjection( Collections.singletonList( key.getMetadata().getCollectionRole() ) );
 		}
 		else {
-			return getProjection( ROWS_FIELDNAME_LIST );
+			return ROWS_PROJECTION;
 		}
 	}
 
@@ -814,33 +864,48 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 
 	@Override
 	public Number nextValue(NextValueRequest request) {
+		return sequenceAllocator.nextValue( request );
+	}
+
+	/**
+	 * @return the allocator of the values of the id sources, keeping track of the reservations made on the server
+	 */
+	public MongoDBSequenceAllocator getSequenceAllocator() {
+		return sequenceAllocator;
+	}
+
+	/**
+	 * Reserves {@code count} values of the sequence with a single {@code $inc} in the common case; only the
+	 * creation of the sequence document requires an additional round trip.
+	 *
+	 * @return the first reserved value
+	 */
+	private long reserveSequenceValues(NextValueRequest request, int count) {
 		String valueColumnName = request.getKey().getMetadata().getValueColumnName();
 		MongoCollection<Document> sequenceCollection = getCollection( request.getKey().getTable(), null );
-
 		Document sequenceId = prepareIdObject( request.getKey() );
+		// The document holds the next value to hand out
+		long reserved = (long) request.getIncrement() * count;
 
-		Document setInitialValueOnInsert = new Document();
-		addSubQuery( "$setOnInsert", setInitialValueOnInsert, valueColumnName, request.getInitialValue() + request.getIncrement() );
-
-		// I don't trust to make this a constant because the object is not immutable
-		FindOneAndUpdateOptions enableUpsert = new FindOneAndUpdateOptions().upsert( true );
-		Document originalDocument = sequenceCollection.findOneAndUpdate( sequenceId, setInitialValueOnInsert, enableUpsert );
-
-		Object nextValue = null;
-		if ( originalDocument == null ) {
-			return request.getInitialValue(); // first time we ask this value
-		}
-		else {
-			// all columns should match to find the value
+		while ( true ) {
 			Document incrementUpdate = new Document();
+			addSubQuery( "$inc", incrementUpdate, valueColumnName, reserved );
+			Document updatedDocument = sequenceCollection.findOneAndUpdate( sequenceId, incrementUpdate,
+					new FindOneAndUpdateOptions().returnDocument( ReturnDocument.AFTER ) );
+			if ( updatedDocument != null ) {
+				return ( (Number) updatedDocument.get( valueColumnName ) ).longValue() - reserved;
+			}
 
-			addSubQuery( "$inc", incrementUpdate, valueColumnName, request.getIncrement() );
-
-			Document beforeUpdateDoc = sequenceCollection.findOneAndUpdate( sequenceId, incrementUpdate,  new FindOneAndUpdateOptions().upsert( true ) );
-
-			nextValue = beforeUpdateDoc.get( valueColumnName );
+			// first time we ask this value
+			Document setInitialValueOnInsert = new Document();
+			addSubQuery( "$setOnInsert", setInitialValueOnInsert, valueColumnName, request.getInitialValue() + reserved );
+			Document originalDocument = sequenceCollection.findOneAndUpdate( sequenceId, setInitialValueOnInsert,
+					new FindOneAndUpdateOptions().upsert( true ) );
+			if ( originalDocument == null ) {
+				return request.getInitialValue();
+			}
+			// The sequence has been created concurrently, reserve the values using it
 		}
-		return (Number) nextValue;
 	}
 
 	@Override
@@ -942,17 +1007,18 @@ public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<MongoDBQueryDesc
 			throw new UnsupportedOperationException( "Positional parameters are not yet supported for MongoDB native queries." );
 		}
 
+		Integer fetchSize = getFetchSize( queryParameters, tupleContext );
 		switch ( queryDescriptor.getOperation() ) {
 			case FIND:
-				return doFind( queryDescriptor, queryParameters, collection, entityKeyMetadata );
+				return doFind( queryDescriptor, queryParameters, collection, entityKeyMetadata, fetchSize );
 			case FINDONE:
 				return doFindOne( queryDescriptor, collection, entityKeyMetadata );
 			case FINDANDMODIFY:
 				return doFindAndModify( queryDescriptor, collection, entityKeyMetadata );
 			case AGGREGATE:
-				return doAggregate( queryDescriptor, queryParameters, collection, entityKeyMetadata );
+				return doAggregate( queryDescriptor, queryParameters, collection, entityKeyMetadata, fetchSize );
 			case AGGREGATE_PIPELINE:
-				return doAggregatePipeline( queryDescriptor, queryParameters, collection, entityKeyMetadata );
+				return doAggregatePipeline( queryDescriptor, queryParameters, collection, entityKeyMetadata, fetchSize );
 			case COUNT:
 				return doCount( queryDescriptor, collection );
 			case DISTINCT:
@@ -1047,7 +1113,8 @@ public DuplicateInsertPreventionStrategy getDuplicateInsertPreventionStrategy(En
 		return DuplicateInsertPreventionStrategy.NATIVE;
 	}
 
-	private static ClosableIterator<Tuple> doAggregate(MongoDBQueryDescriptor query, QueryParameters queryParameters, MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata) {
+	private static ClosableIterator<Tuple> doAggregate(MongoDBQueryDescriptor query, QueryParameters queryParameters, MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata,
+			Integer fetchSize) {
 		List<Document> pipeline = new ArrayList<Document>();
 
 		pipeline.add( stage( "$match", query.getCriteria() ) );
@@ -1075,6 +1142,9 @@ private static ClosableIterator<Tuple> doAggregate(MongoDBQueryDescriptor query,
 		applyMaxResults( queryParameters, pipeline );
 
 		AggregateIterable<Document> output = collection.aggregate( pipeline );
+		if ( fetchSize != null ) {
+			output.batchSize( fetchSize );
+		}
 		return new MongoDBAggregationOutput( output, entityKeyMetadata );
 	}
 
@@ -1082,6 +1152,21 @@ private static final OptionsContext getOptionsContext(TupleContext tupleContext)
 		return tupleContext.getTupleTypeContext().getOptionsContext();
 	}
 
+	/**
+	 * Returns the number of documents to fetch in each batch of the query cursor: the fetch size of the query if
+	 * given, otherwise the one configured for the entity or globally.
+	 *
+	 * @return the fetch size, {@code null} for the default of the server
+	 */
+	private static Integer getFetchSize(QueryParameters queryParameters, TupleContext tupleContext) {
+		Integer fetchSize = queryParameters.getRowSelection().getFetchSize();
+		if ( fetchSize != null && fetchSize > 0 ) {
+			return fetchSize;
+		}
+		OptionsContext optionsContext = getOptionsContext( tupleContext );
+		return optionsContext == null ? null : optionsContext.getUnique( FetchSizeOption.class );
+	}
+
 	private static void applyMaxResults(QueryParameters queryParameters, List<Document> pipeline) {
 		if ( queryParameters.getRowSelection().getMaxRows() != null ) {
 			pipeline.add( stage( "$limit", queryParameters.getRowSelection().getMaxRows() ) );
@@ -1094,7 +1179,8 @@ private static void applyFirstResult(QueryParameters queryParameters, List<Docum
 		}
 	}
 
-	private static ClosableIterator<Tuple> doAggregatePipeline(MongoDBQueryDescriptor query, QueryParameters queryParameters, MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata) {
+	private static ClosableIterator<Tuple> doAggregatePipeline(MongoDBQueryDescriptor query, QueryParameters queryParameters, MongoCollection<Document> collection, EntityKeyMetadata entityKeyMetadata,
+			Integer fetchSize) {
 
 		// create a pipeline that could be modified by this request adding pagination parameters
 		List<Document> pipeline = new ArrayList<>( query.getPipeline() );
@@ -1102,6 +1188,9 @@ private static ClosableIterator<Tuple> doAggregatePipeline(MongoDBQueryDescripto
 		applyFirstResult( queryParameters, pipeline );
 		applyMaxResults( queryParameters, pipeline );
 		AggregateIterable<Document> output = collection.aggregate( pipeline );
+		if ( fetchSize != null ) {
+			output.batchSize( fetchSize );
+		}
 		return new MongoDBAggregationOutput( output, entityKeyMetadata );
 	}
 
@@ -1233,7 +1322,7 @@ private static Collation getCollation(Document dbObject) {
 	}
 
 	private ClosableIterator<Tuple> doFind(MongoDBQueryDescriptor query, QueryParameters queryParameters, MongoCollection<Document> collection,
-			EntityKeyMetadata entityKeyMetadata) {
+			EntityKeyMetadata entityKeyMetadata, Integer fetchSize) {
 		Document criteria = query.getCriteria();
 		Document orderby = query.getOrderBy();
 		int maxTimeMS = -1;
@@ -1274,6 +1363,10 @@ private ClosableIterator<Tuple> doFind(MongoDBQueryDescriptor query, QueryParame
 			prepareFind.limit( queryParameters.getRowSelection().getMaxRows() );
 		}
 
+		if ( fetchSize != null ) {
+			prepareFind.batchSize( fetchSize );
+		}
+
 		MongoCursor<Document> iterator = prepareFind.iterator();
 		return new MongoDBResultsCursor( iterator, entityKeyMetadata, provider.getBinaryStorageManager() );
 	}
@@ -1597,17 +1690,19 @@ public void executeBatch(OperationsQueue queue) {
 		if ( !queue.isClosed() ) {
 			Operation operation = queue.poll();
 			Map<MongoCollection<Document>, BatchInsertionTask> inserts = new HashMap<MongoCollection<Document>, BatchInsertionTask>();
+			// When the bulk flush mode is enabled, all the writes are collected and sent with one bulkWrite per collection
+			BulkWriteBatch bulkWrites = bulkWrite ? new BulkWriteBatch( bulkWriteBatchSize, bulkWriteOrdered ) : null;
 
 			List<Tuple> insertTuples = new ArrayList<Tuple>();
 
 			while ( operation != null ) {
 				if ( operation instanceof GroupedChangesToEntityOperation ) {
 					GroupedChangesToEntityOperation entityOperation = (GroupedChangesToEntityOperation) operation;
-					executeBatchUpdate( inserts, insertTuples, entityOperation );
+					executeBatchUpdate( inserts, bulkWrites, insertTuples, entityOperation );
 				}
 				else if ( operation instanceof RemoveTupleOperation ) {
 					RemoveTupleOperation removeTupleOperation = (RemoveTupleOperation) operation;
-					executeBatchRemove( inserts, removeTupleOperation );
+					executeBatchRemove( inserts, bulkWrites, removeTupleOperation );
 				}
 				else {
 					throw new UnsupportedOperationException( "Operation not supported: " + operation.getClass().getSimpleName() );
@@ -1615,7 +1710,12 @@ else if ( operation instanceof RemoveTupleOperation ) {
 				operation = queue.poll();
 			}
 
-			flushInserts( provider, inserts );
+			if ( bulkWrites != null ) {
+				bulkWrites.flush( provider );
+			}
+			else {
+				flushInserts( provider, inserts );
+			}
 			for ( Tuple insertTuple : insertTuples ) {
 				insertTuple.setSnapshotType( SnapshotType.UPDATE );
 			}
@@ -1624,8 +1724,13 @@ else if ( operation instanceof RemoveTupleOperation ) {
 		}
 	}
 
-	private void executeBatchRemove(Map<MongoCollection<Document>, BatchInsertionTask> inserts, RemoveTupleOperation tupleOperation) {
+	private void executeBatchRemove(Map<MongoCollection<Document>, BatchInsertionTask> inserts, BulkWriteBatch bulkWrites, RemoveTupleOperation tupleOperation) {
 		EntityKey entityKey = tupleOperation.getEntityKey();
+		if ( bulkWrites != null ) {
+			executeBulkRemove( bulkWrites, tupleOperation );
+			return;
+		}
+
 		MongoCollection<Document> collection = getCollection( entityKey, tupleOperation.getTupleContext().getTupleTypeContext().getOptionsContext() );
 		BatchInsertionTask batchedInserts = inserts.get( collection );
 
@@ -1637,7 +1742,26 @@ private void executeBatchRemove(Map<MongoCollection<Document>, BatchInsertionTas
 		}
 	}
 
-	private void executeBatchUpdate(Map<MongoCollection<Document>, BatchInsertionTask> inserts, List<Tuple> insertTuples,
+	private void executeBulkRemove(BulkWriteBatch bulkWrites, RemoveTupleOperation tupleOperation) {
+		EntityKey entityKey = tupleOperation.getEntityKey();
+		if ( bulkWrites.cancelInsert( entityKey ) ) {
+			// the entity has been inserted and removed during the same flush
+			return;
+		}
+
+		if ( provider.getBinaryStorageManager().hasBinaryStorageFields( entityKey.getMetadata() ) ) {
+			// We need the removed document to clean up the GridFS content: the previous operations are sent first
+			// to preserve the order of the flush
+			bulkWrites.flush( provider );
+			removeTuple( entityKey, tupleOperation.getTupleContext() );
+		}
+		else {
+			bulkWrites.add( getCollection( entityKey ), entityKey, new DeleteOneModel<Document>( prepareIdObject( entityKey ) ),
+					getWriteConcern( tupleOperation.getTupleContext() ) );
+		}
+	}
+
+	private void executeBatchUpdate(Map<MongoCollection<Document>, BatchInsertionTask> inserts, BulkWriteBatch bulkWrites, List<Tuple> insertTuples,
 			GroupedChangesToEntityOperation groupedOperation) {
 		EntityKey entityKey = groupedOperation.getEntityKey();
 		MongoCollection<Document> collection = getCollection( entityKey );
@@ -1657,8 +1781,13 @@ private void executeBatchUpdate(Map<MongoCollection<Document>, BatchInsertionTas
 					Document document = getCurrentDocument( snapshot, insertStatement, entityKey );
 					insertStatement = objectForInsert( tuple, document );
 
-					getOrCreateBatchInsertionTask( inserts, entityKey.getMetadata(), collection )
-							.put( entityKey, insertStatement );
+					if ( bulkWrites != null ) {
+						bulkWrites.insert( collection, entityKey, insertStatement, writeConcern );
+					}
+					else {
+						getOrCreateBatchInsertionTask( inserts, entityKey.getMetadata(), collection )
+								.put( entityKey, insertStatement );
+					}
 					insertTuples.add( tuple );
 				}
 				else {
@@ -1699,7 +1828,12 @@ else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
 					MongoCollection<Document> associationCollection = getAssociationCollection( associationKey, storageStrategy, associationContext );
 					Document query = associationSnapshot.getQueryObject();
 					Document update = new Document( "$set", new Document( ROWS_FIELDNAME, toStore ) );
-					associationCollection.updateOne( query, update, updateOptions );
+					if ( bulkWrites != null ) {
+						bulkWrites.add( associationCollection, null, new UpdateOneModel<Document>( query, update, updateOptions ), null );
+					}
+					else {
+						associationCollection.updateOne( query, update, updateOptions );
+					}
 				}
 			}
 			else if ( operation instanceof RemoveAssociationOperation ) {
@@ -1723,6 +1857,11 @@ else if ( operation instanceof RemoveAssociationOperation ) {
 					}
 					addUnsetToQuery( updateStatement, collectionRole );
 				}
+				else if ( bulkWrites != null ) {
+					MongoCollection<Document> associationCollection = getAssociationCollection( associationKey, storageStrategy, associationContext );
+					Document query = associationKeyToObject( associationKey, storageStrategy );
+					bulkWrites.add( associationCollection, null, new DeleteManyModel<Document>( query ), getWriteConcern( associationContext ) );
+				}
 				else {
 					MongoCollection<Document> associationCollection = getAssociationCollection( associationKey, storageStrategy, associationContext ).withWriteConcern( getWriteConcern( associationContext ) );
 					Document query = associationKeyToObject( associationKey, storageStrategy );
@@ -1748,7 +1887,12 @@ else if ( operation instanceof RemoveAssociationOperation ) {
 			Document fieldsToDelete = updateStatement.get( "$unset", Document.class );
 			provider.getBinaryStorageManager().removeFieldsFromBinaryStorage( fieldsToDelete, entityKey.getMetadata(), documentId.get( "_id" ) );
 
-			collection. withWriteConcern( writeConcern ).updateOne( documentId, updateStatement, updateOptions );
+			if ( bulkWrites != null ) {
+				bulkWrites.add( collection, entityKey, new UpdateOneModel<Document>( documentId, updateStatement, updateOptions ), writeConcern );
+			}
+			else {
+				collection. withWriteConcern( writeConcern ).updateOne( documentId, updateStatement, updateOptions );
+			}
 		}
 	}
 
@@ -2111,6 +2255,152 @@ public void close() {
 		}
 	}
 
+	/**
+	 * Collects the write operations of a flush so that they can be sent with one {@code bulkWrite} command per
+	 * collection (split according to the configured batch size).
+	 * <p>
+	 * The operations targeting the same collection keep the order in which they have been added.
+	 */
+	private static class BulkWriteBatch {
+
+		private final int batchSize;
+		private final BulkWriteOptions options;
+		private final Map<MongoNamespace, CollectionBulkWrites> writesPerCollection = new LinkedHashMap<>();
+		private final Map<EntityKey, BulkWriteEntry> pendingInserts = new HashMap<>();
+
+		public BulkWriteBatch(int batchSize, boolean ordered) {
+			this.batchSize = batchSize;
+			this.options = new BulkWriteOptions().ordered( ordered );
+		}
+
+		public void insert(MongoCollection<Document> collection, EntityKey entityKey, Document document, WriteConcern writeConcern) {
+			BulkWriteEntry entry = pendingInserts.get( entityKey );
+			if ( entry == null ) {
+				entry = new BulkWriteEntry( entityKey, new InsertOneModel<Document>( document ), document );
+				pendingInserts.put( entityKey, entry );
+				add( collection, entry, writeConcern );
+			}
+			else {
+				// the document of the pending insert is updated in place, we only need to consider the write concern
+				add( collection, null, writeConcern );
+			}
+		}
+
+		/**
+		 * Cancels the insertion of the entity if it has not been sent to the datastore yet.
+		 *
+		 * @return {@code true} if there was a pending insertion for this entity
+		 */
+		public boolean cancelInsert(EntityKey entityKey) {
+			BulkWriteEntry entry = pendingInserts.remove( entityKey );
+			if ( entry != null ) {
+				entry.cancelled = true;
+				return true;
+			}
+			return false;
+		}
+
+		public void add(MongoCollection<Document> collection, EntityKey entityKey, WriteModel<Document> model, WriteConcern writeConcern) {
+			add( collection, new BulkWriteEntry( entityKey, model, null ), writeConcern );
+		}
+
+		private void add(MongoCollection<Document> collection, BulkWriteEntry entry, WriteConcern writeConcern) {
+			CollectionBulkWrites writes = writesPerCollection.get( collection.getNamespace() );
+			if ( writes == null ) {
+				writes = new CollectionBulkWrites( collection );
+				writesPerCollection.put( collection.getNamespace(), writes );
+			}
+			writes.writeConcern = mergeWriteConcern( writes.writeConcern, writeConcern );
+			if ( entry != null ) {
+				writes.entries.add( entry );
+			}
+		}
+
+		public void flush(MongoDBDatastoreProvider provider) {
+			for ( CollectionBulkWrites writes : writesPerCollection.values() ) {
+				List<BulkWriteEntry> entries = new ArrayList<>( writes.entries.size() );
+				for ( BulkWriteEntry entry : writes.entries ) {
+					if ( !entry.cancelled ) {
+						if ( entry.insertedDocument != null ) {
+							provider.getBinaryStorageManager().storeContentToBinaryStorage( entry.insertedDocument,
+									entry.entityKey.getMetadata(), entry.insertedDocument.get( ID_FIELDNAME ) );
+						}
+						entries.add( entry );
+					}
+				}
+
+				MongoCollection<Document> collection = writes.writeConcern != null
+						? writes.collection.withWriteConcern( writes.writeConcern )
+						: writes.collection;
+				for ( int start = 0; start < entries.size(); start += batchSize ) {
+					List<BulkWriteEntry> chunk = entries.subList( start, Math.min( start + batchSize, entries.size() ) );
+					List<WriteModel<Document>> models = new ArrayList<>( chunk.size() );
+					for ( BulkWriteEntry entry : chunk ) {
+						models.add( entry.model );
+					}
+					try {
+						collection.bulkWrite( models, options );
+					}
+					catch (MongoBulkWriteException e) {
+						throw toFlushException( chunk, e );
+					}
+				}
+			}
+			writesPerCollection.clear();
+			pendingInserts.clear();
+		}
+
+		/*
+		 * Maps the first write error back to the entity at the origin of the failing operation.
+		 */
+		private static RuntimeException toFlushException(List<BulkWriteEntry> chunk, MongoBulkWriteException e) {
+			if ( e.getWriteErrors().isEmpty() ) {
+				return log.constraintViolationOnFlush( e.getMessage(), e );
+			}
+
+			BulkWriteError error = e.getWriteErrors().get( 0 );
+			EntityKey entityKey = error.getIndex() < chunk.size() ? chunk.get( error.getIndex() ).entityKey : null;
+			if ( entityKey == null ) {
+				return log.constraintViolationOnFlush( error.getMessage(), e );
+			}
+			// This error category is used by MongoDB for all the unique indexes violation, not only the primary key
+			// so we determine if it concerns the primary key by matching on the message
+			if ( ErrorCategory.fromErrorCode( error.getCode() ) == ErrorCategory.DUPLICATE_KEY
+					&& PRIMARY_KEY_CONSTRAINT_VIOLATION_MESSAGE.matcher( error.getMessage() ).matches() ) {
+				return new TupleAlreadyExistsException( entityKey, e );
+			}
+			return log.constraintViolationForEntity( entityKey, error.getMessage(), e );
+		}
+	}
+
+	private static class CollectionBulkWrites {
+
+		private final MongoCollection<Document> collection;
+		private final List<BulkWriteEntry> entries = new ArrayList<>();
+		private WriteConcern writeConcern;
+
+		public CollectionBulkWrites(MongoCollection<Document> collection) {
+			this.collection = collection;
+		}
+	}
+
+	private static class BulkWriteEntry {
+
+		/**
+		 * The entity at the origin of the operation, {@code null} for the operations on association documents.
+		 */
+		private final EntityKey entityKey;
+		private final WriteModel<Document> model;
+		private final Document insertedDocument;
+		private boolean cancelled;
+
+		public BulkWriteEntry(EntityKey entityKey, WriteModel<Document> model, Document insertedDocument) {
+			this.entityKey = entityKey;
+			this.model = model;
+			this.insertedDocument = insertedDocument;
+		}
+	}
+
 	private static class BatchInsertionTask {
 
 		private final EntityKeyMetadata entityKeyMetadata;
@@ -89,6 +89,50 @@ public final class MongoDBProperties implements DocumentStoreProperties {
 	 */
 	public static final String MONGO_DRIVER_SETTINGS_PREFIX = "hibernate.ogm.mongodb.driver";
 
+	/**
+	 * Configuration property for enabling the bulk flush mode. When enabled, all the operations of a flush (inserts,
+	 * updates, upserts and deletes) are sent to MongoDB using one {@code bulkWrite} command per target collection
+	 * instead of one command per entity.
+	 * <p>
+	 * Defaults to {@code false}.
+	 */
+	public static final String BULK_WRITE = "hibernate.ogm.mongodb.bulk_write";
+
+	/**
+	 * Configuration property for setting the maximum number of write operations sent in a single {@code bulkWrite}
+	 * command when {@link #BULK_WRITE} is enabled. Larger flushes are split into several commands.
+	 * <p>
+	 * Defaults to {@code 1000}.
+	 */
+	public static final String BULK_WRITE_BATCH_SIZE = "hibernate.ogm.mongodb.bulk_write.batch_size";
+
+	/**
+	 * Configuration property for choosing between ordered and unordered {@code bulkWrite} commands when
+	 * {@link #BULK_WRITE} is enabled. Unordered bulk writes might be executed faster by the server but the operations
+	 * targeting the same collection are no longer guaranteed to be applied in the order of the flush.
+	 * <p>
+	 * Defaults to {@code true}.
+	 */
+	public static final String BULK_WRITE_ORDERED = "hibernate.ogm.mongodb.bulk_write.ordered";
+
+	/**
+	 * Configuration property for setting the number of values of a sequence or table based id generator reserved on
+	 * the server with a single operation. The reserved values are then handed out from memory. Unused values of a block
+	 * are lost when the application stops, leaving gaps in the generated ids.
+	 * <p>
+	 * Defaults to {@code 1}, which reserves each value on the server.
+	 */
+	public static final String SEQUENCE_POOL_SIZE = "hibernate.ogm.mongodb.sequence_pool_size";
+
+	/**
+	 * Configuration property for setting the number of documents MongoDB returns in each batch when iterating over the
+	 * results of a query. Can be overridden per entity using the option API and per query using
+	 * {@code Query#setFetchSize(int)}. Accepts positive integers.
+	 * <p>
+	 * Defaults to the batch size chosen by the server.
+	 */
+	public static final String FETCH_SIZE = "hibernate.ogm.mongodb.fetch_size";
+
 	private MongoDBProperties() {
 	}
 }
@@ -10,6 +10,8 @@
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.bson.Document;
 import org.bson.types.ObjectId;
@@ -24,7 +26,6 @@
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.gridfs.GridFSBucket;
 import com.mongodb.client.gridfs.GridFSBuckets;
-import com.mongodb.client.gridfs.GridFSDownloadStream;
 import com.mongodb.client.gridfs.GridFSFindIterable;
 import com.mongodb.client.gridfs.model.GridFSFile;
 import com.mongodb.client.model.Filters;
@@ -50,6 +51,9 @@ public class GridFSStorageManager {
 
 	private final MongoDatabase mongoDatabase;
 
+	// The buckets are immutable and thread-safe
+	private final ConcurrentMap<String, GridFSBucket> buckets = new ConcurrentHashMap<>();
+
 	public GridFSStorageManager(MongoDBDatastoreProvider provider,
 			OptionsService optionsService,
 			Map<String, GridFSFields> tableEntityTypeMapping) {
@@ -58,6 +62,15 @@ public GridFSStorageManager(MongoDBDatastoreProvider provider,
 		this.mongoDatabase = provider.getDatabase();
 	}
 
+	/**
+	 * @param metadata the metadata of the entity
+	 * @return {@code true} if some fields of the entity are stored using GridFS
+	 */
+	public boolean hasBinaryStorageFields(EntityKeyMetadata metadata) {
+		GridFSFields gridFSFields = tableEntityTypeMapping.get( metadata.getTable() );
+		return gridFSFields != null && !gridFSFields.getFields().isEmpty();
+	}
+
 	public void storeContentToBinaryStorage(Document currentDocument, EntityKeyMetadata metadata, Object documentId) {
 		if ( currentDocument != null && metadata != null ) {
 			GridFSFields gridFSFields = tableEntityTypeMapping.get( metadata.getTable() );
@@ -145,13 +158,15 @@ public void loadContentFromBinaryStorage(Document currentDocument, EntityKeyMeta
 		}
 	}
 
+	/*
+	 * The content is only downloaded if the application reads it, loading a document does not require any additional
+	 * request to the datastore.
+	 */
 	private void loadContentFromBinaryStorageToField(String bucketName, Document currentDocument, String fieldName) {
-		GridFSBucket gridFSFilesBucket = getGridFSFilesBucket( mongoDatabase, bucketName );
 		Object uploadId = currentDocument.get( fieldName );
-		if ( uploadId != null ) {
-			GridFSDownloadStream gridFSDownloadStream = gridFSFilesBucket.openDownloadStream( (ObjectId) uploadId );
-			GridFS value = new GridFS( gridFSDownloadStream );
-			currentDocument.put( fieldName, value );
+		if ( uploadId instanceof ObjectId ) {
+			GridFSBucket gridFSFilesBucket = getGridFSFilesBucket( mongoDatabase, bucketName );
+			currentDocument.put( fieldName, new LazyGridFS( gridFSFilesBucket, (ObjectId) uploadId ) );
 		}
 	}
 
@@ -161,8 +176,14 @@ private OptionsContext propertyOptions(Class<?> entityType, String fieldName) {
 	}
 
 	private GridFSBucket getGridFSFilesBucket(MongoDatabase mongoDatabase, String bucketName) {
-		return bucketName != null
-				? GridFSBuckets.create( mongoDatabase, bucketName )
-				: GridFSBuckets.create( mongoDatabase );
+		if ( bucketName == null ) {
+			return GridFSBuckets.create( mongoDatabase );
+		}
+		GridFSBucket bucket = buckets.get( bucketName );
+		if ( bucket == null ) {
+			bucket = GridFSBuckets.create( mongoDatabase, bucketName );
+			buckets.putIfAbsent( bucketName, bucket );
+		}
+		return bucket;
 	}
 }
@@ -0,0 +1,37 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.binarystorage;
+
+import java.io.InputStream;
+
+import org.bson.types.ObjectId;
+import org.hibernate.ogm.datastore.mongodb.type.GridFS;
+
+import com.mongodb.client.gridfs.GridFSBucket;
+
+/**
+ * A {@link GridFS} value loaded from the datastore; the download stream is only opened when the content is read.
+ */
+class LazyGridFS extends GridFS {
+
+	private final GridFSBucket bucket;
+	private final ObjectId fileId;
+	private InputStream inputStream;
+
+	LazyGridFS(GridFSBucket bucket, ObjectId fileId) {
+		this.bucket = bucket;
+		this.fileId = fileId;
+	}
+
+	@Override
+	public InputStream getInputStream() {
+		if ( inputStream == null ) {
+			inputStream = bucket.openDownloadStream( fileId );
+		}
+		return inputStream;
+	}
+}
@@ -22,6 +22,7 @@
 import org.hibernate.ogm.datastore.mongodb.options.impl.ReadPreferenceOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.WriteConcernOption;
 import org.hibernate.ogm.options.spi.OptionsContext;
+import org.hibernate.ogm.util.configurationreader.impl.Validators;
 import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
 
 import com.mongodb.MongoClientSettings;
@@ -41,6 +42,7 @@ public class MongoDBConfiguration extends DocumentStoreConfiguration {
 
 	public static final String DEFAULT_ASSOCIATION_STORE = "Associations";
 	public static final String DEFAULT_AUTHENTICATION_DATABASE = "admin";
+	public static final int DEFAULT_BULK_WRITE_BATCH_SIZE = 1000;
 
 	private static final int DEFAULT_PORT = 27017;
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
@@ -51,6 +53,10 @@ public class MongoDBConfiguration extends DocumentStoreConfiguration {
 	private final AuthenticationMechanismType authenticationMechanism;
 	private final ConfigurationPropertyReader propertyReader;
 	private final String authenticationDatabaseName;
+	private final boolean bulkWrite;
+	private final int bulkWriteBatchSize;
+	private final boolean bulkWriteOrdered;
+	private final int sequencePoolSize;
 
 	/**
 	 * Creates a new {@link MongoDBConfiguration}.
@@ -68,6 +74,20 @@ public MongoDBConfiguration(ConfigurationPropertyReader propertyReader, OptionsC
 		this.authenticationDatabaseName = propertyReader.property( MongoDBProperties.AUTHENTICATION_DATABASE, String.class )
 				.withDefault( DEFAULT_AUTHENTICATION_DATABASE )
 				.getValue();
+		this.bulkWrite = propertyReader.property( MongoDBProperties.BULK_WRITE, Boolean.class )
+				.withDefault( false )
+				.getValue();
+		this.bulkWriteBatchSize = propertyReader.property( MongoDBProperties.BULK_WRITE_BATCH_SIZE, Integer.class )
+				.withDefault( DEFAULT_BULK_WRITE_BATCH_SIZE )
+				.withValidator( Validators.positive( MongoDBProperties.BULK_WRITE_BATCH_SIZE ) )
+				.getValue();
+		this.bulkWriteOrdered = propertyReader.property( MongoDBProperties.BULK_WRITE_ORDERED, Boolean.class )
+				.withDefault( true )
+				.getValue();
+		this.sequencePoolSize = propertyReader.property( MongoDBProperties.SEQUENCE_POOL_SIZE, Integer.class )
+				.withDefault( 1 )
+				.withValidator( Validators.positive( MongoDBProperties.SEQUENCE_POOL_SIZE ) )
+				.getValue();
 		this.writeConcern = globalOptions.getUnique( WriteConcernOption.class );
 		this.readConcern = globalOptions.getUnique( ReadConcernOption.class );
 		this.readPreference = globalOptions.getUnique( ReadPreferenceOption.class );
@@ -139,6 +159,34 @@ private Map<String, Method> createSettingsMap() {
 		return settingsMap;
 	}
 
+	/**
+	 * @return {@code true} if the operations of a flush have to be sent using {@code bulkWrite} commands
+	 */
+	public boolean isBulkWrite() {
+		return bulkWrite;
+	}
+
+	/**
+	 * @return the maximum number of write operations sent in a single {@code bulkWrite} command
+	 */
+	public int getBulkWriteBatchSize() {
+		return bulkWriteBatchSize;
+	}
+
+	/**
+	 * @return {@code true} if the {@code bulkWrite} commands have to be ordered
+	 */
+	public boolean isBulkWriteOrdered() {
+		return bulkWriteOrdered;
+	}
+
+	/**
+	 * @return the number of values of an id source reserved on the server with a single operation
+	 */
+	public int getSequencePoolSize() {
+		return sequencePoolSize;
+	}
+
 	private String getAuthenticationDatabaseName() {
 		return authenticationDatabaseName;
 	}
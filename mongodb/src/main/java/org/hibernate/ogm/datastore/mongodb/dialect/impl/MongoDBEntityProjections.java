@@ -0,0 +1,63 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.dialect.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.bson.Document;
+import org.hibernate.ogm.dialect.spi.TupleTypeContext;
+
+/**
+ * The projections used to read the entities, computed once per set of columns and shared: they must not be modified.
+ * <p>
+ * A new {@link TupleTypeContext} may be created for each operation, the projections are therefore cached by the
+ * columns of the context and not by the context itself; there is one entry per mapped entity type at most.
+ */
+public class MongoDBEntityProjections {
+
+	// Shared projection, must not be modified
+	private static final Document EMPTY_PROJECTION = new Document();
+
+	private final ConcurrentMap<List<Collection<String>>, Document> projections = new ConcurrentHashMap<>();
+
+	/**
+	 * @param tupleTypeContext the context of the entities to read
+	 * @return the projection on the selectable and polymorphic columns of the context
+	 */
+	public Document get(TupleTypeContext tupleTypeContext) {
+		if ( tupleTypeContext.getSelectableColumns().isEmpty() && tupleTypeContext.getPolymorphicEntityColumns().isEmpty() ) {
+			return EMPTY_PROJECTION;
+		}
+		List<Collection<String>> columns = Arrays.asList( tupleTypeContext.getSelectableColumns(), tupleTypeContext.getPolymorphicEntityColumns() );
+		Document projection = projections.get( columns );
+		if ( projection == null ) {
+			projection = new Document();
+			for ( String column : tupleTypeContext.getPolymorphicEntityColumns() ) {
+				projection.put( column, 1 );
+			}
+			for ( String column : tupleTypeContext.getSelectableColumns() ) {
+				projection.put( column, 1 );
+			}
+			Document previous = projections.putIfAbsent( columns, projection );
+			if ( previous != null ) {
+				projection = previous;
+			}
+		}
+		return projection;
+	}
+
+	/**
+	 * @return the number of cached projections
+	 */
+	public int size() {
+		return projections.size();
+	}
+}
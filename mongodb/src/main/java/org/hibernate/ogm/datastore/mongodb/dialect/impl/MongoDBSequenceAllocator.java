@@ -0,0 +1,134 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.dialect.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.ogm.dialect.spi.NextValueRequest;
+import org.hibernate.ogm.model.key.spi.IdSourceKey;
+
+/**
+ * Hands out the values of the id sources stored in MongoDB.
+ * <p>
+ * Each reservation on the server returns a block of {@code poolSize} consecutive values; the values of the block are
+ * then handed out from memory until it is exhausted. With a pool size of 1, each value is reserved on the server.
+ *
+ * @see org.hibernate.ogm.datastore.mongodb.MongoDBProperties#SEQUENCE_POOL_SIZE
+ */
+public class MongoDBSequenceAllocator {
+
+	/**
+	 * Reserves values of an id source on the server.
+	 */
+	public interface BlockReserver {
+
+		/**
+		 * Reserves {@code count} consecutive values, separated by the increment of the request.
+		 *
+		 * @param request the request for the next value
+		 * @param count the number of values to reserve
+		 * @return the first reserved value
+		 */
+		long reserve(NextValueRequest request, int count);
+	}
+
+	private final int poolSize;
+	private final BlockReserver reserver;
+	private final ConcurrentMap<IdSourceKey, Pool> pools = new ConcurrentHashMap<>();
+	private final LongAdder blocksFetched = new LongAdder();
+
+	public MongoDBSequenceAllocator(int poolSize, BlockReserver reserver) {
+		this.poolSize = poolSize;
+		this.reserver = reserver;
+	}
+
+	public Number nextValue(NextValueRequest request) {
+		Pool pool = pools.get( request.getKey() );
+		if ( pool == null ) {
+			pool = new Pool();
+			Pool previous = pools.putIfAbsent( request.getKey(), pool );
+			if ( previous != null ) {
+				pool = previous;
+			}
+		}
+		// Blocks can only be handed out in ascending order
+		if ( poolSize == 1 || request.getIncrement() <= 0 ) {
+			return pool.reserve( request, 1 );
+		}
+		return pool.next( request );
+	}
+
+	/**
+	 * @return the number of reservations of values on the server
+	 */
+	public long getBlocksFetched() {
+		return blocksFetched.sum();
+	}
+
+	/**
+	 * @param key the id source
+	 * @return the number of reservations of values of the given id source on the server
+	 */
+	public long getBlocksFetched(IdSourceKey key) {
+		Pool pool = pools.get( key );
+		return pool == null ? 0 : pool.blocksFetched.sum();
+	}
+
+	private class Pool {
+
+		private final LongAdder blocksFetched = new LongAdder();
+		private volatile Block currentBlock;
+
+		long next(NextValueRequest request) {
+			while ( true ) {
+				Block block = currentBlock;
+				if ( block != null ) {
+					long value = block.next.getAndAdd( block.increment );
+					if ( value <= block.last ) {
+						return value;
+					}
+				}
+				switchBlock( block, request );
+			}
+		}
+
+		private synchronized void switchBlock(Block exhausted, NextValueRequest request) {
+			if ( currentBlock != exhausted ) {
+				// Another thread already switched to a new block
+				return;
+			}
+			long first = reserve( request, poolSize );
+			currentBlock = new Block( first, request.getIncrement(), poolSize );
+		}
+
+		long reserve(NextValueRequest request, int count) {
+			long first = reserver.reserve( request, count );
+			blocksFetched.increment();
+			MongoDBSequenceAllocator.this.blocksFetched.increment();
+			return first;
+		}
+	}
+
+	/**
+	 * A range of values reserved on the server.
+	 */
+	private static final class Block {
+
+		private final AtomicLong next;
+		private final int increment;
+		private final long last;
+
+		private Block(long first, int increment, int size) {
+			this.next = new AtomicLong( first );
+			this.increment = increment;
+			this.last = first + (long) increment * ( size - 1 );
+		}
+	}
+}
@@ -178,6 +178,10 @@ public MongoDatabase getDatabase() {
 		return mongoDb;
 	}
 
+	public MongoDBConfiguration getConfiguration() {
+		return config;
+	}
+
 	private MongoDatabase extractDatabase(MongoClient mongo, MongoDBConfiguration config) {
 		try {
 			String databaseName = config.getDatabaseName();
@@ -144,4 +144,7 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 
 	@Message(id = 1240, value = "Procedures returning muliple documents are not supported. Procedure '%1$s' returned %2$d results")
 	HibernateException multipleDocumentReturnedByStoredProcedure(String storedProcedureName, int size);
+
+	@Message(id = 1241, value = "The fetch size given with @FetchSize must be greater than 0 but is %1$d")
+	HibernateException fetchSizeMustBePositive(int fetchSize);
 }
@@ -0,0 +1,35 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.options;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.ogm.datastore.mongodb.options.impl.FetchSizeConverter;
+import org.hibernate.ogm.options.spi.MappingOption;
+
+/**
+ * Specifies the number of documents returned by MongoDB in each batch when iterating over the results of a query
+ * targeting the annotated entity.
+ * <p>
+ * A fetch size given for a specific query, e.g. via {@code Query#setFetchSize(int)}, takes precedence.
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+@MappingOption(FetchSizeConverter.class)
+public @interface FetchSize {
+
+	/**
+	 * Specifies the number of documents returned by the server in each batch; must be greater than 0.
+	 *
+	 * @return the fetch size
+	 */
+	int value();
+}
@@ -0,0 +1,31 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.options.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.ogm.datastore.mongodb.logging.impl.Log;
+import org.hibernate.ogm.datastore.mongodb.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.mongodb.options.FetchSize;
+import org.hibernate.ogm.options.spi.AnnotationConverter;
+import org.hibernate.ogm.options.spi.OptionValuePair;
+
+/**
+ * Converts {@link FetchSize} instances into an equivalent option value pair.
+ */
+public class FetchSizeConverter implements AnnotationConverter<FetchSize> {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	@Override
+	public OptionValuePair<?> convert(FetchSize annotation) {
+		if ( annotation.value() < 1 ) {
+			throw log.fetchSizeMustBePositive( annotation.value() );
+		}
+		return OptionValuePair.getInstance( new FetchSizeOption(), annotation.value() );
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.options.impl;
+
+import org.hibernate.ogm.datastore.mongodb.MongoDBProperties;
+import org.hibernate.ogm.options.spi.UniqueOption;
+import org.hibernate.ogm.util.configurationreader.impl.Validators;
+import org.hibernate.ogm.util.configurationreader.spi.ConfigurationPropertyReader;
+
+/**
+ * Option for specifying the number of documents MongoDB returns in each batch of a query cursor.
+ * <p>
+ * A {@code null} value leaves the choice of the batch size to the server.
+ */
+public class FetchSizeOption extends UniqueOption<Integer> {
+
+	@Override
+	public Integer getDefaultValue(ConfigurationPropertyReader propertyReader) {
+		return propertyReader
+				.property( MongoDBProperties.FETCH_SIZE, Integer.class )
+				.withValidator( Validators.positive( MongoDBProperties.FETCH_SIZE ) )
+				.getValue();
+	}
+}
@@ -78,4 +78,13 @@ public interface MongoDBEntityContext extends DocumentStoreEntityContext<MongoDB
 	 * @return this context, allowing for further fluent API invocations
 	 */
 	MongoDBEntityContext associationDocumentStorage(AssociationDocumentStorageType associationDocumentStorage);
+
+	/**
+	 * Defines the number of documents returned by MongoDB in each batch when iterating over the results of a query
+	 * targeting the current entity. A fetch size given for a specific query takes precedence.
+	 *
+	 * @param fetchSize the number of documents per batch
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	MongoDBEntityContext fetchSize(int fetchSize);
 }
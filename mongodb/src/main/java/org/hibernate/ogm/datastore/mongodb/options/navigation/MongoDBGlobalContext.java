@@ -79,4 +79,13 @@ public interface MongoDBGlobalContext extends DocumentStoreGlobalContext<MongoDB
 	 * @return this context, allowing for further fluent API invocations
 	 */
 	MongoDBGlobalContext associationDocumentStorage(AssociationDocumentStorageType associationDocumentStorage);
+
+	/**
+	 * Defines the number of documents returned by MongoDB in each batch when iterating over the results of a query
+	 * targeting the entities. A fetch size given for a specific query takes precedence.
+	 *
+	 * @param fetchSize the number of documents per batch
+	 * @return this context, allowing for further fluent API invocations
+	 */
+	MongoDBGlobalContext fetchSize(int fetchSize);
 }
@@ -13,6 +13,7 @@
 import org.hibernate.ogm.datastore.mongodb.options.ReadPreferenceType;
 import org.hibernate.ogm.datastore.mongodb.options.WriteConcernType;
 import org.hibernate.ogm.datastore.mongodb.options.impl.AssociationDocumentStorageOption;
+import org.hibernate.ogm.datastore.mongodb.options.impl.FetchSizeOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.ReadConcernOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.ReadPreferenceOption;
 import org.hibernate.ogm.datastore.mongodb.options.impl.WriteConcernOption;
@@ -78,4 +79,11 @@ public MongoDBEntityContext associationDocumentStorage(AssociationDocumentStorag
 		addEntityOption( new AssociationDocumentStorageOption(), associationDocumentStorage );
 		return this;
 	}
+
+	@Override
+	public MongoDBEntityContext fetchSize(int fetchSize) {
+		Contracts.assertTrue( fetchSize > 0, "fetchSize must be greater than 0" );
+		addEntityOption( new FetchSizeOption(), fetchSize );
+		return this;
+	}
 }
@@ -23,6 +23,13 @@ public class GridFS {
 
 	private final InputStream inputStream;
 
+	/**
+	 * For subclasses providing the stream in {@link #getInputStream()}.
+	 */
+	protected GridFS() {
+		this.inputStream = null;
+	}
+
 	public GridFS(InputStream inputStream) {
 		this.inputStream = inputStream;
 	}
@@ -7,14 +7,18 @@
 package org.hibernate.ogm.datastore.mongodb.configuration.impl;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import org.hibernate.HibernateException;
 import org.hibernate.boot.registry.classloading.internal.ClassLoaderServiceImpl;
 import org.hibernate.ogm.cfg.OgmProperties;
+import org.hibernate.ogm.datastore.mongodb.MongoDBProperties;
 import org.hibernate.ogm.options.navigation.impl.OptionsContextImpl;
 import org.hibernate.ogm.options.navigation.source.impl.OptionValueSources;
 import org.hibernate.ogm.options.spi.OptionsContext;
@@ -81,6 +85,33 @@ public void testCustomServerSelectionTimeoutIsApplied() {
 		);
 	}
 
+	@Test
+	public void testBulkWriteIsDisabledByDefault() {
+		MongoDBConfiguration mongoConfig = new MongoDBConfiguration( propertyReader, globalOptions );
+
+		assertFalse( "Bulk write should be disabled by default", mongoConfig.isBulkWrite() );
+		assertEquals( "Unexpected bulk write batch size", MongoDBConfiguration.DEFAULT_BULK_WRITE_BATCH_SIZE, mongoConfig.getBulkWriteBatchSize() );
+		assertTrue( "Bulk writes should be ordered by default", mongoConfig.isBulkWriteOrdered() );
+	}
+
+	@Test
+	public void testCustomBulkWriteSettingsAreApplied() {
+		configProperties.put( MongoDBProperties.BULK_WRITE, "true" );
+		configProperties.put( MongoDBProperties.BULK_WRITE_BATCH_SIZE, "50" );
+		configProperties.put( MongoDBProperties.BULK_WRITE_ORDERED, "false" );
+		MongoDBConfiguration mongoConfig = new MongoDBConfiguration( propertyReader, globalOptions );
+
+		assertTrue( "Bulk write should be enabled", mongoConfig.isBulkWrite() );
+		assertEquals( "Unexpected bulk write batch size", 50, mongoConfig.getBulkWriteBatchSize() );
+		assertFalse( "Bulk writes should be unordered", mongoConfig.isBulkWriteOrdered() );
+	}
+
+	@Test(expected = HibernateException.class)
+	public void testInvalidBulkWriteBatchSizeIsRejected() {
+		configProperties.put( MongoDBProperties.BULK_WRITE_BATCH_SIZE, "0" );
+		new MongoDBConfiguration( propertyReader, globalOptions );
+	}
+
 	private MongoClientSettings createMongoClientSettings() {
 		MongoDBConfiguration mongoConfig = new MongoDBConfiguration(
 				propertyReader,
@@ -0,0 +1,121 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.ogm.backendtck.simpleentity.Helicopter;
+import org.hibernate.ogm.datastore.mongodb.MongoDBProperties;
+import org.hibernate.ogm.utils.OgmTestCase;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Test the flush of the operations queue using {@code bulkWrite} commands.
+ * <p>
+ * The batch size is smaller than the number of entities to make sure that large flushes are split correctly.
+ */
+public class BulkWriteTest extends OgmTestCase {
+
+	private static final int NUMBER_OF_ENTITIES = 5;
+
+	@Test
+	public void testInsertUpdateAndDelete() throws Exception {
+		List<String> ids = new ArrayList<>();
+
+		Session session = openSession();
+		session.beginTransaction();
+		for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+			Helicopter helicopter = helicopter( "H_" + i );
+			session.persist( helicopter );
+			ids.add( helicopter.getUUID() );
+		}
+		session.getTransaction().commit();
+		session.clear();
+
+		session.beginTransaction();
+		for ( String id : ids ) {
+			Helicopter helicopter = session.get( Helicopter.class, id );
+			assertThat( helicopter ).isNotNull();
+			helicopter.setName( helicopter.getName() + "_updated" );
+		}
+		session.getTransaction().commit();
+		session.clear();
+
+		session.beginTransaction();
+		for ( String id : ids ) {
+			Helicopter helicopter = session.get( Helicopter.class, id );
+			assertThat( helicopter.getName() ).endsWith( "_updated" );
+			session.delete( helicopter );
+		}
+		session.getTransaction().commit();
+		session.clear();
+
+		session.beginTransaction();
+		for ( String id : ids ) {
+			assertThat( session.get( Helicopter.class, id ) ).isNull();
+		}
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@Test
+	public void testInsertAndDeleteInTheSameFlush() throws Exception {
+		Session session = openSession();
+		session.beginTransaction();
+		List<Helicopter> helicopters = new ArrayList<>();
+		for ( int i = 0; i < NUMBER_OF_ENTITIES; i++ ) {
+			Helicopter helicopter = helicopter( "H_" + i );
+			session.persist( helicopter );
+			helicopters.add( helicopter );
+		}
+		for ( Helicopter helicopter : helicopters ) {
+			session.delete( helicopter );
+		}
+		session.getTransaction().commit();
+		session.clear();
+
+		session.beginTransaction();
+		assertThat( session.createQuery( "FROM Helicopter" ).list() ).isEmpty();
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	@After
+	public void clean() {
+		Session session = openSession();
+		session.beginTransaction();
+		List<Helicopter> helicopters = session.createQuery( "FROM Helicopter" ).list();
+		for ( Helicopter helicopter : helicopters ) {
+			session.delete( helicopter );
+		}
+		session.getTransaction().commit();
+		session.close();
+	}
+
+	private Helicopter helicopter(String name) {
+		Helicopter helicopter = new Helicopter();
+		helicopter.setName( name );
+		return helicopter;
+	}
+
+	@Override
+	protected Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Helicopter.class };
+	}
+
+	@Override
+	protected void configure(Map<String, Object> settings) {
+		settings.put( MongoDBProperties.BULK_WRITE, true );
+		settings.put( MongoDBProperties.BULK_WRITE_BATCH_SIZE, 2 );
+	}
+}
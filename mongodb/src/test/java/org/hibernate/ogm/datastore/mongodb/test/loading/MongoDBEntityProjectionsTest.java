@@ -0,0 +1,63 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.loading;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.bson.Document;
+import org.hibernate.ogm.datastore.mongodb.dialect.impl.MongoDBEntityProjections;
+import org.hibernate.ogm.dialect.impl.TupleTypeContextImpl;
+import org.hibernate.ogm.dialect.spi.TupleTypeContext;
+import org.junit.Test;
+
+/**
+ * A new {@link TupleTypeContext} can be created for each read, the projections must not be cached per context.
+ */
+public class MongoDBEntityProjectionsTest {
+
+	private final MongoDBEntityProjections projections = new MongoDBEntityProjections();
+
+	@Test
+	public void testRepeatedReadsOfAnEntityTypeShareTheirProjection() {
+		Document first = projections.get( context( Arrays.asList( "name", "version" ), Collections.<String>emptySet() ) );
+		for ( int i = 0; i < 100; i++ ) {
+			Document projection = projections.get( context( Arrays.asList( "name", "version" ), Collections.<String>emptySet() ) );
+			assertThat( projection ).isSameAs( first );
+		}
+
+		assertThat( projections.size() ).isEqualTo( 1 );
+		assertThat( first.keySet() ).containsOnly( "name", "version" );
+	}
+
+	@Test
+	public void testEntityTypesWithDifferentColumnsHaveTheirOwnProjection() {
+		Document project = projections.get( context( Arrays.asList( "name" ), Collections.<String>emptySet() ) );
+		Document module = projections.get( context( Arrays.asList( "name" ), new HashSet<>( Arrays.asList( "project_id" ) ) ) );
+
+		assertThat( project.keySet() ).containsOnly( "name" );
+		assertThat( module.keySet() ).containsOnly( "name", "project_id" );
+		assertThat( projections.size() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void testContextsWithoutColumnsAreNotCached() {
+		Document projection = projections.get( context( Collections.<String>emptyList(), Collections.<String>emptySet() ) );
+
+		assertThat( projection.isEmpty() ).isTrue();
+		assertThat( projections.size() ).isEqualTo( 0 );
+	}
+
+	private static TupleTypeContext context(List<String> selectableColumns, Set<String> polymorphicEntityColumns) {
+		return new TupleTypeContextImpl( selectableColumns, polymorphicEntityColumns, Collections.emptyMap(), Collections.emptyMap(), null, null, null );
+	}
+}
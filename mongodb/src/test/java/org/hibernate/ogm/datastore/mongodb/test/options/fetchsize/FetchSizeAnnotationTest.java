@@ -0,0 +1,78 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.options.fetchsize;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.hibernate.HibernateException;
+import org.hibernate.ogm.datastore.mongodb.options.FetchSize;
+import org.hibernate.ogm.datastore.mongodb.options.impl.FetchSizeOption;
+import org.hibernate.ogm.options.container.impl.OptionsContainer;
+import org.hibernate.ogm.options.navigation.source.impl.AnnotationOptionValueSource;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test for the {@link FetchSize} annotation.
+ */
+public class FetchSizeAnnotationTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private AnnotationOptionValueSource source;
+
+	@Before
+	public void setupBuilder() {
+		source = new AnnotationOptionValueSource();
+	}
+
+	@Test
+	public void testFetchSizeForEntity() throws Exception {
+		OptionsContainer options = source.getEntityOptions( EntityFetchSizeExample.class );
+		assertThat( options.getUnique( FetchSizeOption.class ) ).isEqualTo( 25 );
+	}
+
+	@Test
+	public void testNoFetchSizeForEntityWithoutAnnotation() throws Exception {
+		OptionsContainer options = source.getEntityOptions( EntityWithoutFetchSizeExample.class );
+		assertThat( options.getUnique( FetchSizeOption.class ) ).isNull();
+	}
+
+	@Test
+	public void testZeroFetchSizeIsRejected() throws Exception {
+		thrown.expect( HibernateException.class );
+		thrown.expectMessage( "OGM001241" );
+
+		source.getEntityOptions( EntityZeroFetchSizeExample.class );
+	}
+
+	@Test
+	public void testNegativeFetchSizeIsRejected() throws Exception {
+		thrown.expect( HibernateException.class );
+		thrown.expectMessage( "OGM001241" );
+
+		source.getEntityOptions( EntityNegativeFetchSizeExample.class );
+	}
+
+	@FetchSize(25)
+	private static final class EntityFetchSizeExample {
+	}
+
+	private static final class EntityWithoutFetchSizeExample {
+	}
+
+	@FetchSize(0)
+	private static final class EntityZeroFetchSizeExample {
+	}
+
+	@FetchSize(-10)
+	private static final class EntityNegativeFetchSizeExample {
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.mongodb.test.options.fetchsize;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import org.hibernate.AssertionFailure;
+import org.hibernate.ogm.datastore.mongodb.MongoDB;
+import org.hibernate.ogm.datastore.mongodb.options.impl.FetchSizeOption;
+import org.hibernate.ogm.datastore.mongodb.options.navigation.MongoDBGlobalContext;
+import org.hibernate.ogm.options.container.impl.OptionsContainer;
+import org.hibernate.ogm.options.navigation.impl.AppendableConfigurationContext;
+import org.hibernate.ogm.options.navigation.impl.ConfigurationContextImpl;
+import org.hibernate.ogm.options.navigation.source.impl.OptionValueSource;
+import org.hibernate.ogm.options.navigation.source.impl.ProgrammaticOptionValueSource;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test the {@link FetchSizeOption} given via the programmatic API.
+ */
+public class FetchSizeOptionTest {
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private MongoDBGlobalContext mongoOptions;
+	private AppendableConfigurationContext context;
+
+	@Before
+	public void setupBuilder() {
+		context = new AppendableConfigurationContext();
+		mongoOptions = new MongoDB().getConfigurationBuilder( new ConfigurationContextImpl( context ) );
+	}
+
+	@Test
+	public void testFetchSizeOnGlobalLevel() throws Exception {
+		mongoOptions.fetchSize( 50 );
+
+		OptionsContainer options = getSource().getGlobalOptions();
+		assertThat( options.getUnique( FetchSizeOption.class ) ).isEqualTo( 50 );
+	}
+
+	@Test
+	public void testFetchSizePriority() throws Exception {
+		mongoOptions
+			.fetchSize( 50 )
+			.entity( ExampleForMongoDBMapping.class )
+				.fetchSize( 10 );
+
+		OptionsContainer options = getSource().getGlobalOptions();
+		assertThat( options.getUnique( FetchSizeOption.class ) ).isEqualTo( 50 );
+
+		options = getSource().getEntityOptions( ExampleForMongoDBMapping.class );
+		assertThat( options.getUnique( FetchSizeOption.class ) ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void testZeroFetchSizeIsRejectedOnGlobalLevel() throws Exception {
+		thrown.expect( AssertionFailure.class );
+		thrown.expectMessage( "fetchSize must be greater than 0" );
+
+		mongoOptions.fetchSize( 0 );
+	}
+
+	@Test
+	public void testNegativeFetchSizeIsRejectedOnEntityLevel() throws Exception {
+		thrown.expect( AssertionFailure.class );
+		thrown.expectMessage( "fetchSize must be greater than 0" );
+
+		mongoOptions
+			.entity( ExampleForMongoDBMapping.class )
+				.fetchSize( -1 );
+	}
+
+	private OptionValueSource getSource() {
+		return new ProgrammaticOptionValueSource( context );
+	}
+
+	@SuppressWarnings("unused")
+	private static final class ExampleForMongoDBMapping {
+		String content;
+	}
+}
@@ -11,12 +11,16 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
+import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jEntityQueries;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
 import java.lang.invoke.MethodHandles;
@@ -36,6 +40,14 @@
 import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jTupleAssociationSnapshot;
 import org.hibernate.ogm.datastore.neo4j.remote.common.util.impl.RemoteNeo4jHelper;
 import org.hibernate.ogm.datastore.spi.DatastoreProvider;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
@@ -68,6 +80,7 @@
 import org.neo4j.driver.v1.Session;
 import org.neo4j.driver.v1.Statement;
 import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.StatementResultCursor;
 import org.neo4j.driver.v1.Transaction;
 import org.neo4j.driver.v1.Value;
 import org.neo4j.driver.v1.exceptions.ClientException;
@@ -87,7 +100,7 @@
  *
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
  */
-public class BoltNeo4jDialect extends BaseNeo4jDialect<BoltNeo4jEntityQueries, BoltNeo4jAssociationQueries> implements RemoteNeo4jDialect, StoredProcedureAwareGridDialect {
+public class BoltNeo4jDialect extends BaseNeo4jDialect<BoltNeo4jEntityQueries, BoltNeo4jAssociationQueries> implements RemoteNeo4jDialect, StoredProcedureAwareGridDialect, BatchableGridDialect {
 
 	public static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
@@ -207,6 +220,7 @@ private Object[] columnValues(Map<String, Object> node, EntityKeyMetadata metada
 
 	@Override
 	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
+		executeBatch( operationContext );
 		Transaction tx = transaction( operationContext );
 		BoltNeo4jEntityQueries queries = getEntityQueries( key.getMetadata(), operationContext );
 		NodeWithEmbeddedNodes owner = queries.findEntity( tx, key.getColumnValues() );
@@ -232,6 +246,7 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 			return Collections.emptyList();
 		}
 
+		executeBatch( tupleContext );
 		// We only support one metadata for now
 		EntityKeyMetadata metadata = keys[0].getMetadata();
 		// The result returned by the query might not be in the same order as the keys.
@@ -278,11 +293,35 @@ private List<Tuple> tuplesResult(EntityKey[] keys, TupleContext tupleContext, Cl
 
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleContext tupleContext) throws TupleAlreadyExistsException {
-		Tuple tuple = tuplePointer.getTuple();
+		insertOrUpdateTuple( key, tuplePointer.getTuple(), tupleContext, null );
+	}
+
+	/**
+	 * @param pipeline the statements of the batch being executed, {@code null} if the statements have to be executed
+	 * immediately
+	 */
+	private void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext, StatementPipeline pipeline) {
 		final Map<String, EntityKey> toOneAssociations = new HashMap<>();
 		Map<String, Object> properties = new HashMap<>();
 		List<Statement> statements = new ArrayList<>();
-		applyTupleOperations( key, tuple, properties, toOneAssociations, statements, tuple.getOperations(), tupleContext, tupleContext.getTransactionContext() );
+		applyTupleOperations( key, tuple, properties, toOneAssociations, statements, tuple.getOperations(), tupleContext );
+		List<Statement> toOneStatements = new ArrayList<>();
+		saveToOneAssociations( toOneStatements, key, toOneAssociations, tupleContext );
+		if ( pipeline != null ) {
+			Transaction tx = transaction( tupleContext );
+			BoltNeo4jEntityQueries queries = getEntityQueries( key.getMetadata(), tupleContext );
+			if ( SnapshotType.INSERT.equals( tuple.getSnapshotType() ) ) {
+				pipeline.addBulkOperation( BulkOperationType.CREATE, tx, queries, key, properties );
+			}
+			else if ( !properties.isEmpty() ) {
+				pipeline.addBulkOperation( BulkOperationType.UPDATE, tx, queries, key, queries.updateRow( key.getColumnValues(), properties ) );
+			}
+			pipeline.addNodeStatements( tx, key, statements );
+			pipeline.addRelationshipStatements( tx, key, toOneStatements );
+			// Following operations on the same tuple in the batch must update the node
+			tuple.setSnapshotType( SnapshotType.UPDATE );
+			return;
+		}
 		if ( SnapshotType.INSERT.equals( tuple.getSnapshotType() ) ) {
 			// Insert new node
 			Statement statement = getEntityQueries( key.getMetadata(), tupleContext ).getCreateEntityWithPropertiesQueryStatement( key.getColumnValues(), properties );
@@ -291,18 +330,13 @@ public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleC
 		else {
 			updateTuple( key, statements, properties, tupleContext );
 		}
-		saveToOneAssociations( statements, key, toOneAssociations, tupleContext );
+		statements.addAll( toOneStatements );
 		try {
 			runAll( transaction( tupleContext ), statements );
 			tuple.setSnapshotType( SnapshotType.UPDATE );
 		}
 		catch (ClientException e) {
-			switch ( e.code() ) {
-				case BaseNeo4jDialect.CONSTRAINT_VIOLATION_CODE:
-					throw extractException( key, e );
-				default:
-					throw new HibernateException( e.getMessage() );
-			}
+			throw translate( key, e );
 		}
 	}
 
@@ -317,6 +351,15 @@ private void validate(StatementResult result) {
 		result.hasNext();
 	}
 
+	private HibernateException translate(EntityKey key, ClientException e) {
+		switch ( e.code() ) {
+			case BaseNeo4jDialect.CONSTRAINT_VIOLATION_CODE:
+				return extractException( key, e );
+			default:
+				return new HibernateException( e.getMessage() );
+		}
+	}
+
 	private HibernateException extractException(EntityKey key, ClientException exception) {
 		if ( TUPLE_ALREADY_EXISTS_EXCEPTION_PATTERN.matcher( exception.getMessage() ).matches() ) {
 			// This is the exception we expect for this kind of error by the CompensationAPI and some unit tests
@@ -334,22 +377,22 @@ private void updateTuple(EntityKey key, List<Statement> statements, Map<String,
 		}
 	}
 
-	private void applyTupleOperations(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, List<Statement> statements, Set<TupleOperation> operations, TupleContext tupleContext, TransactionContext transactionContext) {
+	private void applyTupleOperations(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, List<Statement> statements, Set<TupleOperation> operations, TupleContext tupleContext) {
 		Set<String> processedAssociationRoles = new HashSet<String>();
 
 		for ( TupleOperation operation : operations ) {
-			applyOperation( entityKey, tuple, node, toOneAssociations, statements, operation, tupleContext, transactionContext, processedAssociationRoles );
+			applyOperation( entityKey, tuple, node, toOneAssociations, statements, operation, tupleContext, processedAssociationRoles );
 		}
 	}
 
-	private void applyOperation(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, List<Statement> statements, TupleOperation operation, TupleContext tupleContext, TransactionContext transactionContext, Set<String> processedAssociationRoles) {
+	private void applyOperation(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, List<Statement> statements, TupleOperation operation, TupleContext tupleContext, Set<String> processedAssociationRoles) {
 		switch ( operation.getType() ) {
 		case PUT:
 			putTupleOperation( entityKey, tuple, node, toOneAssociations, statements, operation, tupleContext, processedAssociationRoles );
 			break;
 		case PUT_NULL:
 		case REMOVE:
-			removeTupleOperation( entityKey, node, operation, statements, tupleContext, transactionContext, processedAssociationRoles );
+			removeTupleOperation( entityKey, node, operation, statements, tupleContext, processedAssociationRoles );
 			break;
 		}
 	}
@@ -361,7 +404,7 @@ private void saveToOneAssociations(List<Statement> statements, EntityKey key, fi
 		}
 	}
 
-	private void removeTupleOperation(EntityKey entityKey, Map<String, Object> ownerNode, TupleOperation operation, List<Statement> statements, TupleContext tupleContext, TransactionContext transactionContext, Set<String> processedAssociationRoles) {
+	private void removeTupleOperation(EntityKey entityKey, Map<String, Object> ownerNode, TupleOperation operation, List<Statement> statements, TupleContext tupleContext, Set<String> processedAssociationRoles) {
 		if ( !tupleContext.getTupleTypeContext().isPartOfAssociation( operation.getColumn() ) ) {
 			if ( isPartOfRegularEmbedded( entityKey.getColumnNames(), operation.getColumn() ) ) {
 				// Embedded node
@@ -376,8 +419,8 @@ private void removeTupleOperation(EntityKey entityKey, Map<String, Object> owner
 		else {
 			String associationRole = tupleContext.getTupleTypeContext().getRole( operation.getColumn() );
 			if ( !processedAssociationRoles.contains( associationRole ) ) {
-				Transaction tx = (Transaction) transactionContext.getTransactionId();
-				getEntityQueries( entityKey.getMetadata(), tupleContext.getTupleTypeContext() ).removeToOneAssociation( tx, entityKey.getColumnValues(), associationRole );
+				Statement statement = getEntityQueries( entityKey.getMetadata(), tupleContext.getTupleTypeContext() ).getRemoveToOneAssociationStatement( entityKey.getColumnValues(), associationRole );
+				statements.add( statement );
 			}
 		}
 	}
@@ -415,11 +458,22 @@ private void putProperty(EntityKey entityKey, Map<String, Object> node, TupleOpe
 
 	@Override
 	public void removeTuple(EntityKey key, TupleContext tupleContext) {
-		getEntityQueries( key.getMetadata(), tupleContext ).removeEntity( transaction( tupleContext ), key.getColumnValues() );
+		removeTuple( key, tupleContext, null );
+	}
+
+	private void removeTuple(EntityKey key, TupleContext tupleContext, StatementPipeline pipeline) {
+		BoltNeo4jEntityQueries queries = getEntityQueries( key.getMetadata(), tupleContext );
+		if ( pipeline == null ) {
+			transaction( tupleContext ).run( queries.getRemoveEntityStatement( key.getColumnValues() ) );
+		}
+		else {
+			pipeline.addBulkOperation( BulkOperationType.REMOVE, transaction( tupleContext ), queries, key, queries.keyRow( key.getColumnValues() ) );
+		}
 	}
 
 	@Override
 	public Association getAssociation(AssociationKey associationKey, AssociationContext associationContext) {
+		executeBatch( associationContext );
 		EntityKey entityKey = associationKey.getEntityKey();
 		Transaction tx = transaction( associationContext );
 		NodeWithEmbeddedNodes node = getEntityQueries( entityKey.getMetadata(), associationContext ).findEntity( tx, entityKey.getColumnValues() );
@@ -462,6 +516,10 @@ protected RowKey convert(AssociationKey associationKey, TupleSnapshot snapshot)
 
 	@Override
 	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		insertOrUpdateAssociation( key, association, associationContext, null );
+	}
+
+	private void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext, StatementPipeline pipeline) {
 		// If this is the inverse side of a bi-directional association, we don't create a relationship for this; this
 		// will happen when updating the main side
 		if ( key.getMetadata().isInverse() ) {
@@ -469,27 +527,27 @@ public void insertOrUpdateAssociation(AssociationKey key, Association associatio
 		}
 
 		for ( AssociationOperation action : association.getOperations() ) {
-			applyAssociationOperation( association, key, action, associationContext );
+			applyAssociationOperation( association, key, action, associationContext, pipeline );
 		}
 	}
 
-	private void applyAssociationOperation(Association association, AssociationKey key, AssociationOperation operation, AssociationContext associationContext) {
+	private void applyAssociationOperation(Association association, AssociationKey key, AssociationOperation operation, AssociationContext associationContext, StatementPipeline pipeline) {
 		switch ( operation.getType() ) {
 		case CLEAR:
-			removeAssociation( key, associationContext );
+			removeAssociation( key, associationContext, pipeline );
 			break;
 		case PUT:
-			putAssociationOperation( key, operation, associationContext );
+			putAssociationOperation( key, operation, associationContext, pipeline );
 			break;
 		case REMOVE:
-			removeAssociationOperation( key, operation, associationContext );
+			removeAssociationOperation( key, operation, associationContext, pipeline );
 			break;
 		}
 	}
 
-	private void removeAssociationOperation(AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext) {
-		Transaction tx = transaction( associationContext );
-		getAssociationQueries( associationKey.getMetadata() ).removeAssociationRow( tx, associationKey, action.getKey() );
+	private void removeAssociationOperation(AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext, StatementPipeline pipeline) {
+		Statement statement = getAssociationQueries( associationKey.getMetadata() ).getRemoveAssociationRowStatement( associationKey, action.getKey() );
+		run( transaction( associationContext ), statement, pipeline );
 	}
 
 	/**
@@ -500,29 +558,29 @@ private void removeAssociationOperation(AssociationKey associationKey, Associati
 	 * @param associatedEntityKeyMetadata
 	 * @param action
 	 */
-	private void putAssociationOperation(AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext) {
+	private void putAssociationOperation(AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext, StatementPipeline pipeline) {
 		switch ( associationKey.getMetadata().getAssociationKind() ) {
 			case EMBEDDED_COLLECTION:
-				createRelationshipWithEmbeddedNode( associationKey, associationContext, action );
+				createRelationshipWithEmbeddedNode( associationKey, associationContext, action, pipeline );
 				break;
 			case ASSOCIATION:
-				findOrCreateRelationshipWithEntityNode( associationKey, associationContext, action );
+				findOrCreateRelationshipWithEntityNode( associationKey, associationContext, action, pipeline );
 				break;
 			default:
 				throw new AssertionFailure( "Unrecognized associationKind: " + associationKey.getMetadata().getAssociationKind() );
 		}
 	}
 
-	private void createRelationshipWithEmbeddedNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action) {
+	private void createRelationshipWithEmbeddedNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action, StatementPipeline pipeline) {
 		AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
-		Transaction tx = transaction( associationContext );
 		Tuple associationRow = action.getValue();
 		EntityKey embeddedKey = getEntityKey( associationRow, associatedEntityKeyMetadata  );
 		if ( !emptyNode( embeddedKey ) ) {
 			Object[] relationshipProperties = relationshipProperties( associationKey, action );
 
-			getAssociationQueries( associationKey.getMetadata() )
-					.createRelationshipForEmbeddedAssociation( tx, associationKey, embeddedKey, relationshipProperties );
+			Statement statement = getAssociationQueries( associationKey.getMetadata() )
+					.getCreateRelationshipForEmbeddedAssociationStatement( associationKey, embeddedKey, relationshipProperties );
+			run( transaction( associationContext ), statement, pipeline );
 		}
 	}
 
@@ -535,16 +593,16 @@ private static boolean emptyNode(EntityKey entityKey) {
 		return true;
 	}
 
-	private Relationship findOrCreateRelationshipWithEntityNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action) {
+	private void findOrCreateRelationshipWithEntityNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action, StatementPipeline pipeline) {
 		Tuple associationRow = action.getValue();
 		EntityKey ownerKey = associationKey.getEntityKey();
 		AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
 		EntityKey targetKey = getEntityKey( associationRow, associatedEntityKeyMetadata  );
 		Object[] relationshipProperties = relationshipProperties( associationKey, associationRow );
-		Transaction txId = transaction( associationContext );
 
-		return getAssociationQueries( associationKey.getMetadata() )
-			.createRelationship(  txId, ownerKey.getColumnValues(), targetKey.getColumnValues(), relationshipProperties );
+		Statement statement = getAssociationQueries( associationKey.getMetadata() )
+			.getCreateRelationshipStatement( ownerKey.getColumnValues(), targetKey.getColumnValues(), relationshipProperties );
+		run( transaction( associationContext ), statement, pipeline );
 	}
 
 	private Object[] relationshipProperties(AssociationKey associationKey, AssociationOperation action) {
@@ -568,13 +626,94 @@ private Object[] relationshipProperties(AssociationKey associationKey, Tuple ass
 
 	@Override
 	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		removeAssociation( key, associationContext, null );
+	}
+
+	private void removeAssociation(AssociationKey key, AssociationContext associationContext, StatementPipeline pipeline) {
 		// If this is the inverse side of a bi-directional association, we don't manage the relationship from this side
 		if ( key.getMetadata().isInverse() ) {
 			return;
 		}
 
-		Transaction tx = transaction( associationContext );
-		getAssociationQueries( key.getMetadata() ).removeAssociation( tx, key );
+		Statement statement = getAssociationQueries( key.getMetadata() ).getRemoveAssociationStatement( key );
+		run( transaction( associationContext ), statement, pipeline );
+	}
+
+	/**
+	 * Executes an association statement immediately or adds it to the pipeline of the current batch.
+	 */
+	private void run(Transaction tx, Statement statement, StatementPipeline pipeline) {
+		if ( pipeline == null ) {
+			validate( tx.run( statement ) );
+		}
+		else {
+			pipeline.addRelationshipStatements( tx, null, Collections.singletonList( statement ) );
+		}
+	}
+
+	/**
+	 * Collects the statements of all the operations in the queue and sends them to the server in a pipeline, without
+	 * waiting for the result of each statement; the results are only checked once all the statements have been sent.
+	 * <p>
+	 * The {@link OperationsQueue} groups the operations by entity, which might move the creation of a relationship
+	 * before the creation of its target node: the statements creating or updating the nodes are therefore sent before
+	 * the ones creating the relationships.
+	 * <p>
+	 * The nodes of the same type created, updated or removed by the batch are processed by a single {@code UNWIND}
+	 * statement.
+	 */
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( !queue.isClosed() ) {
+			StatementPipeline pipeline = new StatementPipeline();
+			Operation operation = queue.poll();
+			while ( operation != null ) {
+				if ( operation instanceof GroupedChangesToEntityOperation ) {
+					for ( Operation groupedOperation : ( (GroupedChangesToEntityOperation) operation ).getOperations() ) {
+						executeBatchedOperation( groupedOperation, pipeline );
+					}
+				}
+				else {
+					executeBatchedOperation( operation, pipeline );
+				}
+				operation = queue.poll();
+			}
+			queue.clear();
+			pipeline.execute();
+		}
+	}
+
+	private void executeBatchedOperation(Operation operation, StatementPipeline pipeline) {
+		if ( operation instanceof InsertOrUpdateTupleOperation ) {
+			InsertOrUpdateTupleOperation tupleOperation = (InsertOrUpdateTupleOperation) operation;
+			insertOrUpdateTuple( tupleOperation.getEntityKey(), tupleOperation.getTuplePointer().getTuple(), tupleOperation.getTupleContext(), pipeline );
+		}
+		else if ( operation instanceof RemoveTupleOperation ) {
+			RemoveTupleOperation removeTupleOperation = (RemoveTupleOperation) operation;
+			removeTuple( removeTupleOperation.getEntityKey(), removeTupleOperation.getTupleContext(), pipeline );
+		}
+		else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+			InsertOrUpdateAssociationOperation associationOperation = (InsertOrUpdateAssociationOperation) operation;
+			insertOrUpdateAssociation( associationOperation.getAssociationKey(), associationOperation.getAssociation(), associationOperation.getContext(), pipeline );
+		}
+		else if ( operation instanceof RemoveAssociationOperation ) {
+			RemoveAssociationOperation removeAssociationOperation = (RemoveAssociationOperation) operation;
+			removeAssociation( removeAssociationOperation.getAssociationKey(), removeAssociationOperation.getContext(), pipeline );
+		}
+		else {
+			throw new UnsupportedOperationException( "Operation not supported: " + operation.getClass().getSimpleName() );
+		}
+	}
+
+	/*
+	 * The operations in the queue have not been sent to the server yet: they are executed before reading so that
+	 * the changes of the current flush are visible.
+	 */
+	private void executeBatch(OperationContext operationContext) {
+		OperationsQueue queue = operationContext.getOperationsQueue();
+		if ( queue != null && !queue.isClosed() && queue.size() > 0 ) {
+			executeBatch( queue );
+		}
 	}
 
 	@Override
@@ -647,4 +786,187 @@ private Transaction transaction(TransactionContext transactionContext) {
 			return (Transaction) transactionContext.getTransactionId();
 		}
 	}
+
+	/**
+	 * The statements of a batch, sent with {@link Transaction#runAsync(Statement)} once all of them have been
+	 * collected.
+	 * <p>
+	 * The statements are sent in this order: the creation of the nodes, the other statements on the nodes, the
+	 * updates of the properties of the nodes, the removal of the nodes and finally the statements on the
+	 * relationships.
+	 */
+	private class StatementPipeline {
+
+		// By entity type, in the order they have been first requested
+		private final Map<EntityKeyMetadata, BulkOperation> creates = new LinkedHashMap<>();
+		private final Map<EntityKeyMetadata, BulkOperation> updates = new LinkedHashMap<>();
+		private final Map<EntityKeyMetadata, BulkOperation> removes = new LinkedHashMap<>();
+
+		private final List<PendingStatement> nodeStatements = new ArrayList<>();
+		private final List<PendingStatement> relationshipStatements = new ArrayList<>();
+
+		void addBulkOperation(BulkOperationType type, Transaction tx, BoltNeo4jEntityQueries queries, EntityKey entityKey, Map<String, Object> row) {
+			Map<EntityKeyMetadata, BulkOperation> operations = operations( type );
+			BulkOperation operation = operations.get( entityKey.getMetadata() );
+			if ( operation == null ) {
+				operation = new BulkOperation( type, tx, queries );
+				operations.put( entityKey.getMetadata(), operation );
+			}
+			operation.add( entityKey, row );
+		}
+
+		private Map<EntityKeyMetadata, BulkOperation> operations(BulkOperationType type) {
+			switch ( type ) {
+				case CREATE:
+					return creates;
+				case UPDATE:
+					return updates;
+				default:
+					return removes;
+			}
+		}
+
+		void addNodeStatements(Transaction tx, EntityKey entityKey, List<Statement> statements) {
+			for ( Statement statement : statements ) {
+				nodeStatements.add( new PendingStatement( tx, keys( entityKey ), statement ) );
+			}
+		}
+
+		void addRelationshipStatements(Transaction tx, EntityKey entityKey, List<Statement> statements) {
+			for ( Statement statement : statements ) {
+				relationshipStatements.add( new PendingStatement( tx, keys( entityKey ), statement ) );
+			}
+		}
+
+		private List<EntityKey> keys(EntityKey entityKey) {
+			return entityKey == null ? Collections.<EntityKey>emptyList() : Collections.singletonList( entityKey );
+		}
+
+		void execute() {
+			List<PendingStatement> statements = new ArrayList<>();
+			addAll( statements, creates );
+			statements.addAll( nodeStatements );
+			addAll( statements, updates );
+			addAll( statements, removes );
+			statements.addAll( relationshipStatements );
+
+			for ( PendingStatement pending : statements ) {
+				pending.result = pending.tx.runAsync( pending.statement )
+						.thenCompose( StatementResultCursor::consumeAsync )
+						.toCompletableFuture();
+			}
+
+			// Waits for all the statements, so that no response is left pending on the connection
+			RuntimeException failure = null;
+			for ( PendingStatement pending : statements ) {
+				try {
+					pending.result.join();
+				}
+				catch (CompletionException e) {
+					if ( failure == null ) {
+						failure = translate( pending, e.getCause() );
+					}
+				}
+			}
+			if ( failure != null ) {
+				throw failure;
+			}
+		}
+
+		private void addAll(List<PendingStatement> statements, Map<EntityKeyMetadata, BulkOperation> operations) {
+			for ( BulkOperation operation : operations.values() ) {
+				PendingStatement pending = new PendingStatement( operation.tx, operation.entityKeys, operation.toStatement() );
+				pending.bulkOperation = operation;
+				statements.add( pending );
+			}
+		}
+
+		private RuntimeException translate(PendingStatement pending, Throwable cause) {
+			if ( cause instanceof ClientException && !pending.entityKeys.isEmpty() ) {
+				return BoltNeo4jDialect.this.translate( failedKey( pending, (ClientException) cause ), (ClientException) cause );
+			}
+			if ( cause instanceof RuntimeException ) {
+				return (RuntimeException) cause;
+			}
+			return new HibernateException( cause );
+		}
+
+		/*
+		 * When the creation of several nodes violates a constraint, the node that already exists is found from the
+		 * property reported by the server: it might have been created in the same transaction, which cannot be used
+		 * anymore to look it up.
+		 */
+		private EntityKey failedKey(PendingStatement pending, ClientException cause) {
+			BulkOperation operation = pending.bulkOperation;
+			if ( operation != null && operation.type == BulkOperationType.CREATE && pending.entityKeys.size() > 1
+					&& BaseNeo4jDialect.CONSTRAINT_VIOLATION_CODE.equals( cause.code() ) ) {
+				return RemoteNeo4jHelper.conflictingKey( pending.entityKeys, cause.getMessage() );
+			}
+			return pending.entityKeys.get( 0 );
+		}
+	}
+
+	private enum BulkOperationType {
+		CREATE, UPDATE, REMOVE
+	}
+
+	/**
+	 * The rows of an {@code UNWIND} statement on the nodes of one entity type; a single row is sent with the
+	 * statement used outside of a batch.
+	 */
+	private static class BulkOperation {
+
+		private final BulkOperationType type;
+		private final Transaction tx;
+		private final BoltNeo4jEntityQueries queries;
+		private final List<EntityKey> entityKeys = new ArrayList<>();
+		private final List<Map<String, Object>> rows = new ArrayList<>();
+
+		BulkOperation(BulkOperationType type, Transaction tx, BoltNeo4jEntityQueries queries) {
+			this.type = type;
+			this.tx = tx;
+			this.queries = queries;
+		}
+
+		void add(EntityKey entityKey, Map<String, Object> row) {
+			entityKeys.add( entityKey );
+			rows.add( row );
+		}
+
+		@SuppressWarnings("unchecked")
+		Statement toStatement() {
+			boolean single = rows.size() == 1;
+			switch ( type ) {
+				case CREATE:
+					return single
+							? queries.getCreateEntityWithPropertiesQueryStatement( entityKeys.get( 0 ).getColumnValues(), rows.get( 0 ) )
+							: queries.getCreateEntitiesStatement( rows );
+				case UPDATE:
+					return single
+							? queries.getUpdateEntityPropertiesStatement( entityKeys.get( 0 ).getColumnValues(), (Map<String, Object>) rows.get( 0 ).get( BaseNeo4jEntityQueries.ROW_PROPERTIES ) )
+							: queries.getUpdateEntitiesPropertiesStatement( rows );
+				default:
+					return single
+							? queries.getRemoveEntityStatement( entityKeys.get( 0 ).getColumnValues() )
+							: queries.getRemoveEntitiesStatement( rows );
+			}
+		}
+	}
+
+	private static class PendingStatement {
+
+		private final Transaction tx;
+		private final List<EntityKey> entityKeys;
+		private final Statement statement;
+		private CompletableFuture<ResultSummary> result;
+
+		// The bulk operation the statement has been built from, null for the other statements
+		private BulkOperation bulkOperation;
+
+		PendingStatement(Transaction tx, List<EntityKey> entityKeys, Statement statement) {
+			this.tx = tx;
+			this.entityKeys = entityKeys;
+			this.statement = statement;
+		}
+	}
 }
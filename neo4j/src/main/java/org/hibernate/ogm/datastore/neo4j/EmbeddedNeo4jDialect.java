@@ -23,7 +23,9 @@
 import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jAssociationQueries;
 import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jAssociationSnapshot;
 import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jBackendQueryResultIterator;
+import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jColumnPaths;
 import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jEntityQueries;
+import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jGraphVersion;
 import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jNodesTupleIterator;
 import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jSequenceGenerator;
 import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jTupleAssociationSnapshot;
@@ -91,6 +93,8 @@ public class EmbeddedNeo4jDialect extends BaseNeo4jDialect<EmbeddedNeo4jEntityQu
 
 	private final EmbeddedNeo4jSequenceGenerator sequenceGenerator;
 
+	private final EmbeddedNeo4jGraphVersion graphVersion = new EmbeddedNeo4jGraphVersion();
+
 	public EmbeddedNeo4jDialect(EmbeddedNeo4jDatastoreProvider provider) {
 		super( EmbeddedNeo4jTypeConverter.INSTANCE );
 		this.dataBase = provider.getDatabase();
@@ -109,7 +113,8 @@ protected EmbeddedNeo4jEntityQueries createNeo4jEntityQueries(EntityKeyMetadata
 
 	@Override
 	public Tuple getTuple(EntityKey key, OperationContext context) {
-		Node entityNode = getEntityQueries( key.getMetadata(), context ).findEntity( dataBase, key.getColumnValues() );
+		EmbeddedNeo4jEntityQueries queries = getEntityQueries( key.getMetadata(), context );
+		Node entityNode = queries.findEntity( dataBase, key.getColumnValues() );
 		if ( entityNode == null ) {
 			return null;
 		}
@@ -119,7 +124,8 @@ public Tuple getTuple(EntityKey key, OperationContext context) {
 						entityNode,
 						context.getTupleTypeContext().getAllAssociatedEntityKeyMetadata(),
 						context.getTupleTypeContext().getAllRoles(),
-						key.getMetadata()
+						queries.getColumnPaths(),
+						graphVersion
 				), SnapshotType.UPDATE
 		);
 	}
@@ -133,9 +139,10 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 		// We only supports one metadata for now
 		EntityKeyMetadata metadata = keys[0].getMetadata();
 		// The result returned by the query might not be in the same order as the keys.
-		ResourceIterator<Node> nodes = getEntityQueries( metadata, tupleContext.getTupleTypeContext() ).findEntities( dataBase, keys );
+		EmbeddedNeo4jEntityQueries queries = getEntityQueries( metadata, tupleContext.getTupleTypeContext() );
+		ResourceIterator<Node> nodes = queries.findEntities( dataBase, keys );
 		try {
-			return tuplesResult( keys, tupleContext, nodes );
+			return tuplesResult( keys, tupleContext, queries.getColumnPaths(), nodes );
 		}
 		finally {
 			nodes.close();
@@ -146,7 +153,7 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 	 * This method assumes that the nodes might not be in the same order as the keys and some keys might not have a
 	 * matching result in the db.
 	 */
-	private List<Tuple> tuplesResult(EntityKey[] keys, TupleContext tupleContext, ResourceIterator<Node> nodes) {
+	private List<Tuple> tuplesResult(EntityKey[] keys, TupleContext tupleContext, EmbeddedNeo4jColumnPaths columnPaths, ResourceIterator<Node> nodes) {
 		// The list is initialized with null because some keys might not have a corresponding node
 		Tuple[] tuples = new Tuple[keys.length];
 		while ( nodes.hasNext() ) {
@@ -156,7 +163,7 @@ private List<Tuple> tuplesResult(EntityKey[] keys, TupleContext tupleContext, Re
 					tuples[i] = new Tuple( EmbeddedNeo4jTupleSnapshot.fromNode( node,
 							tupleContext.getTupleTypeContext().getAllAssociatedEntityKeyMetadata(),
 							tupleContext.getTupleTypeContext().getAllRoles(),
-							keys[i].getMetadata() ), SnapshotType.UPDATE );
+							columnPaths, graphVersion ), SnapshotType.UPDATE );
 					// We assume there are no duplicated keys
 					break;
 				}
@@ -179,7 +186,8 @@ else if ( !node.hasProperty( properties[i] ) && values[i] != null ) {
 
 	@Override
 	public Tuple createTuple(EntityKey key, OperationContext tupleContext) {
-		return new Tuple( EmbeddedNeo4jTupleSnapshot.emptySnapshot( key.getMetadata() ), SnapshotType.INSERT );
+		EmbeddedNeo4jColumnPaths columnPaths = getEntityQueries( key.getMetadata(), tupleContext ).getColumnPaths();
+		return new Tuple( EmbeddedNeo4jTupleSnapshot.emptySnapshot( columnPaths, graphVersion ), SnapshotType.INSERT );
 	}
 
 	@Override
@@ -187,18 +195,23 @@ public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleC
 		Tuple tuple = tuplePointer.getTuple();
 		EmbeddedNeo4jTupleSnapshot snapshot = (EmbeddedNeo4jTupleSnapshot) tuple.getSnapshot();
 
-		// insert
-		if ( snapshot.isNew() ) {
-			Node node = insertTuple( key, tuple, tupleContext.getTupleTypeContext() );
-			snapshot.setNode( node );
-			applyTupleOperations( key, tuple, node, tuple.getOperations(), tupleContext );
-			GraphLogger.log( "Inserted node: %1$s", node );
+		try {
+			// insert
+			if ( snapshot.isNew() ) {
+				Node node = insertTuple( key, tuple, tupleContext.getTupleTypeContext() );
+				snapshot.setNode( node );
+				applyTupleOperations( key, tuple, node, tuple.getOperations(), tupleContext );
+				GraphLogger.log( "Inserted node: %1$s", node );
+			}
+			// update
+			else {
+				Node node = snapshot.getNode();
+				applyTupleOperations( key, tuple, node, tuple.getOperations(), tupleContext );
+				GraphLogger.log( "Updated node: %1$s", node );
+			}
 		}
-		// update
-		else {
-			Node node = snapshot.getNode();
-			applyTupleOperations( key, tuple, node, tuple.getOperations(), tupleContext );
-			GraphLogger.log( "Updated node: %1$s", node );
+		finally {
+			graphVersion.increment();
 		}
 	}
 
@@ -227,7 +240,12 @@ private Throwable findRecognizableCause(QueryExecutionException qee) {
 
 	@Override
 	public void removeTuple(EntityKey key, TupleContext tupleContext) {
-		getEntityQueries( key.getMetadata(), tupleContext ).removeEntity( dataBase, key.getColumnValues() );
+		try {
+			getEntityQueries( key.getMetadata(), tupleContext ).removeEntity( dataBase, key.getColumnValues() );
+		}
+		finally {
+			graphVersion.increment();
+		}
 	}
 
 	/**
@@ -332,8 +350,13 @@ public void insertOrUpdateAssociation(AssociationKey key, Association associatio
 			return;
 		}
 
-		for ( AssociationOperation action : association.getOperations() ) {
-			applyAssociationOperation( association, key, action, associationContext );
+		try {
+			for ( AssociationOperation action : association.getOperations() ) {
+				applyAssociationOperation( association, key, action, associationContext );
+			}
+		}
+		finally {
+			graphVersion.increment();
 		}
 	}
 
@@ -344,7 +367,12 @@ public void removeAssociation(AssociationKey key, AssociationContext association
 			return;
 		}
 
-		getAssociationQueries( key.getMetadata() ).removeAssociation( dataBase, key );
+		try {
+			getAssociationQueries( key.getMetadata() ).removeAssociation( dataBase, key );
+		}
+		finally {
+			graphVersion.increment();
+		}
 	}
 
 	private void applyAssociationOperation(Association association, AssociationKey key, AssociationOperation operation, AssociationContext associationContext) {
@@ -532,8 +560,9 @@ private void putOneToOneAssociation(Tuple tuple, Node node, TupleOperation opera
 
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata) {
-		ResourceIterator<Node> queryNodes = getEntityQueries( entityKeyMetadata, tupleTypeContext ).findEntities( dataBase );
-		consumer.consume( new EmbeddedNeo4jTuplesSupplier( queryNodes, tupleTypeContext, entityKeyMetadata ) );
+		EmbeddedNeo4jEntityQueries queries = getEntityQueries( entityKeyMetadata, tupleTypeContext );
+		ResourceIterator<Node> queryNodes = queries.findEntities( dataBase );
+		consumer.consume( new EmbeddedNeo4jTuplesSupplier( queryNodes, tupleTypeContext, queries.getColumnPaths(), graphVersion ) );
 	}
 
 	@Override
@@ -543,7 +572,9 @@ public ClosableIterator<Tuple> callStoredProcedure(String storedProcedureName,
 				storedProcedureName, queryParameters );
 		try {
 			Result result = dataBase.execute( queryAndParams.getKey(), queryAndParams.getValue() );
-			return new EmbeddedNeo4jBackendQueryResultIterator( result, null, tupleContext );
+			// The procedure might have changed the graph
+			graphVersion.increment();
+			return new EmbeddedNeo4jBackendQueryResultIterator( result, null, graphVersion, tupleContext );
 		}
 		catch (QueryExecutionException e) {
 			switch ( e.getStatusCode() ) {
@@ -561,17 +592,20 @@ private static class EmbeddedNeo4jTuplesSupplier implements TuplesSupplier {
 
 		private final ResourceIterator<Node> nodes;
 		private final TupleTypeContext tupleTypeContext;
-		private final EntityKeyMetadata entityKeyMetadata;
+		private final EmbeddedNeo4jColumnPaths columnPaths;
+		private final EmbeddedNeo4jGraphVersion graphVersion;
 
-		public EmbeddedNeo4jTuplesSupplier(ResourceIterator<Node> nodes, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata) {
+		public EmbeddedNeo4jTuplesSupplier(ResourceIterator<Node> nodes, TupleTypeContext tupleTypeContext, EmbeddedNeo4jColumnPaths columnPaths,
+				EmbeddedNeo4jGraphVersion graphVersion) {
 			this.nodes = nodes;
 			this.tupleTypeContext = tupleTypeContext;
-			this.entityKeyMetadata = entityKeyMetadata;
+			this.columnPaths = columnPaths;
+			this.graphVersion = graphVersion;
 		}
 
 		@Override
 		public ClosableIterator<Tuple> get(TransactionContext transactionContext) {
-			return new EmbeddedNeo4jNodesTupleIterator( nodes, entityKeyMetadata, tupleTypeContext );
+			return new EmbeddedNeo4jNodesTupleIterator( nodes, columnPaths, graphVersion, tupleTypeContext );
 		}
 	}
 
@@ -586,9 +620,14 @@ public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<String> backendQ
 		String nativeQuery = buildNativeQuery( backendQuery, queryParameters );
 		try {
 			Result result = dataBase.execute( nativeQuery, parameters );
+			// A native query might update the graph as well
+			graphVersion.increment();
 
 			EntityMetadataInformation entityMetadataInformation = backendQuery.getSingleEntityMetadataInformationOrNull();
-			return new EmbeddedNeo4jBackendQueryResultIterator( result, entityMetadataInformation, tupleContext );
+			EmbeddedNeo4jColumnPaths columnPaths = entityMetadataInformation == null
+					? null
+					: getEntityQueries( entityMetadataInformation.getEntityKeyMetadata(), tupleContext ).getColumnPaths();
+			return new EmbeddedNeo4jBackendQueryResultIterator( result, columnPaths, graphVersion, tupleContext );
 		}
 		catch (QueryExecutionException qe) {
 			throw log.nativeQueryException( qe.getStatusCode(), qe.getMessage(), qe );
@@ -601,6 +640,7 @@ public int executeBackendUpdateQuery(BackendQuery<String> backendQuery, QueryPar
 		String nativeQuery = buildNativeQuery( backendQuery, queryParameters );
 		try {
 			Result result = dataBase.execute( nativeQuery, parameters );
+			graphVersion.increment();
 			return summaryUpdates( result );
 		}
 		catch (QueryExecutionException qe) {
@@ -6,16 +6,19 @@
  */
 package org.hibernate.ogm.datastore.neo4j;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.AssertionFailure;
 import org.hibernate.HibernateException;
+import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jEntityQueries;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
 import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
 import java.lang.invoke.MethodHandles;
@@ -34,6 +37,7 @@
 import org.hibernate.ogm.datastore.neo4j.remote.http.dialect.impl.NodeWithEmbeddedNodes;
 import org.hibernate.ogm.datastore.neo4j.remote.http.impl.HttpNeo4jClient;
 import org.hibernate.ogm.datastore.neo4j.remote.http.impl.HttpNeo4jDatastoreProvider;
+import org.hibernate.ogm.datastore.neo4j.remote.http.impl.HttpNeo4jRowsStream;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.ErrorResponse;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Graph.Node;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Graph.Relationship;
@@ -42,6 +46,14 @@
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementResult;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Statements;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementsResponse;
+import org.hibernate.ogm.dialect.batch.spi.BatchableGridDialect;
+import org.hibernate.ogm.dialect.batch.spi.GroupedChangesToEntityOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.InsertOrUpdateTupleOperation;
+import org.hibernate.ogm.dialect.batch.spi.Operation;
+import org.hibernate.ogm.dialect.batch.spi.OperationsQueue;
+import org.hibernate.ogm.dialect.batch.spi.RemoveAssociationOperation;
+import org.hibernate.ogm.dialect.batch.spi.RemoveTupleOperation;
 import org.hibernate.ogm.dialect.query.spi.BackendQuery;
 import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
 import org.hibernate.ogm.dialect.query.spi.QueryParameters;
@@ -81,7 +93,7 @@
  *
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
  */
-public class HttpNeo4jDialect extends BaseNeo4jDialect<HttpNeo4jEntityQueries, HttpNeo4jAssociationQueries> implements RemoteNeo4jDialect, StoredProcedureAwareGridDialect {
+public class HttpNeo4jDialect extends BaseNeo4jDialect<HttpNeo4jEntityQueries, HttpNeo4jAssociationQueries> implements RemoteNeo4jDialect, StoredProcedureAwareGridDialect, BatchableGridDialect {
 
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
@@ -110,6 +122,7 @@ protected HttpNeo4jEntityQueries createNeo4jEntityQueries(EntityKeyMetadata enti
 
 	@Override
 	public Tuple getTuple(EntityKey key, OperationContext operationContext) {
+		executeBatch( operationContext );
 		HttpNeo4jEntityQueries queries = getEntityQueries( key.getMetadata(), operationContext );
 		Long txId = transactionId( operationContext.getTransactionContext() );
 		NodeWithEmbeddedNodes owner = queries.findEntity( client, txId, key.getColumnValues() );
@@ -135,6 +148,7 @@ public List<Tuple> getTuples(EntityKey[] keys, TupleContext tupleContext) {
 			return Collections.emptyList();
 		}
 
+		executeBatch( tupleContext );
 		Long txId = transactionId( tupleContext.getTransactionContext() );
 		// We only supports one metadata for now
 		EntityKeyMetadata metadata = keys[0].getMetadata();
@@ -183,12 +197,36 @@ private List<Tuple> tuplesResult(EntityKey[] keys, TupleContext tupleContext, Cl
 
 	@Override
 	public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleContext tupleContext) {
-		Tuple tuple = tuplePointer.getTuple();
+		insertOrUpdateTuple( key, tuplePointer.getTuple(), tupleContext, null );
+	}
+
+	/**
+	 * @param batch the statements of the batch being executed, {@code null} if the statements have to be executed
+	 * immediately
+	 */
+	private void insertOrUpdateTuple(EntityKey key, Tuple tuple, TupleContext tupleContext, StatementBatch batch) {
 		// insert
 		final Map<String, EntityKey> toOneAssociations = new HashMap<>();
 		Statements statements = new Statements();
 		Map<String, Object> properties = new HashMap<>();
-		applyTupleOperations( key, tuple, properties, toOneAssociations, statements, tuple.getOperations(), tupleContext, tupleContext.getTransactionContext() );
+		applyTupleOperations( key, tuple, properties, toOneAssociations, statements, tuple.getOperations(), tupleContext );
+		Statements toOneStatements = new Statements();
+		saveToOneAssociations( toOneStatements, key, tupleContext.getTupleTypeContext(), toOneAssociations );
+		Long txId = transactionId( tupleContext.getTransactionContext() );
+		if ( batch != null ) {
+			HttpNeo4jEntityQueries queries = getEntityQueries( key.getMetadata(), tupleContext );
+			if ( SnapshotType.INSERT.equals( tuple.getSnapshotType() ) ) {
+				batch.addBulkOperation( BulkOperationType.CREATE, txId, queries, key, properties );
+			}
+			else if ( !properties.isEmpty() ) {
+				batch.addBulkOperation( BulkOperationType.UPDATE, txId, queries, key, queries.updateRow( key.getColumnValues(), properties ) );
+			}
+			batch.addNodeStatements( txId, key, statements.getStatements() );
+			batch.addRelationshipStatements( txId, key, toOneStatements.getStatements() );
+			// Following operations on the same tuple in the batch must update the node
+			tuple.setSnapshotType( SnapshotType.UPDATE );
+			return;
+		}
 		if ( SnapshotType.INSERT.equals( tuple.getSnapshotType() ) ) {
 			Statement statement = getEntityQueries( key.getMetadata(), tupleContext ).getCreateEntityWithPropertiesQueryStatement( key.getColumnValues(), properties );
 			statements.getStatements().add( 0, statement );
@@ -196,8 +234,7 @@ public void insertOrUpdateTuple(EntityKey key, TuplePointer tuplePointer, TupleC
 		else {
 			updateTuple( key, statements, properties, tupleContext.getTupleTypeContext() );
 		}
-		saveToOneAssociations( statements, key, tupleContext.getTupleTypeContext(), toOneAssociations );
-		Long txId = transactionId( tupleContext.getTransactionContext() );
+		statements.getStatements().addAll( toOneStatements.getStatements() );
 		StatementsResponse readEntity = client.executeQueriesInOpenTransaction( txId, statements );
 		validate( readEntity, key );
 		tuple.setSnapshotType( SnapshotType.UPDATE );
@@ -226,6 +263,13 @@ private void validate(StatementsResponse readEntity, EntityKey key) {
 		}
 	}
 
+	private void validate(StatementsResponse response) {
+		if ( !response.getErrors().isEmpty() ) {
+			ErrorResponse errorResponse = response.getErrors().get( 0 );
+			throw new HibernateException( String.valueOf( errorResponse ) );
+		}
+	}
+
 	private HibernateException extractException(EntityKey key, ErrorResponse errorResponse) {
 		if ( TUPLE_ALREADY_EXISTS_EXCEPTION_PATTERN.matcher( errorResponse.getMessage() ).matches() ) {
 			// This is the exception we expect for this kind of error by the CompensationAPI and some unit tests
@@ -247,8 +291,36 @@ private void saveToOneAssociations(Statements statements, EntityKey key, TupleTy
 
 	@Override
 	public void removeTuple(EntityKey key, TupleContext tupleContext) {
+		removeTuple( key, tupleContext, null );
+	}
+
+	private void removeTuple(EntityKey key, TupleContext tupleContext, StatementBatch batch) {
+		HttpNeo4jEntityQueries queries = getEntityQueries( key.getMetadata(), tupleContext.getTupleTypeContext() );
 		Long txId = transactionId( tupleContext.getTransactionContext() );
-		getEntityQueries( key.getMetadata(), tupleContext.getTupleTypeContext() ).removeEntity( client, txId, key.getColumnValues() );
+		if ( batch == null ) {
+			run( txId, queries.getRemoveEntityStatement( key.getColumnValues() ) );
+		}
+		else {
+			batch.addBulkOperation( BulkOperationType.REMOVE, txId, queries, key, queries.keyRow( key.getColumnValues() ) );
+		}
+	}
+
+	private void run(Long txId, Statement statement) {
+		Statements statements = new Statements();
+		statements.addStatement( statement );
+		validate( client.executeQueriesInOpenTransaction( txId, statements ) );
+	}
+
+	/**
+	 * Executes an association statement immediately or adds it to the current batch.
+	 */
+	private void run(Long txId, Statement statement, StatementBatch batch) {
+		if ( batch == null ) {
+			run( txId, statement );
+		}
+		else {
+			batch.addRelationshipStatements( txId, null, Collections.singletonList( statement ) );
+		}
 	}
 
 	/**
@@ -260,20 +332,20 @@ public void removeTuple(EntityKey key, TupleContext tupleContext) {
 	 * @param action
 	 * @param associationContext
 	 */
-	private void putAssociationOperation(AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext) {
+	private void putAssociationOperation(AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext, StatementBatch batch) {
 		switch ( associationKey.getMetadata().getAssociationKind() ) {
 			case EMBEDDED_COLLECTION:
-				createRelationshipWithEmbeddedNode( associationKey, associationContext, action );
+				createRelationshipWithEmbeddedNode( associationKey, associationContext, action, batch );
 				break;
 			case ASSOCIATION:
-				findOrCreateRelationshipWithEntityNode( associationKey, associationContext, action );
+				findOrCreateRelationshipWithEntityNode( associationKey, associationContext, action, batch );
 				break;
 			default:
 				throw new AssertionFailure( "Unrecognized associationKind: " + associationKey.getMetadata().getAssociationKind() );
 		}
 	}
 
-	private void createRelationshipWithEmbeddedNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action) {
+	private void createRelationshipWithEmbeddedNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action, StatementBatch batch) {
 		AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
 		Long txId = transactionId( associationContext.getTransactionContext() );
 		Tuple associationRow = action.getValue();
@@ -281,8 +353,9 @@ private void createRelationshipWithEmbeddedNode(AssociationKey associationKey, A
 		if ( !emptyNode( embeddedKey ) ) {
 			Object[] relationshipProperties = relationshipProperties( associationKey, action );
 
-			getAssociationQueries( associationKey.getMetadata() )
-					.createRelationshipForEmbeddedAssociation( client, txId, associationKey, embeddedKey, relationshipProperties );
+			Statement statement = getAssociationQueries( associationKey.getMetadata() )
+					.getCreateRelationshipForEmbeddedAssociationStatement( associationKey, embeddedKey, relationshipProperties );
+			run( txId, statement, batch );
 		}
 	}
 
@@ -295,7 +368,7 @@ private static boolean emptyNode(EntityKey entityKey) {
 		return true;
 	}
 
-	private Relationship findOrCreateRelationshipWithEntityNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action) {
+	private void findOrCreateRelationshipWithEntityNode(AssociationKey associationKey, AssociationContext associationContext, AssociationOperation action, StatementBatch batch) {
 		Tuple associationRow = action.getValue();
 		EntityKey ownerKey = associationKey.getEntityKey();
 		AssociatedEntityKeyMetadata associatedEntityKeyMetadata = associationContext.getAssociationTypeContext().getAssociatedEntityKeyMetadata();
@@ -303,8 +376,9 @@ private Relationship findOrCreateRelationshipWithEntityNode(AssociationKey assoc
 		Object[] relationshipProperties = relationshipProperties( associationKey, associationRow );
 		Long txId = transactionId( associationContext.getTransactionContext() );
 
-		return getAssociationQueries( associationKey.getMetadata() )
-			.createRelationship( client, txId, ownerKey.getColumnValues(), targetKey.getColumnValues(), relationshipProperties );
+		Statement statement = getAssociationQueries( associationKey.getMetadata() )
+			.getCreateRelationshipStatement( ownerKey.getColumnValues(), targetKey.getColumnValues(), relationshipProperties );
+		run( txId, statement, batch );
 	}
 
 	private Object[] relationshipProperties(AssociationKey associationKey, Tuple associationRow) {
@@ -319,6 +393,7 @@ private Object[] relationshipProperties(AssociationKey associationKey, Tuple ass
 
 	@Override
 	public Association getAssociation(AssociationKey associationKey, AssociationContext associationContext) {
+		executeBatch( associationContext );
 		EntityKey entityKey = associationKey.getEntityKey();
 		Long transactionId = transactionId( associationContext.getTransactionContext() );
 		NodeWithEmbeddedNodes node = getEntityQueries( entityKey.getMetadata(), associationContext.getTupleTypeContext() ).findEntity( client, transactionId, entityKey.getColumnValues() );
@@ -360,6 +435,10 @@ private RowKey convert(AssociationKey associationKey, RemoteNeo4jTupleAssociatio
 
 	@Override
 	public void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext) {
+		insertOrUpdateAssociation( key, association, associationContext, null );
+	}
+
+	private void insertOrUpdateAssociation(AssociationKey key, Association association, AssociationContext associationContext, StatementBatch batch) {
 		// If this is the inverse side of a bi-directional association, we don't create a relationship for this; this
 		// will happen when updating the main side
 		if ( key.getMetadata().isInverse() ) {
@@ -367,31 +446,35 @@ public void insertOrUpdateAssociation(AssociationKey key, Association associatio
 		}
 
 		for ( AssociationOperation action : association.getOperations() ) {
-			applyAssociationOperation( association, key, action, associationContext );
+			applyAssociationOperation( association, key, action, associationContext, batch );
 		}
 	}
 
 	@Override
 	public void removeAssociation(AssociationKey key, AssociationContext associationContext) {
+		removeAssociation( key, associationContext, null );
+	}
+
+	private void removeAssociation(AssociationKey key, AssociationContext associationContext, StatementBatch batch) {
 		// If this is the inverse side of a bi-directional association, we don't manage the relationship from this side
 		if ( key.getMetadata().isInverse() ) {
 			return;
 		}
 
 		Long txId = transactionId( associationContext.getTransactionContext() );
-		getAssociationQueries( key.getMetadata() ).removeAssociation( client, txId, key );
+		run( txId, getAssociationQueries( key.getMetadata() ).getRemoveAssociationStatement( key ), batch );
 	}
 
-	private void applyAssociationOperation(Association association, AssociationKey key, AssociationOperation operation, AssociationContext associationContext) {
+	private void applyAssociationOperation(Association association, AssociationKey key, AssociationOperation operation, AssociationContext associationContext, StatementBatch batch) {
 		switch ( operation.getType() ) {
 		case CLEAR:
-			removeAssociation( key, associationContext );
+			removeAssociation( key, associationContext, batch );
 			break;
 		case PUT:
-			putAssociationOperation( key, operation, associationContext );
+			putAssociationOperation( key, operation, associationContext, batch );
 			break;
 		case REMOVE:
-			removeAssociationOperation( key, operation, associationContext );
+			removeAssociationOperation( key, operation, associationContext, batch );
 			break;
 		}
 	}
@@ -405,32 +488,33 @@ private Object[] relationshipProperties(AssociationKey associationKey, Associati
 		return relationshipProperties;
 	}
 
-	private void removeAssociationOperation(AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext) {
+	private void removeAssociationOperation(AssociationKey associationKey, AssociationOperation action, AssociationContext associationContext, StatementBatch batch) {
 		Long txId = transactionId( associationContext.getTransactionContext() );
-		getAssociationQueries( associationKey.getMetadata() ).removeAssociationRow( client, txId, associationKey, action.getKey() );
+		Statement statement = getAssociationQueries( associationKey.getMetadata() ).getRemoveAssociationRowStatement( associationKey, action.getKey() );
+		run( txId, statement, batch );
 	}
 
-	private void applyTupleOperations(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, Statements statements, Set<TupleOperation> operations, TupleContext tupleContext, TransactionContext transactionContext) {
+	private void applyTupleOperations(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, Statements statements, Set<TupleOperation> operations, TupleContext tupleContext) {
 		Set<String> processedAssociationRoles = new HashSet<String>();
 
 		for ( TupleOperation operation : operations ) {
-			applyOperation( entityKey, tuple, node, toOneAssociations, statements, operation, tupleContext, transactionContext, processedAssociationRoles );
+			applyOperation( entityKey, tuple, node, toOneAssociations, statements, operation, tupleContext, processedAssociationRoles );
 		}
 	}
 
-	private void applyOperation(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, Statements statements, TupleOperation operation, TupleContext tupleContext, TransactionContext transactionContext, Set<String> processedAssociationRoles) {
+	private void applyOperation(EntityKey entityKey, Tuple tuple, Map<String, Object> node, Map<String, EntityKey> toOneAssociations, Statements statements, TupleOperation operation, TupleContext tupleContext, Set<String> processedAssociationRoles) {
 		switch ( operation.getType() ) {
 		case PUT:
 			putTupleOperation( entityKey, tuple, node, toOneAssociations, statements, operation, tupleContext, processedAssociationRoles );
 			break;
 		case PUT_NULL:
 		case REMOVE:
-			removeTupleOperation( entityKey, node, operation, statements, tupleContext, transactionContext, processedAssociationRoles );
+			removeTupleOperation( entityKey, node, operation, statements, tupleContext, processedAssociationRoles );
 			break;
 		}
 	}
 
-	private void removeTupleOperation(EntityKey entityKey, Map<String, Object> ownerNode, TupleOperation operation, Statements statements, TupleContext tupleContext, TransactionContext transactionContext, Set<String> processedAssociationRoles) {
+	private void removeTupleOperation(EntityKey entityKey, Map<String, Object> ownerNode, TupleOperation operation, Statements statements, TupleContext tupleContext, Set<String> processedAssociationRoles) {
 		if ( !tupleContext.getTupleTypeContext().isPartOfAssociation( operation.getColumn() ) ) {
 			if ( isPartOfRegularEmbedded( entityKey.getColumnNames(), operation.getColumn() ) ) {
 				// Embedded node
@@ -446,8 +530,8 @@ private void removeTupleOperation(EntityKey entityKey, Map<String, Object> owner
 		else {
 			String associationRole = tupleContext.getTupleTypeContext().getRole( operation.getColumn() );
 			if ( !processedAssociationRoles.contains( associationRole ) ) {
-				Long txId = transactionId( transactionContext );
-				getEntityQueries( entityKey.getMetadata(), tupleContext ).removeToOneAssociation( client, txId, entityKey.getColumnValues(), associationRole );
+				Statement statement = getEntityQueries( entityKey.getMetadata(), tupleContext ).getRemoveToOneAssociationStatement( entityKey.getColumnValues(), associationRole );
+				statements.addStatement( statement );
 			}
 		}
 	}
@@ -482,6 +566,71 @@ private void putOneToOneAssociation(EntityKey ownerKey, Tuple tuple, Map<String,
 		}
 	}
 
+	/**
+	 * Collects the statements of all the operations in the queue and sends them to the server with a single request,
+	 * executed in the transaction of the session.
+	 * <p>
+	 * The {@link OperationsQueue} groups the operations by entity, which might move the creation of a relationship
+	 * before the creation of its target node: the statements creating or updating the nodes are therefore sent before
+	 * the ones creating the relationships.
+	 * <p>
+	 * The nodes of the same type created, updated or removed by the batch are processed by a single {@code UNWIND}
+	 * statement.
+	 */
+	@Override
+	public void executeBatch(OperationsQueue queue) {
+		if ( !queue.isClosed() ) {
+			StatementBatch batch = new StatementBatch();
+			Operation operation = queue.poll();
+			while ( operation != null ) {
+				if ( operation instanceof GroupedChangesToEntityOperation ) {
+					for ( Operation groupedOperation : ( (GroupedChangesToEntityOperation) operation ).getOperations() ) {
+						executeBatchedOperation( groupedOperation, batch );
+					}
+				}
+				else {
+					executeBatchedOperation( operation, batch );
+				}
+				operation = queue.poll();
+			}
+			queue.clear();
+			batch.execute();
+		}
+	}
+
+	private void executeBatchedOperation(Operation operation, StatementBatch batch) {
+		if ( operation instanceof InsertOrUpdateTupleOperation ) {
+			InsertOrUpdateTupleOperation tupleOperation = (InsertOrUpdateTupleOperation) operation;
+			insertOrUpdateTuple( tupleOperation.getEntityKey(), tupleOperation.getTuplePointer().getTuple(), tupleOperation.getTupleContext(), batch );
+		}
+		else if ( operation instanceof RemoveTupleOperation ) {
+			RemoveTupleOperation removeTupleOperation = (RemoveTupleOperation) operation;
+			removeTuple( removeTupleOperation.getEntityKey(), removeTupleOperation.getTupleContext(), batch );
+		}
+		else if ( operation instanceof InsertOrUpdateAssociationOperation ) {
+			InsertOrUpdateAssociationOperation associationOperation = (InsertOrUpdateAssociationOperation) operation;
+			insertOrUpdateAssociation( associationOperation.getAssociationKey(), associationOperation.getAssociation(), associationOperation.getContext(), batch );
+		}
+		else if ( operation instanceof RemoveAssociationOperation ) {
+			RemoveAssociationOperation removeAssociationOperation = (RemoveAssociationOperation) operation;
+			removeAssociation( removeAssociationOperation.getAssociationKey(), removeAssociationOperation.getContext(), batch );
+		}
+		else {
+			throw new UnsupportedOperationException( "Operation not supported: " + operation.getClass().getSimpleName() );
+		}
+	}
+
+	/*
+	 * The operations in the queue have not been sent to the server yet: they are executed before reading so that
+	 * the changes of the current flush are visible.
+	 */
+	private void executeBatch(OperationContext operationContext) {
+		OperationsQueue queue = operationContext.getOperationsQueue();
+		if ( queue != null && !queue.isClosed() && queue.size() > 0 ) {
+			executeBatch( queue );
+		}
+	}
+
 	@Override
 	public void forEachTuple(ModelConsumer consumer, TupleTypeContext tupleTypeContext, EntityKeyMetadata entityKeyMetadata) {
 		HttpTuplesSupplier tupleSupplier = new HttpTuplesSupplier( getEntityQueries( entityKeyMetadata, tupleTypeContext ), entityKeyMetadata, tupleTypeContext, client );
@@ -495,12 +644,8 @@ public ClosableIterator<Tuple> callStoredProcedure(String storedProcedureName,
 				storedProcedureName, queryParameters );
 		Statement statement = new Statement( queryAndParams.getKey(), queryAndParams.getValue() );
 		statement.setResultDataContents( Collections.singletonList( Statement.AS_ROW ) );
-		Statements statements = new Statements();
-		statements.addStatement( statement );
 		Long txId = transactionId( tupleContext.getTransactionContext() );
-		StatementsResponse response = client.executeQueriesInOpenTransaction( txId, statements );
-		if ( !response.getErrors().isEmpty() ) {
-			ErrorResponse errorResponse = response.getErrors().get( 0 );
+		HttpNeo4jRowsStream rows = client.executeQueryInOpenTransactionAsStream( txId, statement, errorResponse -> {
 			switch ( errorResponse.getCode() ) {
 				case BaseNeo4jDialect.PROCEDURE_CALL_FAILED_CODE:
 					throw log.cannotExecuteStoredProcedure( storedProcedureName, null );
@@ -509,8 +654,8 @@ public ClosableIterator<Tuple> callStoredProcedure(String storedProcedureName,
 				default:
 					throw new HibernateException( errorResponse.getMessage() );
 			}
-		}
-		return new HttpNeo4jMapsTupleIterator( response.getResults().get( 0 ) );
+		} );
+		return new HttpNeo4jMapsTupleIterator( rows );
 	}
 
 	private static class HttpTuplesSupplier implements TuplesSupplier {
@@ -544,13 +689,12 @@ public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<String> backendQ
 		String nativeQuery = buildNativeQuery( backendQuery, queryParameters );
 
 		Statement statement = new Statement( nativeQuery, parameters );
-		Statements statements = new Statements();
-		statements.addStatement( statement );
 
 		Long txId = transactionId( tupleContext.getTransactionContext() );
-		StatementsResponse response = null;
 		if ( backendQuery.getSingleEntityMetadataInformationOrNull() != null ) {
-			response = client.executeQueriesInOpenTransaction( txId, statements );
+			Statements statements = new Statements();
+			statements.addStatement( statement );
+			StatementsResponse response = client.executeQueriesInOpenTransaction( txId, statements );
 			validate( response, nativeQuery );
 			EntityKeyMetadata entityKeyMetadata = backendQuery.getSingleEntityMetadataInformationOrNull().getEntityKeyMetadata();
 			HttpNeo4jEntityQueries queries = getEntityQueries( entityKeyMetadata, tupleContext );
@@ -574,9 +718,10 @@ public ClosableIterator<Tuple> executeBackendQuery(BackendQuery<String> backendQ
 		}
 		else {
 			statement.setResultDataContents( Arrays.asList( Statement.AS_ROW ) );
-			response = client.executeQueriesInOpenTransaction( txId, statements );
-			validate( response, nativeQuery );
-			return new HttpNeo4jMapsTupleIterator( response.getResults().get( 0 ) );
+			HttpNeo4jRowsStream rows = client.executeQueryInOpenTransactionAsStream( txId, statement, errorResponse -> {
+				throw log.nativeQueryException( errorResponse.getCode(), errorResponse.getMessage(), null );
+			} );
+			return new HttpNeo4jMapsTupleIterator( rows );
 		}
 	}
 
@@ -616,4 +761,174 @@ private Object[] columnValues(Node node, EntityKeyMetadata metadata) {
 	public Number nextValue(NextValueRequest request) {
 		return sequenceGenerator.nextValue( request );
 	}
+
+	/**
+	 * The statements of a batch, sent together once all of them have been collected.
+	 * <p>
+	 * The statements are sent in this order: the creation of the nodes, the other statements on the nodes, the
+	 * updates of the properties of the nodes, the removal of the nodes and finally the statements on the
+	 * relationships.
+	 */
+	private class StatementBatch {
+
+		// By entity type, in the order they have been first requested
+		private final Map<EntityKeyMetadata, BulkOperation> creates = new LinkedHashMap<>();
+		private final Map<EntityKeyMetadata, BulkOperation> updates = new LinkedHashMap<>();
+		private final Map<EntityKeyMetadata, BulkOperation> removes = new LinkedHashMap<>();
+
+		private final List<PendingStatement> nodeStatements = new ArrayList<>();
+		private final List<PendingStatement> relationshipStatements = new ArrayList<>();
+
+		// The operations of a queue are the ones of a single session
+		private Long txId;
+
+		void addBulkOperation(BulkOperationType type, Long txId, HttpNeo4jEntityQueries queries, EntityKey entityKey, Map<String, Object> row) {
+			this.txId = txId;
+			Map<EntityKeyMetadata, BulkOperation> operations = operations( type );
+			BulkOperation operation = operations.get( entityKey.getMetadata() );
+			if ( operation == null ) {
+				operation = new BulkOperation( type, queries );
+				operations.put( entityKey.getMetadata(), operation );
+			}
+			operation.add( entityKey, row );
+		}
+
+		private Map<EntityKeyMetadata, BulkOperation> operations(BulkOperationType type) {
+			switch ( type ) {
+				case CREATE:
+					return creates;
+				case UPDATE:
+					return updates;
+				default:
+					return removes;
+			}
+		}
+
+		void addNodeStatements(Long txId, EntityKey entityKey, List<Statement> statements) {
+			this.txId = txId;
+			for ( Statement statement : statements ) {
+				nodeStatements.add( new PendingStatement( keys( entityKey ), statement ) );
+			}
+		}
+
+		void addRelationshipStatements(Long txId, EntityKey entityKey, List<Statement> statements) {
+			this.txId = txId;
+			for ( Statement statement : statements ) {
+				relationshipStatements.add( new PendingStatement( keys( entityKey ), statement ) );
+			}
+		}
+
+		private List<EntityKey> keys(EntityKey entityKey) {
+			return entityKey == null ? Collections.<EntityKey>emptyList() : Collections.singletonList( entityKey );
+		}
+
+		void execute() {
+			List<PendingStatement> pendingStatements = new ArrayList<>();
+			addAll( pendingStatements, creates );
+			pendingStatements.addAll( nodeStatements );
+			addAll( pendingStatements, updates );
+			addAll( pendingStatements, removes );
+			pendingStatements.addAll( relationshipStatements );
+			if ( pendingStatements.isEmpty() ) {
+				return;
+			}
+
+			Statements statements = new Statements();
+			for ( PendingStatement pending : pendingStatements ) {
+				statements.addStatement( pending.statement );
+			}
+			StatementsResponse response = client.executeQueriesInOpenTransaction( txId, statements );
+			if ( !response.getErrors().isEmpty() ) {
+				// The server stops at the first failing statement, the results are the ones of the previous statements
+				int failed = response.getResults() == null ? 0 : response.getResults().size();
+				throw translate( failed < pendingStatements.size() ? pendingStatements.get( failed ) : null, response.getErrors().get( 0 ) );
+			}
+		}
+
+		private void addAll(List<PendingStatement> statements, Map<EntityKeyMetadata, BulkOperation> operations) {
+			for ( BulkOperation operation : operations.values() ) {
+				PendingStatement pending = new PendingStatement( operation.entityKeys, operation.toStatement() );
+				pending.bulkOperation = operation;
+				statements.add( pending );
+			}
+		}
+
+		private HibernateException translate(PendingStatement pending, ErrorResponse errorResponse) {
+			if ( pending != null && !pending.entityKeys.isEmpty() && BaseNeo4jDialect.CONSTRAINT_VIOLATION_CODE.equals( errorResponse.getCode() ) ) {
+				return extractException( failedKey( pending, errorResponse ), errorResponse );
+			}
+			return new HibernateException( String.valueOf( errorResponse ) );
+		}
+
+		/*
+		 * When the creation of several nodes violates a constraint, the node that already exists is found from the
+		 * property reported by the server: the transaction has been rolled back and cannot be used to look it up.
+		 */
+		private EntityKey failedKey(PendingStatement pending, ErrorResponse errorResponse) {
+			BulkOperation operation = pending.bulkOperation;
+			if ( operation != null && operation.type == BulkOperationType.CREATE && pending.entityKeys.size() > 1 ) {
+				return RemoteNeo4jHelper.conflictingKey( pending.entityKeys, errorResponse.getMessage() );
+			}
+			return pending.entityKeys.get( 0 );
+		}
+	}
+
+	private enum BulkOperationType {
+		CREATE, UPDATE, REMOVE
+	}
+
+	/**
+	 * The rows of an {@code UNWIND} statement on the nodes of one entity type; a single row is sent with the
+	 * statement used outside of a batch.
+	 */
+	private static class BulkOperation {
+
+		private final BulkOperationType type;
+		private final HttpNeo4jEntityQueries queries;
+		private final List<EntityKey> entityKeys = new ArrayList<>();
+		private final List<Map<String, Object>> rows = new ArrayList<>();
+
+		BulkOperation(BulkOperationType type, HttpNeo4jEntityQueries queries) {
+			this.type = type;
+			this.queries = queries;
+		}
+
+		void add(EntityKey entityKey, Map<String, Object> row) {
+			entityKeys.add( entityKey );
+			rows.add( row );
+		}
+
+		@SuppressWarnings("unchecked")
+		Statement toStatement() {
+			boolean single = rows.size() == 1;
+			switch ( type ) {
+				case CREATE:
+					return single
+							? queries.getCreateEntityWithPropertiesQueryStatement( entityKeys.get( 0 ).getColumnValues(), rows.get( 0 ) )
+							: queries.getCreateEntitiesStatement( rows );
+				case UPDATE:
+					return single
+							? queries.getUpdateEntityPropertiesStatement( entityKeys.get( 0 ).getColumnValues(), (Map<String, Object>) rows.get( 0 ).get( BaseNeo4jEntityQueries.ROW_PROPERTIES ) )
+							: queries.getUpdateEntitiesPropertiesStatement( rows );
+				default:
+					return single
+							? queries.getRemoveEntityStatement( entityKeys.get( 0 ).getColumnValues() )
+							: queries.getRemoveEntitiesStatement( rows );
+			}
+		}
+	}
+
+	private static class PendingStatement {
+
+		private final List<EntityKey> entityKeys;
+		private final Statement statement;
+
+		// The bulk operation the statement has been built from, null for the other statements
+		private BulkOperation bulkOperation;
+
+		PendingStatement(List<EntityKey> entityKeys, Statement statement) {
+			this.entityKeys = entityKeys;
+			this.statement = statement;
+		}
+	}
 }
@@ -45,6 +45,21 @@ public abstract class BaseNeo4jEntityQueries extends BaseNeo4jQueries {
 	public static final String FIRST_EMBEDDED_REL_ALIAS = "r";
 	public static final String EMBEDDED_REL_ALIAS = "r2";
 
+	/**
+	 * The parameter containing the list of rows of the bulk queries.
+	 */
+	public static final String ROWS_PARAMETER = "rows";
+
+	/**
+	 * In the rows of the bulk update query, the entry containing the key of the node.
+	 */
+	public static final String ROW_KEY = "key";
+
+	/**
+	 * In the rows of the bulk update query, the entry containing the properties to set.
+	 */
+	public static final String ROW_PROPERTIES = "props";
+
 	private static final int CACHE_CAPACITY = 1000;
 	private static final int CACHE_CONCURRENCY_LEVEL = 20;
 
@@ -73,6 +88,9 @@ public abstract class BaseNeo4jEntityQueries extends BaseNeo4jQueries {
 	private final String createEntityWithPropertiesQuery;
 	private final String updateEntityProperties;
 	private final String removeEntityQuery;
+	private final String createEntitiesQuery;
+	private final String updateEntitiesPropertiesQuery;
+	private final String removeEntitiesQuery;
 	private final String updateEmbeddedNodeQuery;
 	private final Map<String, String> updateToOneQuery;
 	private final Map<String, String> findAssociatedEntityQuery;
@@ -101,6 +119,9 @@ public BaseNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleTypeCont
 		this.updateEntityProperties = initMatchOwnerEntityNode( entityKeyMetadata );
 		this.createEntityWithPropertiesQuery = initCreateEntityWithPropertiesQuery( entityKeyMetadata );
 		this.removeEntityQuery = initRemoveEntityQuery( entityKeyMetadata );
+		this.createEntitiesQuery = initCreateEntitiesQuery( entityKeyMetadata );
+		this.updateEntitiesPropertiesQuery = initUpdateEntitiesPropertiesQuery( entityKeyMetadata );
+		this.removeEntitiesQuery = initRemoveEntitiesQuery( entityKeyMetadata );
 		this.updateEmbeddedNodeQuery = initUpdateEmbeddedNodeQuery( entityKeyMetadata );
 		this.updateToOneQuery = initUpdateToOneQuery( entityKeyMetadata, tupleTypeContext );
 		this.findAssociatedEntityQuery = initFindAssociatedEntityQuery( entityKeyMetadata, tupleTypeContext );
@@ -551,6 +572,14 @@ private static String initCreateEntityWithPropertiesQuery(EntityKeyMetadata enti
 	private static String initRemoveEntityQuery(EntityKeyMetadata entityKeyMetadata) {
 		StringBuilder queryBuilder = new StringBuilder( "MATCH " );
 		appendEntityNode( "n", entityKeyMetadata, queryBuilder );
+		appendRemoveEntityNode( queryBuilder );
+		return queryBuilder.toString();
+	}
+
+	/*
+	 * Deletes the node n, its embedded nodes and all its relationships
+	 */
+	private static void appendRemoveEntityNode(StringBuilder queryBuilder) {
 		queryBuilder.append( " OPTIONAL MATCH (n)-[r]->(e:EMBEDDED), path=(e)-[*0..]->(:EMBEDDED) " );
 		queryBuilder.append( " DELETE r " );
 		queryBuilder.append( " FOREACH (er IN relationships(path) | DELETE er) " );
@@ -558,9 +587,104 @@ private static String initRemoveEntityQuery(EntityKeyMetadata entityKeyMetadata)
 		queryBuilder.append( " WITH n " );
 		queryBuilder.append( " OPTIONAL MATCH (n)-[r]-() " );
 		queryBuilder.append( " DELETE r,n " );
+	}
+
+	/*
+	 * Example: UNWIND {rows} AS row CREATE (n:ENTITY:table) SET n = row
+	 */
+	private static String initCreateEntitiesQuery(EntityKeyMetadata entityKeyMetadata) {
+		StringBuilder queryBuilder = new StringBuilder();
+		appendUnwindRows( queryBuilder );
+		queryBuilder.append( " CREATE (n:" );
+		queryBuilder.append( ENTITY );
+		queryBuilder.append( ":" );
+		appendLabel( entityKeyMetadata, queryBuilder );
+		queryBuilder.append( ") SET n = row" );
+		return queryBuilder.toString();
+	}
+
+	/*
+	 * Example: UNWIND {rows} AS row MATCH (owner:ENTITY:table {id: row.key.id}) SET owner += row.props
+	 */
+	private static String initUpdateEntitiesPropertiesQuery(EntityKeyMetadata entityKeyMetadata) {
+		StringBuilder queryBuilder = new StringBuilder();
+		appendUnwindRows( queryBuilder );
+		queryBuilder.append( " MATCH " );
+		appendEntityNode( ENTITY_ALIAS, entityKeyMetadata, queryBuilder, "row." + ROW_KEY );
+		queryBuilder.append( " SET " );
+		queryBuilder.append( ENTITY_ALIAS );
+		queryBuilder.append( " += row." );
+		queryBuilder.append( ROW_PROPERTIES );
+		return queryBuilder.toString();
+	}
+
+	/*
+	 * Example: UNWIND {rows} AS row MATCH (n:ENTITY:table {id: row.id}) OPTIONAL MATCH ... DELETE r,n
+	 */
+	private static String initRemoveEntitiesQuery(EntityKeyMetadata entityKeyMetadata) {
+		StringBuilder queryBuilder = new StringBuilder();
+		appendUnwindRows( queryBuilder );
+		queryBuilder.append( " MATCH " );
+		appendEntityNode( "n", entityKeyMetadata, queryBuilder, "row" );
+		appendRemoveEntityNode( queryBuilder );
 		return queryBuilder.toString();
 	}
 
+	private static void appendUnwindRows(StringBuilder queryBuilder) {
+		queryBuilder.append( "UNWIND {" );
+		queryBuilder.append( ROWS_PARAMETER );
+		queryBuilder.append( "} AS row" );
+	}
+
+	/*
+	 * Example: (n:ENTITY:table {`id.part1`: row.`id.part1`, `id.part2`: row.`id.part2`})
+	 */
+	private static void appendEntityNode(String alias, EntityKeyMetadata entityKeyMetadata, StringBuilder queryBuilder, String row) {
+		queryBuilder.append( "(" );
+		queryBuilder.append( alias );
+		queryBuilder.append( ":" );
+		queryBuilder.append( ENTITY );
+		queryBuilder.append( ":" );
+		appendLabel( entityKeyMetadata, queryBuilder );
+		queryBuilder.append( " {" );
+		String[] columnNames = entityKeyMetadata.getColumnNames();
+		for ( int i = 0; i < columnNames.length; i++ ) {
+			escapeIdentifier( queryBuilder, columnNames[i] );
+			queryBuilder.append( ": " );
+			queryBuilder.append( row );
+			queryBuilder.append( "." );
+			escapeIdentifier( queryBuilder, columnNames[i] );
+			if ( i < columnNames.length - 1 ) {
+				queryBuilder.append( ", " );
+			}
+		}
+		queryBuilder.append( "})" );
+	}
+
+	/**
+	 * @param columnValues the values of the key columns
+	 * @return the row identifying a node in the bulk update and remove queries
+	 */
+	public Map<String, Object> keyRow(Object[] columnValues) {
+		Map<String, Object> row = new HashMap<>( keyColumns.length );
+		for ( int i = 0; i < keyColumns.length; i++ ) {
+			row.put( keyColumns[i], columnValues[i] );
+		}
+		return row;
+	}
+
+	/**
+	 * @param columnValues the values of the key columns
+	 * @param properties the properties to set
+	 * @return the row of the bulk update query
+	 */
+	public Map<String, Object> updateRow(Object[] columnValues, Map<String, Object> properties) {
+		Map<String, Object> row = new HashMap<>( 2 );
+		row.put( ROW_KEY, keyRow( columnValues ) );
+		row.put( ROW_PROPERTIES, properties );
+		return row;
+	}
+
 	/*
 	 * Example:
 	 *
@@ -733,6 +857,30 @@ public String getRemoveEntityQuery() {
 		return removeEntityQuery;
 	}
 
+	/**
+	 * @return the query creating one node for each row of the parameter {@link #ROWS_PARAMETER}; each row is the map
+	 * of the properties of the node
+	 */
+	public String getCreateEntitiesQuery() {
+		return createEntitiesQuery;
+	}
+
+	/**
+	 * @return the query updating the properties of one node for each row of the parameter {@link #ROWS_PARAMETER};
+	 * see {@link #updateRow(Object[], Map)}
+	 */
+	public String getUpdateEntitiesPropertiesQuery() {
+		return updateEntitiesPropertiesQuery;
+	}
+
+	/**
+	 * @return the query removing one node for each row of the parameter {@link #ROWS_PARAMETER}; see
+	 * {@link #keyRow(Object[])}
+	 */
+	public String getRemoveEntitiesQuery() {
+		return removeEntitiesQuery;
+	}
+
 	public String getUpdateEmbeddedNodeQuery() {
 		return updateEmbeddedNodeQuery;
 	}
@@ -16,8 +16,6 @@
 import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
 import org.hibernate.ogm.dialect.spi.TupleContext;
 import org.hibernate.ogm.dialect.spi.TupleTypeContext;
-import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
-import org.hibernate.ogm.model.spi.EntityMetadataInformation;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
 import org.hibernate.ogm.model.spi.TupleSnapshot;
@@ -27,7 +25,7 @@
 /**
  * Iterator over the result of a backend query.
  * <p>
- * If {@link EntityKeyMetadata} is not {@code null}, it expects the result to contain a list of {@link Node}.
+ * If {@link EmbeddedNeo4jColumnPaths} is not {@code null}, it expects the result to contain a list of {@link Node}.
  *
  * @author Davide D'Alto
  */
@@ -35,15 +33,18 @@ public class EmbeddedNeo4jBackendQueryResultIterator extends EmbeddedNeo4jTupleI
 
 	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
 
-	private final EntityKeyMetadata entityKeyMetadata;
+	private final EmbeddedNeo4jColumnPaths columnPaths;
+	private final EmbeddedNeo4jGraphVersion graphVersion;
 	private final TupleTypeContext tupleTypeContext;
 	private final List<String> columns;
 
-	public EmbeddedNeo4jBackendQueryResultIterator(Result result, EntityMetadataInformation info, TupleContext tupleContext) {
+	public EmbeddedNeo4jBackendQueryResultIterator(Result result, EmbeddedNeo4jColumnPaths columnPaths, EmbeddedNeo4jGraphVersion graphVersion,
+			TupleContext tupleContext) {
 		super( result );
 		this.columns = result != null ? result.columns() : null;
-		this.entityKeyMetadata = info != null ? info.getEntityKeyMetadata() : null;
-		this.tupleTypeContext = info != null ? tupleContext.getTupleTypeContext() : null;
+		this.columnPaths = columnPaths;
+		this.graphVersion = graphVersion;
+		this.tupleTypeContext = columnPaths != null ? tupleContext.getTupleTypeContext() : null;
 	}
 
 	@Override
@@ -53,7 +54,7 @@ protected Tuple convert(Map<String, Object> next) {
 	}
 
 	private TupleSnapshot createSnapshot(Map<String, Object> next) {
-		if ( entityKeyMetadata == null ) {
+		if ( columnPaths == null ) {
 			return mapSnapshot( next );
 		}
 
@@ -63,7 +64,7 @@ private TupleSnapshot createSnapshot(Map<String, Object> next) {
 		}
 
 		// Projections and addEntities are not allowed in the same query at the same time
-		throw log.addEntityNotAllowedInNativeQueriesUsingProjection( entityKeyMetadata.getTable(), "" );
+		throw log.addEntityNotAllowedInNativeQueriesUsingProjection( columnPaths.getEntityKeyMetadata().getTable(), "" );
 	}
 
 	private TupleSnapshot mapSnapshot(Map<String, Object> next) {
@@ -92,6 +93,7 @@ private TupleSnapshot nodeSnapshot(Node node) {
 				node,
 				tupleTypeContext.getAllAssociatedEntityKeyMetadata(),
 				tupleTypeContext.getAllRoles(),
-				entityKeyMetadata );
+				columnPaths,
+				graphVersion );
 	}
 }
@@ -0,0 +1,84 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl;
+
+import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.hibernate.ogm.datastore.neo4j.BaseNeo4jDialect;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+
+/**
+ * The relationships leading to the embedded node containing a column of an entity, resolved once per column.
+ *
+ * @see EmbeddedNeo4jTupleSnapshot
+ */
+public final class EmbeddedNeo4jColumnPaths {
+
+	private static final EmbeddedColumn NOT_EMBEDDED = new EmbeddedColumn( new String[0], new String[0], null );
+
+	private final EntityKeyMetadata entityKeyMetadata;
+	private final ConcurrentMap<String, EmbeddedColumn> columns = new ConcurrentHashMap<>();
+
+	public EmbeddedNeo4jColumnPaths(EntityKeyMetadata entityKeyMetadata) {
+		this.entityKeyMetadata = entityKeyMetadata;
+	}
+
+	public EntityKeyMetadata getEntityKeyMetadata() {
+		return entityKeyMetadata;
+	}
+
+	/**
+	 * @param column the name of the column
+	 * @return the path to the property mapping the column, {@code null} if the column is not part of a regular
+	 * embedded
+	 */
+	EmbeddedColumn embeddedColumn(String column) {
+		EmbeddedColumn embeddedColumn = columns.get( column );
+		if ( embeddedColumn == null ) {
+			embeddedColumn = BaseNeo4jDialect.isPartOfRegularEmbedded( entityKeyMetadata.getColumnNames(), column )
+					? EmbeddedColumn.of( column )
+					: NOT_EMBEDDED;
+			columns.putIfAbsent( column, embeddedColumn );
+		}
+		return embeddedColumn == NOT_EMBEDDED ? null : embeddedColumn;
+	}
+
+	/**
+	 * A column mapped as the property of an embedded node.
+	 * <p>
+	 * For the column "address.city.name", the relationship types are "address" and "city", the paths of the
+	 * embedded nodes are "address" and "address.city" and the property is "name".
+	 */
+	static final class EmbeddedColumn {
+
+		final String[] relationshipTypes;
+		final String[] nodePaths;
+		final String property;
+
+		private EmbeddedColumn(String[] relationshipTypes, String[] nodePaths, String property) {
+			this.relationshipTypes = relationshipTypes;
+			this.nodePaths = nodePaths;
+			this.property = property;
+		}
+
+		private static EmbeddedColumn of(String column) {
+			String[] split = split( column );
+			String[] relationshipTypes = new String[split.length - 1];
+			String[] nodePaths = new String[split.length - 1];
+			int end = -1;
+			for ( int i = 0; i < relationshipTypes.length; i++ ) {
+				relationshipTypes[i] = split[i];
+				end += split[i].length() + 1;
+				nodePaths[i] = column.substring( 0, end );
+			}
+			return new EmbeddedColumn( relationshipTypes, nodePaths, split[split.length - 1] );
+		}
+	}
+}
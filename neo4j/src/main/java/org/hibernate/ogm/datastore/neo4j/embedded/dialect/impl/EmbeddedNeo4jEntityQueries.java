@@ -30,12 +30,19 @@
  */
 public class EmbeddedNeo4jEntityQueries extends BaseNeo4jEntityQueries {
 
+	private final EmbeddedNeo4jColumnPaths columnPaths;
+
 	public EmbeddedNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata) {
 		this( entityKeyMetadata, null );
 	}
 
 	public EmbeddedNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata, TupleTypeContext tupleTypeContext) {
 		super( entityKeyMetadata, tupleTypeContext, false );
+		this.columnPaths = new EmbeddedNeo4jColumnPaths( entityKeyMetadata );
+	}
+
+	public EmbeddedNeo4jColumnPaths getColumnPaths() {
+		return columnPaths;
 	}
 
 	/**
@@ -0,0 +1,32 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the changes applied to the graph by the dialect.
+ * <p>
+ * The nodes and values cached by a {@link EmbeddedNeo4jTupleSnapshot} are only valid as long as the version they have
+ * been read with is the current one: any update, e.g. of another tuple for the same node or of a relationship, changes
+ * the version.
+ */
+public final class EmbeddedNeo4jGraphVersion {
+
+	private final AtomicLong version = new AtomicLong();
+
+	public long current() {
+		return version.get();
+	}
+
+	/**
+	 * To be called once the graph has been updated.
+	 */
+	public void increment() {
+		version.incrementAndGet();
+	}
+}
@@ -7,7 +7,6 @@
 package org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl;
 
 import org.hibernate.ogm.dialect.spi.TupleTypeContext;
-import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.spi.Tuple;
 import org.hibernate.ogm.model.spi.Tuple.SnapshotType;
 import org.neo4j.graphdb.Node;
@@ -18,12 +17,15 @@
  */
 public class EmbeddedNeo4jNodesTupleIterator extends EmbeddedNeo4jTupleIterator<Node> {
 
-	private final EntityKeyMetadata entityKeyMetadata;
+	private final EmbeddedNeo4jColumnPaths columnPaths;
+	private final EmbeddedNeo4jGraphVersion graphVersion;
 	private final TupleTypeContext tupleTypeContext;
 
-	public EmbeddedNeo4jNodesTupleIterator(ResourceIterator<Node> result, EntityKeyMetadata entityKeyMetadata, TupleTypeContext tupleTypeContext) {
+	public EmbeddedNeo4jNodesTupleIterator(ResourceIterator<Node> result, EmbeddedNeo4jColumnPaths columnPaths, EmbeddedNeo4jGraphVersion graphVersion,
+			TupleTypeContext tupleTypeContext) {
 		super( result );
-		this.entityKeyMetadata = entityKeyMetadata;
+		this.columnPaths = columnPaths;
+		this.graphVersion = graphVersion;
 		this.tupleTypeContext = tupleTypeContext;
 	}
 
@@ -31,6 +33,6 @@ public EmbeddedNeo4jNodesTupleIterator(ResourceIterator<Node> result, EntityKeyM
 	protected Tuple convert(Node node) {
 		return new Tuple( EmbeddedNeo4jTupleSnapshot.fromNode( node,
 				tupleTypeContext.getAllAssociatedEntityKeyMetadata(), tupleTypeContext.getAllRoles(),
-				entityKeyMetadata ), SnapshotType.UPDATE );
+				columnPaths, graphVersion ), SnapshotType.UPDATE );
 	}
 }
@@ -6,18 +6,17 @@
  */
 package org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl;
 
-import static org.hibernate.ogm.util.impl.EmbeddedHelper.split;
 import static org.neo4j.graphdb.RelationshipType.withName;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
-import org.hibernate.ogm.datastore.neo4j.EmbeddedNeo4jDialect;
+import org.hibernate.ogm.datastore.neo4j.embedded.dialect.impl.EmbeddedNeo4jColumnPaths.EmbeddedColumn;
 import org.hibernate.ogm.model.key.spi.AssociatedEntityKeyMetadata;
-import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.spi.TupleSnapshot;
 import org.neo4j.graphdb.Direction;
 import org.neo4j.graphdb.Node;
@@ -26,31 +25,45 @@
 /**
  * Represents the Tuple snapshot as loaded by the Neo4j datastore.
  * <p>
- * The columns of the tuple are mapped as properties of the node.
+ * The columns of the tuple are mapped as properties of the node. Each embedded or associated node is reached only once
+ * and each value is read only once, as long as the {@link EmbeddedNeo4jGraphVersion} does not change: the node and
+ * the relationships can be updated through other tuples.
  *
  * @author Davide D'Alto &lt;davide@hibernate.org&gt;
  */
 public final class EmbeddedNeo4jTupleSnapshot implements TupleSnapshot {
 
 	private Node node;
-	private final EntityKeyMetadata entityKeyMetadata;
+	private final EmbeddedNeo4jColumnPaths columnPaths;
+	private final EmbeddedNeo4jGraphVersion graphVersion;
 	private final Map<String, AssociatedEntityKeyMetadata> associatedEntityKeyMetadata;
 	private final Map<String, String> rolesByColumn;
 
-	private EmbeddedNeo4jTupleSnapshot(Node node, Map<String, AssociatedEntityKeyMetadata> associatedEntityKeyMetadata, Map<String, String> rolesByColumn, EntityKeyMetadata entityKeyMetadata) {
+	// Nodes and values read from the graph at the cached version; a null value means that nothing was found
+	private long cachedVersion;
+	private final Map<String, Node> embeddedNodes = new HashMap<>();
+	private final Map<String, Node> associatedNodes = new HashMap<>();
+	private final Map<String, Object> values = new HashMap<>();
+	private Set<String> columnNames;
+
+	private EmbeddedNeo4jTupleSnapshot(Node node, Map<String, AssociatedEntityKeyMetadata> associatedEntityKeyMetadata, Map<String, String> rolesByColumn,
+			EmbeddedNeo4jColumnPaths columnPaths, EmbeddedNeo4jGraphVersion graphVersion) {
 		this.node = node;
 		this.associatedEntityKeyMetadata = associatedEntityKeyMetadata;
 		this.rolesByColumn = rolesByColumn;
-		this.entityKeyMetadata = entityKeyMetadata;
+		this.columnPaths = columnPaths;
+		this.graphVersion = graphVersion;
+		this.cachedVersion = graphVersion.current();
 	}
 
-	public static EmbeddedNeo4jTupleSnapshot emptySnapshot(EntityKeyMetadata entityKeyMetadata) {
+	public static EmbeddedNeo4jTupleSnapshot emptySnapshot(EmbeddedNeo4jColumnPaths columnPaths, EmbeddedNeo4jGraphVersion graphVersion) {
 		return new EmbeddedNeo4jTupleSnapshot( null, Collections.<String, AssociatedEntityKeyMetadata>emptyMap(), Collections.<String, String>emptyMap(),
-				entityKeyMetadata );
+				columnPaths, graphVersion );
 	}
 
-	public static EmbeddedNeo4jTupleSnapshot fromNode(Node node, Map<String, AssociatedEntityKeyMetadata> associatedEntityKeyMetadata, Map<String, String> rolesByColumn, EntityKeyMetadata entityKeyMetadata) {
-		return new EmbeddedNeo4jTupleSnapshot( node, associatedEntityKeyMetadata, rolesByColumn, entityKeyMetadata );
+	public static EmbeddedNeo4jTupleSnapshot fromNode(Node node, Map<String, AssociatedEntityKeyMetadata> associatedEntityKeyMetadata, Map<String, String> rolesByColumn,
+			EmbeddedNeo4jColumnPaths columnPaths, EmbeddedNeo4jGraphVersion graphVersion) {
+		return new EmbeddedNeo4jTupleSnapshot( node, associatedEntityKeyMetadata, rolesByColumn, columnPaths, graphVersion );
 	}
 
 	@Override
@@ -58,11 +71,22 @@ public Object get(String column) {
 		if ( isNew() ) {
 			return null;
 		}
-		else if ( associatedEntityKeyMetadata.containsKey( column ) ) {
+		validateCache();
+		if ( values.containsKey( column ) ) {
+			return values.get( column );
+		}
+		Object value = read( column );
+		values.put( column, value );
+		return value;
+	}
+
+	private Object read(String column) {
+		if ( associatedEntityKeyMetadata.containsKey( column ) ) {
 			return readPropertyOnOtherNode( column );
 		}
-		else if ( EmbeddedNeo4jDialect.isPartOfRegularEmbedded( entityKeyMetadata.getColumnNames(), column ) ) {
-			return readEmbeddedProperty( column );
+		EmbeddedColumn embeddedColumn = columnPaths.embeddedColumn( column );
+		if ( embeddedColumn != null ) {
+			return readEmbeddedProperty( embeddedColumn );
 		}
 		else {
 			return readProperty( node, column );
@@ -70,10 +94,17 @@ else if ( EmbeddedNeo4jDialect.isPartOfRegularEmbedded( entityKeyMetadata.getCol
 	}
 
 	private Object readPropertyOnOtherNode(String column) {
-		Iterator<Relationship> relationships = node.getRelationships( Direction.OUTGOING, withName( rolesByColumn.get( column ) ) ).iterator();
-
-		if ( relationships.hasNext() ) {
-			Node otherNode = relationships.next().getEndNode();
+		// The columns of a composite key share the associated node
+		String role = rolesByColumn.get( column );
+		Node otherNode;
+		if ( associatedNodes.containsKey( role ) ) {
+			otherNode = associatedNodes.get( role );
+		}
+		else {
+			otherNode = endNode( node, role );
+			associatedNodes.put( role, otherNode );
+		}
+		if ( otherNode != null ) {
 			return readProperty( otherNode, associatedEntityKeyMetadata.get( column ).getCorrespondingEntityKeyColumn( column ) );
 		}
 
@@ -81,20 +112,30 @@ private Object readPropertyOnOtherNode(String column) {
 	}
 
 	// TODO: We should create a query to read this value
-	private Object readEmbeddedProperty(String column) {
-		String[] split = split( column );
+	private Object readEmbeddedProperty(EmbeddedColumn column) {
 		Node embeddedNode = node;
-		for ( int i = 0; i < split.length - 1; i++ ) {
-			String relType = split[i];
-			Iterator<Relationship> rels = embeddedNode.getRelationships( Direction.OUTGOING, withName( relType ) ).iterator();
-			if ( rels.hasNext() ) {
-				embeddedNode = rels.next().getEndNode();
+		for ( int i = 0; i < column.relationshipTypes.length; i++ ) {
+			String nodePath = column.nodePaths[i];
+			if ( embeddedNodes.containsKey( nodePath ) ) {
+				embeddedNode = embeddedNodes.get( nodePath );
 			}
 			else {
+				embeddedNode = endNode( embeddedNode, column.relationshipTypes[i] );
+				embeddedNodes.put( nodePath, embeddedNode );
+			}
+			if ( embeddedNode == null ) {
 				return null;
 			}
 		}
-		return readProperty( embeddedNode, split[split.length - 1] );
+		return readProperty( embeddedNode, column.property );
+	}
+
+	private static Node endNode(Node startNode, String relationshipType) {
+		Iterator<Relationship> relationships = startNode.getRelationships( Direction.OUTGOING, withName( relationshipType ) ).iterator();
+		if ( relationships.hasNext() ) {
+			return relationships.next().getEndNode();
+		}
+		return null;
 	}
 
 	private Object readProperty(Node otherNode, String targetColumnName) {
@@ -116,12 +157,31 @@ public Set<String> getColumnNames() {
 			return Collections.emptySet();
 		}
 
-		Set<String> names = new HashSet<String>();
-		for ( String string : node.getPropertyKeys() ) {
-			names.add( string );
+		validateCache();
+		if ( columnNames == null ) {
+			Set<String> names = new HashSet<String>();
+			for ( String string : node.getPropertyKeys() ) {
+				names.add( string );
+			}
+			columnNames = Collections.unmodifiableSet( names );
 		}
 
-		return names;
+		return columnNames;
+	}
+
+	private void validateCache() {
+		long currentVersion = graphVersion.current();
+		if ( cachedVersion != currentVersion ) {
+			clearCache();
+			cachedVersion = currentVersion;
+		}
+	}
+
+	private void clearCache() {
+		embeddedNodes.clear();
+		associatedNodes.clear();
+		values.clear();
+		columnNames = null;
 	}
 
 	public Node getNode() {
@@ -130,6 +190,7 @@ public Node getNode() {
 
 	public void setNode(Node node) {
 		this.node = node;
+		clearCache();
 	}
 
 	/**
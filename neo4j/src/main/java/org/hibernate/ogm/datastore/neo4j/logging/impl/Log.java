@@ -94,4 +94,7 @@ public interface Log extends org.hibernate.ogm.util.impl.Log {
 	@LogMessage(level = WARN)
 	@Message(id = 1422, value = "Neo4j does not support named indexes. Property name='%1$s' is ignored!")
 	void cannotSetNameForIndex(String name);
+
+	@Message(id = 1423, value = "Unable to read the response of the Neo4j server")
+	HibernateException cannotReadResponse(@Cause Exception e);
 }
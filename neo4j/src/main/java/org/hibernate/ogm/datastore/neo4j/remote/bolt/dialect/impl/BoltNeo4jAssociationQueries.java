@@ -7,7 +7,6 @@
 package org.hibernate.ogm.datastore.neo4j.remote.bolt.dialect.impl;
 
 import java.util.Arrays;
-import java.util.Map;
 
 import org.hibernate.ogm.datastore.neo4j.dialect.impl.BaseNeo4jAssociationQueries;
 import org.hibernate.ogm.model.key.spi.AssociationKey;
@@ -16,6 +15,7 @@
 import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
 import org.hibernate.ogm.model.key.spi.RowKey;
 import org.hibernate.ogm.util.impl.ArrayHelper;
+import org.neo4j.driver.v1.Statement;
 import org.neo4j.driver.v1.StatementResult;
 import org.neo4j.driver.v1.Transaction;
 import org.neo4j.driver.v1.types.Relationship;
@@ -29,8 +29,8 @@ public BoltNeo4jAssociationQueries(EntityKeyMetadata ownerEntityKeyMetadata, Ass
 		super( ownerEntityKeyMetadata, associationKeyMetadata );
 	}
 
-	public void removeAssociation(Transaction tx, AssociationKey associationKey) {
-		tx.run( removeAssociationQuery, params( associationKey.getEntityKey().getColumnValues() ) );
+	public Statement getRemoveAssociationStatement(AssociationKey associationKey) {
+		return new Statement( removeAssociationQuery, params( associationKey.getEntityKey().getColumnValues() ) );
 	}
 
 	public Relationship findRelationship(Transaction tx, AssociationKey associationKey, RowKey rowKey) {
@@ -47,24 +47,21 @@ private Relationship relationship(StatementResult result) {
 		return null;
 	}
 
-	public Relationship createRelationshipForEmbeddedAssociation(Transaction tx, AssociationKey associationKey, EntityKey embeddedKey,
+	public Statement getCreateRelationshipForEmbeddedAssociationStatement(AssociationKey associationKey, EntityKey embeddedKey,
 			Object[] relationshipProperties) {
 		String query = initCreateEmbeddedAssociationQuery( associationKey, embeddedKey );
 		Object[] queryValues = createRelationshipForEmbeddedQueryValues( associationKey, embeddedKey, relationshipProperties );
-		StatementResult statementResult = tx.run( query, params( queryValues ) );
-		return relationship( statementResult );
+		return new Statement( query, params( queryValues ) );
 	}
 
-	public Relationship createRelationship(Transaction tx, Object[] ownerKeyValues, Object[] targetKeyValues, Object[] relationshipProperties) {
+	public Statement getCreateRelationshipStatement(Object[] ownerKeyValues, Object[] targetKeyValues, Object[] relationshipProperties) {
 		Object[] concat = ArrayHelper.concat( Arrays.asList( ownerKeyValues, targetKeyValues, relationshipProperties ) );
-		Map<String, Object> params = params( concat );
-		StatementResult statementResult = tx.run( createRelationshipQuery, params );
-		return relationship( statementResult );
+		return new Statement( createRelationshipQuery, params( concat ) );
 	}
 
-	public void removeAssociationRow(Transaction tx, AssociationKey associationKey, RowKey rowKey) {
+	public Statement getRemoveAssociationRowStatement(AssociationKey associationKey, RowKey rowKey) {
 		Object[] relationshipValues = relationshipValues( associationKey, rowKey );
 		Object[] queryValues = ArrayHelper.concat( associationKey.getEntityKey().getColumnValues(), relationshipValues );
-		tx.run( removeAssociationRowQuery, params( queryValues ) );
+		return new Statement( removeAssociationRowQuery, params( queryValues ) );
 	}
 }
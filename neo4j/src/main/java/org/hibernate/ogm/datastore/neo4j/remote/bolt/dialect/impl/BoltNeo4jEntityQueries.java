@@ -245,9 +245,9 @@ public Statement removeColumnStatement(Object[] columnValues, String column, Tra
 		return new Statement( query, params );
 	}
 
-	public void removeToOneAssociation(Transaction tx, Object[] columnValues, String associationRole) {
+	public Statement getRemoveToOneAssociationStatement(Object[] columnValues, String associationRole) {
 		Map<String, Object> params = params( ArrayHelper.concat( columnValues, associationRole ) );
-		tx.run( getRemoveToOneAssociation(), params );
+		return new Statement( getRemoveToOneAssociation(), params );
 	}
 
 	public Statement getUpdateEntityPropertiesStatement(Object[] columnValues, Map<String, Object> properties) {
@@ -278,8 +278,20 @@ public Statement getUpdateOneToOneAssociationStatement(String associationRole, O
 		return new Statement( query, params );
 	}
 
-	public void removeEntity(Transaction transaction, Object[] columnValues) {
-		transaction.run( getRemoveEntityQuery(), params( columnValues ) );
+	public Statement getRemoveEntityStatement(Object[] columnValues) {
+		return new Statement( getRemoveEntityQuery(), params( columnValues ) );
+	}
+
+	public Statement getCreateEntitiesStatement(List<Map<String, Object>> rows) {
+		return new Statement( getCreateEntitiesQuery(), Collections.singletonMap( ROWS_PARAMETER, (Object) rows ) );
+	}
+
+	public Statement getUpdateEntitiesPropertiesStatement(List<Map<String, Object>> rows) {
+		return new Statement( getUpdateEntitiesPropertiesQuery(), Collections.singletonMap( ROWS_PARAMETER, (Object) rows ) );
+	}
+
+	public Statement getRemoveEntitiesStatement(List<Map<String, Object>> rows) {
+		return new Statement( getRemoveEntitiesQuery(), Collections.singletonMap( ROWS_PARAMETER, (Object) rows ) );
 	}
 
 	public ClosableIterator<RemoteNeo4jAssociationPropertiesRow> findAssociation(Transaction tx, Object[] columnValues, String role, AssociationKeyMetadata associationKeyMetadata) {
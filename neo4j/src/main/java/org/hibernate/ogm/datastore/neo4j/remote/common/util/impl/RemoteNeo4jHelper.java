@@ -6,8 +6,12 @@
  */
 package org.hibernate.ogm.datastore.neo4j.remote.common.util.impl;
 
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import org.hibernate.ogm.model.key.spi.EntityKey;
 import org.hibernate.ogm.model.key.spi.RowKey;
 
 /**
@@ -15,9 +19,55 @@
  */
 public class RemoteNeo4jHelper {
 
+	/*
+	 * The property and the value in the message of a unique constraint violation, for example:
+	 * Node(0) already exists with label `Star` and property `name` = 'Sun'
+	 * Node 0 already exists with label Star and property "name"=[Sun]
+	 */
+	private static final Pattern CONFLICTING_PROPERTY_PATTERN = Pattern.compile(
+			".*already exists with label .+ and property [`\"](.+?)[`\"] ?= ?(?:'(.*)'|\\[(.*)\\]|(.*?))\\s*", Pattern.DOTALL );
+
 	private RemoteNeo4jHelper() {
 	}
 
+	/**
+	 * Find the key of the node that violates a unique constraint, using the property and the value reported in the
+	 * message of the server.
+	 * <p>
+	 * The node might have been created by the same statement, or by a previous statement of the transaction, and it
+	 * cannot be looked up once the transaction has failed.
+	 *
+	 * @param entityKeys the keys of the nodes created by the failed statement
+	 * @param message the message of the constraint violation
+	 * @return the key matching the property in the message, the first key if none matches
+	 */
+	public static EntityKey conflictingKey(List<EntityKey> entityKeys, String message) {
+		Matcher matcher = CONFLICTING_PROPERTY_PATTERN.matcher( String.valueOf( message ) );
+		if ( matcher.matches() ) {
+			String property = matcher.group( 1 );
+			String value = value( matcher );
+			for ( EntityKey entityKey : entityKeys ) {
+				String[] columnNames = entityKey.getColumnNames();
+				for ( int i = 0; i < columnNames.length; i++ ) {
+					Object columnValue = entityKey.getColumnValues()[i];
+					if ( columnNames[i].equals( property ) && columnValue != null && columnValue.toString().equals( value ) ) {
+						return entityKey;
+					}
+				}
+			}
+		}
+		return entityKeys.get( 0 );
+	}
+
+	private static String value(Matcher matcher) {
+		for ( int group = 2; group <= matcher.groupCount(); group++ ) {
+			if ( matcher.group( group ) != null ) {
+				return matcher.group( group );
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Check if the node matches the column values
 	 *
@@ -7,6 +7,7 @@
 package org.hibernate.ogm.datastore.neo4j.remote.http.dialect.impl;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -16,6 +17,7 @@
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.ErrorResponse;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Graph;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Row;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Statement;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementResult;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Statements;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementsResponse;
@@ -36,8 +38,8 @@ public HttpNeo4jAssociationQueries(EntityKeyMetadata ownerEntityKeyMetadata, Ass
 		super( ownerEntityKeyMetadata, associationKeyMetadata );
 	}
 
-	public void removeAssociation(HttpNeo4jClient dataBase, Long txId, AssociationKey associationKey) {
-		executeQuery( dataBase, txId, removeAssociationQuery, params( associationKey.getEntityKey().getColumnValues() ) );
+	public Statement getRemoveAssociationStatement(AssociationKey associationKey) {
+		return rowStatement( removeAssociationQuery, params( associationKey.getEntityKey().getColumnValues() ) );
 	}
 
 	public Relationship findRelationship(HttpNeo4jClient dataBase, Long txId, AssociationKey associationKey, RowKey rowKey) {
@@ -52,31 +54,36 @@ public Relationship findRelationship(HttpNeo4jClient dataBase, Long txId, Associ
 		return null;
 	}
 
-	public Relationship createRelationshipForEmbeddedAssociation(HttpNeo4jClient executionEngine, Long txId, AssociationKey associationKey, EntityKey embeddedKey,
+	public Statement getCreateRelationshipForEmbeddedAssociationStatement(AssociationKey associationKey, EntityKey embeddedKey,
 			Object[] relationshipProperties) {
 		String query = initCreateEmbeddedAssociationQuery( associationKey, embeddedKey );
 		Object[] queryValues = createRelationshipForEmbeddedQueryValues( associationKey, embeddedKey, relationshipProperties );
-		Map<String, Object> params = params( queryValues );
-		Graph result = executeQuery( executionEngine, txId, query, params );
-		return result.getRelationships().get( 0 );
+		return rowStatement( query, params( queryValues ) );
 	}
 
-	public Relationship createRelationship(HttpNeo4jClient dataBase, Long txId, Object[] ownerKeyValues, Object[] targetKeyValues, Object[] relationshipProperties) {
+	public Statement getCreateRelationshipStatement(Object[] ownerKeyValues, Object[] targetKeyValues, Object[] relationshipProperties) {
 		Object[] concat = ArrayHelper.concat( Arrays.asList( ownerKeyValues, targetKeyValues, relationshipProperties ) );
-		Map<String, Object> params = params( concat );
-		Graph result = executeQuery( dataBase, txId, createRelationshipQuery, params );
-		return result.getRelationships().get( 0 );
+		return rowStatement( createRelationshipQuery, params( concat ) );
 	}
 
-	public void removeAssociationRow(HttpNeo4jClient database, Long txId, AssociationKey associationKey, RowKey rowKey) {
+	public Statement getRemoveAssociationRowStatement(AssociationKey associationKey, RowKey rowKey) {
 		Object[] relationshipValues = relationshipValues( associationKey, rowKey );
 		Object[] queryValues = ArrayHelper.concat( associationKey.getEntityKey().getColumnValues(), relationshipValues );
-		executeQuery( database, txId, removeAssociationRowQuery, params( queryValues ) );
+		return rowStatement( removeAssociationRowQuery, params( queryValues ) );
 	}
 
-	private static Graph executeQuery(HttpNeo4jClient executionEngine, Long txId, String query, Map<String, Object> properties) {
+	/*
+	 * The statements changing the relationships are only checked for errors
+	 */
+	private static Statement rowStatement(String query, Map<String, Object> params) {
+		Statement statement = new Statement( query, params );
+		statement.setResultDataContents( Collections.singletonList( Statement.AS_ROW ) );
+		return statement;
+	}
+
+	private static Graph executeQuery(HttpNeo4jClient executionEngine, Long txId, String query, Map<String, Object> properties, String... dataContents) {
 		Statements statements = new Statements();
-		statements.addStatement( query, properties );
+		statements.addStatement( query, properties, dataContents );
 		StatementsResponse statementsResponse = executionEngine.executeQueriesInOpenTransaction( txId, statements );
 		validate( statementsResponse );
 		List<StatementResult> results = statementsResponse.getResults();
@@ -47,6 +47,8 @@ public class HttpNeo4jEntityQueries extends BaseNeo4jEntityQueries {
 	private static final ClosableIteratorAdapter<RemoteNeo4jAssociationPropertiesRow> EMPTY_RELATIONSHIPS = new ClosableIteratorAdapter<>(
 			Collections.<RemoteNeo4jAssociationPropertiesRow>emptyList().iterator() );
 
+	private static final List<String> ROW_ONLY = Collections.singletonList( Statement.AS_ROW );
+
 	private static final ClosableIteratorAdapter<NodeWithEmbeddedNodes> EMPTY_NODES = new ClosableIteratorAdapter<>( Collections.<NodeWithEmbeddedNodes>emptyList().iterator() );
 
 	public HttpNeo4jEntityQueries(EntityKeyMetadata entityKeyMetadata) {
@@ -163,13 +165,13 @@ public Node findAssociatedEntity(HttpNeo4jClient neo4jClient, Long txId, Object[
 	public Statement getCreateEntityWithPropertiesQueryStatement(Object[] columnValues, Map<String, Object> properties) {
 		String query = getCreateEntityWithPropertiesQuery();
 		Map<String, Object> params = Collections.singletonMap( "props", (Object) properties );
-		return new Statement( query, params );
+		return rowStatement( query, params );
 	}
 
 	public Statement removeColumnStatement(Object[] columnValues, String column) {
 		String query = getRemoveColumnQuery( column );
 		Map<String, Object> params = params( columnValues );
-		return new Statement( query, params );
+		return rowStatement( query, params );
 	}
 
 	public Statement getUpdateEntityPropertiesStatement(Object[] columnvalues, Map<String, Object> properties) {
@@ -180,11 +182,23 @@ public Statement getUpdateEntityPropertiesStatement(Object[] columnvalues, Map<S
 		for ( Map.Entry<String, Object> entry : properties.entrySet() ) {
 			paramsValues[index++] = entry.getValue();
 		}
-		return new Statement( query, params( paramsValues ) );
+		return rowStatement( query, params( paramsValues ) );
+	}
+
+	public Statement getRemoveEntityStatement(Object[] columnValues) {
+		return rowStatement( getRemoveEntityQuery(), params( columnValues ) );
 	}
 
-	public void removeEntity(HttpNeo4jClient executionEngine, Long txId, Object[] columnValues) {
-		executeQueryAndReturnGraph( executionEngine, txId, getRemoveEntityQuery(), params( columnValues ) );
+	public Statement getCreateEntitiesStatement(List<Map<String, Object>> rows) {
+		return rowStatement( getCreateEntitiesQuery(), Collections.singletonMap( ROWS_PARAMETER, (Object) rows ) );
+	}
+
+	public Statement getUpdateEntitiesPropertiesStatement(List<Map<String, Object>> rows) {
+		return rowStatement( getUpdateEntitiesPropertiesQuery(), Collections.singletonMap( ROWS_PARAMETER, (Object) rows ) );
+	}
+
+	public Statement getRemoveEntitiesStatement(List<Map<String, Object>> rows) {
+		return rowStatement( getRemoveEntitiesQuery(), Collections.singletonMap( ROWS_PARAMETER, (Object) rows ) );
 	}
 
 	public ClosableIterator<NodeWithEmbeddedNodes> findEntitiesWithEmbedded(HttpNeo4jClient executionEngine, Long txId) {
@@ -299,7 +313,16 @@ public Statement getUpdateOneToOneAssociationStatement(String associationRole, O
 		String query = getUpdateToOneQuery( associationRole );
 		Map<String, Object> params = params( ownerKeyValues );
 		params.putAll( params( targetKeyValues, ownerKeyValues.length ) );
-		return new Statement( query, params );
+		return rowStatement( query, params );
+	}
+
+	/*
+	 * The statements we only check for errors don't need the graph elements in the results
+	 */
+	private static Statement rowStatement(String query, Map<String, Object> params) {
+		Statement statement = new Statement( query, params );
+		statement.setResultDataContents( ROW_ONLY );
+		return statement;
 	}
 
 	private Graph executeQueryAndReturnGraph(HttpNeo4jClient executionEngine, Long txId, String query, Map<String, Object> properties,
@@ -354,19 +377,19 @@ private void validate(StatementsResponse statementsResponse) {
 	public Statement updateEmbeddedColumnStatement(Object[] keyValues, String column, Object value) {
 		String query = getUpdateEmbeddedColumnQuery( keyValues, column );
 		Map<String, Object> params = params( ArrayHelper.concat( keyValues, value, value ) );
-		return new Statement( query, params );
+		return rowStatement( query, params );
 	}
 
 	public Statement removeEmbeddedColumnStatement(Object[] keyValues, String embeddedColumn) {
 		String query = getRemoveEmbeddedPropertyQuery().get( embeddedColumn );
 		Map<String, Object> params = params( keyValues );
-		return new Statement( query, params );
+		return rowStatement( query, params );
 	}
 
 	public Statement removeEmptyEmbeddedNodesStatement(Object[] keyValues, String embeddedColumn) {
 		String query = getRemoveEmbeddedPropertyQuery().get( embeddedColumn );
 		Map<String, Object> params = params( keyValues );
-		return new Statement( query, params );
+		return rowStatement( query, params );
 	}
 
 	@SuppressWarnings("unchecked")
@@ -450,9 +473,9 @@ public Node findEmbeddedNode(HttpNeo4jClient neo4jClient, Long txId, Object[] ke
 		return result.getNodes().get( 0 );
 	}
 
-	public void removeToOneAssociation(HttpNeo4jClient executionEngine, Long txId, Object[] columnValues, String associationRole) {
+	public Statement getRemoveToOneAssociationStatement(Object[] columnValues, String associationRole) {
 		Map<String, Object> params = params( ArrayHelper.concat( columnValues, associationRole ) );
-		executeQueryAndReturnGraph( executionEngine, txId, getRemoveToOneAssociation(), params );
+		return rowStatement( getRemoveToOneAssociation(), params );
 	}
 
 	private static class ClosableIteratorAdapter<T> implements ClosableIterator<T> {
@@ -12,6 +12,7 @@
 
 import org.hibernate.ogm.datastore.map.impl.MapTupleSnapshot;
 import org.hibernate.ogm.datastore.neo4j.remote.common.dialect.impl.RemoteNeo4jMapsTupleIterator;
+import org.hibernate.ogm.datastore.neo4j.remote.http.impl.HttpNeo4jRowsStream;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Row;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementResult;
 import org.hibernate.ogm.model.spi.TupleSnapshot;
@@ -23,8 +24,16 @@
  */
 public class HttpNeo4jMapsTupleIterator extends RemoteNeo4jMapsTupleIterator<Row> {
 
+	private final HttpNeo4jRowsStream stream;
+
 	public HttpNeo4jMapsTupleIterator(StatementResult result) {
 		super( result.getData().iterator(), result.getColumns() );
+		this.stream = null;
+	}
+
+	public HttpNeo4jMapsTupleIterator(HttpNeo4jRowsStream stream) {
+		super( stream, stream.getColumns() );
+		this.stream = stream;
 	}
 
 	@Override
@@ -36,4 +45,11 @@ protected TupleSnapshot tupleSnapshot(Row next, List<String> keys) {
 		}
 		return new MapTupleSnapshot( properties );
 	}
+
+	@Override
+	public void close() {
+		if ( stream != null ) {
+			stream.close();
+		}
+	}
 }
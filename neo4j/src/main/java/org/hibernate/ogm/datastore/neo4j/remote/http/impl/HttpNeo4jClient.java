@@ -7,7 +7,10 @@
 package org.hibernate.ogm.datastore.neo4j.remote.http.impl;
 
 import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import javax.ws.rs.core.Response;
 
@@ -16,6 +19,8 @@
 import java.lang.invoke.MethodHandles;
 import org.hibernate.ogm.datastore.neo4j.remote.common.impl.RemoteNeo4jConfiguration;
 import org.hibernate.ogm.datastore.neo4j.remote.common.impl.RemoteNeo4jDatabaseIdentifier;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.ErrorResponse;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Statement;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Statements;
 import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.StatementsResponse;
 import org.hibernate.ogm.datastore.neo4j.remote.http.request.impl.HttpNeo4jAuthenticationFacade;
@@ -50,6 +55,11 @@ public class HttpNeo4jClient implements AutoCloseable {
 
 	private final RemoteNeo4jDatabaseIdentifier database;
 
+	/**
+	 * The streams of rows that have not been read completely yet, by transaction
+	 */
+	private final ConcurrentMap<Long, HttpNeo4jRowsStream> openStreams = new ConcurrentHashMap<>();
+
 	public HttpNeo4jClient(RemoteNeo4jDatabaseIdentifier database, RemoteNeo4jConfiguration configuration) {
 		this.database = database;
 		this.client = createRestClient( database, configuration );
@@ -102,6 +112,7 @@ public void close() {
 	}
 
 	public StatementsResponse executeQueriesInOpenTransaction(Long txId, Statements statements) {
+		bufferOpenStream( txId );
 		Response response = neo4jFacade.executeQuery( txId, statements );
 		try {
 			return response.readEntity( StatementsResponse.class );
@@ -111,6 +122,44 @@ public StatementsResponse executeQueriesInOpenTransaction(Long txId, Statements
 		}
 	}
 
+	/**
+	 * Executes a statement and returns its rows as they are read from the response.
+	 * <p>
+	 * The rows are read in memory if another request is sent in the same transaction before the stream has been
+	 * consumed.
+	 *
+	 * @param txId the identifier of the transaction
+	 * @param statement the statement to execute
+	 * @param errorHandler called with the first error returned by the server
+	 * @return the rows returned by the statement
+	 */
+	public HttpNeo4jRowsStream executeQueryInOpenTransactionAsStream(Long txId, Statement statement, Consumer<ErrorResponse> errorHandler) {
+		bufferOpenStream( txId );
+		Statements statements = new Statements();
+		statements.addStatement( statement );
+		Response response = neo4jFacade.executeQuery( txId, statements );
+		HttpNeo4jRowsStream stream = new HttpNeo4jRowsStream( response, errorHandler, closed -> openStreams.remove( txId, closed ) );
+		if ( stream.hasNext() ) {
+			// The response has not been read completely
+			openStreams.put( txId, stream );
+		}
+		return stream;
+	}
+
+	private void bufferOpenStream(Long txId) {
+		HttpNeo4jRowsStream stream = openStreams.remove( txId );
+		if ( stream != null ) {
+			stream.buffer();
+		}
+	}
+
+	private void closeOpenStream(Long txId) {
+		HttpNeo4jRowsStream stream = openStreams.remove( txId );
+		if ( stream != null ) {
+			stream.close();
+		}
+	}
+
 	public StatementsResponse executeQueriesInNewTransaction(Statements statements) {
 		Response response = neo4jFacade.executeQuery( statements );
 		try {
@@ -139,11 +188,13 @@ private Long transactionId(URI location) {
 	}
 
 	public void commit(Long txId) {
+		bufferOpenStream( txId );
 		Response response = neo4jFacade.commit( txId );
 		response.close();
 	}
 
 	public void rollback(Long txId) {
+		closeOpenStream( txId );
 		Response response = neo4jFacade.rollback( txId );
 		response.close();
 	}
@@ -0,0 +1,274 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.remote.http.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+import javax.ws.rs.core.Response;
+
+import org.hibernate.ogm.datastore.neo4j.logging.impl.Log;
+import org.hibernate.ogm.datastore.neo4j.logging.impl.LoggerFactory;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.ErrorResponse;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.Row;
+import org.hibernate.ogm.dialect.query.spi.ClosableIterator;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The rows of the first statement of a request, parsed from the body of the response as they are consumed.
+ * <p>
+ * The server sends the errors after the results: they are passed to the error handler when the end of the response
+ * is reached, i.e. before the first row if the statement failed or after the last one if the execution failed while
+ * streaming the results.
+ * <p>
+ * The response keeps the transaction busy until it has been read; {@link HttpNeo4jClient} calls {@link #buffer()}
+ * before sending another request in the same transaction.
+ */
+public class HttpNeo4jRowsStream implements ClosableIterator<Row> {
+
+	private static final Log log = LoggerFactory.make( MethodHandles.lookup() );
+
+	/**
+	 * Thread-safe as per the docs.
+	 */
+	private static final ObjectMapper mapper = new ObjectMapper().configure( DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false );
+
+	private static final TypeReference<List<String>> COLUMNS_TYPE = new TypeReference<List<String>>() { };
+	private static final TypeReference<List<ErrorResponse>> ERRORS_TYPE = new TypeReference<List<ErrorResponse>>() { };
+
+	private final Response response;
+	private final JsonParser parser;
+	private final Consumer<ErrorResponse> errorHandler;
+	private final Consumer<HttpNeo4jRowsStream> onClose;
+
+	private List<String> columns = Collections.emptyList();
+	private Deque<Row> buffered;
+	private Row next;
+	private boolean closed;
+
+	/**
+	 * @param response the response of the transactional endpoint, closed once it has been read
+	 * @param errorHandler called with the first error returned by the server
+	 * @param onClose called when the stream is closed
+	 */
+	public HttpNeo4jRowsStream(Response response, Consumer<ErrorResponse> errorHandler, Consumer<HttpNeo4jRowsStream> onClose) {
+		this.response = response;
+		this.errorHandler = errorHandler;
+		this.onClose = onClose;
+		try {
+			this.parser = mapper.getFactory().createParser( response.readEntity( InputStream.class ) );
+			if ( !moveToFirstRow() ) {
+				readUntilEnd();
+			}
+		}
+		catch (IOException e) {
+			close();
+			throw log.cannotReadResponse( e );
+		}
+		catch (RuntimeException e) {
+			close();
+			throw e;
+		}
+	}
+
+	/**
+	 * @return the names of the columns of the rows
+	 */
+	public List<String> getColumns() {
+		return columns;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if ( buffered != null ) {
+			return !buffered.isEmpty();
+		}
+		if ( next == null && !closed ) {
+			next = readRow();
+		}
+		return next != null;
+	}
+
+	@Override
+	public Row next() {
+		if ( !hasNext() ) {
+			throw new NoSuchElementException();
+		}
+		if ( buffered != null ) {
+			return buffered.poll();
+		}
+		Row row = next;
+		next = null;
+		return row;
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException( "remove" );
+	}
+
+	/**
+	 * Reads the remaining rows in memory and releases the response.
+	 */
+	public void buffer() {
+		if ( buffered != null ) {
+			return;
+		}
+		Deque<Row> rows = new ArrayDeque<>();
+		if ( next != null ) {
+			rows.add( next );
+			next = null;
+		}
+		Row row;
+		while ( !closed && ( row = readRow() ) != null ) {
+			rows.add( row );
+		}
+		buffered = rows;
+	}
+
+	@Override
+	public void close() {
+		if ( !closed ) {
+			closed = true;
+			try {
+				if ( parser != null ) {
+					parser.close();
+				}
+			}
+			catch (IOException e) {
+				// Nothing else to do, the response is going to be closed anyway
+			}
+			finally {
+				response.close();
+				onClose.accept( this );
+			}
+		}
+	}
+
+	/*
+	 * Positions the parser on the data of the first result.
+	 *
+	 * Returns false if there are no results, e.g. because the statement failed.
+	 */
+	private boolean moveToFirstRow() throws IOException {
+		expect( parser.nextToken(), JsonToken.START_OBJECT );
+		while ( parser.nextToken() == JsonToken.FIELD_NAME ) {
+			String field = parser.getCurrentName();
+			JsonToken value = parser.nextToken();
+			if ( "results".equals( field ) ) {
+				expect( value, JsonToken.START_ARRAY );
+				if ( parser.nextToken() != JsonToken.START_OBJECT ) {
+					return false;
+				}
+				while ( parser.nextToken() == JsonToken.FIELD_NAME ) {
+					String resultField = parser.getCurrentName();
+					JsonToken resultValue = parser.nextToken();
+					if ( "columns".equals( resultField ) ) {
+						columns = mapper.readValue( parser, COLUMNS_TYPE );
+					}
+					else if ( "data".equals( resultField ) ) {
+						expect( resultValue, JsonToken.START_ARRAY );
+						return true;
+					}
+					else {
+						parser.skipChildren();
+					}
+				}
+				return false;
+			}
+			else {
+				readTopLevelValue( field );
+			}
+		}
+		return false;
+	}
+
+	private Row readRow() {
+		try {
+			if ( parser.nextToken() == JsonToken.START_OBJECT ) {
+				return mapper.readValue( parser, Row.class );
+			}
+			readUntilEnd();
+			return null;
+		}
+		catch (IOException e) {
+			close();
+			throw log.cannotReadResponse( e );
+		}
+		catch (RuntimeException e) {
+			close();
+			throw e;
+		}
+	}
+
+	/*
+	 * Skips what's left of the results and reads the errors, if any.
+	 */
+	private void readUntilEnd() throws IOException {
+		List<ErrorResponse> errors = new ArrayList<>();
+		int depth = 0;
+		for ( JsonStreamContext context = parser.getParsingContext(); !context.inRoot(); context = context.getParent() ) {
+			depth++;
+		}
+		JsonToken token;
+		while ( depth > 0 && ( token = parser.nextToken() ) != null ) {
+			if ( token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY ) {
+				parser.skipChildren();
+			}
+			else if ( token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY ) {
+				depth--;
+			}
+			else if ( token == JsonToken.FIELD_NAME && depth == 1 ) {
+				String field = parser.getCurrentName();
+				parser.nextToken();
+				if ( "errors".equals( field ) ) {
+					errors.addAll( mapper.readValue( parser, ERRORS_TYPE ) );
+				}
+				else {
+					parser.skipChildren();
+				}
+			}
+		}
+		close();
+		if ( !errors.isEmpty() ) {
+			errorHandler.accept( errors.get( 0 ) );
+		}
+	}
+
+	private void readTopLevelValue(String field) throws IOException {
+		if ( "errors".equals( field ) ) {
+			List<ErrorResponse> errors = mapper.readValue( parser, ERRORS_TYPE );
+			if ( !errors.isEmpty() ) {
+				close();
+				errorHandler.accept( errors.get( 0 ) );
+			}
+		}
+		else {
+			parser.skipChildren();
+		}
+	}
+
+	private void expect(JsonToken actual, JsonToken expected) throws IOException {
+		if ( actual != expected ) {
+			throw new IOException( "Unexpected token " + actual + " at " + parser.getCurrentLocation() + ", expected " + expected );
+		}
+	}
+}
@@ -48,7 +48,7 @@ public void shouldCreateTupleWithCorrectOrderOfColumns() {
 		when( neo4jResult.columns() ).thenReturn( expectedColumns );
 		when( neo4jResult.next() ).thenReturn( nextWrongColumns );
 
-		try ( EmbeddedNeo4jBackendQueryResultIterator iterator = new EmbeddedNeo4jBackendQueryResultIterator( neo4jResult, null, null ) ) {
+		try ( EmbeddedNeo4jBackendQueryResultIterator iterator = new EmbeddedNeo4jBackendQueryResultIterator( neo4jResult, null, null, null ) ) {
 			Tuple tuple = iterator.next();
 			assertThat( tuple.getColumnNames() ).isEqualTo( new HashSet<>( expectedColumns ) );
 		}
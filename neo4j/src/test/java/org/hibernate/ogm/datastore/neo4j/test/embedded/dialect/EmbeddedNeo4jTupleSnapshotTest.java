@@ -0,0 +1,140 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.embedded.dialect;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.datastore.impl.DatastoreProviderType.NEO4J_BOLT;
+import static org.hibernate.ogm.datastore.impl.DatastoreProviderType.NEO4J_HTTP;
+import static org.hibernate.ogm.datastore.neo4j.dialect.impl.NodeLabel.EMBEDDED;
+import static org.hibernate.ogm.datastore.neo4j.dialect.impl.NodeLabel.ENTITY;
+import static org.hibernate.ogm.datastore.neo4j.test.dsl.GraphAssertions.node;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.ogm.datastore.neo4j.test.dsl.NodeForGraphAssertions;
+import org.hibernate.ogm.datastore.neo4j.test.mapping.Neo4jJpaTestCase;
+import org.hibernate.ogm.datastore.neo4j.test.remote.Atmosphere;
+import org.hibernate.ogm.datastore.neo4j.test.remote.Planet;
+import org.hibernate.ogm.datastore.neo4j.test.remote.Star;
+import org.hibernate.ogm.dialect.spi.GridDialect;
+import org.hibernate.ogm.dialect.spi.TupleContext;
+import org.hibernate.ogm.entityentry.impl.TuplePointer;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.spi.Tuple;
+import org.hibernate.ogm.persister.impl.OgmEntityPersister;
+import org.hibernate.ogm.utils.SkipByDatastoreProvider;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The values read by a tuple snapshot are cached until the graph is updated, possibly through another tuple for the
+ * same node.
+ */
+@SkipByDatastoreProvider(value = { NEO4J_BOLT, NEO4J_HTTP }, comment = "The snapshot of the embedded dialect is tested")
+public class EmbeddedNeo4jTupleSnapshotTest extends Neo4jJpaTestCase {
+
+	private static final EntityKey EARTH = new EntityKey( new DefaultEntityKeyMetadata( "Planet", new String[] { "name" } ), new Object[] { "Earth" } );
+
+	@Before
+	public void prepareDb() {
+		inTransaction( em -> {
+			Star sun = new Star( "Sun" );
+			persist( em, sun, new Star( "Proxima Centauri" ), new Planet( "Earth", 7L, new Atmosphere( "nitrogen" ), sun ) );
+		} );
+	}
+
+	@Test
+	public void testToOneAssociationChangedThroughAnotherTupleIsReadAgain() {
+		inTransaction( em -> {
+			GridDialect dialect = getDialect();
+			TupleContext tupleContext = tupleContext( em.unwrap( SharedSessionContractImplementor.class ) );
+
+			Tuple earth = dialect.getTuple( EARTH, tupleContext );
+			assertThat( earth.get( "star_name" ) ).isEqualTo( "Sun" );
+			assertThat( earth.get( "atmosphere.composition" ) ).isEqualTo( "nitrogen" );
+
+			Tuple otherEarth = dialect.getTuple( EARTH, tupleContext );
+			otherEarth.put( "star_name", "Proxima Centauri" );
+			dialect.insertOrUpdateTuple( EARTH, new TuplePointer( otherEarth ), tupleContext );
+
+			assertThat( earth.get( "star_name" ) ).isEqualTo( "Proxima Centauri" );
+			assertThat( otherEarth.get( "star_name" ) ).isEqualTo( "Proxima Centauri" );
+		} );
+	}
+
+	@Test
+	public void testEmbeddedNodeRemovedThroughAnotherTupleIsNotReadAgain() {
+		inTransaction( em -> {
+			GridDialect dialect = getDialect();
+			TupleContext tupleContext = tupleContext( em.unwrap( SharedSessionContractImplementor.class ) );
+
+			Tuple earth = dialect.getTuple( EARTH, tupleContext );
+			assertThat( earth.get( "atmosphere.composition" ) ).isEqualTo( "nitrogen" );
+
+			Tuple otherEarth = dialect.getTuple( EARTH, tupleContext );
+			otherEarth.remove( "atmosphere.composition" );
+			dialect.insertOrUpdateTuple( EARTH, new TuplePointer( otherEarth ), tupleContext );
+
+			// The cached embedded node has been deleted
+			assertThat( earth.get( "atmosphere.composition" ) ).isNull();
+			assertThat( earth.get( "population" ) ).isEqualTo( 7L );
+		} );
+	}
+
+	@Test
+	public void testToOneAssociationChangedTwiceInTheSameTransaction() throws Exception {
+		inTransaction( em -> {
+			Planet earth = em.find( Planet.class, "Earth" );
+			earth.setStar( em.find( Star.class, "Proxima Centauri" ) );
+			earth.getAtmosphere().setComposition( "nitrogen, oxygen" );
+			em.flush();
+
+			TupleContext tupleContext = tupleContext( em.unwrap( SharedSessionContractImplementor.class ) );
+			assertThat( getDialect().getTuple( EARTH, tupleContext ).get( "star_name" ) ).isEqualTo( "Proxima Centauri" );
+
+			// The previous value of the association is read from the snapshot of the tuple updated by the first flush
+			earth.setStar( em.find( Star.class, "Sun" ) );
+			em.flush();
+
+			assertThat( getDialect().getTuple( EARTH, tupleContext ).get( "star_name" ) ).isEqualTo( "Sun" );
+		} );
+
+		NodeForGraphAssertions sunNode = node( "sun", Star.class.getSimpleName(), ENTITY.name() )
+				.property( "name", "Sun" );
+		NodeForGraphAssertions proximaNode = node( "proxima", Star.class.getSimpleName(), ENTITY.name() )
+				.property( "name", "Proxima Centauri" );
+		NodeForGraphAssertions earthNode = node( "earth", Planet.class.getSimpleName(), ENTITY.name() )
+				.property( "name", "Earth" )
+				.property( "population", 7L );
+		NodeForGraphAssertions atmosphereNode = node( "atmosphere", EMBEDDED.name() )
+				.property( "composition", "nitrogen, oxygen" );
+
+		assertThatOnlyTheseNodesExist( sunNode, proximaNode, earthNode, atmosphereNode );
+		assertThatOnlyTheseRelationshipsExist(
+				earthNode.relationshipTo( sunNode, "star" ),
+				earthNode.relationshipTo( atmosphereNode, "atmosphere" ) );
+	}
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Star.class, Planet.class };
+	}
+
+	private GridDialect getDialect() {
+		return sessionFactory().getServiceRegistry().getService( GridDialect.class );
+	}
+
+	private TupleContext tupleContext(SharedSessionContractImplementor session) {
+		OgmEntityPersister persister = (OgmEntityPersister) sessionFactory().getMetamodel().entityPersister( Planet.class );
+		return persister.getTupleContext( session );
+	}
+
+	private SessionFactoryImplementor sessionFactory() {
+		return getFactory().unwrap( SessionFactoryImplementor.class );
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.remote;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.datastore.impl.DatastoreProviderType.NEO4J_EMBEDDED;
+
+import org.hibernate.ogm.datastore.neo4j.test.mapping.Neo4jJpaTestCase;
+import org.hibernate.ogm.utils.SkipByDatastoreProvider;
+import org.junit.Test;
+
+/**
+ * Flushes many entities of the same type at once, so that their nodes are created, updated and removed with a single
+ * {@code UNWIND} statement per type.
+ */
+@SkipByDatastoreProvider(value = { NEO4J_EMBEDDED }, comment = "The nodes are only written in bulk by the remote dialects")
+public class BulkNodeOperationsTest extends Neo4jJpaTestCase {
+
+	private static final int SATELLITES = 20;
+	private static final int REMOVED_FROM = 15;
+
+	private static final int PLANETS = 10;
+
+	@Test
+	public void testBulkOperationsWithCompositeIdsAndEmbeddedProperties() throws Exception {
+		inTransaction( em -> {
+			for ( int i = 0; i < SATELLITES; i++ ) {
+				em.persist( new Satellite( id( i ), "S/" + i, new Orbit( i, 0.1 ) ) );
+			}
+		} );
+
+		// A node for each satellite and one for each orbit
+		assertNumberOfNodes( 2 * SATELLITES );
+		inTransaction( em -> {
+			for ( int i = 0; i < SATELLITES; i++ ) {
+				Satellite satellite = em.find( Satellite.class, id( i ) );
+				assertThat( satellite.getName() ).isEqualTo( "S/" + i );
+				assertThat( satellite.getOrbit().getPeriod() ).isEqualTo( i );
+				assertThat( satellite.getOrbit().getEccentricity() ).isEqualTo( 0.1 );
+			}
+		} );
+
+		inTransaction( em -> {
+			for ( int i = 0; i < SATELLITES; i++ ) {
+				Satellite satellite = em.find( Satellite.class, id( i ) );
+				if ( i >= REMOVED_FROM ) {
+					em.remove( satellite );
+				}
+				else if ( i % 2 == 0 ) {
+					satellite.setName( "Renamed " + i );
+				}
+				else {
+					satellite.getOrbit().setPeriod( i * 10 );
+				}
+			}
+		} );
+
+		// The removal of the satellites also removes their orbits
+		assertNumberOfNodes( 2 * REMOVED_FROM );
+		inTransaction( em -> {
+			for ( int i = 0; i < SATELLITES; i++ ) {
+				Satellite satellite = em.find( Satellite.class, id( i ) );
+				if ( i >= REMOVED_FROM ) {
+					assertThat( satellite ).isNull();
+				}
+				else if ( i % 2 == 0 ) {
+					assertThat( satellite.getName() ).isEqualTo( "Renamed " + i );
+					assertThat( satellite.getOrbit().getPeriod() ).isEqualTo( i );
+				}
+				else {
+					assertThat( satellite.getName() ).isEqualTo( "S/" + i );
+					assertThat( satellite.getOrbit().getPeriod() ).isEqualTo( i * 10 );
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void testBulkRemovalOfNodesWithRelationships() throws Exception {
+		inTransaction( em -> {
+			Star sun = new Star( "Sun" );
+			em.persist( sun );
+			for ( int i = 0; i < PLANETS; i++ ) {
+				em.persist( new Planet( "Planet " + i, i, new Atmosphere( "Atmosphere " + i ), sun ) );
+			}
+		} );
+
+		assertNumberOfNodes( 1 + 2 * PLANETS );
+		assertNumberOfRelationships( 2 * PLANETS );
+
+		inTransaction( em -> {
+			for ( int i = 0; i < PLANETS; i++ ) {
+				Planet planet = em.find( Planet.class, "Planet " + i );
+				assertThat( planet.getPopulation() ).isEqualTo( i );
+				assertThat( planet.getAtmosphere().getComposition() ).isEqualTo( "Atmosphere " + i );
+				assertThat( planet.getStar().getName() ).isEqualTo( "Sun" );
+				em.remove( planet );
+			}
+		} );
+
+		assertNumberOfNodes( 1 );
+		assertNumberOfRelationships( 0 );
+	}
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Satellite.class, Star.class, Planet.class };
+	}
+
+	private static SatelliteId id(int number) {
+		return new SatelliteId( "Jupiter", number );
+	}
+}
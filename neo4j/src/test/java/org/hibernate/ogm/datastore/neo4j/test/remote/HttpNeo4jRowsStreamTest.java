@@ -0,0 +1,199 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.remote;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.ws.rs.core.Response;
+
+import org.hibernate.HibernateException;
+import org.hibernate.ogm.datastore.neo4j.remote.http.impl.HttpNeo4jRowsStream;
+import org.hibernate.ogm.datastore.neo4j.remote.http.json.impl.ErrorResponse;
+import org.junit.Test;
+
+/**
+ * Parses canned responses of the transactional endpoint, without a server.
+ */
+public class HttpNeo4jRowsStreamTest {
+
+	private static final String ERROR = "{\"code\":\"Neo.DatabaseError.Statement.ExecutionFailed\",\"message\":\"Boom\"}";
+
+	private final List<ErrorResponse> errors = new ArrayList<>();
+	private final List<HttpNeo4jRowsStream> closed = new ArrayList<>();
+
+	@Test
+	public void testSeveralRows() {
+		Response response = response( "{\"results\":[{\"columns\":[\"name\",\"population\"],\"data\":["
+				+ "{\"row\":[\"Earth\",8],\"meta\":[null,null]},"
+				+ "{\"row\":[\"Mars\",0],\"meta\":[null,null]},"
+				+ "{\"row\":[\"Venus\",0],\"meta\":[null,null]}"
+				+ "]}],\"errors\":[]}" );
+		HttpNeo4jRowsStream stream = stream( response );
+
+		assertThat( stream.getColumns() ).containsExactly( "name", "population" );
+		assertThat( stream.next().getRow() ).containsExactly( "Earth", 8 );
+		assertThat( stream.next().getRow() ).containsExactly( "Mars", 0 );
+		// The response is read as the rows are consumed
+		verify( response, never() ).close();
+
+		assertThat( stream.next().getRow() ).containsExactly( "Venus", 0 );
+		assertThat( stream.hasNext() ).isFalse();
+		assertClosed( response, stream );
+		assertThat( errors ).isEmpty();
+	}
+
+	@Test
+	public void testZeroRows() {
+		Response response = response( "{\"results\":[{\"columns\":[\"name\"],\"data\":[]}],\"errors\":[]}" );
+		HttpNeo4jRowsStream stream = stream( response );
+
+		assertThat( stream.getColumns() ).containsExactly( "name" );
+		assertThat( stream.hasNext() ).isFalse();
+		assertClosed( response, stream );
+		assertThat( errors ).isEmpty();
+	}
+
+	@Test
+	public void testErrorsAfterTheRows() {
+		Response response = response( "{\"results\":[{\"columns\":[\"name\"],\"data\":["
+				+ "{\"row\":[\"Earth\"]},"
+				+ "{\"row\":[\"Mars\"]}"
+				+ "]}],\"errors\":[" + ERROR + "]}" );
+		HttpNeo4jRowsStream stream = new HttpNeo4jRowsStream( response, this::throwError, closed::add );
+
+		assertThat( stream.next().getRow() ).containsExactly( "Earth" );
+		assertThat( stream.next().getRow() ).containsExactly( "Mars" );
+		try {
+			stream.hasNext();
+			fail( "The error returned after the rows should have been reported" );
+		}
+		catch (HibernateException e) {
+			assertThat( e.getMessage() ).isEqualTo( "Neo.DatabaseError.Statement.ExecutionFailed: Boom" );
+		}
+		assertClosed( response, stream );
+		assertThat( stream.hasNext() ).isFalse();
+	}
+
+	@Test
+	public void testErrorsOfAFailedStatement() {
+		Response response = response( "{\"results\":[],\"errors\":[" + ERROR + "]}" );
+		try {
+			new HttpNeo4jRowsStream( response, this::throwError, closed::add );
+			fail( "The error of the statement should have been reported" );
+		}
+		catch (HibernateException e) {
+			assertThat( e.getMessage() ).isEqualTo( "Neo.DatabaseError.Statement.ExecutionFailed: Boom" );
+		}
+		verify( response ).close();
+		assertThat( closed ).hasSize( 1 );
+	}
+
+	@Test
+	public void testTruncatedStream() {
+		Response response = response( "{\"results\":[{\"columns\":[\"name\"],\"data\":["
+				+ "{\"row\":[\"Earth\"]},"
+				+ "{\"row\":[\"Ma" );
+		HttpNeo4jRowsStream stream = stream( response );
+
+		assertThat( stream.next().getRow() ).containsExactly( "Earth" );
+		try {
+			stream.hasNext();
+			fail( "The end of the stream in the middle of a row should have been reported" );
+		}
+		catch (HibernateException e) {
+			assertThat( e.getMessage() ).startsWith( "OGM001423" );
+		}
+		assertClosed( response, stream );
+		assertThat( errors ).isEmpty();
+	}
+
+	@Test
+	public void testStreamTruncatedBetweenTheRows() {
+		Response response = response( "{\"results\":[{\"columns\":[\"name\"],\"data\":[{\"row\":[\"Earth\"]}," );
+		HttpNeo4jRowsStream stream = stream( response );
+
+		assertThat( stream.next().getRow() ).containsExactly( "Earth" );
+		try {
+			stream.hasNext();
+			fail( "The end of the stream before the end of the results should have been reported" );
+		}
+		catch (HibernateException e) {
+			assertThat( e.getMessage() ).startsWith( "OGM001423" );
+		}
+		assertClosed( response, stream );
+	}
+
+	@Test
+	public void testBufferReadsTheRemainingRows() {
+		Response response = response( "{\"results\":[{\"columns\":[\"name\"],\"data\":["
+				+ "{\"row\":[\"Earth\"]},"
+				+ "{\"row\":[\"Mars\"]},"
+				+ "{\"row\":[\"Venus\"]}"
+				+ "]}],\"errors\":[]}" );
+		HttpNeo4jRowsStream stream = stream( response );
+
+		assertThat( stream.next().getRow() ).containsExactly( "Earth" );
+		stream.buffer();
+		assertClosed( response, stream );
+
+		List<Object> names = new ArrayList<>();
+		while ( stream.hasNext() ) {
+			names.add( stream.next().getRow().get( 0 ) );
+		}
+		assertThat( names ).containsExactly( "Mars", "Venus" );
+	}
+
+	@Test
+	public void testCloseBeforeTheEndOfTheRows() {
+		Response response = response( "{\"results\":[{\"columns\":[\"name\"],\"data\":["
+				+ "{\"row\":[\"Earth\"]},"
+				+ "{\"row\":[\"Mars\"]}"
+				+ "]}],\"errors\":[]}" );
+		HttpNeo4jRowsStream stream = stream( response );
+
+		assertThat( stream.next().getRow() ).containsExactly( "Earth" );
+		stream.close();
+		stream.close();
+
+		assertClosed( response, stream );
+		assertThat( stream.hasNext() ).isFalse();
+	}
+
+	private HttpNeo4jRowsStream stream(Response response) {
+		return new HttpNeo4jRowsStream( response, errors::add, closed::add );
+	}
+
+	private void throwError(ErrorResponse error) {
+		errors.add( error );
+		throw new HibernateException( error.getCode() + ": " + error.getMessage() );
+	}
+
+	private void assertClosed(Response response, HttpNeo4jRowsStream stream) {
+		verify( response, times( 1 ) ).close();
+		assertThat( closed ).isEqualTo( Arrays.asList( stream ) );
+	}
+
+	private static Response response(String body) {
+		Response response = mock( Response.class );
+		InputStream entity = new ByteArrayInputStream( body.getBytes( StandardCharsets.UTF_8 ) );
+		when( response.readEntity( InputStream.class ) ).thenReturn( entity );
+		return response;
+	}
+}
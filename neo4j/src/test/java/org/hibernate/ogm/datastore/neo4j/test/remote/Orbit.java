@@ -0,0 +1,41 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.remote;
+
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class Orbit {
+
+	private double period;
+
+	private double eccentricity;
+
+	public Orbit() {
+	}
+
+	public Orbit(double period, double eccentricity) {
+		this.period = period;
+		this.eccentricity = eccentricity;
+	}
+
+	public double getPeriod() {
+		return period;
+	}
+
+	public void setPeriod(double period) {
+		this.period = period;
+	}
+
+	public double getEccentricity() {
+		return eccentricity;
+	}
+
+	public void setEccentricity(double eccentricity) {
+		this.eccentricity = eccentricity;
+	}
+}
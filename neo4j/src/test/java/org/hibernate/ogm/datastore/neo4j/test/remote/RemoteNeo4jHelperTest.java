@@ -0,0 +1,77 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.remote;
+
+import static org.fest.assertions.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.ogm.datastore.neo4j.remote.common.util.impl.RemoteNeo4jHelper;
+import org.hibernate.ogm.model.impl.DefaultEntityKeyMetadata;
+import org.hibernate.ogm.model.key.spi.EntityKey;
+import org.hibernate.ogm.model.key.spi.EntityKeyMetadata;
+import org.junit.Test;
+
+/**
+ * The node violating a constraint is found from the message of the server, the transaction cannot be used anymore.
+ */
+public class RemoteNeo4jHelperTest {
+
+	private static final EntityKeyMetadata STAR = new DefaultEntityKeyMetadata( "Star", new String[] { "name" } );
+	private static final EntityKeyMetadata ORBIT = new DefaultEntityKeyMetadata( "Orbit", new String[] { "id" } );
+
+	private final EntityKey alpha = new EntityKey( STAR, new Object[] { "Alpha Centauri" } );
+	private final EntityKey sun = new EntityKey( STAR, new Object[] { "Sun" } );
+	private final EntityKey barnard = new EntityKey( STAR, new Object[] { "Barnard's Star" } );
+	private final List<EntityKey> stars = Arrays.asList( alpha, sun, barnard );
+
+	@Test
+	public void testConflictingKeyIsReadFromTheMessage() {
+		EntityKey key = RemoteNeo4jHelper.conflictingKey( stars, "Node(0) already exists with label `Star` and property `name` = 'Sun'" );
+
+		assertThat( key ).isSameAs( sun );
+	}
+
+	@Test
+	public void testConflictingValueWithAQuote() {
+		EntityKey key = RemoteNeo4jHelper.conflictingKey( stars, "Node(3) already exists with label `Star` and property `name` = 'Barnard's Star'" );
+
+		assertThat( key ).isSameAs( barnard );
+	}
+
+	@Test
+	public void testConflictingKeyInTheMessageOfPreviousVersions() {
+		EntityKey key = RemoteNeo4jHelper.conflictingKey( stars, "Node 0 already exists with label Star and property \"name\"=[Sun]" );
+
+		assertThat( key ).isSameAs( sun );
+	}
+
+	@Test
+	public void testConflictingNumericKey() {
+		EntityKey first = new EntityKey( ORBIT, new Object[] { 1L } );
+		EntityKey second = new EntityKey( ORBIT, new Object[] { 12L } );
+
+		EntityKey key = RemoteNeo4jHelper.conflictingKey( Arrays.asList( first, second ), "Node(5) already exists with label `Orbit` and property `id` = 12" );
+
+		assertThat( key ).isSameAs( second );
+	}
+
+	@Test
+	public void testFirstKeyIsReturnedWhenThePropertyIsNotPartOfTheKey() {
+		EntityKey key = RemoteNeo4jHelper.conflictingKey( stars, "Node(0) already exists with label `Star` and property `catalogName` = 'Sun'" );
+
+		assertThat( key ).isSameAs( alpha );
+	}
+
+	@Test
+	public void testFirstKeyIsReturnedForAnUnknownMessage() {
+		EntityKey key = RemoteNeo4jHelper.conflictingKey( stars, "Unexpected failure" );
+
+		assertThat( key ).isSameAs( alpha );
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.remote;
+
+import static org.fest.assertions.Assertions.assertThat;
+import static org.hibernate.ogm.datastore.impl.DatastoreProviderType.NEO4J_EMBEDDED;
+import static org.hibernate.ogm.datastore.neo4j.dialect.impl.NodeLabel.EMBEDDED;
+import static org.hibernate.ogm.datastore.neo4j.dialect.impl.NodeLabel.ENTITY;
+import static org.hibernate.ogm.datastore.neo4j.test.dsl.GraphAssertions.node;
+import static org.hibernate.ogm.datastore.neo4j.test.util.ExceptionHelper.extract;
+import static org.junit.Assert.fail;
+
+import org.hibernate.ogm.datastore.neo4j.test.dsl.NodeForGraphAssertions;
+import org.hibernate.ogm.datastore.neo4j.test.mapping.Neo4jJpaTestCase;
+import org.hibernate.ogm.dialect.spi.TupleAlreadyExistsException;
+import org.hibernate.ogm.exception.EntityAlreadyExistsException;
+import org.hibernate.ogm.utils.SkipByDatastoreProvider;
+import org.junit.Before;
+import org.junit.Test;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Flushes changes of different kinds at once, so that the statements of the batch are sent together.
+ * <p>
+ * The statements on the relationships and on the embedded nodes must find the nodes created in the same flush, and
+ * the failure of the creation of several nodes must be reported for the node that already exists.
+ */
+@SkipByDatastoreProvider(value = { NEO4J_EMBEDDED }, comment = "The statements are only batched by the remote dialects")
+public class RemoteStatementBatchTest extends Neo4jJpaTestCase {
+
+	private Star sun;
+	private Planet earth;
+	private Planet pluto;
+
+	@Before
+	public void prepareDb() {
+		inTransaction( em -> {
+			sun = new Star( "Sun" );
+			earth = new Planet( "Earth", 7L, new Atmosphere( "nitrogen" ), sun );
+			pluto = new Planet( "Pluto", 0L, null, sun );
+			persist( em, sun, earth, pluto );
+		} );
+	}
+
+	@Test
+	public void testMixedFlush() throws Exception {
+		inTransaction( em -> {
+			// Creation of nodes, embedded nodes and relationships to the new nodes
+			Star proxima = new Star( "Proxima Centauri" );
+			Planet proximaB = new Planet( "Proxima b", 0L, new Atmosphere( "unknown" ), proxima );
+			persist( em, proxima, proximaB );
+
+			// Update of the properties, of an embedded node and of a relationship to a new node
+			Planet loadedEarth = em.find( Planet.class, earth.getName() );
+			loadedEarth.setPopulation( 8L );
+			loadedEarth.getAtmosphere().setComposition( "nitrogen, oxygen" );
+			loadedEarth.setStar( proxima );
+
+			// Removal of a node with a relationship
+			em.remove( em.find( Planet.class, pluto.getName() ) );
+		} );
+
+		NodeForGraphAssertions sunNode = node( "sun", Star.class.getSimpleName(), ENTITY.name() )
+				.property( "name", "Sun" );
+		NodeForGraphAssertions proximaNode = node( "proxima", Star.class.getSimpleName(), ENTITY.name() )
+				.property( "name", "Proxima Centauri" );
+		NodeForGraphAssertions earthNode = node( "earth", Planet.class.getSimpleName(), ENTITY.name() )
+				.property( "name", "Earth" )
+				.property( "population", 8L );
+		NodeForGraphAssertions earthAtmosphereNode = node( "earthAtmosphere", EMBEDDED.name() )
+				.property( "composition", "nitrogen, oxygen" );
+		NodeForGraphAssertions proximaBNode = node( "proximaB", Planet.class.getSimpleName(), ENTITY.name() )
+				.property( "name", "Proxima b" )
+				.property( "population", 0L );
+		NodeForGraphAssertions proximaBAtmosphereNode = node( "proximaBAtmosphere", EMBEDDED.name() )
+				.property( "composition", "unknown" );
+
+		assertThatOnlyTheseNodesExist( sunNode, proximaNode, earthNode, earthAtmosphereNode, proximaBNode, proximaBAtmosphereNode );
+		assertThatOnlyTheseRelationshipsExist(
+				earthNode.relationshipTo( proximaNode, "star" ),
+				earthNode.relationshipTo( earthAtmosphereNode, "atmosphere" ),
+				proximaBNode.relationshipTo( proximaNode, "star" ),
+				proximaBNode.relationshipTo( proximaBAtmosphereNode, "atmosphere" ) );
+	}
+
+	@Test
+	public void testDuplicateInsertIsReportedForTheExistingNode() throws Exception {
+		EntityManager em = getFactory().createEntityManager();
+		try {
+			em.getTransaction().begin();
+			// The three nodes are created with a single statement
+			persist( em, new Star( "Alpha Centauri" ), new Star( sun.getName() ), new Star( "Barnard's Star" ) );
+			em.getTransaction().commit();
+			fail( "The creation of an existing node should have failed" );
+		}
+		catch (Exception e) {
+			try {
+				extract( EntityAlreadyExistsException.class, e );
+			}
+			catch (EntityAlreadyExistsException eaee) {
+				assertThat( eaee.getMessage() ).startsWith( "OGM000067" );
+				TupleAlreadyExistsException cause = (TupleAlreadyExistsException) eaee.getCause();
+				assertThat( cause.getEntityKey().getColumnValues() ).isEqualTo( new Object[] { sun.getName() } );
+			}
+			catch (Throwable t) {
+				throw new AssertionError( t );
+			}
+		}
+		finally {
+			if ( em.getTransaction().isActive() ) {
+				em.getTransaction().rollback();
+			}
+			em.close();
+		}
+
+		// Sun, Earth, the atmosphere of Earth and Pluto: none of the new nodes has been created
+		assertNumberOfNodes( 4 );
+	}
+
+	@Override
+	public Class<?>[] getAnnotatedClasses() {
+		return new Class<?>[] { Star.class, Planet.class };
+	}
+}
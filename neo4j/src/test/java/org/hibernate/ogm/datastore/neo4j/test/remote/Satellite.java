@@ -0,0 +1,56 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.remote;
+
+import jakarta.persistence.Embedded;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+
+@Entity
+public class Satellite {
+
+	@EmbeddedId
+	private SatelliteId id;
+
+	private String name;
+
+	@Embedded
+	private Orbit orbit;
+
+	public Satellite() {
+	}
+
+	public Satellite(SatelliteId id, String name, Orbit orbit) {
+		this.id = id;
+		this.name = name;
+		this.orbit = orbit;
+	}
+
+	public SatelliteId getId() {
+		return id;
+	}
+
+	public void setId(SatelliteId id) {
+		this.id = id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public Orbit getOrbit() {
+		return orbit;
+	}
+
+	public void setOrbit(Orbit orbit) {
+		this.orbit = orbit;
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Hibernate OGM, Domain model persistence for NoSQL datastores
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.ogm.datastore.neo4j.test.remote;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import jakarta.persistence.Embeddable;
+
+@Embeddable
+public class SatelliteId implements Serializable {
+
+	private String planet;
+
+	private int number;
+
+	public SatelliteId() {
+	}
+
+	public SatelliteId(String planet, int number) {
+		this.planet = planet;
+		this.number = number;
+	}
+
+	public String getPlanet() {
+		return planet;
+	}
+
+	public void setPlanet(String planet) {
+		this.planet = planet;
+	}
+
+	public int getNumber() {
+		return number;
+	}
+
+	public void setNumber(int number) {
+		this.number = number;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if ( this == o ) {
+			return true;
+		}
+		if ( o == null || getClass() != o.getClass() ) {
+			return false;
+		}
+		SatelliteId that = (SatelliteId) o;
+		return number == that.number && Objects.equals( planet, that.planet );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( planet, number );
+	}
+}